@@ -64,6 +64,30 @@ import java.util.function.Supplier;
 public abstract class AbstractVerifiableFactory<X extends Throwable,
             F extends AbstractVerifiableFactory<X, F>> {
 
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Whether a sub-class overrides the getFactory overload that takes a config is only
+     * looked up once per class.
+     */
+
+    private static final ClassValue<Boolean> CONFIGURABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; AbstractVerifiableFactory.class != current; current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("getFactory", Supplier.class, FailedValidationExecutor.class, VerifiableFactoryConfig.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // Not overridden by this class
+                }
+            }
+            return false;
+        }
+    };
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Fields
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -99,6 +123,18 @@ public abstract class AbstractVerifiableFactory<X extends Throwable,
         this.failedValidationExecutor = failedValidationExecutor;
     }
 
+    /**
+     * Sub-classes support every setting of a {@link VerifiableFactoryConfig} by overriding
+     * {@link #getFactory(Supplier, FailedValidationExecutor, VerifiableFactoryConfig)}. The
+     * builder methods that change one (e.g. {@link #withMetrics(ValidationMetrics)}) check
+     * this first and throw if it is false.
+     *
+     * @return true if this factory can be given settings other than the defaults.
+     */
+    public final boolean isConfigurable() {
+        return CONFIGURABLE.get(getClass());
+    }
+
     /**
      * @param message the String message prefix for the verifiable factory that is
      *                to be returned.
@@ -123,7 +159,102 @@ public abstract class AbstractVerifiableFactory<X extends Throwable,
         if (null == messageSupplier) {
             messageSupplier = () -> null;
         }
-        return getFactory(messageSupplier, failedValidationExecutor);
+        return getFactory(messageSupplier, failedValidationExecutor, getConfig());
+    }
+
+    /**
+     * @param describers the {@link Describers} used to describe the subjects of failed
+     *                   validations for the verifiable factory that is to be returned.
+     *                   May not be null.
+     *
+     * @return a new instance of the verifiable factory with the given describers and the
+     * current message, failed validation executor, and metrics.
+     *
+     * @throws NullPointerException          if describers is null.
+     * @throws UnsupportedOperationException if describers are not {@link Describers#defaults()}
+     *                                       and this factory is not {@link #isConfigurable()}.
+     *                                       This is checked before a factory is created.
+     */
+    public F withDescribers(Describers describers) {
+        return getConfiguredFactory(getConfig().withDescribers(describers));
+    }
+
+    /**
+     * @param metrics the {@link ValidationMetrics} for the verifiable factory that is
+     *                to be returned.
+     *                May be null if no metrics should be recorded.
+     *
+     * @return a new instance of the verifiable factory with the given metrics and the
+     * current message and failed validation executor.
+     *
+     * @throws UnsupportedOperationException if metrics is not null and this factory is not
+     *                                       {@link #isConfigurable()}. This is checked before
+     *                                       a factory is created.
+     */
+    public F withMetrics(ValidationMetrics metrics) {
+        return getConfiguredFactory(getConfig().withMetrics(metrics));
+    }
+
+    /**
+     * Sampling is meant for checks that are too expensive to run on every call, e.g.
+     * {@code contains} on a large collection. The calls that are not sampled return their
+     * subject without checking it or recording metrics. Each thread counts its own calls of
+     * the returned factory and checks the first checked out of every outOf calls, so a factory
+     * kept in a static final field at a call site samples that call site without any contention
+     * between threads. The factories derived from it share its counts.
+     *
+     * @param checked the number of calls out of every outOf calls that should be checked.
+     *                Must be at least 1.
+     * @param outOf   the number of calls that checked is taken from.
+     *                Must be at least checked.
+     *
+     * @return a new instance of the verifiable factory that only checks the given share of
+     * the calls with the current message, failed validation executor, metrics, and cost
+     * threshold. It replaces the sampling rate of this factory, if any.
+     *
+     * @throws IllegalArgumentException      if checked is less than 1 or outOf is less than checked.
+     * @throws UnsupportedOperationException if checked is less than outOf and this factory is not
+     *                                       {@link #isConfigurable()}. This is checked before a
+     *                                       factory is created.
+     */
+    public F sampled(int checked, int outOf) {
+        return getConfiguredFactory(getConfig().withSampling(checked, outOf));
+    }
+
+    /**
+     * Verifiers of the returned factory return their subject without checking it or
+     * recording metrics, the same as those of a disabled {@link Validity} entry point.
+     * The factories of this library return a sub-class for this whose verifiers do not
+     * test anything, see {@link PassThroughFailedValidationExecutor}. Other sub-classes
+     * are given that executor, so their verifiers still check and only ignore failures.
+     *
+     * @return a new instance of the verifiable factory with the current message and
+     * metrics that never checks its subjects.
+     */
+    public F disabled() {
+        return getFactory(messageSupplier, PassThroughFailedValidationExecutor.getInstance(), getConfig());
+    }
+
+    /**
+     * Checks above the maximum {@link CostTier} of the threshold return their subject
+     * without checking it or recording metrics, unless the threshold samples them. The
+     * maximum tier is read on every call, so changing it affects the verifiers of the
+     * returned factory right away.
+     *
+     * @param costThreshold the {@link CostThreshold} for the verifiable factory that is
+     *                      to be returned.
+     *                      May not be null.
+     *
+     * @return a new instance of the verifiable factory with the given cost threshold and the
+     * current message, failed validation executor, metrics, and sampling rate. It replaces the
+     * cost threshold of this factory, if any.
+     *
+     * @throws NullPointerException          if costThreshold is null.
+     * @throws UnsupportedOperationException if this factory is not {@link #isConfigurable()}.
+     *                                       This is checked before a factory is created.
+     */
+    public F withCostThreshold(CostThreshold costThreshold) {
+        return getConfiguredFactory(getConfig().withCostThreshold(costThreshold));
     }
 
     /**
@@ -144,6 +275,31 @@ public abstract class AbstractVerifiableFactory<X extends Throwable,
     protected abstract F getFactory(Supplier<String> messageSupplier,
                                     FailedValidationExecutor<X> failedValidationExecutor);
 
+    /**
+     * Get an instance of the verifiable factory with the given message,
+     * failed validation executor, and config. Sub-classes that override this
+     * method are {@link #isConfigurable()}. The builder methods only call it
+     * with a config other than the defaults if they are, so the default
+     * implementation calls {@link #getFactory(Supplier, FailedValidationExecutor)}.
+     *
+     * @param messageSupplier          the {@link Supplier} of the String message for the verifiable factory.
+     *                                 May not be null.
+     * @param failedValidationExecutor the failed validation executor for the factory.
+     *                                 May not be null.
+     * @param config                   the {@link VerifiableFactoryConfig} for the factory.
+     *                                 May not be null.
+     *
+     * @return an instance of the implementing subclass verifiable factory with
+     * the given parameters.
+     *
+     * @throws IllegalArgumentException if messageSupplier or failedValidationExecutor are null.
+     */
+    protected F getFactory(Supplier<String> messageSupplier,
+                           FailedValidationExecutor<X> failedValidationExecutor,
+                           VerifiableFactoryConfig config) {
+        return getFactory(messageSupplier, failedValidationExecutor);
+    }
+
     /**
      * @return the message for this verifiable factory.
      */
@@ -158,6 +314,39 @@ public abstract class AbstractVerifiableFactory<X extends Throwable,
         return failedValidationExecutor;
     }
 
+    /**
+     * The factories of this library that are given a config other than the defaults
+     * return a sub-class that overrides this, so this factory's verifiers are created
+     * without one.
+     *
+     * @return the {@link VerifiableFactoryConfig} for this verifiable factory.
+     * The default implementation returns {@link VerifiableFactoryConfig#defaults()}.
+     */
+    protected VerifiableFactoryConfig getConfig() {
+        return VerifiableFactoryConfig.defaults();
+    }
+
+    /**
+     * @return the {@link ValidationMetrics} for this verifiable factory or null
+     * if no metrics are recorded.
+     */
+    protected ValidationMetrics getMetrics() {
+        return getConfig().getMetrics();
+    }
+
+    /*
+     * The builder methods that change the config check that the sub-class supports it
+     * before creating a factory that would silently drop it.
+     */
+
+    private F getConfiguredFactory(VerifiableFactoryConfig config) {
+        if (!config.isDefault() && !isConfigurable()) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not override getFactory(Supplier, FailedValidationExecutor, VerifiableFactoryConfig)"
+                                                    + " and only supports the default VerifiableFactoryConfig");
+        }
+        return getFactory(messageSupplier, failedValidationExecutor, config);
+    }
+
     // --------------------------------------------------------------
     // Factory Methods
     // --------------------------------------------------------------
@@ -0,0 +1,371 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link FailedValidationExecutor} that protects the JVM from failure storms. Normally it
+ * behaves like the {@link DefaultValidityFailedValidationExecutor}: the throwable has a full
+ * message and its Validity frames are trimmed. It also counts the failures at each call site
+ * (the first frame outside of the Validity library). When a call site has more failures within
+ * one window than its {@link FailureStormPolicy} allows, the failures there become cheap until
+ * the rate drops again. Cheap failures have an empty stack trace. They are created with the
+ * storm throwable function, which should create throwables that do not capture a stack trace
+ * at all, e.g. {@code StacklessIllegalArgumentException::new}. Otherwise the stack is still
+ * captured and only then thrown away. If the policy asks for template messages, they also skip
+ * describing the subject and formatting the message and use a cached message for the expected
+ * description instead.
+ * <p>
+ * The start and end of each storm are logged to the {@code java.util.logging} logger named after
+ * this class, along with the number of failures that were suppressed during it.
+ * <p>
+ * While no call site is in a storm, a failure's call site is read from the stack trace its
+ * throwable needs anyway. The call site has to be known before the throwable is created in
+ * order to pick its message, so while any call site is in a storm the current call site is
+ * looked up once first. On Java 9 or later that lookup walks only the frames above the call site,
+ * and it is the only stack walk of a cheap failure.
+ *
+ * @param <X> the type of {@link Throwable} the {@link #fail(String, Object, Supplier)} method
+ *            will throw.
+ */
+public final class AdaptiveFailedValidationExecutor<X extends Throwable>
+        implements FailedValidationExecutor<X> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveFailedValidationExecutor.class.getName());
+    private static final String CLASS_NAME = AdaptiveFailedValidationExecutor.class.getName();
+    private static final StackTraceElement UNKNOWN_CALL_SITE = new StackTraceElement("unknown", "unknown", null, -1);
+    private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+    private static final String SUPPRESSED_SUBJECT = "not described during a failure storm";
+    private static final int MAX_CALL_SITES = 1024;
+    private static final int MAX_TEMPLATES = 1024;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final Function<String, X> throwableFunction;
+    private final Function<String, ? extends X> stormThrowableFunction;
+    private final FailureStormPolicy policy;
+    private final long windowNanos;
+    private final ConcurrentMap<StackTraceElement, CallSite> callSites;
+    private final CallSite overflow;
+    private final ConcurrentMap<String, String> templates;
+    private final AtomicInteger storming;
+    private final AtomicLong lastSweepNanos;
+    private final LongAdder suppressed;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * The call site is the first frame outside of the library below the calls into this
+     * executor. Looking for the executor first skips any frames of the throwable function.
+     */
+
+    static StackTraceElement callSite(StackTraceElement[] elements) {
+        if (null == elements) {
+            return UNKNOWN_CALL_SITE;
+        }
+        StackTraceElement callSite = ValidityUtils.callSite(CLASS_NAME, elements);
+        return (null == callSite) ? UNKNOWN_CALL_SITE : callSite;
+    }
+
+    private static StackTraceElement currentCallSite() {
+        StackTraceElement callSite = ValidityStackFrames.callSite(CLASS_NAME);
+        return (null == callSite) ? UNKNOWN_CALL_SITE : callSite;
+    }
+
+    private static <X extends Throwable> X createThrowable(Function<String, ? extends X> function,
+                                                           String message) {
+        X throwable = function.apply(message);
+        if (null == throwable) {
+            throw new NullPointerException(ValidityUtils.nullThrowableFromFunction());
+        }
+        return throwable;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link AdaptiveFailedValidationExecutor} instance with the given values.
+     * The cheap failures during a storm are created with the throwable function as well,
+     * so their stack is captured before it is thrown away.
+     *
+     * @param throwableFunction the function that takes in a String and returns a throwable
+     *                          of the correct type.
+     *                          May not be null.
+     *                          Should never return a null throwable.
+     * @param policy            the policy that decides when a call site is in a failure storm.
+     *                          May not be null.
+     *
+     * @throws NullPointerException if throwableFunction or policy are null or if throwableFunction
+     *                              ever returns a null {@link Throwable}.
+     */
+    public AdaptiveFailedValidationExecutor(Function<String, X> throwableFunction,
+                                            FailureStormPolicy policy) {
+        this(throwableFunction, throwableFunction, policy);
+    }
+
+    /**
+     * Create a new {@link AdaptiveFailedValidationExecutor} instance with the given values.
+     *
+     * @param throwableFunction      the function that takes in a String and returns a throwable
+     *                               of the correct type.
+     *                               May not be null.
+     *                               Should never return a null throwable.
+     * @param stormThrowableFunction the function that takes in a String and returns a throwable
+     *                               of the correct type for the cheap failures during a storm.
+     *                               It should not capture a stack trace, e.g.
+     *                               {@code StacklessIllegalArgumentException::new}.
+     *                               May not be null.
+     *                               Should never return a null throwable.
+     * @param policy                 the policy that decides when a call site is in a failure storm.
+     *                               May not be null.
+     *
+     * @throws NullPointerException if throwableFunction, stormThrowableFunction, or policy are null
+     *                              or if either function ever returns a null {@link Throwable}.
+     */
+    public AdaptiveFailedValidationExecutor(Function<String, X> throwableFunction,
+                                            Function<String, ? extends X> stormThrowableFunction,
+                                            FailureStormPolicy policy) {
+        if (null == throwableFunction) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("throwableFunction"));
+        }
+        if (null == stormThrowableFunction) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("stormThrowableFunction"));
+        }
+        if (null == policy) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("policy"));
+        }
+        this.throwableFunction = throwableFunction;
+        this.stormThrowableFunction = stormThrowableFunction;
+        this.policy = policy;
+        this.windowNanos = policy.getWindow().toNanos();
+        this.callSites = new ConcurrentHashMap<>();
+        this.templates = new ConcurrentHashMap<>();
+        this.storming = new AtomicInteger();
+        this.suppressed = new LongAdder();
+        long now = System.nanoTime();
+        this.overflow = new CallSite(UNKNOWN_CALL_SITE, now);
+        this.lastSweepNanos = new AtomicLong(now);
+    }
+
+    /**
+     * @return the policy of this executor.
+     */
+    public FailureStormPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the number of failures that were made cheap during failure storms.
+     */
+    public long getSuppressedFailures() {
+        return suppressed.sum();
+    }
+
+    /**
+     * @return a snapshot of the call sites that are currently in a failure storm.
+     */
+    public Set<StackTraceElement> getStormingCallSites() {
+        Set<StackTraceElement> snapshot = new TreeSet<>((a, b) -> a.toString().compareTo(b.toString()));
+        for (CallSite site : callSites.values()) {
+            if (site.storming.get()) {
+                snapshot.add(site.element);
+            }
+        }
+        if (overflow.storming.get()) {
+            snapshot.add(overflow.element);
+        }
+        return Collections.unmodifiableSet(snapshot);
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) throws X {
+        fail(expected, subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) throws X {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        long now = System.nanoTime();
+        if (0 == storming.get()) {
+            // The common case, read the call site from the throwable's own stack trace
+            X throwable = createThrowable(throwableFunction, ValidityUtils.failureMessage(messageSupplier.get(), expected, describers.describe(subject)));
+            StackTraceElement[] elements = throwable.getStackTrace();
+            if (null != elements) {
+                callSite(callSite(elements), now).record(now);
+            }
+            ValidityUtils.trimStackTrace(throwable);
+            throw throwable;
+        }
+        sweep(now);
+        // The call site is looked up once, the full throwable below captures its own stack
+        if (!callSite(currentCallSite(), now).record(now)) {
+            X throwable = createThrowable(throwableFunction, ValidityUtils.failureMessage(messageSupplier.get(), expected, describers.describe(subject)));
+            ValidityUtils.trimStackTrace(throwable);
+            throw throwable;
+        }
+        suppressed.increment();
+        String message = policy.isTemplateMessages()
+                ? template(expected)
+                : ValidityUtils.failureMessage(messageSupplier.get(), expected, describers.describe(subject));
+        X throwable = createThrowable(stormThrowableFunction, message);
+        // Does nothing but copy an empty array for a throwable that did not capture a stack trace
+        throwable.setStackTrace(NO_STACK_TRACE);
+        throw throwable;
+    }
+
+    private String template(String expected) {
+        String template = templates.get(expected);
+        if (null == template) {
+            template = ValidityUtils.failureMessage(null, expected, SUPPRESSED_SUBJECT);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.putIfAbsent(expected, template);
+            }
+        }
+        return template;
+    }
+
+    private CallSite callSite(StackTraceElement element, long now) {
+        CallSite site = callSites.get(element);
+        if (null == site) {
+            if (callSites.size() >= MAX_CALL_SITES) {
+                return overflow;
+            }
+            site = callSites.computeIfAbsent(element, key -> new CallSite(key, now));
+        }
+        return site;
+    }
+
+    /*
+     * A call site in a storm that stops failing would otherwise never see another failure
+     * to notice that the storm ended, so once per window the storming call sites are rolled
+     * over by whichever thread fails first.
+     */
+
+    private void sweep(long now) {
+        long last = lastSweepNanos.get();
+        if (now - last >= windowNanos && lastSweepNanos.compareAndSet(last, now)) {
+            for (CallSite site : callSites.values()) {
+                if (site.storming.get()) {
+                    site.roll(now);
+                }
+            }
+            if (overflow.storming.get()) {
+                overflow.roll(now);
+            }
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final class CallSite {
+
+        private final StackTraceElement element;
+        private final AtomicLong windowStartNanos;
+        private final AtomicLong failures;
+        private final AtomicBoolean storming;
+        private final LongAdder suppressedDuringStorm;
+
+        private CallSite(StackTraceElement element, long now) {
+            this.element = element;
+            this.windowStartNanos = new AtomicLong(now);
+            this.failures = new AtomicLong();
+            this.storming = new AtomicBoolean();
+            this.suppressedDuringStorm = new LongAdder();
+        }
+
+        /**
+         * Count a failure at this call site.
+         *
+         * @return true if the call site is in a failure storm.
+         */
+        private boolean record(long now) {
+            roll(now);
+            if (failures.incrementAndGet() > policy.getMaxFailures() && storming.compareAndSet(false, true)) {
+                AdaptiveFailedValidationExecutor.this.storming.incrementAndGet();
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.warning("Validation failure storm at " + element + ": more than " + policy.getMaxFailures() +
+                                   " failures within " + policy.getWindow() + ", suppressing stack traces" +
+                                   (policy.isTemplateMessages() ? " and messages" : "") + " until the rate drops");
+                }
+                // The failure that started the storm is not cheap, the following ones are
+                return false;
+            }
+            boolean inStorm = storming.get();
+            if (inStorm) {
+                suppressedDuringStorm.increment();
+            }
+            return inStorm;
+        }
+
+        private void roll(long now) {
+            long start = windowStartNanos.get();
+            if (now - start < windowNanos || !windowStartNanos.compareAndSet(start, now)) {
+                return;
+            }
+            long previous = failures.getAndSet(0);
+            // If a whole window passed without failures the previous count is stale
+            if (now - start >= 2 * windowNanos) {
+                previous = 0;
+            }
+            if (previous <= policy.getMaxFailures() && storming.compareAndSet(true, false)) {
+                AdaptiveFailedValidationExecutor.this.storming.decrementAndGet();
+                long count = suppressedDuringStorm.sumThenReset();
+                if (LOGGER.isLoggable(Level.INFO)) {
+                    LOGGER.info("Validation failure storm at " + element + " ended, " + count + " failures were suppressed");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * An {@link Appendable} that keeps at most one character more than its limit so that
+ * describing a subject never builds more of its String representation than is shown.
+ * Callers walking a large subject should check {@link #isFull()} between elements and
+ * stop once it returns true, since anything appended after that is dropped.
+ */
+final class BoundedAppendable implements Appendable {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String NULL = "null";
+    private static final String TRUNCATED_SUFFIX = " ...";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final int limit;
+    private final StringBuilder builder;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param limit the number of characters to keep before the description is truncated.
+     */
+    BoundedAppendable(int limit) {
+        this.limit = limit;
+        this.builder = new StringBuilder(limit + 1);
+    }
+
+    /**
+     * @return true if more than the limit has been appended and anything else
+     * appended will be dropped.
+     */
+    boolean isFull() {
+        return builder.length() > limit;
+    }
+
+    @Override
+    public BoundedAppendable append(CharSequence csq) {
+        if (null == csq) {
+            csq = NULL;
+        }
+        // Appending the whole sequence at once is a bulk copy, unlike appending a range
+        if (csq.length() <= limit + 1 - builder.length()) {
+            builder.append(csq);
+            return this;
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public BoundedAppendable append(CharSequence csq, int start, int end) {
+        if (null == csq) {
+            return append(NULL, start, end);
+        }
+        int remaining = limit + 1 - builder.length();
+        if (remaining > 0) {
+            builder.append(csq, start, Math.min(end, start + remaining));
+        }
+        return this;
+    }
+
+    @Override
+    public BoundedAppendable append(char c) {
+        if (!isFull()) {
+            builder.append(c);
+        }
+        return this;
+    }
+
+    /**
+     * @return the appended characters, or the first limit characters followed
+     * by " ..." if more than the limit was appended.
+     */
+    @Override
+    public String toString() {
+        return isFull() ? builder.substring(0, limit) + TRUNCATED_SUFFIX : builder.toString();
+    }
+}
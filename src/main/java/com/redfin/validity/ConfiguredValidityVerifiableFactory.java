@@ -0,0 +1,254 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.verifiers.arrays.VerifiableArray;
+import com.redfin.validity.verifiers.arrays.VerifiableBooleanArray;
+import com.redfin.validity.verifiers.arrays.VerifiableByteArray;
+import com.redfin.validity.verifiers.arrays.VerifiableCharArray;
+import com.redfin.validity.verifiers.arrays.VerifiableDoubleArray;
+import com.redfin.validity.verifiers.arrays.VerifiableFloatArray;
+import com.redfin.validity.verifiers.arrays.VerifiableIntArray;
+import com.redfin.validity.verifiers.arrays.VerifiableLongArray;
+import com.redfin.validity.verifiers.arrays.VerifiableShortArray;
+import com.redfin.validity.verifiers.objects.VerifiableBoolean;
+import com.redfin.validity.verifiers.objects.VerifiableByte;
+import com.redfin.validity.verifiers.objects.VerifiableCharacter;
+import com.redfin.validity.verifiers.objects.VerifiableClass;
+import com.redfin.validity.verifiers.objects.VerifiableCollection;
+import com.redfin.validity.verifiers.objects.VerifiableDouble;
+import com.redfin.validity.verifiers.objects.VerifiableDuration;
+import com.redfin.validity.verifiers.objects.VerifiableFloat;
+import com.redfin.validity.verifiers.objects.VerifiableInstant;
+import com.redfin.validity.verifiers.objects.VerifiableInteger;
+import com.redfin.validity.verifiers.objects.VerifiableLong;
+import com.redfin.validity.verifiers.objects.VerifiableObject;
+import com.redfin.validity.verifiers.objects.VerifiableShort;
+import com.redfin.validity.verifiers.objects.VerifiableString;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveBoolean;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveByte;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveChar;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveDouble;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveFloat;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveLong;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveShort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * The {@link ValidityVerifiableFactory} returned by {@link AbstractVerifiableFactory#getFactory(Supplier, FailedValidationExecutor, VerifiableFactoryConfig)}
+ * for any {@link VerifiableFactoryConfig} other than the defaults. Its {@code that} methods get
+ * their verifiers from {@link ConfiguredVerifiers}, so the verifiers of factories with the
+ * defaults neither have nor test any of the settings.
+ */
+final class ConfiguredValidityVerifiableFactory
+           extends ValidityVerifiableFactory {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final ConfiguredVerifiers<IllegalArgumentException> verifiers;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new configured factory with the given message, failed validation executor, and config.
+     *
+     * @param messageSupplier          the {@link Supplier} of the String message to pre-pend the failure message with, if necessary.
+     *                                 May not be null.
+     * @param failedValidationExecutor the {@link FailedValidationExecutor} to use in case
+     *                                 of failed validation.
+     *                                 May not be null.
+     * @param config                   the {@link VerifiableFactoryConfig} with the remaining settings of the factory.
+     *                                 May not be null.
+     *
+     * @throws NullPointerException if messageSupplier, failedValidationExecutor, or config are null.
+     */
+    ConfiguredValidityVerifiableFactory(Supplier<String> messageSupplier,
+                                        FailedValidationExecutor<IllegalArgumentException> failedValidationExecutor,
+                                        VerifiableFactoryConfig config) {
+        super(messageSupplier, failedValidationExecutor);
+        this.verifiers = new ConfiguredVerifiers<>(failedValidationExecutor, messageSupplier, config);
+    }
+
+    @Override
+    protected VerifiableFactoryConfig getConfig() {
+        return verifiers.getConfig();
+    }
+
+    @Override
+    public <E> VerifiableArray<E, IllegalArgumentException> that(E[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableBooleanArray<IllegalArgumentException> that(boolean[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableByteArray<IllegalArgumentException> that(byte[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableCharArray<IllegalArgumentException> that(char[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableDoubleArray<IllegalArgumentException> that(double[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableFloatArray<IllegalArgumentException> that(float[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableIntArray<IllegalArgumentException> that(int[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableLongArray<IllegalArgumentException> that(long[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableShortArray<IllegalArgumentException> that(short[] subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveBoolean<IllegalArgumentException> that(boolean subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveByte<IllegalArgumentException> that(byte subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveChar<IllegalArgumentException> that(char subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveDouble<IllegalArgumentException> that(double subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveFloat<IllegalArgumentException> that(float subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveInt<IllegalArgumentException> that(int subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveLong<IllegalArgumentException> that(long subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiablePrimitiveShort<IllegalArgumentException> that(short subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableBoolean<IllegalArgumentException> that(Boolean subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableByte<IllegalArgumentException> that(Byte subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableCharacter<IllegalArgumentException> that(Character subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableDouble<IllegalArgumentException> that(Double subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableFloat<IllegalArgumentException> that(Float subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableInteger<IllegalArgumentException> that(Integer subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableLong<IllegalArgumentException> that(Long subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableShort<IllegalArgumentException> that(Short subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableDuration<IllegalArgumentException> that(Duration subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableInstant<IllegalArgumentException> that(Instant subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public <T> VerifiableClass<T, IllegalArgumentException> that(Class<T> subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public <E, T extends Collection<E>> VerifiableCollection<E, T, IllegalArgumentException> that(T subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public VerifiableString<IllegalArgumentException> that(String subject) {
+        return verifiers.that(subject);
+    }
+
+    @Override
+    public <T> VerifiableObject<T, IllegalArgumentException> that(T subject) {
+        return verifiers.that(subject);
+    }
+}
@@ -0,0 +1,499 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedBoolean;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedBooleanArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedByte;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedByteArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedCharArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedCharacter;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedClass;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedCollection;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedDouble;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedDoubleArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedDuration;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedFloat;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedFloatArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedInstant;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedIntArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedInteger;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedLong;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedLongArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedObject;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveBoolean;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveByte;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveChar;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveDouble;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveFloat;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveInt;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveLong;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedPrimitiveShort;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedShort;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedShortArray;
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedString;
+import com.redfin.validity.PassThroughVerifiers.PassThroughArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughBoolean;
+import com.redfin.validity.PassThroughVerifiers.PassThroughBooleanArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughByte;
+import com.redfin.validity.PassThroughVerifiers.PassThroughByteArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughCharArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughCharacter;
+import com.redfin.validity.PassThroughVerifiers.PassThroughClass;
+import com.redfin.validity.PassThroughVerifiers.PassThroughCollection;
+import com.redfin.validity.PassThroughVerifiers.PassThroughDouble;
+import com.redfin.validity.PassThroughVerifiers.PassThroughDoubleArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughDuration;
+import com.redfin.validity.PassThroughVerifiers.PassThroughFloat;
+import com.redfin.validity.PassThroughVerifiers.PassThroughFloatArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughInstant;
+import com.redfin.validity.PassThroughVerifiers.PassThroughIntArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughInteger;
+import com.redfin.validity.PassThroughVerifiers.PassThroughLong;
+import com.redfin.validity.PassThroughVerifiers.PassThroughLongArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughObject;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveBoolean;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveByte;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveChar;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveDouble;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveFloat;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveInt;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveLong;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveShort;
+import com.redfin.validity.PassThroughVerifiers.PassThroughShort;
+import com.redfin.validity.PassThroughVerifiers.PassThroughShortArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughString;
+import com.redfin.validity.verifiers.arrays.VerifiableArray;
+import com.redfin.validity.verifiers.arrays.VerifiableBooleanArray;
+import com.redfin.validity.verifiers.arrays.VerifiableByteArray;
+import com.redfin.validity.verifiers.arrays.VerifiableCharArray;
+import com.redfin.validity.verifiers.arrays.VerifiableDoubleArray;
+import com.redfin.validity.verifiers.arrays.VerifiableFloatArray;
+import com.redfin.validity.verifiers.arrays.VerifiableIntArray;
+import com.redfin.validity.verifiers.arrays.VerifiableLongArray;
+import com.redfin.validity.verifiers.arrays.VerifiableShortArray;
+import com.redfin.validity.verifiers.objects.VerifiableBoolean;
+import com.redfin.validity.verifiers.objects.VerifiableByte;
+import com.redfin.validity.verifiers.objects.VerifiableCharacter;
+import com.redfin.validity.verifiers.objects.VerifiableClass;
+import com.redfin.validity.verifiers.objects.VerifiableCollection;
+import com.redfin.validity.verifiers.objects.VerifiableDouble;
+import com.redfin.validity.verifiers.objects.VerifiableDuration;
+import com.redfin.validity.verifiers.objects.VerifiableFloat;
+import com.redfin.validity.verifiers.objects.VerifiableInstant;
+import com.redfin.validity.verifiers.objects.VerifiableInteger;
+import com.redfin.validity.verifiers.objects.VerifiableLong;
+import com.redfin.validity.verifiers.objects.VerifiableObject;
+import com.redfin.validity.verifiers.objects.VerifiableShort;
+import com.redfin.validity.verifiers.objects.VerifiableString;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveBoolean;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveByte;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveChar;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveDouble;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveFloat;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveLong;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveShort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Creates the verifiers of the factories configured with anything other than the defaults
+ * of {@link VerifiableFactoryConfig}. Calls that the {@link Sampler} of the config skips
+ * get one of the {@link PassThroughVerifiers}. The others get one of the {@link InstrumentedVerifiers} if
+ * there are {@link ValidationMetrics} or a {@link CostThreshold}, and the plain verifier
+ * otherwise. Non-default {@link Describers} are handed to the executor by wrapping it once
+ * in a {@link DescribingFailedValidationExecutor}.
+ *
+ * @param <X> the type of {@link Throwable} to be thrown on validation failure.
+ */
+final class ConfiguredVerifiers<X extends Throwable> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final FailedValidationExecutor<X> failedValidationExecutor;
+    private final Supplier<String> messageSupplier;
+    private final VerifiableFactoryConfig config;
+    private final Sampler sampler;
+    private final boolean instrumented;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link ConfiguredVerifiers} instance with the given values.
+     *
+     * @param failedValidationExecutor the {@link FailedValidationExecutor} of the factory.
+     *                                 May not be null.
+     * @param messageSupplier          the {@link Supplier} of the String message of the factory.
+     *                                 May not be null.
+     * @param config                   the {@link VerifiableFactoryConfig} of the factory.
+     *                                 May not be null.
+     *
+     * @throws NullPointerException if failedValidationExecutor, messageSupplier, or config are null.
+     */
+    ConfiguredVerifiers(FailedValidationExecutor<X> failedValidationExecutor,
+                        Supplier<String> messageSupplier,
+                        VerifiableFactoryConfig config) {
+        if (null == failedValidationExecutor) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failedValidationExecutor"));
+        }
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        if (null == config) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("config"));
+        }
+        if (Describers.defaults() == config.getDescribers()) {
+            this.failedValidationExecutor = failedValidationExecutor;
+        } else {
+            this.failedValidationExecutor = new DescribingFailedValidationExecutor<>(failedValidationExecutor, config.getDescribers());
+        }
+        this.messageSupplier = messageSupplier;
+        this.config = config;
+        this.sampler = config.getSampler();
+        this.instrumented = null != config.getMetrics() || null != config.getCostThreshold();
+    }
+
+    /**
+     * @return the given {@link VerifiableFactoryConfig}.
+     */
+    VerifiableFactoryConfig getConfig() {
+        return config;
+    }
+
+    private RecordingFailedValidationExecutor<X> getRecorder(Class<?> verifierClass) {
+        return new RecordingFailedValidationExecutor<>(failedValidationExecutor, verifierClass, config);
+    }
+
+    <E> VerifiableArray<E, X> that(E[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedArray<>(getRecorder(VerifiableArray.class), subject, messageSupplier);
+        }
+        return new VerifiableArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableBooleanArray<X> that(boolean[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughBooleanArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedBooleanArray<>(getRecorder(VerifiableBooleanArray.class), subject, messageSupplier);
+        }
+        return new VerifiableBooleanArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableByteArray<X> that(byte[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughByteArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedByteArray<>(getRecorder(VerifiableByteArray.class), subject, messageSupplier);
+        }
+        return new VerifiableByteArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableCharArray<X> that(char[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughCharArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedCharArray<>(getRecorder(VerifiableCharArray.class), subject, messageSupplier);
+        }
+        return new VerifiableCharArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableDoubleArray<X> that(double[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughDoubleArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedDoubleArray<>(getRecorder(VerifiableDoubleArray.class), subject, messageSupplier);
+        }
+        return new VerifiableDoubleArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableFloatArray<X> that(float[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughFloatArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedFloatArray<>(getRecorder(VerifiableFloatArray.class), subject, messageSupplier);
+        }
+        return new VerifiableFloatArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableIntArray<X> that(int[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughIntArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedIntArray<>(getRecorder(VerifiableIntArray.class), subject, messageSupplier);
+        }
+        return new VerifiableIntArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableLongArray<X> that(long[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughLongArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedLongArray<>(getRecorder(VerifiableLongArray.class), subject, messageSupplier);
+        }
+        return new VerifiableLongArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableShortArray<X> that(short[] subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughShortArray<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedShortArray<>(getRecorder(VerifiableShortArray.class), subject, messageSupplier);
+        }
+        return new VerifiableShortArray<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveBoolean<X> that(boolean subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveBoolean<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveBoolean<>(getRecorder(VerifiablePrimitiveBoolean.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveBoolean<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveByte<X> that(byte subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveByte<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveByte<>(getRecorder(VerifiablePrimitiveByte.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveByte<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveChar<X> that(char subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveChar<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveChar<>(getRecorder(VerifiablePrimitiveChar.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveChar<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveDouble<X> that(double subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveDouble<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveDouble<>(getRecorder(VerifiablePrimitiveDouble.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveDouble<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveFloat<X> that(float subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveFloat<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveFloat<>(getRecorder(VerifiablePrimitiveFloat.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveFloat<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveInt<X> that(int subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveInt<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveInt<>(getRecorder(VerifiablePrimitiveInt.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveInt<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveLong<X> that(long subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveLong<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveLong<>(getRecorder(VerifiablePrimitiveLong.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveLong<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiablePrimitiveShort<X> that(short subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughPrimitiveShort<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedPrimitiveShort<>(getRecorder(VerifiablePrimitiveShort.class), subject, messageSupplier);
+        }
+        return new VerifiablePrimitiveShort<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableBoolean<X> that(Boolean subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughBoolean<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedBoolean<>(getRecorder(VerifiableBoolean.class), subject, messageSupplier);
+        }
+        return new VerifiableBoolean<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableByte<X> that(Byte subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughByte<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedByte<>(getRecorder(VerifiableByte.class), subject, messageSupplier);
+        }
+        return new VerifiableByte<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableCharacter<X> that(Character subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughCharacter<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedCharacter<>(getRecorder(VerifiableCharacter.class), subject, messageSupplier);
+        }
+        return new VerifiableCharacter<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableDouble<X> that(Double subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughDouble<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedDouble<>(getRecorder(VerifiableDouble.class), subject, messageSupplier);
+        }
+        return new VerifiableDouble<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableFloat<X> that(Float subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughFloat<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedFloat<>(getRecorder(VerifiableFloat.class), subject, messageSupplier);
+        }
+        return new VerifiableFloat<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableInteger<X> that(Integer subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughInteger<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedInteger<>(getRecorder(VerifiableInteger.class), subject, messageSupplier);
+        }
+        return new VerifiableInteger<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableLong<X> that(Long subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughLong<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedLong<>(getRecorder(VerifiableLong.class), subject, messageSupplier);
+        }
+        return new VerifiableLong<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableShort<X> that(Short subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughShort<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedShort<>(getRecorder(VerifiableShort.class), subject, messageSupplier);
+        }
+        return new VerifiableShort<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableDuration<X> that(Duration subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughDuration<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedDuration<>(getRecorder(VerifiableDuration.class), subject, messageSupplier);
+        }
+        return new VerifiableDuration<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableInstant<X> that(Instant subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughInstant<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedInstant<>(getRecorder(VerifiableInstant.class), subject, messageSupplier);
+        }
+        return new VerifiableInstant<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    <T> VerifiableClass<T, X> that(Class<T> subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughClass<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedClass<>(getRecorder(VerifiableClass.class), subject, messageSupplier);
+        }
+        return new VerifiableClass<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    <E, T extends Collection<E>> VerifiableCollection<E, T, X> that(T subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughCollection<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedCollection<>(getRecorder(VerifiableCollection.class), subject, messageSupplier);
+        }
+        return new VerifiableCollection<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    VerifiableString<X> that(String subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughString<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedString<>(getRecorder(VerifiableString.class), subject, messageSupplier);
+        }
+        return new VerifiableString<>(failedValidationExecutor, subject, messageSupplier);
+    }
+
+    <T> VerifiableObject<T, X> that(T subject) {
+        if (null != sampler && !sampler.checksThisCall()) {
+            return new PassThroughObject<>(failedValidationExecutor, subject, messageSupplier);
+        }
+        if (instrumented) {
+            return new InstrumentedObject<>(getRecorder(VerifiableObject.class), subject, messageSupplier);
+        }
+        return new VerifiableObject<>(failedValidationExecutor, subject, messageSupplier);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The maximum {@link CostTier} of the checks that factories created with
+ * {@link AbstractVerifiableFactory#withCostThreshold(CostThreshold)} make. Checks of a
+ * higher tier return their subject unchecked, or are checked on a sample of the calls if
+ * the threshold was created with a sampling rate. Checks in the {@link CostTier#CONSTANT}
+ * tier are always made.
+ * <p>
+ * The maximum tier can be changed at any time, e.g. to shed the expensive checks while a
+ * service is under load, and the change is seen by every factory sharing the threshold.
+ * It is safe to share between threads.
+ */
+public final class CostThreshold {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final int checked;
+    private final int outOf;
+    private volatile CostTier maxTier;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link CostThreshold} that skips every check above the given tier.
+     *
+     * @param maxTier the most expensive {@link CostTier} of checks that are made.
+     *                May not be null.
+     *
+     * @throws NullPointerException if maxTier is null.
+     */
+    public CostThreshold(CostTier maxTier) {
+        this(maxTier, 0, 1);
+    }
+
+    /**
+     * Create a new {@link CostThreshold} that checks a sample of the calls of the checks
+     * above the given tier. Each call is sampled with the thread's {@link ThreadLocalRandom}.
+     *
+     * @param maxTier the most expensive {@link CostTier} of checks that are always made.
+     *                May not be null.
+     * @param checked the number of calls out of every outOf calls of a check above the
+     *                tier that should be checked.
+     *                Must be at least 0.
+     * @param outOf   the number of calls that checked is taken from.
+     *                Must be at least 1 and at least checked.
+     *
+     * @throws NullPointerException     if maxTier is null.
+     * @throws IllegalArgumentException if checked is negative, outOf is less than 1, or
+     *                                  outOf is less than checked.
+     */
+    public CostThreshold(CostTier maxTier, int checked, int outOf) {
+        if (null == maxTier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("maxTier"));
+        }
+        if (checked < 0) {
+            throw new IllegalArgumentException("The number of checked calls must be at least 0, was " + checked);
+        }
+        if (outOf < 1 || outOf < checked) {
+            throw new IllegalArgumentException("The number of calls must be at least 1 and at least the number of checked calls, was " + outOf);
+        }
+        this.maxTier = maxTier;
+        this.checked = checked;
+        this.outOf = outOf;
+    }
+
+    /**
+     * @return the most expensive {@link CostTier} of checks that are always made.
+     */
+    public CostTier getMaxTier() {
+        return maxTier;
+    }
+
+    /**
+     * @param maxTier the most expensive {@link CostTier} of checks that are always made
+     *                from now on by every factory with this threshold.
+     *                May not be null.
+     *
+     * @throws NullPointerException if maxTier is null.
+     */
+    public void setMaxTier(CostTier maxTier) {
+        if (null == maxTier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("maxTier"));
+        }
+        this.maxTier = maxTier;
+    }
+
+    /**
+     * @return the number of calls out of every {@link #getOutOf()} calls of a check above
+     * the maximum tier that are checked.
+     */
+    public int getChecked() {
+        return checked;
+    }
+
+    /**
+     * @return the number of calls {@link #getChecked()} is taken from.
+     */
+    public int getOutOf() {
+        return outOf;
+    }
+
+    /**
+     * Verifier methods above the {@link CostTier#CONSTANT} tier of a factory with a threshold
+     * call this first with their tier.
+     *
+     * @param tier the {@link CostTier} of the verifier method.
+     *             May not be null.
+     *
+     * @return true if this call of a check of the given tier should be skipped.
+     */
+    public boolean isSkipping(CostTier tier) {
+        if (tier.compareTo(maxTier) <= 0) {
+            return false;
+        }
+        return 0 == checked || ThreadLocalRandom.current().nextInt(outOf) >= checked;
+    }
+
+    @Override
+    public String toString() {
+        return "CostThreshold(maxTier=" + maxTier + ", checked=" + checked + ", outOf=" + outOf + ")";
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * The cost tiers of verifier methods, from cheapest to most expensive. A factory with a
+ * {@link CostThreshold} only makes the checks whose tier is at most the threshold's
+ * maximum tier.
+ */
+public enum CostTier {
+
+    /**
+     * Checks that take the same time whatever the subject, e.g. comparing a number,
+     * testing for null, or reading the size of a collection or the length of an array.
+     * Checks that call the subject's equals or compareTo method are in this tier as well.
+     */
+    CONSTANT,
+
+    /**
+     * Checks that take time proportional to the size of the subject or argument, e.g.
+     * comparing the elements of two arrays, searching a collection for an element, or
+     * testing the prefix of a String.
+     */
+    LINEAR,
+
+    /**
+     * Checks whose cost is unknown or can be high, i.e. testing the subject against a
+     * caller's predicate or a regular expression.
+     */
+    PREDICATE
+}
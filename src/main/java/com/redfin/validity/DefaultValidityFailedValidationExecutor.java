@@ -16,7 +16,6 @@
 
 package com.redfin.validity;
 
-import java.util.Arrays;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -25,7 +24,10 @@ import java.util.function.Supplier;
  * will throw {@link Throwable}s of type X when the {@link #fail(String, Object, Supplier)} method
  * is called that have the Validity library stack frames removed so that the first line of
  * the stack trace is the line the actual validation call. The rest of the stack trace is
- * left alone.
+ * left alone. Executors created with {@link #withLazyMessages(LazyThrowableFunction)} leave
+ * formatting the failure message to the throwable. Each failure is also committed as a {@code com.redfin.validity.ValidationFailed}
+ * Java Flight Recorder event when running on Java 11 or later with a recording that has the
+ * event enabled.
  *
  * @param <X> the type of {@link Throwable} the {@link #fail(String, Object, Supplier)} method
  *            will throw.
@@ -37,15 +39,38 @@ public final class DefaultValidityFailedValidationExecutor<X extends Throwable>
     // Constants
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-    private static final String DEFAULT_MESSAGE = "Subject failed validation";
-    private static final String MESSAGE_FORMAT = "%s\n    expected : %s\n     subject : <%s>";
     private static final String PACKAGE_NAME = DefaultValidityFailedValidationExecutor.class.getPackage().getName() + ".";
+    private static final String CLASS_NAME = DefaultValidityFailedValidationExecutor.class.getName();
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Members
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-    private final Function<String, X> throwableFunction;
+    private final LazyThrowableFunction<? extends X> throwableFunction;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link DefaultValidityFailedValidationExecutor} instance that passes the
+     * parts of the failure message to the throwable function instead of formatting the message
+     * itself, e.g. with {@code ValidityIllegalArgumentException::new} so the message is only
+     * formatted if it is ever asked for.
+     *
+     * @param throwableFunction the function that takes in the parts of the failure message
+     *                          and returns a throwable of the correct type.
+     *                          May not be null.
+     *                          Should never return a null throwable.
+     * @param <X>               the type of {@link Throwable} the executor will throw.
+     *
+     * @return a new executor.
+     *
+     * @throws NullPointerException if throwableFunction is null.
+     */
+    public static <X extends Throwable> DefaultValidityFailedValidationExecutor<X> withLazyMessages(LazyThrowableFunction<? extends X> throwableFunction) {
+        return new DefaultValidityFailedValidationExecutor<>(throwableFunction);
+    }
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Instance Methods
@@ -64,6 +89,13 @@ public final class DefaultValidityFailedValidationExecutor<X extends Throwable>
      *                              returns a null {@link Throwable}.
      */
     public DefaultValidityFailedValidationExecutor(Function<String, X> throwableFunction) {
+        if (null == throwableFunction) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("throwableFunction"));
+        }
+        this.throwableFunction = (expected, subject, messageSupplier, describers) -> throwableFunction.apply(ValidityUtils.formatFailure(expected, subject, messageSupplier, describers));
+    }
+
+    private DefaultValidityFailedValidationExecutor(LazyThrowableFunction<? extends X> throwableFunction) {
         if (null == throwableFunction) {
             throw new NullPointerException(ValidityUtils.nullArgumentMessage("throwableFunction"));
         }
@@ -74,30 +106,69 @@ public final class DefaultValidityFailedValidationExecutor<X extends Throwable>
     public <T> void fail(String expected,
                          T subject,
                          Supplier<String> messageSupplier) throws X {
+        fail(expected, subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) throws X {
         if (null == expected) {
             throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
         }
         if (null == messageSupplier) {
             throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
         }
-        String subjectDescription = ValidityUtils.describe(subject);
-        String message = messageSupplier.get();
-        if (null == message) {
-            message = DEFAULT_MESSAGE;
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
         }
+        boolean recordEvent = ValidityEvents.isFailureEnabled();
+        long start = recordEvent ? System.nanoTime() : 0L;
         // Create the throwable
-        X throwable = throwableFunction.apply(String.format(MESSAGE_FORMAT, message, expected, subjectDescription));
+        X throwable = throwableFunction.apply(expected, subject, messageSupplier, describers);
         if (null == throwable) {
             throw new NullPointerException(ValidityUtils.nullThrowableFromFunction());
         }
+        // Find the verifier for the event before its frames are trimmed
+        StackTraceElement verifierFrame = recordEvent ? verifierFrame(throwable.getStackTrace()) : null;
         // Trim the validity frames from the stack trace and throw
-        StackTraceElement[] elements = throwable.getStackTrace();
-        if (null != elements) {
-            throwable.setStackTrace(Arrays.stream(elements)
-                                          .filter(element -> !element.getClassName()
-                                                                     .startsWith(PACKAGE_NAME))
-                                          .toArray(StackTraceElement[]::new));
+        ValidityUtils.trimStackTrace(throwable);
+        if (recordEvent) {
+            ValidityEvents.failed((null == verifierFrame) ? null : verifierFrame.getClassName(),
+                                  (null == verifierFrame) ? null : verifierFrame.getMethodName(),
+                                  (null == subject) ? null : subject.getClass(),
+                                  expected,
+                                  System.nanoTime() - start);
         }
         throw throwable;
     }
+
+    /*
+     * The verifier method that was called is the outermost library frame below the calls
+     * into this executor. Verifiers defined outside of the library fall back to the frame
+     * that called this executor.
+     */
+
+    static StackTraceElement verifierFrame(StackTraceElement[] elements) {
+        if (null == elements) {
+            return null;
+        }
+        int index = 0;
+        while (index < elements.length && !CLASS_NAME.equals(elements[index].getClassName())) {
+            index++;
+        }
+        while (index < elements.length && CLASS_NAME.equals(elements[index].getClassName())) {
+            index++;
+        }
+        if (index >= elements.length) {
+            return null;
+        }
+        StackTraceElement frame = elements[index];
+        while (index < elements.length && elements[index].getClassName().startsWith(PACKAGE_NAME)) {
+            frame = elements[index];
+            index++;
+        }
+        return frame;
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Function;
+
+/**
+ * An immutable registry of the functions used to describe the subject of a failed validation
+ * and the number of characters a description is truncated to. A factory given one with
+ * {@link AbstractVerifiableFactory#withDescribers(Describers)} uses it for every failure message
+ * it creates, e.g. to describe an expensive domain object by its id alone.
+ * <p>
+ * A subject is described by the function registered for the closest type to its class, searching
+ * its super-classes before its interfaces, or by {@link ValidityUtils#describe(Object)} if there is
+ * none. The function for each class is only looked up once, through a {@link ClassValue}.
+ */
+public final class Describers {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * The number of characters descriptions are truncated to by default.
+     */
+    public static final int DEFAULT_LIMIT = 100;
+
+    private static final Describers DEFAULTS = new Describers(Collections.emptyMap(), DEFAULT_LIMIT);
+
+    /*
+     * Marks a class with no registered describer since a ClassValue should not compute null.
+     */
+
+    private static final Function<Object, String> NO_DESCRIBER = subject -> null;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final Map<Class<?>, Function<Object, String>> describers;
+    private final int limit;
+    private final ClassValue<Function<Object, String>> describersByClass = new ClassValue<Function<Object, String>>() {
+        @Override
+        protected Function<Object, String> computeValue(Class<?> type) {
+            return find(type);
+        }
+    };
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @return the {@link Describers} with no registered describers and the
+     * {@value #DEFAULT_LIMIT} character limit, which describe subjects the
+     * same way as a factory without describers.
+     */
+    public static Describers defaults() {
+        return DEFAULTS;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private Describers(Map<Class<?>, Function<Object, String>> describers,
+                       int limit) {
+        this.describers = describers;
+        this.limit = limit;
+    }
+
+    /**
+     * @param type      the type of subject to describe with the given function. It is also
+     *                  used for sub-types that do not have a closer registered type.
+     *                  May not be null.
+     * @param describer the function that describes a subject of the given type. Its
+     *                  descriptions are truncated the same way as the default descriptions.
+     *                  May not be null.
+     * @param <T>       the type of subject.
+     *
+     * @return a new {@link Describers} with the given describer and the describers
+     * and limit of this instance. A describer already registered for the type is replaced.
+     *
+     * @throws NullPointerException if type or describer are null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Describers with(Class<T> type,
+                               Function<? super T, String> describer) {
+        if (null == type) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("type"));
+        }
+        if (null == describer) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describer"));
+        }
+        Map<Class<?>, Function<Object, String>> copy = new HashMap<>(describers);
+        copy.put(type, (Function<Object, String>) describer);
+        return new Describers(Collections.unmodifiableMap(copy), limit);
+    }
+
+    /**
+     * @param limit the number of characters to truncate descriptions to.
+     *              Must be at least 1.
+     *
+     * @return a new {@link Describers} with the given limit and the describers of this instance.
+     *
+     * @throws IllegalArgumentException if limit is less than 1.
+     */
+    public Describers withLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("The limit must be at least 1 but was " + limit);
+        }
+        return new Describers(describers, limit);
+    }
+
+    /**
+     * @return the number of characters descriptions are truncated to.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @param subject the subject to describe.
+     *                May be null.
+     *
+     * @return the description of the subject by the describer registered for its
+     * class, if any, truncated to the limit.
+     */
+    public String describe(Object subject) {
+        if (null != subject) {
+            Function<Object, String> describer = describersByClass.get(subject.getClass());
+            if (NO_DESCRIBER != describer) {
+                return ValidityUtils.truncate(describer.apply(subject), limit);
+            }
+        }
+        return ValidityUtils.describe(subject, limit);
+    }
+
+    private Function<Object, String> find(Class<?> type) {
+        if (describers.isEmpty()) {
+            return NO_DESCRIBER;
+        }
+        // The closest super-class wins over any interface
+        for (Class<?> current = type; null != current; current = current.getSuperclass()) {
+            Function<Object, String> describer = describers.get(current);
+            if (null != describer) {
+                return describer;
+            }
+        }
+        // Then the interfaces, breadth first from the class's own
+        Queue<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> current = type; null != current; current = current.getSuperclass()) {
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> current = interfaces.remove();
+            Function<Object, String> describer = describers.get(current);
+            if (null != describer) {
+                return describer;
+            }
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        return NO_DESCRIBER;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link FailedValidationExecutor} that hands each failure to another executor along
+ * with the {@link Describers} of a factory (see {@link AbstractVerifiableFactory#withDescribers(Describers)}).
+ * The factory creates one of these when it is configured, so its verifiers do not need to
+ * know about the describers and keep calling the plain fail methods.
+ *
+ * @param <X> the type of {@link Throwable} the {@link #fail(String, Object, Supplier)} method
+ *            will throw.
+ */
+final class DescribingFailedValidationExecutor<X extends Throwable>
+        implements FailedValidationExecutor<X> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final FailedValidationExecutor<X> delegate;
+    private final Describers describers;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link DescribingFailedValidationExecutor} instance with the given values.
+     *
+     * @param delegate   the executor to hand the failures to.
+     *                   May not be null.
+     * @param describers the {@link Describers} to describe the subjects of the failures with.
+     *                   May not be null.
+     *
+     * @throws NullPointerException if delegate or describers are null.
+     */
+    DescribingFailedValidationExecutor(FailedValidationExecutor<X> delegate,
+                                       Describers describers) {
+        if (null == delegate) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("delegate"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        this.delegate = delegate;
+        this.describers = describers;
+    }
+
+    /**
+     * Calls the delegate's {@link #fail(String, Object, Supplier, Describers)} with the
+     * describers of this executor. The primitive fail methods box their subject and call this.
+     */
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) throws X {
+        delegate.fail(expected, subject, messageSupplier, describers);
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) throws X {
+        delegate.fail(expected, subject, messageSupplier, describers);
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.PassThroughVerifiers.PassThroughArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughBoolean;
+import com.redfin.validity.PassThroughVerifiers.PassThroughBooleanArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughByte;
+import com.redfin.validity.PassThroughVerifiers.PassThroughByteArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughCharArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughCharacter;
+import com.redfin.validity.PassThroughVerifiers.PassThroughClass;
+import com.redfin.validity.PassThroughVerifiers.PassThroughCollection;
+import com.redfin.validity.PassThroughVerifiers.PassThroughDouble;
+import com.redfin.validity.PassThroughVerifiers.PassThroughDoubleArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughDuration;
+import com.redfin.validity.PassThroughVerifiers.PassThroughFloat;
+import com.redfin.validity.PassThroughVerifiers.PassThroughFloatArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughInstant;
+import com.redfin.validity.PassThroughVerifiers.PassThroughIntArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughInteger;
+import com.redfin.validity.PassThroughVerifiers.PassThroughLong;
+import com.redfin.validity.PassThroughVerifiers.PassThroughLongArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughObject;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveBoolean;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveByte;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveChar;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveDouble;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveFloat;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveInt;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveLong;
+import com.redfin.validity.PassThroughVerifiers.PassThroughPrimitiveShort;
+import com.redfin.validity.PassThroughVerifiers.PassThroughShort;
+import com.redfin.validity.PassThroughVerifiers.PassThroughShortArray;
+import com.redfin.validity.PassThroughVerifiers.PassThroughString;
+import com.redfin.validity.verifiers.arrays.VerifiableArray;
+import com.redfin.validity.verifiers.arrays.VerifiableBooleanArray;
+import com.redfin.validity.verifiers.arrays.VerifiableByteArray;
+import com.redfin.validity.verifiers.arrays.VerifiableCharArray;
+import com.redfin.validity.verifiers.arrays.VerifiableDoubleArray;
+import com.redfin.validity.verifiers.arrays.VerifiableFloatArray;
+import com.redfin.validity.verifiers.arrays.VerifiableIntArray;
+import com.redfin.validity.verifiers.arrays.VerifiableLongArray;
+import com.redfin.validity.verifiers.arrays.VerifiableShortArray;
+import com.redfin.validity.verifiers.objects.VerifiableBoolean;
+import com.redfin.validity.verifiers.objects.VerifiableByte;
+import com.redfin.validity.verifiers.objects.VerifiableCharacter;
+import com.redfin.validity.verifiers.objects.VerifiableClass;
+import com.redfin.validity.verifiers.objects.VerifiableCollection;
+import com.redfin.validity.verifiers.objects.VerifiableDouble;
+import com.redfin.validity.verifiers.objects.VerifiableDuration;
+import com.redfin.validity.verifiers.objects.VerifiableFloat;
+import com.redfin.validity.verifiers.objects.VerifiableInstant;
+import com.redfin.validity.verifiers.objects.VerifiableInteger;
+import com.redfin.validity.verifiers.objects.VerifiableLong;
+import com.redfin.validity.verifiers.objects.VerifiableObject;
+import com.redfin.validity.verifiers.objects.VerifiableShort;
+import com.redfin.validity.verifiers.objects.VerifiableString;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveBoolean;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveByte;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveChar;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveDouble;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveFloat;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveLong;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveShort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * The {@link CheckVerifiableFactory} returned by {@link AbstractVerifiableFactory#disabled()} and by the
+ * disabled entry points of {@link Validity}. Every {@code that} method returns one of the
+ * {@link PassThroughVerifiers}, so the verifiers never test whether they are disabled.
+ */
+final class DisabledCheckVerifiableFactory
+           extends CheckVerifiableFactory {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static {
+        PassThroughVerifiers.loadSignatureClasses();
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final VerifiableFactoryConfig config;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new disabled factory with the given message and config. Its failed validation
+     * executor is the shared {@link PassThroughFailedValidationExecutor}.
+     *
+     * @param messageSupplier the {@link Supplier} of the String message to pre-pend the failure message with, if necessary.
+     *                        May not be null.
+     * @param config          the {@link VerifiableFactoryConfig} kept for the factories created from this one.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if messageSupplier or config are null.
+     */
+    DisabledCheckVerifiableFactory(Supplier<String> messageSupplier,
+                                   VerifiableFactoryConfig config) {
+        super(messageSupplier, PassThroughFailedValidationExecutor.getInstance());
+        if (null == config) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("config"));
+        }
+        this.config = config;
+    }
+
+    @Override
+    protected VerifiableFactoryConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public <E> VerifiableArray<E, RuntimeException> that(E[] subject) {
+        return new PassThroughArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableBooleanArray<RuntimeException> that(boolean[] subject) {
+        return new PassThroughBooleanArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableByteArray<RuntimeException> that(byte[] subject) {
+        return new PassThroughByteArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableCharArray<RuntimeException> that(char[] subject) {
+        return new PassThroughCharArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableDoubleArray<RuntimeException> that(double[] subject) {
+        return new PassThroughDoubleArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableFloatArray<RuntimeException> that(float[] subject) {
+        return new PassThroughFloatArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableIntArray<RuntimeException> that(int[] subject) {
+        return new PassThroughIntArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableLongArray<RuntimeException> that(long[] subject) {
+        return new PassThroughLongArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableShortArray<RuntimeException> that(short[] subject) {
+        return new PassThroughShortArray<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveBoolean<RuntimeException> that(boolean subject) {
+        return new PassThroughPrimitiveBoolean<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveByte<RuntimeException> that(byte subject) {
+        return new PassThroughPrimitiveByte<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveChar<RuntimeException> that(char subject) {
+        return new PassThroughPrimitiveChar<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveDouble<RuntimeException> that(double subject) {
+        return new PassThroughPrimitiveDouble<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveFloat<RuntimeException> that(float subject) {
+        return new PassThroughPrimitiveFloat<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveInt<RuntimeException> that(int subject) {
+        return new PassThroughPrimitiveInt<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveLong<RuntimeException> that(long subject) {
+        return new PassThroughPrimitiveLong<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiablePrimitiveShort<RuntimeException> that(short subject) {
+        return new PassThroughPrimitiveShort<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableBoolean<RuntimeException> that(Boolean subject) {
+        return new PassThroughBoolean<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableByte<RuntimeException> that(Byte subject) {
+        return new PassThroughByte<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableCharacter<RuntimeException> that(Character subject) {
+        return new PassThroughCharacter<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableDouble<RuntimeException> that(Double subject) {
+        return new PassThroughDouble<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableFloat<RuntimeException> that(Float subject) {
+        return new PassThroughFloat<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableInteger<RuntimeException> that(Integer subject) {
+        return new PassThroughInteger<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableLong<RuntimeException> that(Long subject) {
+        return new PassThroughLong<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableShort<RuntimeException> that(Short subject) {
+        return new PassThroughShort<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableDuration<RuntimeException> that(Duration subject) {
+        return new PassThroughDuration<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableInstant<RuntimeException> that(Instant subject) {
+        return new PassThroughInstant<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public <T> VerifiableClass<T, RuntimeException> that(Class<T> subject) {
+        return new PassThroughClass<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public <E, T extends Collection<E>> VerifiableCollection<E, T, RuntimeException> that(T subject) {
+        return new PassThroughCollection<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public VerifiableString<RuntimeException> that(String subject) {
+        return new PassThroughString<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+
+    @Override
+    public <T> VerifiableObject<T, RuntimeException> that(T subject) {
+        return new PassThroughObject<>(getFailedValidationExecutor(), subject, getMessageSupplier());
+    }
+}
@@ -22,7 +22,7 @@ import java.util.function.Supplier;
  * A default implementation of the {@link AbstractVerifiableFactory} for the Validity library
  * for throwing IllegalStateExceptions.
  */
-public final class ExpectVerifiableFactory
+public class ExpectVerifiableFactory
            extends AbstractVerifiableFactory<IllegalStateException, ExpectVerifiableFactory> {
 
     /**
@@ -45,7 +45,25 @@ public final class ExpectVerifiableFactory
     @Override
     protected ExpectVerifiableFactory getFactory(Supplier<String> messageSupplier,
                                                  FailedValidationExecutor<IllegalStateException> failedValidationExecutor) {
-        return new ExpectVerifiableFactory(messageSupplier,
-                                           failedValidationExecutor);
+        return getFactory(messageSupplier,
+                          failedValidationExecutor,
+                          VerifiableFactoryConfig.defaults());
+    }
+
+    @Override
+    protected ExpectVerifiableFactory getFactory(Supplier<String> messageSupplier,
+                                                 FailedValidationExecutor<IllegalStateException> failedValidationExecutor,
+                                                 VerifiableFactoryConfig config) {
+        if (PassThroughFailedValidationExecutor.<IllegalStateException>getInstance() == failedValidationExecutor) {
+            return new DisabledExpectVerifiableFactory(messageSupplier,
+                                                       config);
+        }
+        if (config.isDefault()) {
+            return new ExpectVerifiableFactory(messageSupplier,
+                                               failedValidationExecutor);
+        }
+        return new ConfiguredExpectVerifiableFactory(messageSupplier,
+                                                      failedValidationExecutor,
+                                                      config);
     }
 }
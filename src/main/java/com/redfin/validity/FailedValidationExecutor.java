@@ -22,6 +22,12 @@ import java.util.function.Supplier;
  * A functional interface that defines the creation of a throwable from
  * the input of failed validation. After creating the throwable, it
  * is then thrown.
+ * <p>
+ * The primitive verifiers call the primitive specific methods (e.g. {@link #failInt(ValidationFailure, int, Supplier)})
+ * with a {@link ValidationFailure} instead of an expected String. By default those box the
+ * subject, format the expected String, and call {@link #fail(String, Object, Supplier)}.
+ * Implementations that do not need either (e.g. ones that only count failures) can
+ * override them.
  *
  * @param <X> the type of {@link Throwable} that should be thrown.
  */
@@ -45,4 +51,210 @@ public interface FailedValidationExecutor<X extends Throwable> {
     <T> void fail(String expected,
                   T subject,
                   Supplier<String> messageSupplier) throws X;
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the subject
+     * failed and that the subject should be described with the given {@link Describers}.
+     * The verifiers of a factory given describers (see {@link AbstractVerifiableFactory#withDescribers(Describers)})
+     * call this instead of {@link #fail(String, Object, Supplier)}. By default the describers
+     * are ignored, so executors that describe the subject should override this.
+     *
+     * @param expected        the String representation of the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     *                        May be null.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     * @param describers      the {@link Describers} to describe the subject with.
+     *                        May not be null.
+     * @param <T>             the type of subject.
+     *
+     * @throws NullPointerException if expected, messageSupplier, or describers are null.
+     * @throws X                    always, unless expected is null.
+     */
+    default <T> void fail(String expected,
+                          T subject,
+                          Supplier<String> messageSupplier,
+                          Describers describers) throws X {
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        fail(expected, subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the boolean
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failBoolean(ValidationFailure failure,
+                             boolean subject,
+                             Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the byte
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failByte(ValidationFailure failure,
+                          byte subject,
+                          Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the char
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failChar(ValidationFailure failure,
+                          char subject,
+                          Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the short
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failShort(ValidationFailure failure,
+                           short subject,
+                           Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the int
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failInt(ValidationFailure failure,
+                         int subject,
+                         Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the long
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failLong(ValidationFailure failure,
+                          long subject,
+                          Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the float
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failFloat(ValidationFailure failure,
+                           float subject,
+                           Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
+
+    /**
+     * Signals the {@link FailedValidationExecutor} that the validation of the double
+     * subject failed.
+     *
+     * @param failure         the {@link ValidationFailure} describing the expected condition.
+     *                        May not be null.
+     * @param subject         the test subject.
+     * @param messageSupplier the {@link Supplier} of the String custom message supplied by the validation user.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if failure or messageSupplier are null.
+     * @throws X                    always, unless failure is null.
+     */
+    default void failDouble(ValidationFailure failure,
+                            double subject,
+                            Supplier<String> messageSupplier) throws X {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        fail(failure.getExpected(), subject, messageSupplier);
+    }
 }
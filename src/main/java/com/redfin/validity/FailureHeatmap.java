@@ -0,0 +1,345 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts validation failures by call site, the first stack frame outside of the
+ * Validity library, so that the lines producing the most failures can be found under
+ * load without logging every exception. Usually fed by a {@link HeatmapFailedValidationExecutor}.
+ * <p>
+ * The heatmap is bounded. It tracks at most capacity call sites in an open addressed
+ * table of slots, and counting a failure at a call site that is already tracked is
+ * lock-free. Each slot counts with a {@link LongAdder} so that concurrent failures at the
+ * same call site do not contend. Adding a call site takes a lock. Once the heatmap is
+ * full, a new call site replaces the tracked one with the fewest failures and starts from
+ * that count plus one, as in the Space-Saving algorithm. So the counts of call sites that
+ * were added while the heatmap was full may be too high by at most the count they started
+ * from, but a call site that fails often is never pushed out by many call sites that each
+ * fail rarely. {@link #reset()} also stops tracking the call sites without failures since
+ * the previous reset.
+ */
+public final class FailureHeatmap {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int MAX_CAPACITY = 1 << 28;
+    private static final String PACKAGE_NAME = FailureHeatmap.class.getPackage().getName() + ".";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final int capacity;
+    private final AtomicReferenceArray<Slot> slots;
+    private final LongAdder untracked;
+
+    /*
+     * Only read and written while holding the lock on this heatmap.
+     */
+
+    private int size;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Keep the table at most half full so that probing always ends quickly at an empty
+     * slot. The table is a power of two between 2 and 4 times the capacity, which is
+     * 2^30 for the maximum capacity of 2^28.
+     *
+     * @param capacity the capacity of the heatmap, between 1 and 2^28.
+     *
+     * @return the number of slots in the table of a heatmap with the given capacity.
+     */
+    static int tableSize(int capacity) {
+        return Integer.highestOneBit(capacity) << 2;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link FailureHeatmap} instance that tracks up to 256 call sites.
+     */
+    public FailureHeatmap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new {@link FailureHeatmap} instance with the given capacity.
+     *
+     * @param capacity the maximum number of call sites to track.
+     *                 Must be strictly positive and no more than 2^28.
+     *
+     * @throws IllegalArgumentException if capacity is less than 1 or more than 2^28.
+     */
+    public FailureHeatmap(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^28, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(tableSize(capacity));
+        this.untracked = new LongAdder();
+    }
+
+    /**
+     * @return the maximum number of call sites this heatmap tracks.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Record a failure at the call site of the given throwable's stack trace. The call site
+     * is the first frame that is not in the {@code com.redfin.validity} package, so it works
+     * both before and after the stack trace has been trimmed.
+     *
+     * @param throwable the throwable for the validation failure.
+     *                  May not be null.
+     *
+     * @throws NullPointerException if throwable is null.
+     */
+    public void record(Throwable throwable) {
+        if (null == throwable) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("throwable"));
+        }
+        StackTraceElement[] elements = throwable.getStackTrace();
+        if (null != elements) {
+            for (StackTraceElement element : elements) {
+                if (!element.getClassName().startsWith(PACKAGE_NAME)) {
+                    record(element);
+                    return;
+                }
+            }
+        }
+        untracked.increment();
+    }
+
+    /**
+     * Record a failure at the given call site.
+     *
+     * @param callSite the stack frame of the call site.
+     *                 May not be null.
+     *
+     * @throws NullPointerException if callSite is null.
+     */
+    public void record(StackTraceElement callSite) {
+        if (null == callSite) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("callSite"));
+        }
+        Slot slot = find(callSite);
+        if (null == slot) {
+            add(callSite);
+        } else {
+            slot.count.increment();
+        }
+    }
+
+    /**
+     * @param n the maximum number of call sites to return.
+     *          Must not be negative.
+     *
+     * @return an unmodifiable snapshot of the n call sites with the most failures, ordered
+     * from the most to the fewest failures.
+     *
+     * @throws IllegalArgumentException if n is negative.
+     */
+    public Map<StackTraceElement, Long> getTop(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The number of call sites may not be negative, was: " + n);
+        }
+        List<Map.Entry<StackTraceElement, Long>> entries = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (null != slot) {
+                long count = slot.count.sum();
+                if (count > 0) {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(slot.callSite, count));
+                }
+            }
+        }
+        entries.sort(Comparator.comparing((Map.Entry<StackTraceElement, Long> entry) -> entry.getValue())
+                               .reversed()
+                               .thenComparing(entry -> entry.getKey().toString()));
+        Map<StackTraceElement, Long> top = new LinkedHashMap<>();
+        for (Map.Entry<StackTraceElement, Long> entry : entries.subList(0, Math.min(n, entries.size()))) {
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(top);
+    }
+
+    /**
+     * @return the number of failures that were not counted against a call site because
+     * no call site was found.
+     */
+    public long getUntrackedFailures() {
+        return untracked.sum();
+    }
+
+    /**
+     * Reset all of the counts to zero. The call sites with failures since the previous
+     * reset stay tracked and the others are no longer tracked, so that they make room for
+     * new call sites. Failures recorded during a reset may or may not be counted.
+     */
+    public synchronized void reset() {
+        List<Slot> kept = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (null != slot && slot.count.sumThenReset() > 0) {
+                kept.add(slot);
+            }
+        }
+        // Threads that miss a call site while the table is refilled take the lock to add it
+        // and then find it again
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        for (Slot slot : kept) {
+            slots.set(emptyIndex(slot.callSite), slot);
+        }
+        size = kept.size();
+        untracked.reset();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FailureHeatmap(untracked=").append(getUntrackedFailures());
+        getTop(capacity).forEach((callSite, count) -> sb.append(", ").append(callSite).append('=').append(count));
+        return sb.append(')').toString();
+    }
+
+    private Slot find(StackTraceElement callSite) {
+        int mask = slots.length() - 1;
+        int index = home(callSite);
+        while (true) {
+            Slot slot = slots.get(index);
+            if (null == slot || slot.callSite.equals(callSite)) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /*
+     * The slot is only created once the call site is known to be missing, so racing
+     * threads never allocate a slot that is then thrown away.
+     */
+
+    private synchronized void add(StackTraceElement callSite) {
+        Slot slot = find(callSite);
+        if (null == slot) {
+            long start = 0;
+            if (size < capacity) {
+                size++;
+            } else {
+                int victim = fewestFailures();
+                start = slots.get(victim).count.sum();
+                remove(victim);
+            }
+            slot = new Slot(callSite);
+            slot.count.add(start);
+            slots.set(emptyIndex(callSite), slot);
+        }
+        slot.count.increment();
+    }
+
+    private int fewestFailures() {
+        int victim = -1;
+        long fewest = Long.MAX_VALUE;
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (null != slot) {
+                long count = slot.count.sum();
+                if (count < fewest) {
+                    victim = i;
+                    fewest = count;
+                }
+            }
+        }
+        return victim;
+    }
+
+    /*
+     * Removes the slot at the given index by moving the slots after it that would no longer
+     * be found into the gap. Each moved slot is set at its new index before it is cleared
+     * from the old one, so threads that do not hold the lock still find it in one of them.
+     */
+
+    private void remove(int index) {
+        int mask = slots.length() - 1;
+        int gap = index;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            Slot slot = slots.get(next);
+            if (null == slot) {
+                break;
+            }
+            int home = home(slot.callSite);
+            boolean reachable = (gap <= next) ? (gap < home && home <= next) : (gap < home || home <= next);
+            if (!reachable) {
+                slots.set(gap, slot);
+                gap = next;
+            }
+        }
+        slots.set(gap, null);
+    }
+
+    private int emptyIndex(StackTraceElement callSite) {
+        int mask = slots.length() - 1;
+        int index = home(callSite);
+        while (null != slots.get(index)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private int home(StackTraceElement callSite) {
+        int hash = callSite.hashCode();
+        return (hash ^ (hash >>> 16)) & (slots.length() - 1);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final class Slot {
+
+        private final StackTraceElement callSite;
+        private final LongAdder count;
+
+        private Slot(StackTraceElement callSite) {
+            this.callSite = callSite;
+            this.count = new LongAdder();
+        }
+    }
+}
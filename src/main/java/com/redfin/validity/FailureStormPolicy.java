@@ -0,0 +1,102 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.time.Duration;
+
+/**
+ * The policy of an {@link AdaptiveFailedValidationExecutor}. When more than the maximum
+ * number of failures happen at a single call site within one window, the call site is in a
+ * failure storm and its failures are made cheap until a window passes with no more than the
+ * maximum number of failures again.
+ */
+public final class FailureStormPolicy {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final int maxFailures;
+    private final Duration window;
+    private final boolean templateMessages;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link FailureStormPolicy} instance with the given values.
+     *
+     * @param maxFailures      the number of failures at a single call site within one window
+     *                         above which the call site is in a failure storm.
+     *                         Must not be negative.
+     * @param window           the length of the window the failures are counted in.
+     *                         May not be null.
+     *                         Must be strictly positive.
+     * @param templateMessages true if failures during a storm should also skip describing the
+     *                         subject and calling the message supplier and instead use a message
+     *                         cached for each expected description. Failures during a storm
+     *                         never have a stack trace.
+     *
+     * @throws NullPointerException     if window is null.
+     * @throws IllegalArgumentException if maxFailures is negative or window is not strictly positive.
+     */
+    public FailureStormPolicy(int maxFailures,
+                              Duration window,
+                              boolean templateMessages) {
+        if (null == window) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("window"));
+        }
+        if (maxFailures < 0) {
+            throw new IllegalArgumentException("The maximum number of failures may not be negative, was: " + maxFailures);
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("The window must be strictly positive, was: " + window);
+        }
+        this.maxFailures = maxFailures;
+        this.window = window;
+        this.templateMessages = templateMessages;
+    }
+
+    /**
+     * @return the number of failures at a single call site within one window above which
+     * the call site is in a failure storm.
+     */
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    /**
+     * @return the length of the window the failures are counted in.
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * @return true if failures during a storm use a cached message instead of describing
+     * the subject.
+     */
+    public boolean isTemplateMessages() {
+        return templateMessages;
+    }
+
+    @Override
+    public String toString() {
+        return "FailureStormPolicy(maxFailures=" + maxFailures + ", window=" + window + ", templateMessages=" + templateMessages + ")";
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link ValidationMetrics} implementation that records a random sample of the calls to
+ * verifier methods as {@code com.redfin.validity.ValidationChecked} Java Flight Recorder
+ * events, one in every sample interval calls on average. The event is disabled by default
+ * and needs to be enabled in the recording settings. Failures are not recorded here since
+ * the {@link DefaultValidityFailedValidationExecutor} already commits a
+ * {@code com.redfin.validity.ValidationFailed} event for every failure, so the passing
+ * validations in a recording are the checked events less the failed ones.
+ * <p>
+ * The events are only emitted on Java 11 or later. On Java 8, or when no recording has the
+ * event enabled, each call only costs a check of whether the event is enabled.
+ */
+public final class FlightRecorderValidationMetrics
+        implements ValidationMetrics {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final int DEFAULT_SAMPLE_INTERVAL = 1000;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final int sampleInterval;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link FlightRecorderValidationMetrics} instance that records one
+     * in every 1000 calls.
+     */
+    public FlightRecorderValidationMetrics() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Create a new {@link FlightRecorderValidationMetrics} instance with the given sample interval.
+     *
+     * @param sampleInterval the average number of calls per recorded event.
+     *                       1 records every call.
+     *                       Must be strictly positive.
+     *
+     * @throws IllegalArgumentException if sampleInterval is less than 1.
+     */
+    public FlightRecorderValidationMetrics(int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("The sample interval must be strictly positive, was: " + sampleInterval);
+        }
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * @return the average number of calls per recorded event.
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    @Override
+    public void recordCheck(Class<?> verifierClass, String check) {
+        if (ValidityEvents.isCheckEnabled() && isSampled()) {
+            ValidityEvents.checked(verifierClass, check, sampleInterval);
+        }
+    }
+
+    @Override
+    public void recordFailure(Class<?> verifierClass, String check) {
+        // Failures are recorded by the failed validation executor
+    }
+
+    private boolean isSampled() {
+        return 1 == sampleInterval || 0 == ThreadLocalRandom.current().nextInt(sampleInterval);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link FailedValidationExecutor} that hands each failure to another executor and
+ * records the call site of the throwable it throws in a {@link FailureHeatmap} before
+ * letting it propagate. The call site is read from the stack trace that the throwable
+ * already has, so no extra stack walk is done.
+ *
+ * @param <X> the type of {@link Throwable} the {@link #fail(String, Object, Supplier)} method
+ *            will throw.
+ */
+public final class HeatmapFailedValidationExecutor<X extends Throwable>
+        implements FailedValidationExecutor<X> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final FailedValidationExecutor<X> delegate;
+    private final FailureHeatmap heatmap;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link HeatmapFailedValidationExecutor} instance with the given values.
+     *
+     * @param delegate the executor that creates and throws the throwable.
+     *                 May not be null.
+     * @param heatmap  the heatmap to record the call sites of failures in.
+     *                 May not be null.
+     *
+     * @throws NullPointerException if delegate or heatmap are null.
+     */
+    public HeatmapFailedValidationExecutor(FailedValidationExecutor<X> delegate,
+                                           FailureHeatmap heatmap) {
+        if (null == delegate) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("delegate"));
+        }
+        if (null == heatmap) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("heatmap"));
+        }
+        this.delegate = delegate;
+        this.heatmap = heatmap;
+    }
+
+    /**
+     * @return the heatmap this executor records failures in.
+     */
+    public FailureHeatmap getHeatmap() {
+        return heatmap;
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) throws X {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        try {
+            delegate.fail(expected, subject, messageSupplier);
+        } catch (Throwable thrown) {
+            heatmap.record(thrown);
+            throw thrown;
+        }
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) throws X {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        try {
+            delegate.fail(expected, subject, messageSupplier, describers);
+        } catch (Throwable thrown) {
+            heatmap.record(thrown);
+            throw thrown;
+        }
+    }
+}
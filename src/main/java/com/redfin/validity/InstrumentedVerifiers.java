@@ -0,0 +1,3463 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.verifiers.arrays.VerifiableArray;
+import com.redfin.validity.verifiers.arrays.VerifiableBooleanArray;
+import com.redfin.validity.verifiers.arrays.VerifiableByteArray;
+import com.redfin.validity.verifiers.arrays.VerifiableCharArray;
+import com.redfin.validity.verifiers.arrays.VerifiableDoubleArray;
+import com.redfin.validity.verifiers.arrays.VerifiableFloatArray;
+import com.redfin.validity.verifiers.arrays.VerifiableIntArray;
+import com.redfin.validity.verifiers.arrays.VerifiableLongArray;
+import com.redfin.validity.verifiers.arrays.VerifiableShortArray;
+import com.redfin.validity.verifiers.objects.VerifiableBoolean;
+import com.redfin.validity.verifiers.objects.VerifiableByte;
+import com.redfin.validity.verifiers.objects.VerifiableCharacter;
+import com.redfin.validity.verifiers.objects.VerifiableClass;
+import com.redfin.validity.verifiers.objects.VerifiableCollection;
+import com.redfin.validity.verifiers.objects.VerifiableDouble;
+import com.redfin.validity.verifiers.objects.VerifiableDuration;
+import com.redfin.validity.verifiers.objects.VerifiableFloat;
+import com.redfin.validity.verifiers.objects.VerifiableInstant;
+import com.redfin.validity.verifiers.objects.VerifiableInteger;
+import com.redfin.validity.verifiers.objects.VerifiableLong;
+import com.redfin.validity.verifiers.objects.VerifiableObject;
+import com.redfin.validity.verifiers.objects.VerifiableShort;
+import com.redfin.validity.verifiers.objects.VerifiableString;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveBoolean;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveByte;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveChar;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveDouble;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveFloat;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveLong;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveShort;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The verifiers of factories with {@link ValidationMetrics} or a {@link CostThreshold}. Each
+ * one overrides every verification method of the verifier it extends to test the threshold
+ * and record the check with its {@link RecordingFailedValidationExecutor} before checking the
+ * subject the same way, which records the failures. The verifiers of the other factories are
+ * not sub-classed and do none of this.
+ */
+final class InstrumentedVerifiers {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Make sure you cannot instantiate the static InstrumentedVerifiers class even with reflection.
+     */
+
+    private InstrumentedVerifiers() {
+        throw new AssertionError(ValidityUtils.nonInstantiableMessage());
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static final class InstrumentedArray<E, X extends Throwable> extends VerifiableArray<E, X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedArray(RecordingFailedValidationExecutor<X> recorder,
+                          E[] subject,
+                          Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public E[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public E[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public E[] is(E[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public E[] isNot(E[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public E[] satisfies(Predicate<E[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            E[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public E[] isEqualTo(E[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public E[] isNotEqualTo(E[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public E[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public E[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public E[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public E[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public E[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+    }
+
+    static final class InstrumentedBooleanArray<X extends Throwable> extends VerifiableBooleanArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedBooleanArray(RecordingFailedValidationExecutor<X> recorder,
+                                 boolean[] subject,
+                                 Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public boolean[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public boolean[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public boolean[] is(boolean[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public boolean[] isNot(boolean[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public boolean[] satisfies(Predicate<boolean[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            boolean[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public boolean[] isEqualTo(boolean[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public boolean[] isNotEqualTo(boolean[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public boolean[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public boolean[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public boolean[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public boolean[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public boolean[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public boolean[] contains(boolean value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public boolean[] doesNotContain(boolean value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedByteArray<X extends Throwable> extends VerifiableByteArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedByteArray(RecordingFailedValidationExecutor<X> recorder,
+                              byte[] subject,
+                              Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public byte[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public byte[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public byte[] is(byte[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public byte[] isNot(byte[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public byte[] satisfies(Predicate<byte[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            byte[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public byte[] isEqualTo(byte[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public byte[] isNotEqualTo(byte[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public byte[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public byte[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public byte[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public byte[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public byte[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public byte[] contains(byte value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public byte[] doesNotContain(byte value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedCharArray<X extends Throwable> extends VerifiableCharArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedCharArray(RecordingFailedValidationExecutor<X> recorder,
+                              char[] subject,
+                              Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public char[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public char[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public char[] is(char[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public char[] isNot(char[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public char[] satisfies(Predicate<char[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            char[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public char[] isEqualTo(char[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public char[] isNotEqualTo(char[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public char[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public char[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public char[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public char[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public char[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public char[] contains(char value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public char[] doesNotContain(char value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedDoubleArray<X extends Throwable> extends VerifiableDoubleArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedDoubleArray(RecordingFailedValidationExecutor<X> recorder,
+                                double[] subject,
+                                Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public double[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public double[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public double[] is(double[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public double[] isNot(double[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public double[] satisfies(Predicate<double[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            double[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public double[] isEqualTo(double[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public double[] isNotEqualTo(double[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public double[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public double[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public double[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public double[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public double[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public double[] contains(double value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public double[] doesNotContain(double value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedFloatArray<X extends Throwable> extends VerifiableFloatArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedFloatArray(RecordingFailedValidationExecutor<X> recorder,
+                               float[] subject,
+                               Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public float[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public float[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public float[] is(float[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public float[] isNot(float[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public float[] satisfies(Predicate<float[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            float[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public float[] isEqualTo(float[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public float[] isNotEqualTo(float[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public float[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public float[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public float[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public float[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public float[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public float[] contains(float value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public float[] doesNotContain(float value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedIntArray<X extends Throwable> extends VerifiableIntArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedIntArray(RecordingFailedValidationExecutor<X> recorder,
+                             int[] subject,
+                             Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public int[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public int[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public int[] is(int[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public int[] isNot(int[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public int[] satisfies(Predicate<int[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            int[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public int[] isEqualTo(int[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public int[] isNotEqualTo(int[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public int[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public int[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public int[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public int[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public int[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public int[] contains(int value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public int[] doesNotContain(int value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedLongArray<X extends Throwable> extends VerifiableLongArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedLongArray(RecordingFailedValidationExecutor<X> recorder,
+                              long[] subject,
+                              Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public long[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public long[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public long[] is(long[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public long[] isNot(long[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public long[] satisfies(Predicate<long[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            long[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public long[] isEqualTo(long[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public long[] isNotEqualTo(long[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public long[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public long[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public long[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public long[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public long[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public long[] contains(long value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public long[] doesNotContain(long value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedShortArray<X extends Throwable> extends VerifiableShortArray<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedShortArray(RecordingFailedValidationExecutor<X> recorder,
+                               short[] subject,
+                               Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public short[] isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public short[] isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public short[] is(short[] other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public short[] isNot(short[] other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public short[] satisfies(Predicate<short[]> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            short[] result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public short[] isEqualTo(short[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public short[] isNotEqualTo(short[] other) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public short[] isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public short[] isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public short[] hasLengthOf(int n) throws X {
+            recorder.recordCheck("hasLengthOf");
+            return super.hasLengthOf(n);
+        }
+
+        @Override
+        public short[] hasLengthOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtLeast");
+            return super.hasLengthOfAtLeast(n);
+        }
+
+        @Override
+        public short[] hasLengthOfAtMost(int n) throws X {
+            recorder.recordCheck("hasLengthOfAtMost");
+            return super.hasLengthOfAtMost(n);
+        }
+
+        @Override
+        public short[] contains(short value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(value);
+        }
+
+        @Override
+        public short[] doesNotContain(short value) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(value);
+        }
+    }
+
+    static final class InstrumentedPrimitiveBoolean<X extends Throwable> extends VerifiablePrimitiveBoolean<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveBoolean(RecordingFailedValidationExecutor<X> recorder,
+                                     boolean subject,
+                                     Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public boolean isTrue() throws X {
+            recorder.recordCheck("isTrue");
+            return super.isTrue();
+        }
+
+        @Override
+        public boolean isFalse() throws X {
+            recorder.recordCheck("isFalse");
+            return super.isFalse();
+        }
+    }
+
+    static final class InstrumentedPrimitiveByte<X extends Throwable> extends VerifiablePrimitiveByte<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveByte(RecordingFailedValidationExecutor<X> recorder,
+                                  byte subject,
+                                  Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public byte isEqualTo(byte other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public byte isNotEqualTo(byte other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public byte isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isZero();
+        }
+
+        @Override
+        public byte isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotZero();
+        }
+
+        @Override
+        public byte isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan((byte) 0);
+        }
+
+        @Override
+        public byte isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan((byte) 0);
+        }
+
+        @Override
+        public byte isGreaterThan(byte other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public byte isGreaterThanOrEqualTo(byte other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public byte isAtLeast(byte other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public byte isLessThan(byte other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public byte isLessThanOrEqualTo(byte other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public byte isAtMost(byte other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public byte satisfies(IntPredicate expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            byte result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+
+    static final class InstrumentedPrimitiveChar<X extends Throwable> extends VerifiablePrimitiveChar<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveChar(RecordingFailedValidationExecutor<X> recorder,
+                                  char subject,
+                                  Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public char isEqualTo(char other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public char isNotEqualTo(char other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public char isGreaterThan(char other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public char isGreaterThanOrEqualTo(char other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public char isAtLeast(char other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public char isLessThan(char other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public char isLessThanOrEqualTo(char other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public char isAtMost(char other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Character isUpperCase() throws X {
+            recorder.recordCheck("isUpperCase");
+            return super.isUpperCase();
+        }
+
+        @Override
+        public char isLowerCase() throws X {
+            recorder.recordCheck("isLowerCase");
+            return super.isLowerCase();
+        }
+
+        @Override
+        public char isLetterOrDigit() throws X {
+            recorder.recordCheck("isLetterOrDigit");
+            return super.isLetterOrDigit();
+        }
+
+        @Override
+        public char isAlphabetic() throws X {
+            recorder.recordCheck("isAlphabetic");
+            return super.isAlphabetic();
+        }
+
+        @Override
+        public char isDigit() throws X {
+            recorder.recordCheck("isDigit");
+            return super.isDigit();
+        }
+
+        @Override
+        public char satisfies(IntPredicate expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            char result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+
+    static final class InstrumentedPrimitiveDouble<X extends Throwable> extends VerifiablePrimitiveDouble<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveDouble(RecordingFailedValidationExecutor<X> recorder,
+                                    double subject,
+                                    Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public double isEqualTo(double other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public double isNotEqualTo(double other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public double isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isZero();
+        }
+
+        @Override
+        public double isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotZero();
+        }
+
+        @Override
+        public double isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan((double) 0);
+        }
+
+        @Override
+        public double isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan((double) 0);
+        }
+
+        @Override
+        public double isGreaterThan(double other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public double isGreaterThanOrEqualTo(double other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public double isAtLeast(double other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public double isLessThan(double other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public double isLessThanOrEqualTo(double other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public double isAtMost(double other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public double satisfies(DoublePredicate expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            double result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+
+    static final class InstrumentedPrimitiveFloat<X extends Throwable> extends VerifiablePrimitiveFloat<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveFloat(RecordingFailedValidationExecutor<X> recorder,
+                                   float subject,
+                                   Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public float isEqualTo(float other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public float isNotEqualTo(float other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public float isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isZero();
+        }
+
+        @Override
+        public float isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotZero();
+        }
+
+        @Override
+        public float isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan((float) 0);
+        }
+
+        @Override
+        public float isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan((float) 0);
+        }
+
+        @Override
+        public float isGreaterThan(float other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public float isGreaterThanOrEqualTo(float other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public float isAtLeast(float other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public float isLessThan(float other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public float isLessThanOrEqualTo(float other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public float isAtMost(float other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public float satisfies(DoublePredicate expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            float result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+
+    static final class InstrumentedPrimitiveInt<X extends Throwable> extends VerifiablePrimitiveInt<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveInt(RecordingFailedValidationExecutor<X> recorder,
+                                 int subject,
+                                 Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public int isEqualTo(int other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public int isNotEqualTo(int other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public int isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isZero();
+        }
+
+        @Override
+        public int isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotZero();
+        }
+
+        @Override
+        public int isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan(0);
+        }
+
+        @Override
+        public int isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan(0);
+        }
+
+        @Override
+        public int isGreaterThan(int other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public int isGreaterThanOrEqualTo(int other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public int isAtLeast(int other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public int isLessThan(int other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public int isLessThanOrEqualTo(int other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public int isAtMost(int other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public int satisfies(IntPredicate expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            int result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+
+    static final class InstrumentedPrimitiveLong<X extends Throwable> extends VerifiablePrimitiveLong<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveLong(RecordingFailedValidationExecutor<X> recorder,
+                                  long subject,
+                                  Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public long isEqualTo(long other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public long isNotEqualTo(long other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public long isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isZero();
+        }
+
+        @Override
+        public long isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotZero();
+        }
+
+        @Override
+        public long isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan((long) 0);
+        }
+
+        @Override
+        public long isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan((long) 0);
+        }
+
+        @Override
+        public long isGreaterThan(long other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public long isGreaterThanOrEqualTo(long other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public long isAtLeast(long other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public long isLessThan(long other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public long isLessThanOrEqualTo(long other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public long isAtMost(long other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public long satisfies(LongPredicate expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            long result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+
+    static final class InstrumentedPrimitiveShort<X extends Throwable> extends VerifiablePrimitiveShort<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedPrimitiveShort(RecordingFailedValidationExecutor<X> recorder,
+                                   short subject,
+                                   Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public short isEqualTo(short other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public short isNotEqualTo(short other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public short isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isZero();
+        }
+
+        @Override
+        public short isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotZero();
+        }
+
+        @Override
+        public short isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan((short) 0);
+        }
+
+        @Override
+        public short isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan((short) 0);
+        }
+
+        @Override
+        public short isGreaterThan(short other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public short isGreaterThanOrEqualTo(short other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public short isAtLeast(short other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public short isLessThan(short other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public short isLessThanOrEqualTo(short other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public short isAtMost(short other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public short satisfies(IntPredicate expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            short result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+
+    static final class InstrumentedBoolean<X extends Throwable> extends VerifiableBoolean<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedBoolean(RecordingFailedValidationExecutor<X> recorder,
+                            Boolean subject,
+                            Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Boolean isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Boolean isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Boolean is(Boolean other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Boolean isNot(Boolean other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Boolean isEqualTo(Boolean other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Boolean isNotEqualTo(Boolean other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Boolean satisfies(Predicate<Boolean> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Boolean result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Boolean isTrue() throws X {
+            recorder.recordCheck("isTrue");
+            return super.isTrue();
+        }
+
+        @Override
+        public Boolean isFalse() throws X {
+            recorder.recordCheck("isFalse");
+            return super.isFalse();
+        }
+    }
+
+    static final class InstrumentedByte<X extends Throwable> extends VerifiableByte<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedByte(RecordingFailedValidationExecutor<X> recorder,
+                         Byte subject,
+                         Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Byte isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Byte isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Byte is(Byte other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Byte isNot(Byte other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Byte satisfies(Predicate<Byte> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Byte result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Byte isEqualTo(Byte other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Byte isNotEqualTo(Byte other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Byte isComparableTo(Byte other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Byte isNotComparableTo(Byte other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Byte isGreaterThan(Byte other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Byte isGreaterThanOrEqualTo(Byte other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Byte isAtLeast(Byte other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Byte isLessThan(Byte other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Byte isLessThanOrEqualTo(Byte other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Byte isAtMost(Byte other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Byte isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isComparableTo(getZero());
+        }
+
+        @Override
+        public Byte isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotComparableTo(getZero());
+        }
+
+        @Override
+        public Byte isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan(getZero());
+        }
+
+        @Override
+        public Byte isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan(getZero());
+        }
+    }
+
+    static final class InstrumentedCharacter<X extends Throwable> extends VerifiableCharacter<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedCharacter(RecordingFailedValidationExecutor<X> recorder,
+                              Character subject,
+                              Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Character isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Character isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Character is(Character other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Character isNot(Character other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Character satisfies(Predicate<Character> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Character result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Character isEqualTo(Character other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Character isNotEqualTo(Character other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Character isComparableTo(Character other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Character isNotComparableTo(Character other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Character isGreaterThan(Character other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Character isGreaterThanOrEqualTo(Character other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Character isAtLeast(Character other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Character isLessThan(Character other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Character isLessThanOrEqualTo(Character other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Character isAtMost(Character other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Character isUpperCase() throws X {
+            recorder.recordCheck("isUpperCase");
+            return super.isUpperCase();
+        }
+
+        @Override
+        public Character isLowerCase() throws X {
+            recorder.recordCheck("isLowerCase");
+            return super.isLowerCase();
+        }
+
+        @Override
+        public Character isLetterOrDigit() throws X {
+            recorder.recordCheck("isLetterOrDigit");
+            return super.isLetterOrDigit();
+        }
+
+        @Override
+        public Character isAlphabetic() throws X {
+            recorder.recordCheck("isAlphabetic");
+            return super.isAlphabetic();
+        }
+
+        @Override
+        public Character isDigit() throws X {
+            recorder.recordCheck("isDigit");
+            return super.isDigit();
+        }
+    }
+
+    static final class InstrumentedDouble<X extends Throwable> extends VerifiableDouble<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedDouble(RecordingFailedValidationExecutor<X> recorder,
+                           Double subject,
+                           Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Double isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Double isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Double is(Double other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Double isNot(Double other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Double satisfies(Predicate<Double> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Double result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Double isEqualTo(Double other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Double isNotEqualTo(Double other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Double isComparableTo(Double other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Double isNotComparableTo(Double other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Double isGreaterThan(Double other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Double isGreaterThanOrEqualTo(Double other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Double isAtLeast(Double other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Double isLessThan(Double other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Double isLessThanOrEqualTo(Double other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Double isAtMost(Double other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Double isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isComparableTo(getZero());
+        }
+
+        @Override
+        public Double isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotComparableTo(getZero());
+        }
+
+        @Override
+        public Double isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan(getZero());
+        }
+
+        @Override
+        public Double isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan(getZero());
+        }
+    }
+
+    static final class InstrumentedFloat<X extends Throwable> extends VerifiableFloat<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedFloat(RecordingFailedValidationExecutor<X> recorder,
+                          Float subject,
+                          Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Float isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Float isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Float is(Float other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Float isNot(Float other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Float satisfies(Predicate<Float> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Float result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Float isEqualTo(Float other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Float isNotEqualTo(Float other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Float isComparableTo(Float other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Float isNotComparableTo(Float other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Float isGreaterThan(Float other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Float isGreaterThanOrEqualTo(Float other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Float isAtLeast(Float other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Float isLessThan(Float other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Float isLessThanOrEqualTo(Float other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Float isAtMost(Float other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Float isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isComparableTo(getZero());
+        }
+
+        @Override
+        public Float isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotComparableTo(getZero());
+        }
+
+        @Override
+        public Float isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan(getZero());
+        }
+
+        @Override
+        public Float isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan(getZero());
+        }
+    }
+
+    static final class InstrumentedInteger<X extends Throwable> extends VerifiableInteger<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedInteger(RecordingFailedValidationExecutor<X> recorder,
+                            Integer subject,
+                            Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Integer isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Integer isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Integer is(Integer other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Integer isNot(Integer other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Integer satisfies(Predicate<Integer> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Integer result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Integer isEqualTo(Integer other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Integer isNotEqualTo(Integer other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Integer isComparableTo(Integer other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Integer isNotComparableTo(Integer other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Integer isGreaterThan(Integer other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Integer isGreaterThanOrEqualTo(Integer other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Integer isAtLeast(Integer other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Integer isLessThan(Integer other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Integer isLessThanOrEqualTo(Integer other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Integer isAtMost(Integer other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Integer isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isComparableTo(getZero());
+        }
+
+        @Override
+        public Integer isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotComparableTo(getZero());
+        }
+
+        @Override
+        public Integer isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan(getZero());
+        }
+
+        @Override
+        public Integer isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan(getZero());
+        }
+    }
+
+    static final class InstrumentedLong<X extends Throwable> extends VerifiableLong<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedLong(RecordingFailedValidationExecutor<X> recorder,
+                         Long subject,
+                         Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Long isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Long isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Long is(Long other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Long isNot(Long other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Long satisfies(Predicate<Long> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Long result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Long isEqualTo(Long other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Long isNotEqualTo(Long other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Long isComparableTo(Long other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Long isNotComparableTo(Long other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Long isGreaterThan(Long other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Long isGreaterThanOrEqualTo(Long other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Long isAtLeast(Long other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Long isLessThan(Long other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Long isLessThanOrEqualTo(Long other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Long isAtMost(Long other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Long isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isComparableTo(getZero());
+        }
+
+        @Override
+        public Long isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotComparableTo(getZero());
+        }
+
+        @Override
+        public Long isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan(getZero());
+        }
+
+        @Override
+        public Long isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan(getZero());
+        }
+    }
+
+    static final class InstrumentedShort<X extends Throwable> extends VerifiableShort<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedShort(RecordingFailedValidationExecutor<X> recorder,
+                          Short subject,
+                          Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Short isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Short isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Short is(Short other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Short isNot(Short other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Short satisfies(Predicate<Short> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Short result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Short isEqualTo(Short other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Short isNotEqualTo(Short other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Short isComparableTo(Short other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Short isNotComparableTo(Short other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Short isGreaterThan(Short other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Short isGreaterThanOrEqualTo(Short other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Short isAtLeast(Short other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Short isLessThan(Short other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Short isLessThanOrEqualTo(Short other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Short isAtMost(Short other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Short isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isComparableTo(getZero());
+        }
+
+        @Override
+        public Short isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotComparableTo(getZero());
+        }
+
+        @Override
+        public Short isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isGreaterThan(getZero());
+        }
+
+        @Override
+        public Short isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isLessThan(getZero());
+        }
+    }
+
+    static final class InstrumentedDuration<X extends Throwable> extends VerifiableDuration<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedDuration(RecordingFailedValidationExecutor<X> recorder,
+                             Duration subject,
+                             Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Duration isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Duration isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Duration is(Duration other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Duration isNot(Duration other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Duration satisfies(Predicate<Duration> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Duration result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Duration isEqualTo(Duration other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Duration isNotEqualTo(Duration other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Duration isComparableTo(Duration other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Duration isNotComparableTo(Duration other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Duration isGreaterThan(Duration other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Duration isGreaterThanOrEqualTo(Duration other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Duration isAtLeast(Duration other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Duration isLessThan(Duration other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Duration isLessThanOrEqualTo(Duration other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Duration isAtMost(Duration other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Duration isZero() throws X {
+            recorder.recordCheck("isZero");
+            return super.isZero();
+        }
+
+        @Override
+        public Duration isNotZero() throws X {
+            recorder.recordCheck("isNotZero");
+            return super.isNotZero();
+        }
+
+        @Override
+        public Duration isGreaterThanOrEqualToZero() throws X {
+            recorder.recordCheck("isGreaterThanOrEqualToZero");
+            return super.isGreaterThanOrEqualToZero();
+        }
+
+        @Override
+        public Duration isLessThanOrEqualToZero() throws X {
+            recorder.recordCheck("isLessThanOrEqualToZero");
+            return super.isLessThanOrEqualToZero();
+        }
+
+        @Override
+        public Duration isStrictlyNegative() throws X {
+            recorder.recordCheck("isStrictlyNegative");
+            return super.isStrictlyNegative();
+        }
+
+        @Override
+        public Duration isStrictlyPositive() throws X {
+            recorder.recordCheck("isStrictlyPositive");
+            return super.isStrictlyPositive();
+        }
+    }
+
+    static final class InstrumentedInstant<X extends Throwable> extends VerifiableInstant<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedInstant(RecordingFailedValidationExecutor<X> recorder,
+                            Instant subject,
+                            Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Instant isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Instant isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Instant is(Instant other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Instant isNot(Instant other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Instant satisfies(Predicate<Instant> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Instant result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Instant isEqualTo(Instant other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Instant isNotEqualTo(Instant other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Instant isComparableTo(Instant other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public Instant isNotComparableTo(Instant other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public Instant isGreaterThan(Instant other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public Instant isGreaterThanOrEqualTo(Instant other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Instant isAtLeast(Instant other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public Instant isLessThan(Instant other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public Instant isLessThanOrEqualTo(Instant other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public Instant isAtMost(Instant other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+    }
+
+    static final class InstrumentedClass<T, X extends Throwable> extends VerifiableClass<T, X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedClass(RecordingFailedValidationExecutor<X> recorder,
+                          Class<T> subject,
+                          Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Class<T> isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public Class<T> isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public Class<T> is(Class<T> other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public Class<T> isNot(Class<T> other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public Class<T> isEqualTo(Class<T> other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public Class<T> isNotEqualTo(Class<T> other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public Class<T> satisfies(Predicate<Class<T>> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            Class<T> result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public Class<T> isAssignableFrom(Class<?> clazz) throws X {
+            recorder.recordCheck("isAssignableFrom");
+            return super.isAssignableFrom(clazz);
+        }
+
+        @Override
+        public Class<T> hasAnnotation(Class<? extends Annotation> clazz) throws X {
+            recorder.recordCheck("hasAnnotation");
+            return super.hasAnnotation(clazz);
+        }
+    }
+
+    static final class InstrumentedCollection<E, T extends Collection<E>, X extends Throwable> extends VerifiableCollection<E, T, X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedCollection(RecordingFailedValidationExecutor<X> recorder,
+                               T subject,
+                               Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public T isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public T isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public T is(T other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public T isNot(T other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public T isEqualTo(T other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public T isNotEqualTo(T other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public T satisfies(Predicate<T> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            T result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public T isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public T isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public T hasSizeOf(int n) throws X {
+            recorder.recordCheck("hasSizeOf");
+            return super.hasSizeOf(n);
+        }
+
+        @Override
+        public T hasSizeOfAtLeast(int n) throws X {
+            recorder.recordCheck("hasSizeOfAtLeast");
+            return super.hasSizeOfAtLeast(n);
+        }
+
+        @Override
+        public T hasSizeOfAtMost(int n) throws X {
+            recorder.recordCheck("hasSizeOfAtMost");
+            return super.hasSizeOfAtMost(n);
+        }
+
+        @Override
+        public T contains(E e) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("contains");
+            return super.contains(e);
+        }
+
+        @Override
+        public T doesNotContain(E e) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotContain");
+            return super.doesNotContain(e);
+        }
+    }
+
+    static final class InstrumentedString<X extends Throwable> extends VerifiableString<X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedString(RecordingFailedValidationExecutor<X> recorder,
+                           String subject,
+                           Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public String isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public String isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public String is(String other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public String isNot(String other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public String satisfies(Predicate<String> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            String result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+
+        @Override
+        public String isEqualTo(String other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public String isNotEqualTo(String other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public String isComparableTo(String other) throws X {
+            recorder.recordCheck("isComparableTo");
+            return super.isComparableTo(other);
+        }
+
+        @Override
+        public String isNotComparableTo(String other) throws X {
+            recorder.recordCheck("isNotComparableTo");
+            return super.isNotComparableTo(other);
+        }
+
+        @Override
+        public String isGreaterThan(String other) throws X {
+            recorder.recordCheck("isGreaterThan");
+            return super.isGreaterThan(other);
+        }
+
+        @Override
+        public String isGreaterThanOrEqualTo(String other) throws X {
+            recorder.recordCheck("isGreaterThanOrEqualTo");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public String isAtLeast(String other) throws X {
+            recorder.recordCheck("isAtLeast");
+            return super.isGreaterThanOrEqualTo(other);
+        }
+
+        @Override
+        public String isLessThan(String other) throws X {
+            recorder.recordCheck("isLessThan");
+            return super.isLessThan(other);
+        }
+
+        @Override
+        public String isLessThanOrEqualTo(String other) throws X {
+            recorder.recordCheck("isLessThanOrEqualTo");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public String isAtMost(String other) throws X {
+            recorder.recordCheck("isAtMost");
+            return super.isLessThanOrEqualTo(other);
+        }
+
+        @Override
+        public String isEmpty() throws X {
+            recorder.recordCheck("isEmpty");
+            return super.isEmpty();
+        }
+
+        @Override
+        public String isNotEmpty() throws X {
+            recorder.recordCheck("isNotEmpty");
+            return super.isNotEmpty();
+        }
+
+        @Override
+        public String startsWith(String prefix) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("startsWith");
+            return super.startsWith(prefix);
+        }
+
+        @Override
+        public String doesNotStartWith(String prefix) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotStartWith");
+            return super.doesNotStartWith(prefix);
+        }
+
+        @Override
+        public String endsWith(String suffix) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("endsWith");
+            return super.endsWith(suffix);
+        }
+
+        @Override
+        public String doesNotEndWith(String suffix) throws X {
+            if (recorder.isSkipping(CostTier.LINEAR)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotEndWith");
+            return super.doesNotEndWith(suffix);
+        }
+
+        @Override
+        public String matches(String regex) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("matches");
+            return super.matches(regex);
+        }
+
+        @Override
+        public String doesNotMatch(String regex) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("doesNotMatch");
+            return super.doesNotMatch(regex);
+        }
+    }
+
+    static final class InstrumentedObject<T, X extends Throwable> extends VerifiableObject<T, X> {
+
+        private final RecordingFailedValidationExecutor<X> recorder;
+
+        InstrumentedObject(RecordingFailedValidationExecutor<X> recorder,
+                           T subject,
+                           Supplier<String> messageSupplier) {
+            super(recorder, subject, messageSupplier);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public T isNull() throws X {
+            recorder.recordCheck("isNull");
+            return super.isNull();
+        }
+
+        @Override
+        public T isNotNull() throws X {
+            recorder.recordCheck("isNotNull");
+            return super.isNotNull();
+        }
+
+        @Override
+        public T is(T other) throws X {
+            recorder.recordCheck("is");
+            return super.is(other);
+        }
+
+        @Override
+        public T isNot(T other) throws X {
+            recorder.recordCheck("isNot");
+            return super.isNot(other);
+        }
+
+        @Override
+        public T isEqualTo(T other) throws X {
+            recorder.recordCheck("isEqualTo");
+            return super.isEqualTo(other);
+        }
+
+        @Override
+        public T isNotEqualTo(T other) throws X {
+            recorder.recordCheck("isNotEqualTo");
+            return super.isNotEqualTo(other);
+        }
+
+        @Override
+        public T satisfies(Predicate<T> expected) throws X {
+            if (recorder.isSkipping(CostTier.PREDICATE)) {
+                return getSubject();
+            }
+            recorder.recordCheck("satisfies");
+            recorder.startTiming(expected);
+            T result = super.satisfies(expected);
+            recorder.stopTiming();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+/**
+ * The parts of a failure message that the {@link ValidityException} throwables keep until the
+ * message is first asked for, and the message once it has been formatted.
+ */
+final class LazyFailureMessage implements Serializable {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final long serialVersionUID = 1L;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * The message is volatile so that a thread reading a message another thread formatted
+     * sees the whole String. Two threads may still both format it, which is harmless.
+     */
+
+    private final String expected;
+    private final transient Object subject;
+    private final transient Supplier<String> messageSupplier;
+    private final transient Describers describers;
+    private volatile String message;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    LazyFailureMessage(String expected,
+                       Object subject,
+                       Supplier<String> messageSupplier,
+                       Describers describers) {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        this.expected = expected;
+        this.subject = subject;
+        this.messageSupplier = messageSupplier;
+        this.describers = describers;
+    }
+
+    String getExpected() {
+        return expected;
+    }
+
+    Object getSubject() {
+        return subject;
+    }
+
+    String getMessage() {
+        String formatted = message;
+        if (null == formatted) {
+            formatted = ValidityUtils.formatFailure(expected, subject, messageSupplier, describers);
+            message = formatted;
+        }
+        return formatted;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // The subject, message supplier, and describers are not serialized so format the message first
+        getMessage();
+        out.defaultWriteObject();
+    }
+}
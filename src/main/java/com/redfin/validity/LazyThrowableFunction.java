@@ -0,0 +1,45 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates the throwable for a failed validation from the parts of its message rather
+ * than from the formatted message, so that the throwable can put off formatting the
+ * message until it is asked for (see {@link ValidityException}).
+ *
+ * @param <X> the type of {@link Throwable} created.
+ */
+@FunctionalInterface
+public interface LazyThrowableFunction<X extends Throwable> {
+
+    /**
+     * @param expected        the String description of the expected value.
+     *                        Will not be null.
+     * @param subject         the subject that failed validation.
+     *                        May be null.
+     * @param messageSupplier the {@link Supplier} of the String custom message to pre-pend the failure with.
+     *                        Will not be null.
+     * @param describers      the {@link Describers} to describe the subject with.
+     *                        Will not be null.
+     *
+     * @return the throwable for the failed validation.
+     * Should never be null.
+     */
+    X apply(String expected, Object subject, Supplier<String> messageSupplier, Describers describers);
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link FailedValidationExecutor} for checks that should not be made. It ignores any
+ * failure it is given. Factories of this library that are given the shared instance, e.g.
+ * by {@link AbstractVerifiableFactory#disabled()} or by the entry points of {@link Validity}
+ * that were disabled at startup with {@value Validity#EXPECT_DISABLED_PROPERTY} or
+ * {@value Validity#VALIDATE_DISABLED_PROPERTY}, are replaced with sub-classes whose
+ * verifiers return their subject without checking it or calling the executor at all.
+ * <p>
+ * Other factories given this executor still check their subjects and only ignore the
+ * failures.
+ *
+ * @param <X> the type of {@link Throwable} the {@link #fail(String, Object, Supplier)} method
+ *            is declared to throw. It is never thrown.
+ */
+public final class PassThroughFailedValidationExecutor<X extends Throwable>
+        implements FailedValidationExecutor<X> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final PassThroughFailedValidationExecutor<?> INSTANCE = new PassThroughFailedValidationExecutor<>();
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param <X> the type of {@link Throwable} the executor is declared to throw.
+     *
+     * @return the shared {@link PassThroughFailedValidationExecutor} instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static <X extends Throwable> PassThroughFailedValidationExecutor<X> getInstance() {
+        return (PassThroughFailedValidationExecutor<X>) INSTANCE;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private PassThroughFailedValidationExecutor() {
+        // Use getInstance()
+    }
+
+    /**
+     * Ignores the failure.
+     *
+     * @throws NullPointerException if expected or messageSupplier are null.
+     */
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+    }
+}
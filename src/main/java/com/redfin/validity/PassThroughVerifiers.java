@@ -0,0 +1,2643 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.verifiers.arrays.VerifiableArray;
+import com.redfin.validity.verifiers.arrays.VerifiableBooleanArray;
+import com.redfin.validity.verifiers.arrays.VerifiableByteArray;
+import com.redfin.validity.verifiers.arrays.VerifiableCharArray;
+import com.redfin.validity.verifiers.arrays.VerifiableDoubleArray;
+import com.redfin.validity.verifiers.arrays.VerifiableFloatArray;
+import com.redfin.validity.verifiers.arrays.VerifiableIntArray;
+import com.redfin.validity.verifiers.arrays.VerifiableLongArray;
+import com.redfin.validity.verifiers.arrays.VerifiableShortArray;
+import com.redfin.validity.verifiers.objects.VerifiableBoolean;
+import com.redfin.validity.verifiers.objects.VerifiableByte;
+import com.redfin.validity.verifiers.objects.VerifiableCharacter;
+import com.redfin.validity.verifiers.objects.VerifiableClass;
+import com.redfin.validity.verifiers.objects.VerifiableCollection;
+import com.redfin.validity.verifiers.objects.VerifiableDouble;
+import com.redfin.validity.verifiers.objects.VerifiableDuration;
+import com.redfin.validity.verifiers.objects.VerifiableFloat;
+import com.redfin.validity.verifiers.objects.VerifiableInstant;
+import com.redfin.validity.verifiers.objects.VerifiableInteger;
+import com.redfin.validity.verifiers.objects.VerifiableLong;
+import com.redfin.validity.verifiers.objects.VerifiableObject;
+import com.redfin.validity.verifiers.objects.VerifiableShort;
+import com.redfin.validity.verifiers.objects.VerifiableString;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveBoolean;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveByte;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveChar;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveDouble;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveFloat;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveLong;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveShort;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The verifiers of disabled factories, see {@link AbstractVerifiableFactory#disabled()}.
+ * Each one overrides every verification method of the verifier it extends to return the
+ * subject without checking it, recording it, or calling the {@link FailedValidationExecutor}.
+ * <p>
+ * Nothing is tested on each call to get here. The factories that create these are
+ * sub-classes whose {@code that} methods always do, and the disabled entry points of
+ * {@link Validity} are held in static final fields, so the JIT inlines a disabled chain
+ * such as {@code expect().that(x).isNotNull()} down to the subject.
+ */
+final class PassThroughVerifiers {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * C2 does not inline a method while a class in its signature has not been loaded through
+     * the class loader of the method's class. The checking verifiers load these the first time
+     * they test a subject, but the pass-through verifiers never touch their arguments, so a
+     * disabled {@code satisfies(DoublePredicate)} could never be inlined and its verifier would
+     * be allocated on every call. The disabled factories call this before creating any of them.
+     *
+     * @return the classes other than those of java.lang in the signatures of the pass-through verifiers.
+     */
+    static List<Class<?>> loadSignatureClasses() {
+        return Arrays.asList(Annotation.class,
+                             Collection.class,
+                             Duration.class,
+                             Instant.class,
+                             Predicate.class,
+                             IntPredicate.class,
+                             LongPredicate.class,
+                             DoublePredicate.class);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Make sure you cannot instantiate the static PassThroughVerifiers class even with reflection.
+     */
+
+    private PassThroughVerifiers() {
+        throw new AssertionError(ValidityUtils.nonInstantiableMessage());
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static final class PassThroughArray<E, X extends Throwable> extends VerifiableArray<E, X> {
+
+        PassThroughArray(FailedValidationExecutor<X> failedValidationExecutor,
+                         E[] subject,
+                         Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public E[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public E[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public E[] is(E[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public E[] isNot(E[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public E[] satisfies(Predicate<E[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public E[] isEqualTo(E[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public E[] isNotEqualTo(E[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public E[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public E[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public E[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public E[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public E[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughBooleanArray<X extends Throwable> extends VerifiableBooleanArray<X> {
+
+        PassThroughBooleanArray(FailedValidationExecutor<X> failedValidationExecutor,
+                                boolean[] subject,
+                                Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public boolean[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] is(boolean[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] isNot(boolean[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] satisfies(Predicate<boolean[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] isEqualTo(boolean[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] isNotEqualTo(boolean[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] contains(boolean value) {
+            return getSubject();
+        }
+
+        @Override
+        public boolean[] doesNotContain(boolean value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughByteArray<X extends Throwable> extends VerifiableByteArray<X> {
+
+        PassThroughByteArray(FailedValidationExecutor<X> failedValidationExecutor,
+                             byte[] subject,
+                             Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public byte[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] is(byte[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] isNot(byte[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] satisfies(Predicate<byte[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] isEqualTo(byte[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] isNotEqualTo(byte[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] contains(byte value) {
+            return getSubject();
+        }
+
+        @Override
+        public byte[] doesNotContain(byte value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughCharArray<X extends Throwable> extends VerifiableCharArray<X> {
+
+        PassThroughCharArray(FailedValidationExecutor<X> failedValidationExecutor,
+                             char[] subject,
+                             Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public char[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public char[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public char[] is(char[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] isNot(char[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] satisfies(Predicate<char[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] isEqualTo(char[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] isNotEqualTo(char[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public char[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public char[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] contains(char value) {
+            return getSubject();
+        }
+
+        @Override
+        public char[] doesNotContain(char value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughDoubleArray<X extends Throwable> extends VerifiableDoubleArray<X> {
+
+        PassThroughDoubleArray(FailedValidationExecutor<X> failedValidationExecutor,
+                               double[] subject,
+                               Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public double[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public double[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public double[] is(double[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] isNot(double[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] satisfies(Predicate<double[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] isEqualTo(double[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] isNotEqualTo(double[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public double[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public double[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] contains(double value) {
+            return getSubject();
+        }
+
+        @Override
+        public double[] doesNotContain(double value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughFloatArray<X extends Throwable> extends VerifiableFloatArray<X> {
+
+        PassThroughFloatArray(FailedValidationExecutor<X> failedValidationExecutor,
+                              float[] subject,
+                              Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public float[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public float[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public float[] is(float[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] isNot(float[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] satisfies(Predicate<float[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] isEqualTo(float[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] isNotEqualTo(float[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public float[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public float[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] contains(float value) {
+            return getSubject();
+        }
+
+        @Override
+        public float[] doesNotContain(float value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughIntArray<X extends Throwable> extends VerifiableIntArray<X> {
+
+        PassThroughIntArray(FailedValidationExecutor<X> failedValidationExecutor,
+                            int[] subject,
+                            Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public int[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public int[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public int[] is(int[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] isNot(int[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] satisfies(Predicate<int[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] isEqualTo(int[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] isNotEqualTo(int[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public int[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public int[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] contains(int value) {
+            return getSubject();
+        }
+
+        @Override
+        public int[] doesNotContain(int value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughLongArray<X extends Throwable> extends VerifiableLongArray<X> {
+
+        PassThroughLongArray(FailedValidationExecutor<X> failedValidationExecutor,
+                             long[] subject,
+                             Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public long[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public long[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public long[] is(long[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] isNot(long[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] satisfies(Predicate<long[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] isEqualTo(long[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] isNotEqualTo(long[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public long[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public long[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] contains(long value) {
+            return getSubject();
+        }
+
+        @Override
+        public long[] doesNotContain(long value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughShortArray<X extends Throwable> extends VerifiableShortArray<X> {
+
+        PassThroughShortArray(FailedValidationExecutor<X> failedValidationExecutor,
+                              short[] subject,
+                              Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public short[] isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public short[] isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public short[] is(short[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] isNot(short[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] satisfies(Predicate<short[]> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] isEqualTo(short[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] isNotEqualTo(short[] other) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public short[] isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public short[] hasLengthOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] hasLengthOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] hasLengthOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] contains(short value) {
+            return getSubject();
+        }
+
+        @Override
+        public short[] doesNotContain(short value) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveBoolean<X extends Throwable> extends VerifiablePrimitiveBoolean<X> {
+
+        PassThroughPrimitiveBoolean(FailedValidationExecutor<X> failedValidationExecutor,
+                                    boolean subject,
+                                    Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public boolean isTrue() {
+            return getSubject();
+        }
+
+        @Override
+        public boolean isFalse() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveByte<X extends Throwable> extends VerifiablePrimitiveByte<X> {
+
+        PassThroughPrimitiveByte(FailedValidationExecutor<X> failedValidationExecutor,
+                                 byte subject,
+                                 Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public byte isEqualTo(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte isNotEqualTo(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public byte isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public byte isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public byte isStrictlyNegative() {
+            return getSubject();
+        }
+
+        @Override
+        public byte isGreaterThan(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte isGreaterThanOrEqualTo(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte isAtLeast(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte isLessThan(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte isLessThanOrEqualTo(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte isAtMost(byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public byte satisfies(IntPredicate expected) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveChar<X extends Throwable> extends VerifiablePrimitiveChar<X> {
+
+        PassThroughPrimitiveChar(FailedValidationExecutor<X> failedValidationExecutor,
+                                 char subject,
+                                 Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public char isEqualTo(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public char isNotEqualTo(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public char isGreaterThan(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public char isGreaterThanOrEqualTo(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public char isAtLeast(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public char isLessThan(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public char isLessThanOrEqualTo(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public char isAtMost(char other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isUpperCase() {
+            return getSubject();
+        }
+
+        @Override
+        public char isLowerCase() {
+            return getSubject();
+        }
+
+        @Override
+        public char isLetterOrDigit() {
+            return getSubject();
+        }
+
+        @Override
+        public char isAlphabetic() {
+            return getSubject();
+        }
+
+        @Override
+        public char isDigit() {
+            return getSubject();
+        }
+
+        @Override
+        public char satisfies(IntPredicate expected) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveDouble<X extends Throwable> extends VerifiablePrimitiveDouble<X> {
+
+        PassThroughPrimitiveDouble(FailedValidationExecutor<X> failedValidationExecutor,
+                                   double subject,
+                                   Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public double isEqualTo(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double isNotEqualTo(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public double isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public double isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public double isStrictlyNegative() {
+            return getSubject();
+        }
+
+        @Override
+        public double isGreaterThan(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double isGreaterThanOrEqualTo(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double isAtLeast(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double isLessThan(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double isLessThanOrEqualTo(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double isAtMost(double other) {
+            return getSubject();
+        }
+
+        @Override
+        public double satisfies(DoublePredicate expected) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveFloat<X extends Throwable> extends VerifiablePrimitiveFloat<X> {
+
+        PassThroughPrimitiveFloat(FailedValidationExecutor<X> failedValidationExecutor,
+                                  float subject,
+                                  Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public float isEqualTo(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float isNotEqualTo(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public float isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public float isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public float isStrictlyNegative() {
+            return getSubject();
+        }
+
+        @Override
+        public float isGreaterThan(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float isGreaterThanOrEqualTo(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float isAtLeast(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float isLessThan(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float isLessThanOrEqualTo(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float isAtMost(float other) {
+            return getSubject();
+        }
+
+        @Override
+        public float satisfies(DoublePredicate expected) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveInt<X extends Throwable> extends VerifiablePrimitiveInt<X> {
+
+        PassThroughPrimitiveInt(FailedValidationExecutor<X> failedValidationExecutor,
+                                int subject,
+                                Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public int isEqualTo(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int isNotEqualTo(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public int isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public int isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public int isStrictlyNegative() {
+            return getSubject();
+        }
+
+        @Override
+        public int isGreaterThan(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int isGreaterThanOrEqualTo(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int isAtLeast(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int isLessThan(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int isLessThanOrEqualTo(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int isAtMost(int other) {
+            return getSubject();
+        }
+
+        @Override
+        public int satisfies(IntPredicate expected) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveLong<X extends Throwable> extends VerifiablePrimitiveLong<X> {
+
+        PassThroughPrimitiveLong(FailedValidationExecutor<X> failedValidationExecutor,
+                                 long subject,
+                                 Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public long isEqualTo(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long isNotEqualTo(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public long isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public long isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public long isStrictlyNegative() {
+            return getSubject();
+        }
+
+        @Override
+        public long isGreaterThan(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long isGreaterThanOrEqualTo(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long isAtLeast(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long isLessThan(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long isLessThanOrEqualTo(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long isAtMost(long other) {
+            return getSubject();
+        }
+
+        @Override
+        public long satisfies(LongPredicate expected) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughPrimitiveShort<X extends Throwable> extends VerifiablePrimitiveShort<X> {
+
+        PassThroughPrimitiveShort(FailedValidationExecutor<X> failedValidationExecutor,
+                                  short subject,
+                                  Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public short isEqualTo(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short isNotEqualTo(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public short isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public short isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public short isStrictlyNegative() {
+            return getSubject();
+        }
+
+        @Override
+        public short isGreaterThan(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short isGreaterThanOrEqualTo(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short isAtLeast(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short isLessThan(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short isLessThanOrEqualTo(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short isAtMost(short other) {
+            return getSubject();
+        }
+
+        @Override
+        public short satisfies(IntPredicate expected) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughBoolean<X extends Throwable> extends VerifiableBoolean<X> {
+
+        PassThroughBoolean(FailedValidationExecutor<X> failedValidationExecutor,
+                           Boolean subject,
+                           Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Boolean isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean is(Boolean other) {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean isNot(Boolean other) {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean isEqualTo(Boolean other) {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean isNotEqualTo(Boolean other) {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean satisfies(Predicate<Boolean> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean isTrue() {
+            return getSubject();
+        }
+
+        @Override
+        public Boolean isFalse() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughByte<X extends Throwable> extends VerifiableByte<X> {
+
+        PassThroughByte(FailedValidationExecutor<X> failedValidationExecutor,
+                        Byte subject,
+                        Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Byte isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Byte is(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isNot(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte satisfies(Predicate<Byte> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isEqualTo(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isNotEqualTo(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isComparableTo(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isNotComparableTo(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isGreaterThan(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isGreaterThanOrEqualTo(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isAtLeast(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isLessThan(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isLessThanOrEqualTo(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isAtMost(Byte other) {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public Byte isStrictlyNegative() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughCharacter<X extends Throwable> extends VerifiableCharacter<X> {
+
+        PassThroughCharacter(FailedValidationExecutor<X> failedValidationExecutor,
+                             Character subject,
+                             Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Character isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Character isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Character is(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isNot(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character satisfies(Predicate<Character> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isEqualTo(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isNotEqualTo(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isComparableTo(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isNotComparableTo(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isGreaterThan(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isGreaterThanOrEqualTo(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isAtLeast(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isLessThan(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isLessThanOrEqualTo(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isAtMost(Character other) {
+            return getSubject();
+        }
+
+        @Override
+        public Character isUpperCase() {
+            return getSubject();
+        }
+
+        @Override
+        public Character isLowerCase() {
+            return getSubject();
+        }
+
+        @Override
+        public Character isLetterOrDigit() {
+            return getSubject();
+        }
+
+        @Override
+        public Character isAlphabetic() {
+            return getSubject();
+        }
+
+        @Override
+        public Character isDigit() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughDouble<X extends Throwable> extends VerifiableDouble<X> {
+
+        PassThroughDouble(FailedValidationExecutor<X> failedValidationExecutor,
+                          Double subject,
+                          Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Double isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Double isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Double is(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isNot(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double satisfies(Predicate<Double> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isEqualTo(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isNotEqualTo(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isComparableTo(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isNotComparableTo(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isGreaterThan(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isGreaterThanOrEqualTo(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isAtLeast(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isLessThan(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isLessThanOrEqualTo(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isAtMost(Double other) {
+            return getSubject();
+        }
+
+        @Override
+        public Double isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Double isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Double isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public Double isStrictlyNegative() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughFloat<X extends Throwable> extends VerifiableFloat<X> {
+
+        PassThroughFloat(FailedValidationExecutor<X> failedValidationExecutor,
+                         Float subject,
+                         Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Float isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Float isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Float is(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isNot(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float satisfies(Predicate<Float> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isEqualTo(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isNotEqualTo(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isComparableTo(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isNotComparableTo(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isGreaterThan(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isGreaterThanOrEqualTo(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isAtLeast(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isLessThan(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isLessThanOrEqualTo(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isAtMost(Float other) {
+            return getSubject();
+        }
+
+        @Override
+        public Float isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Float isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Float isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public Float isStrictlyNegative() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughInteger<X extends Throwable> extends VerifiableInteger<X> {
+
+        PassThroughInteger(FailedValidationExecutor<X> failedValidationExecutor,
+                           Integer subject,
+                           Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Integer isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Integer is(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isNot(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer satisfies(Predicate<Integer> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isEqualTo(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isNotEqualTo(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isComparableTo(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isNotComparableTo(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isGreaterThan(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isGreaterThanOrEqualTo(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isAtLeast(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isLessThan(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isLessThanOrEqualTo(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isAtMost(Integer other) {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public Integer isStrictlyNegative() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughLong<X extends Throwable> extends VerifiableLong<X> {
+
+        PassThroughLong(FailedValidationExecutor<X> failedValidationExecutor,
+                        Long subject,
+                        Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Long isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Long isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Long is(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isNot(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long satisfies(Predicate<Long> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isEqualTo(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isNotEqualTo(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isComparableTo(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isNotComparableTo(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isGreaterThan(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isGreaterThanOrEqualTo(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isAtLeast(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isLessThan(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isLessThanOrEqualTo(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isAtMost(Long other) {
+            return getSubject();
+        }
+
+        @Override
+        public Long isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Long isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Long isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public Long isStrictlyNegative() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughShort<X extends Throwable> extends VerifiableShort<X> {
+
+        PassThroughShort(FailedValidationExecutor<X> failedValidationExecutor,
+                         Short subject,
+                         Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Short isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Short isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Short is(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isNot(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short satisfies(Predicate<Short> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isEqualTo(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isNotEqualTo(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isComparableTo(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isNotComparableTo(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isGreaterThan(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isGreaterThanOrEqualTo(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isAtLeast(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isLessThan(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isLessThanOrEqualTo(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isAtMost(Short other) {
+            return getSubject();
+        }
+
+        @Override
+        public Short isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Short isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Short isStrictlyPositive() {
+            return getSubject();
+        }
+
+        @Override
+        public Short isStrictlyNegative() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughDuration<X extends Throwable> extends VerifiableDuration<X> {
+
+        PassThroughDuration(FailedValidationExecutor<X> failedValidationExecutor,
+                            Duration subject,
+                            Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Duration isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Duration is(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isNot(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration satisfies(Predicate<Duration> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isEqualTo(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isNotEqualTo(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isComparableTo(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isNotComparableTo(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isGreaterThan(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isGreaterThanOrEqualTo(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isAtLeast(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isLessThan(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isLessThanOrEqualTo(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isAtMost(Duration other) {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isNotZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isGreaterThanOrEqualToZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isLessThanOrEqualToZero() {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isStrictlyNegative() {
+            return getSubject();
+        }
+
+        @Override
+        public Duration isStrictlyPositive() {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughInstant<X extends Throwable> extends VerifiableInstant<X> {
+
+        PassThroughInstant(FailedValidationExecutor<X> failedValidationExecutor,
+                           Instant subject,
+                           Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Instant isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Instant is(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isNot(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant satisfies(Predicate<Instant> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isEqualTo(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isNotEqualTo(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isComparableTo(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isNotComparableTo(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isGreaterThan(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isGreaterThanOrEqualTo(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isAtLeast(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isLessThan(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isLessThanOrEqualTo(Instant other) {
+            return getSubject();
+        }
+
+        @Override
+        public Instant isAtMost(Instant other) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughClass<T, X extends Throwable> extends VerifiableClass<T, X> {
+
+        PassThroughClass(FailedValidationExecutor<X> failedValidationExecutor,
+                         Class<T> subject,
+                         Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public Class<T> isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> is(Class<T> other) {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> isNot(Class<T> other) {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> isEqualTo(Class<T> other) {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> isNotEqualTo(Class<T> other) {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> satisfies(Predicate<Class<T>> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> isAssignableFrom(Class<?> clazz) {
+            return getSubject();
+        }
+
+        @Override
+        public Class<T> hasAnnotation(Class<? extends Annotation> clazz) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughCollection<E, T extends Collection<E>, X extends Throwable> extends VerifiableCollection<E, T, X> {
+
+        PassThroughCollection(FailedValidationExecutor<X> failedValidationExecutor,
+                              T subject,
+                              Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public T isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public T isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public T is(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T isNot(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T isEqualTo(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T isNotEqualTo(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T satisfies(Predicate<T> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public T isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public T isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public T hasSizeOf(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public T hasSizeOfAtLeast(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public T hasSizeOfAtMost(int n) {
+            return getSubject();
+        }
+
+        @Override
+        public T contains(E e) {
+            return getSubject();
+        }
+
+        @Override
+        public T doesNotContain(E e) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughString<X extends Throwable> extends VerifiableString<X> {
+
+        PassThroughString(FailedValidationExecutor<X> failedValidationExecutor,
+                          String subject,
+                          Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public String isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public String isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public String is(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isNot(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String satisfies(Predicate<String> expected) {
+            return getSubject();
+        }
+
+        @Override
+        public String isEqualTo(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isNotEqualTo(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isComparableTo(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isNotComparableTo(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isGreaterThan(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isGreaterThanOrEqualTo(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isAtLeast(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isLessThan(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isLessThanOrEqualTo(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isAtMost(String other) {
+            return getSubject();
+        }
+
+        @Override
+        public String isEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public String isNotEmpty() {
+            return getSubject();
+        }
+
+        @Override
+        public String startsWith(String prefix) {
+            return getSubject();
+        }
+
+        @Override
+        public String doesNotStartWith(String prefix) {
+            return getSubject();
+        }
+
+        @Override
+        public String endsWith(String suffix) {
+            return getSubject();
+        }
+
+        @Override
+        public String doesNotEndWith(String suffix) {
+            return getSubject();
+        }
+
+        @Override
+        public String matches(String regex) {
+            return getSubject();
+        }
+
+        @Override
+        public String doesNotMatch(String regex) {
+            return getSubject();
+        }
+    }
+
+    static final class PassThroughObject<T, X extends Throwable> extends VerifiableObject<T, X> {
+
+        PassThroughObject(FailedValidationExecutor<X> failedValidationExecutor,
+                          T subject,
+                          Supplier<String> messageSupplier) {
+            super(failedValidationExecutor, subject, messageSupplier);
+        }
+
+        @Override
+        public T isNull() {
+            return getSubject();
+        }
+
+        @Override
+        public T isNotNull() {
+            return getSubject();
+        }
+
+        @Override
+        public T is(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T isNot(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T isEqualTo(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T isNotEqualTo(T other) {
+            return getSubject();
+        }
+
+        @Override
+        public T satisfies(Predicate<T> expected) {
+            return getSubject();
+        }
+    }
+}
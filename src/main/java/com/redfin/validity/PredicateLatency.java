@@ -0,0 +1,156 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * An immutable snapshot of the execution times recorded by {@link PredicateTimingMetrics}
+ * for one predicate. The times are kept in a histogram with power of two buckets: bucket 0
+ * counts times of 0 nanoseconds and bucket i counts times from 2^(i-1) up to, but not
+ * including, 2^i nanoseconds. Percentiles are read off of the histogram so they are only
+ * accurate to within a factor of two.
+ */
+public final class PredicateLatency {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static final int BUCKETS = 64;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final String description;
+    private final long[] bucketCounts;
+    private final long samples;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long slowSamples;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param nanos the time in nanoseconds.
+     *
+     * @return the index of the histogram bucket that the given time falls in.
+     */
+    static int bucket(long nanos) {
+        return (nanos <= 0) ? 0 : Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    PredicateLatency(String description,
+                     long[] bucketCounts,
+                     long totalNanos,
+                     long maxNanos,
+                     long slowSamples) {
+        this.description = description;
+        this.bucketCounts = bucketCounts;
+        this.samples = Arrays.stream(bucketCounts).sum();
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.slowSamples = slowSamples;
+    }
+
+    /**
+     * @return the description of the predicate. This is the description of a descriptive
+     * predicate or the "unknown predicate: " prefix followed by the class name of any other
+     * predicate.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the number of timed executions of the predicate.
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return the number of timed executions that took longer than the threshold.
+     */
+    public long getSlowSamples() {
+        return slowSamples;
+    }
+
+    /**
+     * @return the mean time of the timed executions or zero if there were none.
+     */
+    public Duration getMean() {
+        return Duration.ofNanos((0 == samples) ? 0 : totalNanos / samples);
+    }
+
+    /**
+     * @return the longest time of the timed executions.
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * @param percentile the percentile to return, e.g. 99.9 for the 99.9th percentile.
+     *                   Must be greater than 0 and no more than 100.
+     *
+     * @return the upper bound of the histogram bucket that holds the given percentile,
+     * capped at the maximum time, or zero if there were no timed executions.
+     *
+     * @throws IllegalArgumentException if percentile is not greater than 0 and no more than 100.
+     */
+    public Duration getPercentile(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("The percentile must be greater than 0 and no more than 100, was: " + percentile);
+        }
+        long rank = (long) Math.ceil(samples * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank && seen > 0) {
+                return Duration.ofNanos(Math.min(maxNanos, (0 == i) ? 0 : (1L << i) - 1));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * @return a copy of the histogram bucket counts.
+     */
+    public long[] getBucketCounts() {
+        return bucketCounts.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: samples=%d, slow=%d, mean=%dns, p99=%dns, max=%dns",
+                             description,
+                             samples,
+                             slowSamples,
+                             getMean().toNanos(),
+                             getPercentile(99).toNanos(),
+                             maxNanos);
+    }
+}
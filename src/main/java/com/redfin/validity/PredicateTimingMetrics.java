@@ -0,0 +1,258 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.predicates.AbstractDescriptivePredicate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ValidationMetrics} implementation that times a sample of the predicates tested
+ * by the {@code satisfies} methods to find expensive predicates (e.g. regular expressions
+ * or collection scans) that add to the tail latency of validation. Each timed execution is
+ * added to a latency histogram for its predicate, keyed by the description of a descriptive
+ * predicate or by the class name of any other predicate, and executions that take longer than
+ * the threshold are counted as slow. {@link #getSlowPredicates()} reports the predicates that
+ * were ever slow.
+ * <p>
+ * Calls to the other verifier methods are passed on to the delegate metrics, if any, so that
+ * predicate timing can be added on to other metrics.
+ */
+public final class PredicateTimingMetrics
+        implements ValidationMetrics {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final int DEFAULT_SAMPLE_INTERVAL = 100;
+    private static final int MAX_PREDICATES = 1024;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final ValidationMetrics delegate;
+    private final int sampleInterval;
+    private final long thresholdNanos;
+    private final ConcurrentMap<String, Histogram> histograms;
+    private final LongAdder untracked;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link PredicateTimingMetrics} instance that times one in every 100
+     * predicate executions and does not record any other metrics.
+     *
+     * @param threshold the execution time over which a predicate execution is slow.
+     *                  May not be null or negative.
+     *
+     * @throws NullPointerException     if threshold is null.
+     * @throws IllegalArgumentException if threshold is negative.
+     */
+    public PredicateTimingMetrics(Duration threshold) {
+        this(null, DEFAULT_SAMPLE_INTERVAL, threshold);
+    }
+
+    /**
+     * Create a new {@link PredicateTimingMetrics} instance with the given values.
+     *
+     * @param delegate       the {@link ValidationMetrics} to pass checks and failures on to.
+     *                       May be null if no other metrics should be recorded.
+     * @param sampleInterval the average number of predicate executions per timed execution.
+     *                       1 times every execution.
+     *                       Must be strictly positive.
+     * @param threshold      the execution time over which a predicate execution is slow.
+     *                       May not be null or negative.
+     *
+     * @throws NullPointerException     if threshold is null.
+     * @throws IllegalArgumentException if sampleInterval is less than 1 or threshold is negative.
+     */
+    public PredicateTimingMetrics(ValidationMetrics delegate,
+                                  int sampleInterval,
+                                  Duration threshold) {
+        if (null == threshold) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("threshold"));
+        }
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("The sample interval must be strictly positive, was: " + sampleInterval);
+        }
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("The threshold may not be negative, was: " + threshold);
+        }
+        this.delegate = delegate;
+        this.sampleInterval = sampleInterval;
+        this.thresholdNanos = threshold.toNanos();
+        this.histograms = new ConcurrentHashMap<>();
+        this.untracked = new LongAdder();
+    }
+
+    /**
+     * @return the average number of predicate executions per timed execution.
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * @return the execution time over which a predicate execution is slow.
+     */
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    @Override
+    public void recordCheck(Class<?> verifierClass, String check) {
+        if (null != delegate) {
+            delegate.recordCheck(verifierClass, check);
+        }
+    }
+
+    @Override
+    public void recordFailure(Class<?> verifierClass, String check) {
+        if (null != delegate) {
+            delegate.recordFailure(verifierClass, check);
+        }
+    }
+
+    @Override
+    public boolean shouldTimePredicate() {
+        return 1 == sampleInterval || 0 == ThreadLocalRandom.current().nextInt(sampleInterval);
+    }
+
+    @Override
+    public void recordPredicateTime(Class<?> verifierClass, Object predicate, long nanos) {
+        String description = (predicate instanceof AbstractDescriptivePredicate)
+                ? predicate.toString()
+                : ValidityUtils.unknownPredicatePrefix() + predicate.getClass().getName();
+        Histogram histogram = histograms.get(description);
+        if (null == histogram) {
+            // Bound the number of predicates in case descriptions are built from subject values
+            if (histograms.size() >= MAX_PREDICATES) {
+                untracked.increment();
+                return;
+            }
+            histogram = histograms.computeIfAbsent(description, key -> new Histogram());
+        }
+        histogram.record(nanos, nanos > thresholdNanos);
+    }
+
+    /**
+     * @return an unmodifiable snapshot of the latency of every timed predicate keyed and
+     * sorted by description.
+     */
+    public SortedMap<String, PredicateLatency> getLatencies() {
+        SortedMap<String, PredicateLatency> latencies = new TreeMap<>();
+        histograms.forEach((description, histogram) -> latencies.put(description, histogram.snapshot(description)));
+        return Collections.unmodifiableSortedMap(latencies);
+    }
+
+    /**
+     * @return an unmodifiable snapshot of the latency of every predicate that had at least one
+     * execution over the threshold, ordered from the most to the fewest slow executions.
+     */
+    public List<PredicateLatency> getSlowPredicates() {
+        List<PredicateLatency> slow = new ArrayList<>();
+        for (PredicateLatency latency : getLatencies().values()) {
+            if (latency.getSlowSamples() > 0) {
+                slow.add(latency);
+            }
+        }
+        slow.sort(Comparator.comparingLong(PredicateLatency::getSlowSamples)
+                            .thenComparing(PredicateLatency::getMax)
+                            .reversed());
+        return Collections.unmodifiableList(slow);
+    }
+
+    /**
+     * @return the number of timed executions that were dropped because too many different
+     * predicates had already been timed.
+     */
+    public long getUntrackedSamples() {
+        return untracked.sum();
+    }
+
+    /**
+     * Reset all of the histograms to zero. Executions recorded during a reset may or may
+     * not be counted.
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        untracked.reset();
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final class Histogram {
+
+        private final LongAdder[] buckets;
+        private final LongAdder totalNanos;
+        private final LongAccumulator maxNanos;
+        private final LongAdder slow;
+
+        private Histogram() {
+            this.buckets = new LongAdder[PredicateLatency.BUCKETS];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+            this.totalNanos = new LongAdder();
+            this.maxNanos = new LongAccumulator(Math::max, 0);
+            this.slow = new LongAdder();
+        }
+
+        private void record(long nanos, boolean isSlow) {
+            buckets[PredicateLatency.bucket(nanos)].increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (isSlow) {
+                slow.increment();
+            }
+        }
+
+        private PredicateLatency snapshot(String description) {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return new PredicateLatency(description, counts, totalNanos.sum(), maxNanos.get(), slow.sum());
+        }
+
+        private void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            totalNanos.reset();
+            maxNanos.reset();
+            slow.reset();
+        }
+    }
+}
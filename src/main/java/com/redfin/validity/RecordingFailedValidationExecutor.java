@@ -0,0 +1,219 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link FailedValidationExecutor} of a single verifier from a factory with
+ * {@link ValidationMetrics} or a {@link CostThreshold}. The instrumented verifiers call it
+ * before each check to test the threshold and record the check, and it records each failure
+ * against the last check before handing the failure to the factory's executor. Keeping this
+ * out of the verifiers means that the verifiers of factories without either are unchanged.
+ * <p>
+ * Instances are not thread safe, a new one is created along with each verifier.
+ *
+ * @param <X> the type of {@link Throwable} the {@link #fail(String, Object, Supplier)} method
+ *            will throw.
+ */
+final class RecordingFailedValidationExecutor<X extends Throwable>
+        implements FailedValidationExecutor<X> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final FailedValidationExecutor<X> delegate;
+    private final Class<?> verifierClass;
+    private final ValidationMetrics metrics;
+    private final CostThreshold costThreshold;
+    private String check;
+    private Object timedPredicate;
+    private long timingStart;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link RecordingFailedValidationExecutor} instance with the given values.
+     *
+     * @param delegate      the executor to hand the failures to.
+     *                      May not be null.
+     * @param verifierClass the class of the verifier to record the checks and failures for.
+     *                      May not be null.
+     * @param config        the {@link VerifiableFactoryConfig} with the metrics and cost threshold of the factory.
+     *                      May not be null.
+     *
+     * @throws NullPointerException if delegate, verifierClass, or config are null.
+     */
+    RecordingFailedValidationExecutor(FailedValidationExecutor<X> delegate,
+                                      Class<?> verifierClass,
+                                      VerifiableFactoryConfig config) {
+        if (null == delegate) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("delegate"));
+        }
+        if (null == verifierClass) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("verifierClass"));
+        }
+        if (null == config) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("config"));
+        }
+        this.delegate = delegate;
+        this.verifierClass = verifierClass;
+        this.metrics = config.getMetrics();
+        this.costThreshold = config.getCostThreshold();
+    }
+
+    /**
+     * @param tier the {@link CostTier} of the check about to be made.
+     *             May not be null.
+     *
+     * @return true if the cost threshold of the factory skips checks of the given tier.
+     */
+    boolean isSkipping(CostTier tier) {
+        return null != costThreshold && costThreshold.isSkipping(tier);
+    }
+
+    /**
+     * Record a call of the given verifier method. Failures handed to this executor until
+     * the next call are recorded against it.
+     *
+     * @param check the name of the verifier method that was called.
+     *              May not be null.
+     */
+    void recordCheck(String check) {
+        this.check = check;
+        this.timedPredicate = null;
+        if (null != metrics) {
+            metrics.recordCheck(verifierClass, check);
+        }
+    }
+
+    /**
+     * Start timing the given predicate if the metrics ask for it, see
+     * {@link ValidationMetrics#shouldTimePredicate()}. The time is recorded by the next
+     * call to {@link #stopTiming()} or failure, whichever comes first.
+     *
+     * @param predicate the predicate about to be tested.
+     *                  May be null, in which case nothing is timed.
+     */
+    void startTiming(Object predicate) {
+        if (null != predicate && null != metrics && metrics.shouldTimePredicate()) {
+            timedPredicate = predicate;
+            timingStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Record the time of the predicate given to {@link #startTiming(Object)}, if it is being timed.
+     */
+    void stopTiming() {
+        if (null != timedPredicate) {
+            metrics.recordPredicateTime(verifierClass, timedPredicate, System.nanoTime() - timingStart);
+            timedPredicate = null;
+        }
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.fail(expected, subject, messageSupplier);
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) throws X {
+        recordFailure();
+        delegate.fail(expected, subject, messageSupplier, describers);
+    }
+
+    @Override
+    public void failBoolean(ValidationFailure failure,
+                            boolean subject,
+                            Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failBoolean(failure, subject, messageSupplier);
+    }
+
+    @Override
+    public void failByte(ValidationFailure failure,
+                         byte subject,
+                         Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failByte(failure, subject, messageSupplier);
+    }
+
+    @Override
+    public void failChar(ValidationFailure failure,
+                         char subject,
+                         Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failChar(failure, subject, messageSupplier);
+    }
+
+    @Override
+    public void failShort(ValidationFailure failure,
+                          short subject,
+                          Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failShort(failure, subject, messageSupplier);
+    }
+
+    @Override
+    public void failInt(ValidationFailure failure,
+                        int subject,
+                        Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failInt(failure, subject, messageSupplier);
+    }
+
+    @Override
+    public void failLong(ValidationFailure failure,
+                         long subject,
+                         Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failLong(failure, subject, messageSupplier);
+    }
+
+    @Override
+    public void failFloat(ValidationFailure failure,
+                          float subject,
+                          Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failFloat(failure, subject, messageSupplier);
+    }
+
+    @Override
+    public void failDouble(ValidationFailure failure,
+                           double subject,
+                           Supplier<String> messageSupplier) throws X {
+        recordFailure();
+        delegate.failDouble(failure, subject, messageSupplier);
+    }
+
+    private void recordFailure() {
+        stopTiming();
+        if (null != metrics) {
+            metrics.recordFailure(verifierClass, check);
+        }
+    }
+}
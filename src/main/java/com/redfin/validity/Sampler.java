@@ -0,0 +1,87 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Decides which calls of a sampled factory (see {@link AbstractVerifiableFactory#sampled(int, int)})
+ * are checked. Each thread counts its own calls, so no state is shared between threads, and
+ * checks the first checked calls of every outOf calls, starting with its first call. A sampled
+ * factory kept in a static final field at a call site therefore checks exactly checked out of
+ * every outOf calls that each thread makes there. The factories derived from it (e.g. with
+ * {@link AbstractVerifiableFactory#withMessage(String)}) share its sampler and its counts.
+ */
+final class Sampler {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final int checked;
+    private final int outOf;
+    private final ThreadLocal<int[]> calls = ThreadLocal.withInitial(() -> new int[1]);
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link Sampler} instance with the given values.
+     *
+     * @param checked the number of calls out of every outOf calls that should be checked.
+     *                Must be at least 1.
+     * @param outOf   the number of calls that checked is taken from.
+     *                Must be greater than checked.
+     *
+     * @throws IllegalArgumentException if checked is less than 1 or outOf is not greater than checked.
+     */
+    Sampler(int checked, int outOf) {
+        if (checked < 1) {
+            throw new IllegalArgumentException("The number of checked calls must be at least 1, was " + checked);
+        }
+        if (outOf <= checked) {
+            throw new IllegalArgumentException("The number of calls must be greater than the number of checked calls, was " + outOf);
+        }
+        this.checked = checked;
+        this.outOf = outOf;
+    }
+
+    /**
+     * @return the number of calls out of every {@link #getOutOf()} calls that are checked.
+     */
+    int getChecked() {
+        return checked;
+    }
+
+    /**
+     * @return the number of calls {@link #getChecked()} is taken from.
+     */
+    int getOutOf() {
+        return outOf;
+    }
+
+    /**
+     * Count a call of the calling thread.
+     *
+     * @return true if the call should be checked.
+     */
+    boolean checksThisCall() {
+        int[] count = calls.get();
+        int call = count[0];
+        count[0] = (outOf - 1 == call) ? 0 : call + 1;
+        return call < checked;
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link FailedValidationExecutor} for rolling out new validation rules. It is used by the
+ * verifiers of {@link Validity#shadow(ShadowFailedValidationExecutor)} and never throws, so a
+ * wrong rule cannot break the code it was added to. Instead, each failure is put on a bounded
+ * queue and a background thread formats and logs it.
+ * <p>
+ * A validating thread only pays for adding the failure to the queue: the subject is not
+ * described, the message is not formatted, and no stack trace is captured. If the queue is
+ * full the failure is dropped and counted. The background thread logs at most the given
+ * number of failures each second and then logs how many failures it skipped. Since the
+ * failures are formatted later on the background thread, subjects that change after they
+ * were validated are described as they are at that time, and message suppliers must be safe
+ * to call from another thread.
+ * <p>
+ * By default the failures are logged as warnings to the {@code java.util.logging} logger named
+ * after this class. Executors are created with the {@code start} methods, which start the
+ * background daemon thread once the executor is constructed. It runs until {@link #close()}
+ * is called, and every failure is then counted as exactly one of logged, rate limited, or dropped.
+ */
+public final class ShadowFailedValidationExecutor
+        implements FailedValidationExecutor<RuntimeException>, AutoCloseable {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * The number of failures the queue of an executor created with {@link #start()} can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The number of failures an executor created with {@link #start()} logs each second.
+     */
+    public static final int DEFAULT_MAX_LOGGED_PER_SECOND = 10;
+
+    private static final Logger LOGGER = Logger.getLogger(ShadowFailedValidationExecutor.class.getName());
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long POLL_MILLIS = 100;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final BlockingQueue<Failure> queue;
+    private final int maxLoggedPerSecond;
+    private final Consumer<String> log;
+    private final LongAdder failures;
+    private final LongAdder dropped;
+    private final LongAdder logged;
+    private final LongAdder rateLimited;
+    private final LongAdder unformatted;
+    private final Thread logger;
+    private volatile boolean closed;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @return a new, started {@link ShadowFailedValidationExecutor} with a queue of
+     * {@value #DEFAULT_CAPACITY} failures that logs at most {@value #DEFAULT_MAX_LOGGED_PER_SECOND}
+     * failures each second as warnings to the {@code java.util.logging} logger named after this class.
+     */
+    public static ShadowFailedValidationExecutor start() {
+        return start(DEFAULT_CAPACITY, DEFAULT_MAX_LOGGED_PER_SECOND, message -> {
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.warning(message);
+            }
+        });
+    }
+
+    /**
+     * @param capacity           the number of failures the queue can hold before failures are dropped.
+     *                           Must be at least 1.
+     * @param maxLoggedPerSecond the number of failures that are logged each second.
+     *                           Must be at least 1.
+     * @param log                the consumer the background thread logs each message with.
+     *                           May not be null.
+     *
+     * @return a new, started {@link ShadowFailedValidationExecutor} with the given values.
+     *
+     * @throws IllegalArgumentException if capacity or maxLoggedPerSecond are less than 1.
+     * @throws NullPointerException     if log is null.
+     */
+    public static ShadowFailedValidationExecutor start(int capacity,
+                                                       int maxLoggedPerSecond,
+                                                       Consumer<String> log) {
+        ShadowFailedValidationExecutor executor = new ShadowFailedValidationExecutor(capacity, maxLoggedPerSecond, log);
+        // Only start the thread once the constructor has returned, so it never sees a partly built executor
+        executor.logger.start();
+        return executor;
+    }
+
+    private static ValidationFailure checkFailure(ValidationFailure failure) {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        return failure;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ShadowFailedValidationExecutor(int capacity,
+                                           int maxLoggedPerSecond,
+                                           Consumer<String> log) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1, was " + capacity);
+        }
+        if (maxLoggedPerSecond < 1) {
+            throw new IllegalArgumentException("The maximum number of failures logged each second must be at least 1, was " + maxLoggedPerSecond);
+        }
+        if (null == log) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("log"));
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxLoggedPerSecond = maxLoggedPerSecond;
+        this.log = log;
+        this.failures = new LongAdder();
+        this.dropped = new LongAdder();
+        this.logged = new LongAdder();
+        this.rateLimited = new LongAdder();
+        this.unformatted = new LongAdder();
+        this.logger = new Thread(this::run, "validity-shadow-logger");
+        this.logger.setDaemon(true);
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) {
+        fail(expected, subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        record(expected, subject, messageSupplier, describers);
+    }
+
+    @Override
+    public void failBoolean(ValidationFailure failure,
+                            boolean subject,
+                            Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failByte(ValidationFailure failure,
+                         byte subject,
+                         Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failChar(ValidationFailure failure,
+                         char subject,
+                         Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failShort(ValidationFailure failure,
+                          short subject,
+                          Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failInt(ValidationFailure failure,
+                        int subject,
+                        Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failLong(ValidationFailure failure,
+                         long subject,
+                         Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failFloat(ValidationFailure failure,
+                          float subject,
+                          Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failDouble(ValidationFailure failure,
+                           double subject,
+                           Supplier<String> messageSupplier) {
+        record(checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    /**
+     * @return the number of validations that have failed, whether or not they were logged.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the number of failures that were not logged because the queue was full or
+     * the executor was closed.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of failures that were logged.
+     */
+    public long getLoggedCount() {
+        return logged.sum();
+    }
+
+    /**
+     * @return the number of failures that were not logged because more than the maximum
+     * number of failures were logged in the same second.
+     */
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * @return the number of logged failures whose message could not be formatted, for
+     * instance because describing the subject threw. These are logged without the message
+     * and are also counted as logged.
+     */
+    public long getUnformattedCount() {
+        return unformatted.sum();
+    }
+
+    /**
+     * @return true if {@link #close()} has been called.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stop the background thread once it has handled the failures that are already queued,
+     * waiting for it to finish. Failures after this are dropped. If the calling thread is
+     * interrupted while waiting it keeps waiting and its interrupt status is set again
+     * before this returns.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        boolean interrupted = false;
+        while (true) {
+            try {
+                logger.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        // Failures offered while the background thread was ending are dropped rather than
+        // left in the queue. The validating threads drop any that are offered after this.
+        while (null != queue.poll()) {
+            dropped.increment();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(Object expected,
+                        Object subject,
+                        Supplier<String> messageSupplier,
+                        Describers describers) {
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        failures.increment();
+        Failure failure = new Failure(expected, subject, messageSupplier, describers);
+        if (closed || !queue.offer(failure)) {
+            dropped.increment();
+        } else if (closed && queue.remove(failure)) {
+            // The executor was closed while this was offered and nothing will take it from the
+            // queue any more. Whichever of this, the background thread, or close() takes it out
+            // of the queue counts it, so it is counted exactly once.
+            dropped.increment();
+        }
+    }
+
+    /*
+     * The background thread wakes up at least every POLL_MILLIS so that the number of
+     * rate limited failures is logged soon after each second ends and so that it sees
+     * when it is closed. It is never interrupted, as that could break a log handler's I/O,
+     * so once closed it drains the queue without waiting and ends.
+     */
+
+    private void run() {
+        long windowStart = System.nanoTime();
+        int loggedInWindow = 0;
+        int skippedInWindow = 0;
+        while (true) {
+            Failure failure;
+            try {
+                failure = closed ? queue.poll() : queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            long now = System.nanoTime();
+            if (now - windowStart >= SECOND_NANOS) {
+                skippedInWindow = logSkipped(skippedInWindow);
+                windowStart = now;
+                loggedInWindow = 0;
+            }
+            if (null == failure) {
+                if (closed) {
+                    logSkipped(skippedInWindow);
+                    return;
+                }
+                continue;
+            }
+            if (loggedInWindow < maxLoggedPerSecond) {
+                loggedInWindow++;
+                logged.increment();
+                log(format(failure));
+            } else {
+                skippedInWindow++;
+                rateLimited.increment();
+            }
+        }
+    }
+
+    private int logSkipped(int skipped) {
+        if (skipped > 0) {
+            log(skipped + " shadow validation failures were not logged, more than " + maxLoggedPerSecond + " failed within a second");
+        }
+        return 0;
+    }
+
+    private String format(Failure failure) {
+        try {
+            return failure.format();
+        } catch (Throwable t) {
+            // A subject whose toString() or describer throws, even an Error, must not stop the
+            // background thread
+            unformatted.increment();
+            String cause;
+            try {
+                cause = String.valueOf(t);
+            } catch (Throwable ignored) {
+                cause = t.getClass().getName();
+            }
+            return "Shadow validation failed but its message could not be formatted: " + cause;
+        }
+    }
+
+    private void log(String message) {
+        try {
+            log.accept(message);
+        } catch (Throwable t) {
+            // A broken log consumer must not stop the background thread
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * The expected condition is either a String or, for primitive verifiers, a
+     * ValidationFailure that is only rendered on the background thread.
+     */
+
+    private static final class Failure {
+
+        private final Object expected;
+        private final Object subject;
+        private final Supplier<String> messageSupplier;
+        private final Describers describers;
+
+        private Failure(Object expected,
+                        Object subject,
+                        Supplier<String> messageSupplier,
+                        Describers describers) {
+            this.expected = expected;
+            this.subject = subject;
+            this.messageSupplier = messageSupplier;
+            this.describers = describers;
+        }
+
+        private String format() {
+            String description = (expected instanceof ValidationFailure)
+                    ? ((ValidationFailure) expected).getExpected()
+                    : (String) expected;
+            return "Shadow validation failed: " + ValidityUtils.formatFailure(description, subject, messageSupplier, describers);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link FailedValidationExecutor} for validations whose failures are caught and handled
+ * without reading their stack traces, e.g. rejecting and counting malformed input. The
+ * throwable function should create throwables that do not capture a stack trace, such as
+ * {@link StacklessIllegalArgumentException}, and since there are no frames the stack trace
+ * is not trimmed.
+ * <p>
+ * In preallocated mode a throwable is created once for each expected description and
+ * thrown again on every later failure with that description, so a failure costs no more
+ * than a map lookup. The message of a preallocated throwable does not describe the subject,
+ * and the same instance may be thrown by several threads and call sites at once, so it should
+ * only be caught and never modified. Only throwable functions that create throwables without
+ * a stack trace may preallocate, otherwise the stack trace of the first failure would be
+ * reported for every later one. The stackless exceptions cannot turn off suppression, as
+ * their super classes have no constructor for it, so a preallocated throwable that has had
+ * suppressed throwables added to it (e.g. by a try-with-resources statement whose resource
+ * failed to close) is replaced by a new one instead of being thrown again. Failures with a
+ * custom message, and failures once {@value #MAX_PREALLOCATED} descriptions have been seen,
+ * get a new throwable.
+ *
+ * @param <X> the type of {@link Throwable} the {@link #fail(String, Object, Supplier)} method
+ *            will throw.
+ */
+public final class StacklessFailedValidationExecutor<X extends Throwable>
+        implements FailedValidationExecutor<X> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * The maximum number of expected descriptions that get a preallocated throwable.
+     */
+    public static final int MAX_PREALLOCATED = 1024;
+
+    private static final String PREALLOCATED_SUBJECT = "not described for a preallocated failure";
+    private static final String PROBE_MESSAGE = "probe";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final Function<String, X> throwableFunction;
+    private final ConcurrentMap<String, X> preallocated;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link StacklessFailedValidationExecutor} instance that creates a new
+     * throwable for every failure.
+     *
+     * @param throwableFunction the function that takes in a String and returns a throwable
+     *                          of the correct type.
+     *                          May not be null.
+     *                          Should never return a null throwable.
+     *
+     * @throws NullPointerException if throwableFunction is null or if throwableFunction ever
+     *                              returns a null {@link Throwable}.
+     */
+    public StacklessFailedValidationExecutor(Function<String, X> throwableFunction) {
+        this(throwableFunction, false);
+    }
+
+    /**
+     * Create a new {@link StacklessFailedValidationExecutor} instance with the given values.
+     *
+     * @param throwableFunction the function that takes in a String and returns a throwable
+     *                          of the correct type.
+     *                          May not be null.
+     *                          Should never return a null throwable.
+     *                          If preallocate is true it is called once here and must create
+     *                          throwables without a stack trace.
+     * @param preallocate       true if a throwable should be created once for each expected
+     *                          description and then re-thrown, false if every failure should
+     *                          get a new throwable.
+     *
+     * @throws NullPointerException     if throwableFunction is null or if throwableFunction ever
+     *                                  returns a null {@link Throwable}.
+     * @throws IllegalArgumentException if preallocate is true and throwableFunction creates
+     *                                  throwables with a stack trace.
+     */
+    public StacklessFailedValidationExecutor(Function<String, X> throwableFunction,
+                                             boolean preallocate) {
+        if (null == throwableFunction) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("throwableFunction"));
+        }
+        this.throwableFunction = throwableFunction;
+        if (preallocate && !isStackless(create(PROBE_MESSAGE))) {
+            throw new IllegalArgumentException("Only a throwable function that creates throwables without a stack trace can be preallocated");
+        }
+        this.preallocated = preallocate ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * @return true if this executor re-throws preallocated throwables.
+     */
+    public boolean isPreallocating() {
+        return null != preallocated;
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) throws X {
+        fail(expected, subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) throws X {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        String message = messageSupplier.get();
+        if (null != preallocated && null == message) {
+            X throwable = preallocated.get(expected);
+            if (null != throwable && 0 != throwable.getSuppressed().length) {
+                // Someone added suppressed throwables to the shared instance, so stop sharing it
+                preallocated.remove(expected, throwable);
+                throwable = null;
+            }
+            if (null == throwable && preallocated.size() < MAX_PREALLOCATED) {
+                throwable = preallocated.computeIfAbsent(expected, this::preallocate);
+            }
+            if (null != throwable) {
+                throw throwable;
+            }
+        }
+        throw create(ValidityUtils.failureMessage(message, expected, describers.describe(subject)));
+    }
+
+    private X preallocate(String expected) {
+        X throwable = create(ValidityUtils.failureMessage(null, expected, PREALLOCATED_SUBJECT));
+        // Returning null leaves the description without a preallocated throwable
+        return isStackless(throwable) ? throwable : null;
+    }
+
+    private static boolean isStackless(Throwable throwable) {
+        return 0 == throwable.getStackTrace().length;
+    }
+
+    private X create(String message) {
+        X throwable = throwableFunction.apply(message);
+        if (null == throwable) {
+            throw new NullPointerException(ValidityUtils.nullThrowableFromFunction());
+        }
+        return throwable;
+    }
+}
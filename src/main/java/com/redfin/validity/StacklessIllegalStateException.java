@@ -0,0 +1,60 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * An {@link IllegalStateException} that does not capture a stack trace. Capturing the stack
+ * is most of the cost of creating a throwable, so this is meant for failures that are
+ * caught and handled without ever looking at where they came from. These are the
+ * throwables of {@link Validity#expectFast()}.
+ * <p>
+ * {@link IllegalStateException} does not have the constructor that turns off a writable stack
+ * trace, so this class overrides {@link #fillInStackTrace()} to do nothing instead. The
+ * stack trace is empty unless one is set with {@link #setStackTrace(StackTraceElement[])}.
+ * For the same reason suppression cannot be turned off, so a try-with-resources statement
+ * can still add suppressed throwables to an instance. Preallocated instances are shared by
+ * every thread and call site, so do not add suppressed throwables to them; the
+ * {@link StacklessFailedValidationExecutor} stops re-throwing one that has any.
+ */
+public class StacklessIllegalStateException extends IllegalStateException {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final long serialVersionUID = 1L;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link StacklessIllegalStateException} instance with the given message
+     * and no cause. As the cause is set it cannot be initialized later.
+     *
+     * @param message the String message of the throwable.
+     *                May be null.
+     */
+    public StacklessIllegalStateException(String message) {
+        super(message, null);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
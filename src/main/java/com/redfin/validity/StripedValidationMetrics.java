@@ -0,0 +1,232 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link ValidationMetrics} implementation that keeps a count of the checks and
+ * failures for each verifier class and method. The counts are kept in {@link LongAdder}s
+ * which are striped across cores so that threads validating at the same time do not
+ * contend on a single counter. The counts are only read when asked for, so reads are
+ * not a consistent snapshot of every counter while validations are in progress.
+ */
+public final class StripedValidationMetrics implements ValidationMetrics {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * The ClassValue is the fast path for looking up the counters of a verifier class,
+     * the map keeps track of every class seen so that the counts can be iterated over.
+     */
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Counters>> counters = new ConcurrentHashMap<>();
+    private final ClassValue<ConcurrentMap<String, Counters>> countersByClass = new ClassValue<ConcurrentMap<String, Counters>>() {
+        @Override
+        protected ConcurrentMap<String, Counters> computeValue(Class<?> type) {
+            return counters.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        }
+    };
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Override
+    public void recordCheck(Class<?> verifierClass, String check) {
+        counters(verifierClass, check).checks.increment();
+    }
+
+    /**
+     * Record the given number of checks at once, e.g. when only a sample of the checks is recorded.
+     *
+     * @param verifierClass the class of the verifier the method was called on.
+     * @param check         the name of the verifier method that was called.
+     * @param count         the number of checks to record.
+     */
+    void recordChecks(Class<?> verifierClass, String check, long count) {
+        counters(verifierClass, check).checks.add(count);
+    }
+
+    @Override
+    public void recordFailure(Class<?> verifierClass, String check) {
+        counters(verifierClass, check).failures.increment();
+    }
+
+    /**
+     * @param verifierClass the verifier class.
+     *                      May not be null.
+     * @param check         the name of the verifier method.
+     *                      May not be null.
+     *
+     * @return the number of times the given verifier method has been called.
+     *
+     * @throws NullPointerException if verifierClass or check are null.
+     */
+    public long getChecks(Class<?> verifierClass, String check) {
+        Counters found = find(verifierClass, check);
+        return (null == found) ? 0 : found.checks.sum();
+    }
+
+    /**
+     * @param verifierClass the verifier class.
+     *                      May not be null.
+     * @param check         the name of the verifier method.
+     *                      May not be null.
+     *
+     * @return the number of times the given verifier method has failed.
+     *
+     * @throws NullPointerException if verifierClass or check are null.
+     */
+    public long getFailures(Class<?> verifierClass, String check) {
+        Counters found = find(verifierClass, check);
+        return (null == found) ? 0 : found.failures.sum();
+    }
+
+    /**
+     * @param verifierClass the verifier class.
+     *                      May not be null.
+     * @param check         the name of the verifier method.
+     *                      May not be null.
+     *
+     * @return the number of times the given verifier method has passed.
+     *
+     * @throws NullPointerException if verifierClass or check are null.
+     */
+    public long getPasses(Class<?> verifierClass, String check) {
+        Counters found = find(verifierClass, check);
+        return (null == found) ? 0 : found.passes();
+    }
+
+    /**
+     * @return the number of checks recorded for every verifier method.
+     */
+    public long getTotalChecks() {
+        return total(counters -> counters.checks.sum());
+    }
+
+    /**
+     * @return the number of failures recorded for every verifier method.
+     */
+    public long getTotalFailures() {
+        return total(counters -> counters.failures.sum());
+    }
+
+    /**
+     * @return a sorted map of the check counts of every verifier method that has been
+     * called at least once keyed by the verifier class name and method name separated
+     * by a '#' (e.g. "com.redfin.validity.verifiers.objects.VerifiableString#isNotEmpty").
+     */
+    public SortedMap<String, Long> getCheckCounts() {
+        return snapshot(counters -> counters.checks.sum());
+    }
+
+    /**
+     * @return a sorted map of the failure counts of every verifier method that has been
+     * called at least once keyed the same way as {@link #getCheckCounts()}.
+     */
+    public SortedMap<String, Long> getFailureCounts() {
+        return snapshot(counters -> counters.failures.sum());
+    }
+
+    /**
+     * @return a sorted map of the pass counts of every verifier method that has been
+     * called at least once keyed the same way as {@link #getCheckCounts()}.
+     */
+    public SortedMap<String, Long> getPassCounts() {
+        return snapshot(Counters::passes);
+    }
+
+    /**
+     * Set all of the recorded counts back to zero. Validations that are in progress
+     * while this is called may or may not be counted.
+     */
+    public void reset() {
+        for (ConcurrentMap<String, Counters> byCheck : counters.values()) {
+            for (Counters found : byCheck.values()) {
+                found.checks.reset();
+                found.failures.reset();
+            }
+        }
+    }
+
+    private Counters counters(Class<?> verifierClass, String check) {
+        ConcurrentMap<String, Counters> byCheck = countersByClass.get(verifierClass);
+        // Try a plain get first as computeIfAbsent may lock even when the key is present
+        Counters found = byCheck.get(check);
+        if (null == found) {
+            found = byCheck.computeIfAbsent(check, key -> new Counters());
+        }
+        return found;
+    }
+
+    private Counters find(Class<?> verifierClass, String check) {
+        if (null == verifierClass) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("verifierClass"));
+        }
+        if (null == check) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("check"));
+        }
+        ConcurrentMap<String, Counters> byCheck = counters.get(verifierClass);
+        return (null == byCheck) ? null : byCheck.get(check);
+    }
+
+    private long total(Function<Counters, Long> count) {
+        long total = 0;
+        for (ConcurrentMap<String, Counters> byCheck : counters.values()) {
+            for (Counters found : byCheck.values()) {
+                total += count.apply(found);
+            }
+        }
+        return total;
+    }
+
+    private SortedMap<String, Long> snapshot(Function<Counters, Long> count) {
+        SortedMap<String, Long> snapshot = new TreeMap<>();
+        for (Map.Entry<Class<?>, ConcurrentMap<String, Counters>> byClass : counters.entrySet()) {
+            for (Map.Entry<String, Counters> byCheck : byClass.getValue().entrySet()) {
+                snapshot.put(byClass.getKey().getName() + "#" + byCheck.getKey(), count.apply(byCheck.getValue()));
+            }
+        }
+        return Collections.unmodifiableSortedMap(snapshot);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final class Counters {
+
+        private final LongAdder checks = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private long passes() {
+            // Read the failures first as every failure is recorded after its check
+            long failed = failures.sum();
+            return Math.max(0, checks.sum() - failed);
+        }
+    }
+}
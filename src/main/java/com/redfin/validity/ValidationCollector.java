@@ -0,0 +1,306 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link FailedValidationExecutor} that collects every failed validation instead of
+ * throwing. It is used by the verifiers of {@link Validity#collect(ValidationCollector)}
+ * so that all of the fields of e.g. a request can be validated in one pass and every
+ * failure reported at once, with at most one throwable created at the end.
+ * <p>
+ * The failures are kept in arrays that are allocated up front and only grow if there are
+ * more failures than the initial capacity, and their messages are only formatted when
+ * {@link #getMessages()} or {@link #throwIfInvalid()} are called. A verifier that fails still
+ * returns its subject, so callers should not use the subjects until the collector is checked.
+ * <p>
+ * A collector is meant to be re-used by calling {@link #reset()} between validations, which keeps
+ * its buffers. It is not thread safe and should not be shared between threads.
+ */
+public final class ValidationCollector
+        implements FailedValidationExecutor<RuntimeException> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * The number of failures a collector created with the no-argument constructor
+     * can hold before it grows its buffers.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * A failure either has an expected String or, for primitive verifiers, a
+     * ValidationFailure that renders it, so only one of the two is set per index.
+     */
+
+    private int size;
+    private String[] expected;
+    private ValidationFailure[] failures;
+    private Object[] subjects;
+    private Supplier<?>[] messageSuppliers;
+    private Describers[] describers;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link ValidationCollector} with room for {@value #DEFAULT_CAPACITY} failures.
+     */
+    public ValidationCollector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new {@link ValidationCollector} with room for the given number of failures.
+     *
+     * @param initialCapacity the number of failures to allocate room for up front.
+     *                        Must be at least 1.
+     *
+     * @throws IllegalArgumentException if initialCapacity is less than 1.
+     */
+    public ValidationCollector(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity must be at least 1 but was " + initialCapacity);
+        }
+        this.expected = new String[initialCapacity];
+        this.failures = new ValidationFailure[initialCapacity];
+        this.subjects = new Object[initialCapacity];
+        this.messageSuppliers = new Supplier<?>[initialCapacity];
+        this.describers = new Describers[initialCapacity];
+    }
+
+    /**
+     * Collects the failure. This never throws a {@link RuntimeException} for a failed validation.
+     *
+     * @throws NullPointerException if expected or messageSupplier are null.
+     */
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) {
+        fail(expected, subject, messageSupplier, Describers.defaults());
+    }
+
+    /**
+     * Collects the failure. This never throws a {@link RuntimeException} for a failed validation.
+     *
+     * @throws NullPointerException if expected, messageSupplier, or describers are null.
+     */
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        add(expected, null, subject, messageSupplier, describers);
+    }
+
+    @Override
+    public void failBoolean(ValidationFailure failure,
+                            boolean subject,
+                            Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failByte(ValidationFailure failure,
+                         byte subject,
+                         Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failChar(ValidationFailure failure,
+                         char subject,
+                         Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failShort(ValidationFailure failure,
+                          short subject,
+                          Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failInt(ValidationFailure failure,
+                        int subject,
+                        Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failLong(ValidationFailure failure,
+                         long subject,
+                         Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failFloat(ValidationFailure failure,
+                          float subject,
+                          Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failDouble(ValidationFailure failure,
+                           double subject,
+                           Supplier<String> messageSupplier) {
+        add(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    /**
+     * @return true if no validation has failed since the collector was created or reset.
+     */
+    public boolean isValid() {
+        return 0 == size;
+    }
+
+    /**
+     * @return the number of validations that have failed since the collector was created or reset.
+     */
+    public int getFailureCount() {
+        return size;
+    }
+
+    /**
+     * @return an unmodifiable list of the messages of every failure, in the order they failed,
+     * formatted the same way as the throwing entry points format them.
+     * The list is empty if no validation has failed.
+     */
+    public List<String> getMessages() {
+        List<String> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(message(i));
+        }
+        return Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} describing every failure if any validation
+     * has failed since the collector was created or reset.
+     *
+     * @throws IllegalArgumentException if any validation has failed.
+     */
+    public void throwIfInvalid() {
+        throwIfInvalid(IllegalArgumentException::new);
+    }
+
+    /**
+     * Throws a single throwable describing every failure if any validation has failed since
+     * the collector was created or reset. Its message starts with the number of failures
+     * followed by the message of each one on the following lines.
+     *
+     * @param throwableFunction the function that takes in the aggregated message and returns
+     *                          a throwable of the correct type.
+     *                          May not be null.
+     *                          Should never return a null throwable.
+     * @param <X>               the type of throwable to throw.
+     *
+     * @throws NullPointerException if throwableFunction is null or returns a null throwable.
+     * @throws X                    if any validation has failed.
+     */
+    public <X extends Throwable> void throwIfInvalid(Function<String, X> throwableFunction) throws X {
+        if (null == throwableFunction) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("throwableFunction"));
+        }
+        if (0 == size) {
+            return;
+        }
+        StringBuilder message = new StringBuilder();
+        message.append(size).append((1 == size) ? " validation failed" : " validations failed");
+        for (int i = 0; i < size; i++) {
+            message.append('\n').append(message(i));
+        }
+        X throwable = throwableFunction.apply(message.toString());
+        if (null == throwable) {
+            throw new NullPointerException(ValidityUtils.nullThrowableFromFunction());
+        }
+        ValidityUtils.trimStackTrace(throwable);
+        throw throwable;
+    }
+
+    /**
+     * Forget the collected failures so that the collector can be used for another validation.
+     * The buffers are kept at their current size.
+     */
+    public void reset() {
+        Arrays.fill(expected, 0, size, null);
+        Arrays.fill(failures, 0, size, null);
+        Arrays.fill(subjects, 0, size, null);
+        Arrays.fill(messageSuppliers, 0, size, null);
+        Arrays.fill(describers, 0, size, null);
+        size = 0;
+    }
+
+    private static ValidationFailure checkFailure(ValidationFailure failure) {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        return failure;
+    }
+
+    private void add(String expected,
+                     ValidationFailure failure,
+                     Object subject,
+                     Supplier<String> messageSupplier,
+                     Describers describers) {
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        if (size == subjects.length) {
+            int capacity = size * 2;
+            this.expected = Arrays.copyOf(this.expected, capacity);
+            this.failures = Arrays.copyOf(this.failures, capacity);
+            this.subjects = Arrays.copyOf(this.subjects, capacity);
+            this.messageSuppliers = Arrays.copyOf(this.messageSuppliers, capacity);
+            this.describers = Arrays.copyOf(this.describers, capacity);
+        }
+        this.expected[size] = expected;
+        this.failures[size] = failure;
+        this.subjects[size] = subject;
+        this.messageSuppliers[size] = messageSupplier;
+        this.describers[size] = describers;
+        size++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String message(int index) {
+        String description = (null == expected[index]) ? failures[index].getExpected() : expected[index];
+        return ValidityUtils.formatFailure(description, subjects[index], (Supplier<String>) messageSuppliers[index], describers[index]);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Describes what a primitive verifier expected of a subject that failed validation
+ * without formatting it into a String. A failure either compares the subject to an
+ * operand with an {@link Operator}, e.g. {@code t -> t > 5}, or is described by a
+ * fixed String, e.g. {@code t -> t == 0}. {@link FailedValidationExecutor}s that only
+ * count or log failures can read the operator and operand directly, and the expected
+ * String is only created when {@link #getExpected()} is called.
+ */
+public final class ValidationFailure {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String COMPARISON_PREFIX = "t -> t ";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final Operator operator;
+    private final OperandType operandType;
+    private final long longOperand;
+    private final double doubleOperand;
+    private final String description;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link ValidationFailure} instance that is described by the given String.
+     *
+     * @param expected the String description of the expected value.
+     *                 May not be null.
+     *
+     * @throws NullPointerException if expected is null.
+     */
+    public ValidationFailure(String expected) {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        this.operator = Operator.DESCRIBED;
+        this.operandType = OperandType.NONE;
+        this.longOperand = 0;
+        this.doubleOperand = 0;
+        this.description = expected;
+    }
+
+    /**
+     * Create a new {@link ValidationFailure} instance that compares the subject to
+     * an integral (byte, short, int, or long) operand.
+     *
+     * @param operator the {@link Operator} the subject was compared with.
+     *                 May not be null or {@link Operator#DESCRIBED}.
+     * @param operand  the operand the subject was compared to.
+     *
+     * @throws NullPointerException     if operator is null.
+     * @throws IllegalArgumentException if operator is {@link Operator#DESCRIBED}.
+     */
+    public ValidationFailure(Operator operator, long operand) {
+        this(operator, OperandType.LONG, operand, 0);
+    }
+
+    /**
+     * Create a new {@link ValidationFailure} instance that compares the subject to
+     * a char operand.
+     *
+     * @param operator the {@link Operator} the subject was compared with.
+     *                 May not be null or {@link Operator#DESCRIBED}.
+     * @param operand  the operand the subject was compared to.
+     *
+     * @throws NullPointerException     if operator is null.
+     * @throws IllegalArgumentException if operator is {@link Operator#DESCRIBED}.
+     */
+    public ValidationFailure(Operator operator, char operand) {
+        this(operator, OperandType.CHAR, operand, 0);
+    }
+
+    /**
+     * Create a new {@link ValidationFailure} instance that compares the subject to
+     * a float operand.
+     *
+     * @param operator the {@link Operator} the subject was compared with.
+     *                 May not be null or {@link Operator#DESCRIBED}.
+     * @param operand  the operand the subject was compared to.
+     *
+     * @throws NullPointerException     if operator is null.
+     * @throws IllegalArgumentException if operator is {@link Operator#DESCRIBED}.
+     */
+    public ValidationFailure(Operator operator, float operand) {
+        this(operator, OperandType.FLOAT, 0, operand);
+    }
+
+    /**
+     * Create a new {@link ValidationFailure} instance that compares the subject to
+     * a double operand.
+     *
+     * @param operator the {@link Operator} the subject was compared with.
+     *                 May not be null or {@link Operator#DESCRIBED}.
+     * @param operand  the operand the subject was compared to.
+     *
+     * @throws NullPointerException     if operator is null.
+     * @throws IllegalArgumentException if operator is {@link Operator#DESCRIBED}.
+     */
+    public ValidationFailure(Operator operator, double operand) {
+        this(operator, OperandType.DOUBLE, 0, operand);
+    }
+
+    private ValidationFailure(Operator operator,
+                              OperandType operandType,
+                              long longOperand,
+                              double doubleOperand) {
+        if (null == operator) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("operator"));
+        }
+        if (Operator.DESCRIBED == operator) {
+            throw new IllegalArgumentException("A described failure has no operand");
+        }
+        this.operator = operator;
+        this.operandType = operandType;
+        this.longOperand = longOperand;
+        this.doubleOperand = doubleOperand;
+        this.description = null;
+    }
+
+    /**
+     * @return the {@link Operator} the subject was compared with, or {@link Operator#DESCRIBED}
+     * if the failure is described by a String.
+     */
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return the type of the operand, {@link OperandType#NONE} for a described failure.
+     */
+    public OperandType getOperandType() {
+        return operandType;
+    }
+
+    /**
+     * @return the operand of an integral or char comparison, otherwise 0.
+     */
+    public long getLongOperand() {
+        return longOperand;
+    }
+
+    /**
+     * @return the operand of a float or double comparison, otherwise 0.
+     */
+    public double getDoubleOperand() {
+        return doubleOperand;
+    }
+
+    /**
+     * @return the String description of the expected value, e.g. {@code t -> t > 5}.
+     * A new String is created for each call of a comparison failure.
+     */
+    public String getExpected() {
+        switch (operandType) {
+            case LONG:
+                return COMPARISON_PREFIX + operator.symbol + " " + longOperand;
+            case CHAR:
+                return COMPARISON_PREFIX + operator.symbol + " " + (char) longOperand;
+            case FLOAT:
+                return COMPARISON_PREFIX + operator.symbol + " " + (float) doubleOperand;
+            case DOUBLE:
+                return COMPARISON_PREFIX + operator.symbol + " " + doubleOperand;
+            default:
+                return description;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getExpected();
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * The comparison of the subject to the operand that was expected to hold.
+     */
+    public enum Operator {
+
+        EQUAL_TO("=="),
+        NOT_EQUAL_TO("!="),
+        GREATER_THAN(">"),
+        GREATER_THAN_OR_EQUAL_TO(">="),
+        LESS_THAN("<"),
+        LESS_THAN_OR_EQUAL_TO("<="),
+        /**
+         * The failure has no operand and is described by a String instead.
+         */
+        DESCRIBED(null);
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * @return the Java operator of the comparison, e.g. {@code >=}, or null for
+         * {@link #DESCRIBED}.
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+    }
+
+    /**
+     * The type of the operand of a comparison. Byte, short, int, and long operands are
+     * all {@link #LONG}.
+     */
+    public enum OperandType {
+        NONE,
+        LONG,
+        CHAR,
+        FLOAT,
+        DOUBLE
+    }
+}
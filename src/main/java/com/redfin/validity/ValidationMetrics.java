@@ -0,0 +1,80 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * An optional hook that a verifiable factory can be configured with (see
+ * {@link AbstractVerifiableFactory#withMetrics(ValidationMetrics)}) in order to
+ * record how often each verifier method is called and how often it fails. The
+ * verifiers call it on every validation so implementations must be thread safe
+ * and should be as cheap as possible. When a factory has no metrics configured
+ * the verifiers skip the calls entirely.
+ *
+ * @see StripedValidationMetrics
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Called once for each call of a verifier method, before the subject is tested.
+     *
+     * @param verifierClass the class of the verifier the method was called on.
+     *                      Will not be null.
+     * @param check         the name of the verifier method that was called (e.g. "isNotEmpty").
+     *                      Will not be null.
+     */
+    void recordCheck(Class<?> verifierClass, String check);
+
+    /**
+     * Called once for each call of a verifier method where the subject failed the
+     * validation, before the {@link FailedValidationExecutor} is called.
+     *
+     * @param verifierClass the class of the verifier the method was called on.
+     *                      Will not be null.
+     * @param check         the name of the verifier method that failed.
+     *                      Will not be null.
+     */
+    void recordFailure(Class<?> verifierClass, String check);
+
+    /**
+     * Called before a predicate given to a {@code satisfies} method is tested to decide
+     * whether its execution time should be measured and passed to
+     * {@link #recordPredicateTime(Class, Object, long)}. Implementations can return true
+     * for only a sample of the calls to keep the cost of reading the clock down.
+     *
+     * @return true if this predicate execution should be timed.
+     * The default implementation always returns false.
+     */
+    default boolean shouldTimePredicate() {
+        return false;
+    }
+
+    /**
+     * Called after a predicate given to a {@code satisfies} method has been tested, if
+     * {@link #shouldTimePredicate()} returned true for that call. Not called if the
+     * predicate threw. The default implementation does nothing.
+     *
+     * @param verifierClass the class of the verifier the predicate was tested by.
+     *                      Will not be null.
+     * @param predicate     the predicate that was tested (e.g. a {@link java.util.function.Predicate}
+     *                      or {@link java.util.function.IntPredicate}).
+     *                      Will not be null.
+     * @param nanos         the time the predicate took, in nanoseconds.
+     */
+    default void recordPredicateTime(Class<?> verifierClass, Object predicate, long nanos) {
+        // Predicate times are not recorded by default
+    }
+}
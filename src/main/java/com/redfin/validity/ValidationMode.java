@@ -0,0 +1,187 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Whether the checks of a factory are made on every call, on a sample of the calls, or
+ * never. The {@link ValidationModes} map package prefixes to modes so that, like the
+ * {@code -ea:package} option of the JVM, different code can be validated differently.
+ * It is immutable and safe to share between threads.
+ */
+public final class ValidationMode {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Every call is checked.
+     */
+    public static final ValidationMode ENABLED = new ValidationMode(1, 1);
+
+    /**
+     * No call is checked, see {@link AbstractVerifiableFactory#disabled()}.
+     */
+    public static final ValidationMode DISABLED = new ValidationMode(0, 1);
+
+    private static final String ENABLED_NAME = "enabled";
+    private static final String DISABLED_NAME = "disabled";
+    private static final String SAMPLED_PREFIX = "sampled:";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final int checked;
+    private final int outOf;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param checked the number of calls out of every outOf calls that should be checked.
+     *                Must be at least 1.
+     * @param outOf   the number of calls that checked is taken from.
+     *                Must be at least checked.
+     *
+     * @return the mode that checks the given share of the calls, see
+     * {@link AbstractVerifiableFactory#sampled(int, int)}. It is {@link #ENABLED} if
+     * checked equals outOf.
+     *
+     * @throws IllegalArgumentException if checked is less than 1 or outOf is less than checked.
+     */
+    public static ValidationMode sampled(int checked, int outOf) {
+        if (checked < 1) {
+            throw new IllegalArgumentException("The number of checked calls must be at least 1, was " + checked);
+        }
+        if (outOf < checked) {
+            throw new IllegalArgumentException("The number of calls must be at least the number of checked calls, was " + outOf);
+        }
+        return (checked == outOf) ? ENABLED : new ValidationMode(checked, outOf);
+    }
+
+    /**
+     * @param mode the String form of a mode, as returned by {@link #toString()}: "enabled",
+     *             "disabled", or "sampled:checked/outOf" (e.g. "sampled:1/100").
+     *             May not be null.
+     *
+     * @return the mode of the given String.
+     *
+     * @throws NullPointerException     if mode is null.
+     * @throws IllegalArgumentException if mode is not the String form of a mode.
+     */
+    public static ValidationMode parse(String mode) {
+        if (null == mode) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("mode"));
+        }
+        String trimmed = mode.trim();
+        if (ENABLED_NAME.equals(trimmed)) {
+            return ENABLED;
+        }
+        if (DISABLED_NAME.equals(trimmed)) {
+            return DISABLED;
+        }
+        if (trimmed.startsWith(SAMPLED_PREFIX)) {
+            String rate = trimmed.substring(SAMPLED_PREFIX.length());
+            int slash = rate.indexOf('/');
+            if (slash > 0) {
+                try {
+                    return sampled(Integer.parseInt(rate.substring(0, slash).trim()),
+                                   Integer.parseInt(rate.substring(slash + 1).trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid sampling rate in validation mode: " + mode, e);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown validation mode, expected enabled, disabled, or sampled:checked/outOf but was: " + mode);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ValidationMode(int checked, int outOf) {
+        this.checked = checked;
+        this.outOf = outOf;
+    }
+
+    /**
+     * @return the number of calls out of every {@link #getOutOf()} calls that are checked.
+     */
+    public int getChecked() {
+        return checked;
+    }
+
+    /**
+     * @return the number of calls {@link #getChecked()} is taken from.
+     */
+    public int getOutOf() {
+        return outOf;
+    }
+
+    /**
+     * @param factory the verifiable factory to apply this mode to.
+     *                May not be null.
+     * @param <F>     the type of the verifiable factory.
+     *
+     * @return the given factory if this mode is {@link #ENABLED}, otherwise a factory with
+     * the same message, executor, and metrics that checks the calls of this mode.
+     *
+     * @throws NullPointerException if factory is null.
+     */
+    public <F extends AbstractVerifiableFactory<?, F>> F apply(F factory) {
+        if (null == factory) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("factory"));
+        }
+        if (0 == checked) {
+            return factory.disabled();
+        }
+        if (checked == outOf) {
+            return factory;
+        }
+        return factory.sampled(checked, outOf);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ValidationMode)) {
+            return false;
+        }
+        ValidationMode other = (ValidationMode) obj;
+        return checked == other.checked && outOf == other.outOf;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * checked + outOf;
+    }
+
+    @Override
+    public String toString() {
+        if (0 == checked) {
+            return DISABLED_NAME;
+        }
+        if (checked == outOf) {
+            return ENABLED_NAME;
+        }
+        return SAMPLED_PREFIX + checked + "/" + outOf;
+    }
+}
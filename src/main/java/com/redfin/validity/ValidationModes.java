@@ -0,0 +1,187 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps package prefixes to the {@link ValidationMode} of the code in them, like the
+ * {@code -ea:package} option of the JVM does for assertions. A prefix matches a class
+ * if it is the name of the class, of one of its packages, or of one of its enclosing
+ * classes, and the longest matching prefix wins. Classes without a matching prefix get
+ * the default mode.
+ * <p>
+ * The mode of a class is only resolved the first time it is asked for and is cached in
+ * a {@link ClassValue} after that, so looking it up again does not match any names.
+ * It is immutable and safe to share between threads.
+ */
+public final class ValidationModes {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * A prefix may end with "..." as in -ea:com.example... since every prefix
+     * already matches the packages under it.
+     */
+
+    private static final String PACKAGE_TREE_SUFFIX = "...";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final ValidationMode defaultMode;
+    private final Map<String, ValidationMode> modesByPrefix;
+    private final ClassValue<ValidationMode> modesByClass = new ClassValue<ValidationMode>() {
+        @Override
+        protected ValidationMode computeValue(Class<?> type) {
+            return resolve(type.getName());
+        }
+    };
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param modes a comma separated list of prefix=mode pairs where each mode is in the
+     *              form of {@link ValidationMode#parse(String)}, e.g.
+     *              "com.example.ingest=enabled,com.example.hotloop=sampled:1/100". A
+     *              prefix may end with "..." like the packages given to {@code -ea}.
+     *              May not be null, may be empty for no prefixes.
+     *
+     * @return the modes of the given String with a default mode of {@link ValidationMode#ENABLED}.
+     *
+     * @throws NullPointerException     if modes is null.
+     * @throws IllegalArgumentException if any pair has no prefix, an unknown mode, or a prefix
+     *                                  that was already given.
+     */
+    public static ValidationModes parse(String modes) {
+        if (null == modes) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("modes"));
+        }
+        Map<String, ValidationMode> modesByPrefix = new TreeMap<>();
+        for (String pair : modes.split(",")) {
+            if (pair.trim().isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String prefix = (equals < 0) ? "" : pair.substring(0, equals).trim();
+            if (prefix.endsWith(PACKAGE_TREE_SUFFIX)) {
+                prefix = prefix.substring(0, prefix.length() - PACKAGE_TREE_SUFFIX.length());
+            }
+            if (prefix.isEmpty()) {
+                throw new IllegalArgumentException("Expected a prefix=mode pair but was: " + pair.trim());
+            }
+            if (null != modesByPrefix.put(prefix, ValidationMode.parse(pair.substring(equals + 1)))) {
+                throw new IllegalArgumentException("The validation mode of the prefix " + prefix + " was given more than once");
+            }
+        }
+        return new ValidationModes(ValidationMode.ENABLED, modesByPrefix);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link ValidationModes} instance with the given modes.
+     *
+     * @param defaultMode   the {@link ValidationMode} of classes without a matching prefix.
+     *                      May not be null.
+     * @param modesByPrefix the {@link ValidationMode} of each package or class name prefix.
+     *                      It is copied, so later changes to it have no effect.
+     *                      May not be null or contain null keys or values.
+     *
+     * @throws NullPointerException if defaultMode, modesByPrefix, or any of its keys or values are null.
+     */
+    public ValidationModes(ValidationMode defaultMode, Map<String, ValidationMode> modesByPrefix) {
+        if (null == defaultMode) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("defaultMode"));
+        }
+        if (null == modesByPrefix) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("modesByPrefix"));
+        }
+        Map<String, ValidationMode> copy = new TreeMap<>();
+        for (Map.Entry<String, ValidationMode> entry : modesByPrefix.entrySet()) {
+            if (null == entry.getKey()) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("modesByPrefix key"));
+            }
+            if (null == entry.getValue()) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("modesByPrefix value"));
+            }
+            copy.put(entry.getKey(), entry.getValue());
+        }
+        this.defaultMode = defaultMode;
+        this.modesByPrefix = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * @return the {@link ValidationMode} of classes without a matching prefix.
+     */
+    public ValidationMode getDefaultMode() {
+        return defaultMode;
+    }
+
+    /**
+     * @return an unmodifiable map of the {@link ValidationMode} of each prefix sorted by prefix.
+     */
+    public Map<String, ValidationMode> getModesByPrefix() {
+        return modesByPrefix;
+    }
+
+    /**
+     * @param type the class to get the mode of.
+     *             May not be null.
+     *
+     * @return the {@link ValidationMode} of the longest prefix that matches the given class,
+     * or the default mode if none do.
+     *
+     * @throws NullPointerException if type is null.
+     */
+    public ValidationMode getMode(Class<?> type) {
+        if (null == type) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("type"));
+        }
+        return modesByClass.get(type);
+    }
+
+    private ValidationMode resolve(String className) {
+        // Drop the last package or class name each time so the longest prefix is tried first
+        String name = className;
+        while (true) {
+            ValidationMode mode = modesByPrefix.get(name);
+            if (null != mode) {
+                return mode;
+            }
+            int end = Math.max(name.lastIndexOf('.'), name.lastIndexOf('$'));
+            if (end < 0) {
+                return defaultMode;
+            }
+            name = name.substring(0, end);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationModes(defaultMode=" + defaultMode + ", modesByPrefix=" + modesByPrefix + ")";
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link FailedValidationExecutor} that records a failed validation instead of throwing.
+ * It is used by the verifiers of {@link Validity#check(ValidationResult)} so that the same
+ * checks and descriptions as {@link Validity#validate()} can be used where failures are
+ * expected and common, e.g. filtering out malformed records, without paying for a throwable.
+ * <p>
+ * Only the first failure is kept, so the message describes the same check that the throwing
+ * entry points would have failed on. The message is only formatted when {@link #getMessage()}
+ * is called. A verifier that fails still returns its subject, so callers should check
+ * {@link #isValid()} before using it.
+ * <p>
+ * A result is meant to be re-used for many subjects by calling {@link #reset()} between them.
+ * It is not thread safe and should not be shared between threads.
+ */
+public final class ValidationResult
+        implements FailedValidationExecutor<RuntimeException> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private int failureCount;
+    private String expected;
+    private ValidationFailure failure;
+    private Object subject;
+    private Supplier<String> messageSupplier;
+    private Describers describers;
+    private String message;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Records the failure if it is the first one since the result was created or reset.
+     * This never throws a {@link RuntimeException} for a failed validation.
+     *
+     * @throws NullPointerException if expected or messageSupplier are null.
+     */
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier) {
+        fail(expected, subject, messageSupplier, Describers.defaults());
+    }
+
+    /**
+     * Records the failure if it is the first one since the result was created or reset.
+     * This never throws a {@link RuntimeException} for a failed validation.
+     *
+     * @throws NullPointerException if expected, messageSupplier, or describers are null.
+     */
+    @Override
+    public <T> void fail(String expected,
+                         T subject,
+                         Supplier<String> messageSupplier,
+                         Describers describers) {
+        if (null == expected) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+        }
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        record(expected, null, subject, messageSupplier, describers);
+    }
+
+    @Override
+    public void failBoolean(ValidationFailure failure,
+                            boolean subject,
+                            Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failByte(ValidationFailure failure,
+                         byte subject,
+                         Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failChar(ValidationFailure failure,
+                         char subject,
+                         Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failShort(ValidationFailure failure,
+                          short subject,
+                          Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failInt(ValidationFailure failure,
+                        int subject,
+                        Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failLong(ValidationFailure failure,
+                         long subject,
+                         Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failFloat(ValidationFailure failure,
+                          float subject,
+                          Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    @Override
+    public void failDouble(ValidationFailure failure,
+                           double subject,
+                           Supplier<String> messageSupplier) {
+        record(null, checkFailure(failure), subject, messageSupplier, Describers.defaults());
+    }
+
+    /**
+     * @return true if no validation has failed since the result was created or reset.
+     */
+    public boolean isValid() {
+        return 0 == failureCount;
+    }
+
+    /**
+     * @return the number of validations that have failed since the result was created or reset,
+     * up to {@link Integer#MAX_VALUE}.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the String representation of the expected condition of the first failure
+     * or null if no validation has failed.
+     */
+    public String getExpected() {
+        if (null == expected && null != failure) {
+            expected = failure.getExpected();
+        }
+        return expected;
+    }
+
+    /**
+     * @return the subject of the first failure or null if no validation has failed.
+     */
+    public Object getSubject() {
+        return subject;
+    }
+
+    /**
+     * @return the message that the throwing entry points would have used for the first
+     * failure or null if no validation has failed.
+     */
+    public String getMessage() {
+        if (null == message && !isValid()) {
+            message = ValidityUtils.formatFailure(getExpected(), subject, messageSupplier, describers);
+        }
+        return message;
+    }
+
+    /**
+     * Forget any recorded failure so that the result can be used for another subject.
+     */
+    public void reset() {
+        failureCount = 0;
+        expected = null;
+        failure = null;
+        subject = null;
+        messageSupplier = null;
+        describers = null;
+        message = null;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : getMessage();
+    }
+
+    private static ValidationFailure checkFailure(ValidationFailure failure) {
+        if (null == failure) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+        }
+        return failure;
+    }
+
+    private void record(String expected,
+                        ValidationFailure failure,
+                        Object subject,
+                        Supplier<String> messageSupplier,
+                        Describers describers) {
+        if (null == messageSupplier) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+        }
+        if (0 == failureCount) {
+            this.expected = expected;
+            this.failure = failure;
+            this.subject = subject;
+            this.messageSupplier = messageSupplier;
+            this.describers = describers;
+        }
+        if (failureCount < Integer.MAX_VALUE) {
+            failureCount++;
+        }
+    }
+}
@@ -0,0 +1,549 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ValidationMetrics} implementation that can be registered as an MXBean so that
+ * the validation of a factory can be inspected and adjusted on a running JVM. Give a
+ * factory the statistics with {@link AbstractVerifiableFactory#withMetrics(ValidationMetrics)}
+ * to count its checks and failures, and wrap its {@link FailedValidationExecutor} with
+ * {@link #monitor(String, FailedValidationExecutor, FailedValidationExecutor)} to count failures
+ * per executor and to be able to turn stack traces off. Register one instance per factory
+ * (e.g. "validate" and "expect") to see the counts of each one separately.
+ * <p>
+ * The counts are kept in the striped counters of a {@link StripedValidationMetrics} and
+ * are only summed when the MXBean is read, so polling it never blocks or slows down the
+ * validating threads. The failure rate is kept by the recording side in one counter per
+ * second, so reading it does not change it. The runtime settings are volatile fields that
+ * the validating threads read without locking.
+ */
+public final class ValidationStatistics
+        implements ValidationMetrics, ValidationStatisticsMXBean {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String OBJECT_NAME_PREFIX = "com.redfin.validity:type=ValidationStatistics,name=";
+    private static final int RATE_WINDOW_SECONDS = 10;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int SECOND_SHIFT = 32;
+    private static final long COUNT_MASK = (1L << SECOND_SHIFT) - 1;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final String name;
+    private final ObjectName objectName;
+    private final StripedValidationMetrics counts;
+    private final ConcurrentMap<String, LongAdder> executorFailures;
+    private volatile boolean enabled;
+    private volatile int sampleInterval;
+    private volatile boolean stackTracesEnabled;
+
+    // The failures of the current second and of the complete seconds of the rate window,
+    // each slot holding the second in its high bits and the failure count in its low bits
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private final AtomicLongArray failuresPerSecond;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link ValidationStatistics} instance and register it with the platform
+     * MBean server.
+     *
+     * @param name the name to register the statistics with.
+     *             May not be null.
+     *
+     * @return the registered statistics.
+     *
+     * @throws NullPointerException     if name is null.
+     * @throws IllegalArgumentException if statistics with the given name are already registered.
+     */
+    public static ValidationStatistics register(String name) {
+        ValidationStatistics statistics = new ValidationStatistics(name);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, statistics.objectName);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Unable to register the validation statistics: " + statistics.objectName, e);
+        }
+        return statistics;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link ValidationStatistics} instance that is not registered with
+     * an MBean server. Use {@link #register(String)} to create registered statistics.
+     *
+     * @param name the name of the statistics.
+     *             May not be null.
+     *
+     * @throws NullPointerException if name is null.
+     */
+    public ValidationStatistics(String name) {
+        this(name, System::nanoTime);
+    }
+
+    /**
+     * Create a new {@link ValidationStatistics} instance that reads the time of its failure
+     * rate from the given clock.
+     *
+     * @param name     the name of the statistics.
+     *                 May not be null.
+     * @param nanoTime the clock, in nanoseconds, of the failure rate.
+     *                 May not be null.
+     *
+     * @throws NullPointerException if name or nanoTime are null.
+     */
+    ValidationStatistics(String name,
+                         LongSupplier nanoTime) {
+        if (null == name) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("name"));
+        }
+        if (null == nanoTime) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("nanoTime"));
+        }
+        try {
+            this.objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+        } catch (MalformedObjectNameException e) {
+            // Cannot happen as the name is quoted
+            throw new IllegalArgumentException(e);
+        }
+        this.name = name;
+        this.counts = new StripedValidationMetrics();
+        this.executorFailures = new ConcurrentHashMap<>();
+        this.enabled = true;
+        this.sampleInterval = 1;
+        this.stackTracesEnabled = true;
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+        this.failuresPerSecond = new AtomicLongArray(RATE_WINDOW_SECONDS + 1);
+    }
+
+    /**
+     * @return the name these statistics are, or would be, registered with.
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Unregister these statistics from the platform MBean server. Does nothing if they
+     * are not registered.
+     */
+    public void unregister() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            // Not registered
+        }
+    }
+
+    /**
+     * Wrap the given executor so that the failures it throws are counted under the given
+     * name. The executor always throws what it creates, so {@link #setStackTracesEnabled(boolean)}
+     * has no effect on it. Use {@link #monitor(String, FailedValidationExecutor, FailedValidationExecutor)}
+     * to be able to turn its stack traces off.
+     *
+     * @param executorName the name to count the failures of the executor under.
+     *                     May not be null.
+     * @param executor     the executor to monitor.
+     *                     May not be null.
+     * @param <X>          the type of {@link Throwable} the executor throws.
+     *
+     * @return the monitored executor.
+     *
+     * @throws NullPointerException if executorName or executor are null.
+     */
+    public <X extends Throwable> FailedValidationExecutor<X> monitor(String executorName,
+                                                                     FailedValidationExecutor<X> executor) {
+        return monitor(executorName, executor, executor);
+    }
+
+    /**
+     * Wrap the given executors so that the failures they throw are counted under the given
+     * name. Failures are handed to the executor while stack traces are enabled and to the
+     * stackless executor once they are turned off with {@link #setStackTracesEnabled(boolean)},
+     * so turning them off saves filling them in rather than throwing them away afterwards.
+     *
+     * @param executorName      the name to count the failures of the executors under.
+     *                          May not be null.
+     * @param executor          the executor of the failures while stack traces are enabled.
+     *                          May not be null.
+     * @param stacklessExecutor the executor of the failures while stack traces are disabled
+     *                          (e.g. a {@link StacklessFailedValidationExecutor}).
+     *                          May not be null.
+     * @param <X>               the type of {@link Throwable} the executors throw.
+     *
+     * @return the monitored executor.
+     *
+     * @throws NullPointerException if executorName, executor, or stacklessExecutor are null.
+     */
+    public <X extends Throwable> FailedValidationExecutor<X> monitor(String executorName,
+                                                                     FailedValidationExecutor<X> executor,
+                                                                     FailedValidationExecutor<X> stacklessExecutor) {
+        if (null == executorName) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("executorName"));
+        }
+        if (null == executor) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("executor"));
+        }
+        if (null == stacklessExecutor) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("stacklessExecutor"));
+        }
+        return new MonitoredFailedValidationExecutor<>(this,
+                                                       executorFailures.computeIfAbsent(executorName, key -> new LongAdder()),
+                                                       executor,
+                                                       stacklessExecutor);
+    }
+
+    @Override
+    public void recordCheck(Class<?> verifierClass, String check) {
+        if (enabled) {
+            int interval = sampleInterval;
+            if (1 == interval) {
+                counts.recordCheck(verifierClass, check);
+            } else if (0 == ThreadLocalRandom.current().nextInt(interval)) {
+                counts.recordChecks(verifierClass, check, interval);
+            }
+        }
+    }
+
+    @Override
+    public void recordFailure(Class<?> verifierClass, String check) {
+        if (enabled) {
+            counts.recordFailure(verifierClass, check);
+            recordFailureSecond();
+        }
+    }
+
+    private long currentSecond() {
+        return (nanoTime.getAsLong() - startNanos) / NANOS_PER_SECOND;
+    }
+
+    private void recordFailureSecond() {
+        long second = currentSecond();
+        int slot = (int) (second % failuresPerSecond.length());
+        long stamped = second << SECOND_SHIFT;
+        long current;
+        long updated;
+        do {
+            current = failuresPerSecond.get(slot);
+            // A slot still holding an older second starts counting the current one from zero
+            updated = ((current & ~COUNT_MASK) == stamped) ? current + 1 : stamped + 1;
+        } while (!failuresPerSecond.compareAndSet(slot, current, updated));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getChecks() {
+        return counts.getTotalChecks();
+    }
+
+    @Override
+    public long getFailures() {
+        return counts.getTotalFailures();
+    }
+
+    @Override
+    public double getFailuresPerSecond() {
+        long second = currentSecond();
+        long failures = 0;
+        for (int i = 0; i < failuresPerSecond.length(); i++) {
+            long slot = failuresPerSecond.get(i);
+            long age = second - (slot >>> SECOND_SHIFT);
+            if (age >= 1 && age <= RATE_WINDOW_SECONDS) {
+                failures += slot & COUNT_MASK;
+            }
+        }
+        return (double) failures / RATE_WINDOW_SECONDS;
+    }
+
+    @Override
+    public Map<String, Long> getCheckCounts() {
+        return counts.getCheckCounts();
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        return counts.getFailureCounts();
+    }
+
+    @Override
+    public Map<String, Long> getExecutorFailureCounts() {
+        SortedMap<String, Long> snapshot = new TreeMap<>();
+        executorFailures.forEach((executorName, failures) -> snapshot.put(executorName, failures.sum()));
+        return Collections.unmodifiableSortedMap(snapshot);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    @Override
+    public void setSampleInterval(int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("The sample interval must be strictly positive, was: " + sampleInterval);
+        }
+        this.sampleInterval = sampleInterval;
+    }
+
+    @Override
+    public boolean isStackTracesEnabled() {
+        return stackTracesEnabled;
+    }
+
+    @Override
+    public void setStackTracesEnabled(boolean stackTracesEnabled) {
+        this.stackTracesEnabled = stackTracesEnabled;
+    }
+
+    @Override
+    public void reset() {
+        counts.reset();
+        executorFailures.values().forEach(LongAdder::reset);
+        for (int i = 0; i < failuresPerSecond.length(); i++) {
+            failuresPerSecond.set(i, 0);
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final class MonitoredFailedValidationExecutor<X extends Throwable>
+            implements FailedValidationExecutor<X> {
+
+        private final ValidationStatistics statistics;
+        private final LongAdder failures;
+        private final FailedValidationExecutor<X> delegate;
+        private final FailedValidationExecutor<X> stacklessDelegate;
+
+        private MonitoredFailedValidationExecutor(ValidationStatistics statistics,
+                                                  LongAdder failures,
+                                                  FailedValidationExecutor<X> delegate,
+                                                  FailedValidationExecutor<X> stacklessDelegate) {
+            this.statistics = statistics;
+            this.failures = failures;
+            this.delegate = delegate;
+            this.stacklessDelegate = stacklessDelegate;
+        }
+
+        private FailedValidationExecutor<X> executor() {
+            return statistics.stackTracesEnabled ? delegate : stacklessDelegate;
+        }
+
+        private void countFailure() {
+            if (statistics.enabled) {
+                failures.increment();
+            }
+        }
+
+        private static void requireArguments(ValidationFailure failure,
+                                             Supplier<String> messageSupplier) {
+            if (null == failure) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("failure"));
+            }
+            if (null == messageSupplier) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+            }
+        }
+
+        @Override
+        public <T> void fail(String expected,
+                             T subject,
+                             Supplier<String> messageSupplier) throws X {
+            if (null == expected) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+            }
+            if (null == messageSupplier) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+            }
+            try {
+                executor().fail(expected, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public <T> void fail(String expected,
+                             T subject,
+                             Supplier<String> messageSupplier,
+                             Describers describers) throws X {
+            if (null == expected) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
+            }
+            if (null == messageSupplier) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("messageSupplier"));
+            }
+            if (null == describers) {
+                throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+            }
+            try {
+                executor().fail(expected, subject, messageSupplier, describers);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failBoolean(ValidationFailure failure,
+                                boolean subject,
+                                Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failBoolean(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failByte(ValidationFailure failure,
+                             byte subject,
+                             Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failByte(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failChar(ValidationFailure failure,
+                             char subject,
+                             Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failChar(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failShort(ValidationFailure failure,
+                              short subject,
+                              Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failShort(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failInt(ValidationFailure failure,
+                            int subject,
+                            Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failInt(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failLong(ValidationFailure failure,
+                             long subject,
+                             Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failLong(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failFloat(ValidationFailure failure,
+                              float subject,
+                              Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failFloat(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+
+        @Override
+        public void failDouble(ValidationFailure failure,
+                               double subject,
+                               Supplier<String> messageSupplier) throws X {
+            requireArguments(failure, messageSupplier);
+            try {
+                executor().failDouble(failure, subject, messageSupplier);
+            } catch (Throwable thrown) {
+                countFailure();
+                throw thrown;
+            }
+        }
+    }
+}
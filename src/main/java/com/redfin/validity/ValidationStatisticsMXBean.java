@@ -0,0 +1,104 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link ValidationStatistics}. Registered with the platform
+ * MBean server under {@code com.redfin.validity:type=ValidationStatistics,name=<name>}
+ * so that validation can be inspected and adjusted on a running JVM (e.g. with JConsole).
+ */
+public interface ValidationStatisticsMXBean {
+
+    /**
+     * @return the name the statistics were registered with.
+     */
+    String getName();
+
+    /**
+     * @return the number of verifier method calls. Estimated when the sample interval is more than 1.
+     */
+    long getChecks();
+
+    /**
+     * @return the number of failed verifier method calls.
+     */
+    long getFailures();
+
+    /**
+     * @return the average number of failures per second over the last 10 complete seconds.
+     * Reading it does not change it.
+     */
+    double getFailuresPerSecond();
+
+    /**
+     * @return the check counts keyed by verifier class and method name separated by a '#'.
+     */
+    Map<String, Long> getCheckCounts();
+
+    /**
+     * @return the failure counts keyed by verifier class and method name separated by a '#'.
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * @return the failure counts of each monitored {@link FailedValidationExecutor} keyed by
+     * the name it was monitored with.
+     */
+    Map<String, Long> getExecutorFailureCounts();
+
+    /**
+     * @return true if checks and failures are being counted.
+     */
+    boolean isEnabled();
+
+    /**
+     * @param enabled true to count checks and failures, false to stop counting them.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return the average number of checks per counted check.
+     */
+    int getSampleInterval();
+
+    /**
+     * @param sampleInterval the average number of checks per counted check. 1 counts every
+     *                       check. Failures are always counted.
+     *
+     * @throws IllegalArgumentException if sampleInterval is less than 1.
+     */
+    void setSampleInterval(int sampleInterval);
+
+    /**
+     * @return true if monitored executors hand failures to the executor that keeps stack traces.
+     */
+    boolean isStackTracesEnabled();
+
+    /**
+     * @param stackTracesEnabled false to hand the failures of monitored executors to their
+     *                           stackless executor. Has no effect on executors monitored
+     *                           without one.
+     */
+    void setStackTracesEnabled(boolean stackTracesEnabled);
+
+    /**
+     * Set all of the counts back to zero.
+     */
+    void reset();
+}
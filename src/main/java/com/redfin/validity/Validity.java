@@ -25,6 +25,41 @@ public final class Validity {
     // Constants
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
+    /**
+     * The system property that, when set to "true" at startup, makes {@link #expect()}
+     * and {@link #expectFast()} return pass-through verifiers that never check their subject.
+     * The disabled factory is a sub-class whose verifiers return their subject outright, so
+     * the verifiers of enabled factories do not test whether they are disabled.
+     */
+    public static final String EXPECT_DISABLED_PROPERTY = "com.redfin.validity.expect.disabled";
+
+    /**
+     * The system property that, when set to "true" at startup, makes {@link #validate()}
+     * and {@link #validateFast()} return pass-through verifiers that never check their subject.
+     * The disabled factory is a sub-class whose verifiers return their subject outright, so
+     * the verifiers of enabled factories do not test whether they are disabled.
+     */
+    public static final String VALIDATE_DISABLED_PROPERTY = "com.redfin.validity.validate.disabled";
+
+    /**
+     * The system property that maps package prefixes to the {@link ValidationMode} of the
+     * factories returned by {@link #validate(Class)} and {@link #expect(Class)}, in the form
+     * of {@link ValidationModes#parse(String)}, e.g.
+     * "com.example.ingest=enabled,com.example.hotloop=sampled:1/100,com.example.legacy=disabled".
+     * It is read once at startup.
+     */
+    public static final String MODES_PROPERTY = "com.redfin.validity.modes";
+
+    /*
+     * The properties are only read once and kept in static final fields. Changing them after
+     * this class is initialized has no effect. They only decide which factories the entry
+     * points are created with, so the JIT sees a single factory class behind each of them.
+     */
+
+    private static final boolean EXPECT_DISABLED = Boolean.getBoolean(EXPECT_DISABLED_PROPERTY);
+    private static final boolean VALIDATE_DISABLED = Boolean.getBoolean(VALIDATE_DISABLED_PROPERTY);
+    private static final ValidationModes MODES = ValidationModes.parse(System.getProperty(MODES_PROPERTY, ""));
+
     /*
      * For performance, cache instances of the null message Validity instance.
      * Since it and the default validation executor is thread safe and re-usable,
@@ -36,21 +71,83 @@ public final class Validity {
     private static final FailedValidationExecutor<IllegalStateException> EXPECT_FAILURE;
     private static final ValidityVerifiableFactory NO_MESSAGE_VERIFY_INSTANCE;
     private static final ExpectVerifiableFactory NO_MESSAGE_EXPECT_INSTANCE;
+    private static final ValidityVerifiableFactory NO_MESSAGE_FAST_VERIFY_INSTANCE;
+    private static final ExpectVerifiableFactory NO_MESSAGE_FAST_EXPECT_INSTANCE;
+    private static final ValidityVerifiableFactory NO_MESSAGE_LAZY_VERIFY_INSTANCE;
+    private static final ExpectVerifiableFactory NO_MESSAGE_LAZY_EXPECT_INSTANCE;
 
     static {
-        VERIFY_FAILURE = new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new);
-        NO_MESSAGE_VERIFY_INSTANCE = new ValidityVerifiableFactory(() -> null, VERIFY_FAILURE);
-        EXPECT_FAILURE = new DefaultValidityFailedValidationExecutor<>(IllegalStateException::new);
-        NO_MESSAGE_EXPECT_INSTANCE = new ExpectVerifiableFactory(() -> null, EXPECT_FAILURE);
+        if (VALIDATE_DISABLED) {
+            VERIFY_FAILURE = PassThroughFailedValidationExecutor.getInstance();
+            NO_MESSAGE_VERIFY_INSTANCE = new DisabledValidityVerifiableFactory(() -> null, VerifiableFactoryConfig.defaults());
+            NO_MESSAGE_FAST_VERIFY_INSTANCE = NO_MESSAGE_VERIFY_INSTANCE;
+            NO_MESSAGE_LAZY_VERIFY_INSTANCE = NO_MESSAGE_VERIFY_INSTANCE;
+        } else {
+            VERIFY_FAILURE = new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new);
+            NO_MESSAGE_VERIFY_INSTANCE = new ValidityVerifiableFactory(() -> null, VERIFY_FAILURE);
+            NO_MESSAGE_FAST_VERIFY_INSTANCE = new ValidityVerifiableFactory(() -> null,
+                                                                            new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new));
+            NO_MESSAGE_LAZY_VERIFY_INSTANCE = new ValidityVerifiableFactory(() -> null,
+                                                                            DefaultValidityFailedValidationExecutor.withLazyMessages(ValidityIllegalArgumentException::new));
+        }
+        if (EXPECT_DISABLED) {
+            EXPECT_FAILURE = PassThroughFailedValidationExecutor.getInstance();
+            NO_MESSAGE_EXPECT_INSTANCE = new DisabledExpectVerifiableFactory(() -> null, VerifiableFactoryConfig.defaults());
+            NO_MESSAGE_FAST_EXPECT_INSTANCE = NO_MESSAGE_EXPECT_INSTANCE;
+            NO_MESSAGE_LAZY_EXPECT_INSTANCE = NO_MESSAGE_EXPECT_INSTANCE;
+        } else {
+            EXPECT_FAILURE = new DefaultValidityFailedValidationExecutor<>(IllegalStateException::new);
+            NO_MESSAGE_EXPECT_INSTANCE = new ExpectVerifiableFactory(() -> null, EXPECT_FAILURE);
+            NO_MESSAGE_FAST_EXPECT_INSTANCE = new ExpectVerifiableFactory(() -> null,
+                                                                          new StacklessFailedValidationExecutor<>(StacklessIllegalStateException::new));
+            NO_MESSAGE_LAZY_EXPECT_INSTANCE = new ExpectVerifiableFactory(() -> null,
+                                                                          DefaultValidityFailedValidationExecutor.withLazyMessages(ValidityIllegalStateException::new));
+        }
     }
 
+    /*
+     * The factories of each calling class are resolved from the modes the first time
+     * they are asked for and kept in these, so later calls do not match any names.
+     */
+
+    private static final ClassValue<ValidityVerifiableFactory> VERIFY_INSTANCES = new ClassValue<ValidityVerifiableFactory>() {
+        @Override
+        protected ValidityVerifiableFactory computeValue(Class<?> type) {
+            return VALIDATE_DISABLED ? NO_MESSAGE_VERIFY_INSTANCE : MODES.getMode(type).apply(NO_MESSAGE_VERIFY_INSTANCE);
+        }
+    };
+    private static final ClassValue<ExpectVerifiableFactory> EXPECT_INSTANCES = new ClassValue<ExpectVerifiableFactory>() {
+        @Override
+        protected ExpectVerifiableFactory computeValue(Class<?> type) {
+            return EXPECT_DISABLED ? NO_MESSAGE_EXPECT_INSTANCE : MODES.getMode(type).apply(NO_MESSAGE_EXPECT_INSTANCE);
+        }
+    };
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Static Methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
+    /**
+     * @return true if {@link #expect()} and {@link #expectFast()} were disabled at startup
+     * with the {@value #EXPECT_DISABLED_PROPERTY} system property.
+     */
+    public static boolean isExpectDisabled() {
+        return EXPECT_DISABLED;
+    }
+
+    /**
+     * @return true if {@link #validate()} and {@link #validateFast()} were disabled at startup
+     * with the {@value #VALIDATE_DISABLED_PROPERTY} system property.
+     */
+    public static boolean isValidateDisabled() {
+        return VALIDATE_DISABLED;
+    }
+
     /**
      * @return a {@link Validity} instance with the default message
      * prefix that throws {@link IllegalArgumentException}s on failure.
+     * If validation was disabled with {@value #VALIDATE_DISABLED_PROPERTY}
+     * its verifiers never check their subject.
      */
     public static ValidityVerifiableFactory validate() {
         return NO_MESSAGE_VERIFY_INSTANCE;
@@ -58,12 +155,161 @@ public final class Validity {
 
     /**
      * @return a {@link Validity} instance with the default message prefix
-     * that throws {@link IllegalStateException}s on failure.
+     * that throws {@link IllegalStateException}s on failure. If expectations
+     * were disabled with {@value #EXPECT_DISABLED_PROPERTY} its verifiers
+     * never check their subject.
      */
     public static ExpectVerifiableFactory expect() {
         return NO_MESSAGE_EXPECT_INSTANCE;
     }
 
+    /**
+     * @return the {@link ValidationModes} read from the {@value #MODES_PROPERTY} system
+     * property at startup.
+     */
+    public static ValidationModes getModes() {
+        return MODES;
+    }
+
+    /**
+     * Hold on to the returned factory, e.g. in a static final field of the caller, to
+     * avoid even the {@link ClassValue} lookup.
+     *
+     * @param caller the class making the validation calls.
+     *               May not be null.
+     *
+     * @return the same as {@link #validate()} but in the {@link ValidationMode} the
+     * {@value #MODES_PROPERTY} system property gives the package of the caller. If
+     * validation was disabled with {@value #VALIDATE_DISABLED_PROPERTY} its verifiers
+     * never check their subject whatever the mode.
+     *
+     * @throws NullPointerException if caller is null.
+     */
+    public static ValidityVerifiableFactory validate(Class<?> caller) {
+        if (null == caller) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("caller"));
+        }
+        return VERIFY_INSTANCES.get(caller);
+    }
+
+    /**
+     * Hold on to the returned factory, e.g. in a static final field of the caller, to
+     * avoid even the {@link ClassValue} lookup.
+     *
+     * @param caller the class making the validation calls.
+     *               May not be null.
+     *
+     * @return the same as {@link #expect()} but in the {@link ValidationMode} the
+     * {@value #MODES_PROPERTY} system property gives the package of the caller. If
+     * expectations were disabled with {@value #EXPECT_DISABLED_PROPERTY} its verifiers
+     * never check their subject whatever the mode.
+     *
+     * @throws NullPointerException if caller is null.
+     */
+    public static ExpectVerifiableFactory expect(Class<?> caller) {
+        if (null == caller) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("caller"));
+        }
+        return EXPECT_INSTANCES.get(caller);
+    }
+
+    /**
+     * @return a {@link Validity} instance with the default message prefix
+     * that throws {@link StacklessIllegalArgumentException}s on failure. They
+     * are much cheaper to create than those of {@link #validate()} but have no
+     * stack trace, so use this for failures that are caught and handled. If
+     * validation was disabled this is the same as {@link #validate()}.
+     */
+    public static ValidityVerifiableFactory validateFast() {
+        return NO_MESSAGE_FAST_VERIFY_INSTANCE;
+    }
+
+    /**
+     * @return a {@link Validity} instance with the default message prefix
+     * that throws {@link StacklessIllegalStateException}s on failure. They
+     * are much cheaper to create than those of {@link #expect()} but have no
+     * stack trace, so use this for failures that are caught and handled. If
+     * expectations were disabled this is the same as {@link #expect()}.
+     */
+    public static ExpectVerifiableFactory expectFast() {
+        return NO_MESSAGE_FAST_EXPECT_INSTANCE;
+    }
+
+    /**
+     * @return a {@link Validity} instance with the default message prefix
+     * that throws {@link ValidityIllegalArgumentException}s on failure. They
+     * only describe the subject and get the custom message the first time
+     * their message is asked for, see {@link ValidityException}, so use this
+     * for failures that are usually caught without reading the message. If
+     * validation was disabled this is the same as {@link #validate()}.
+     */
+    public static ValidityVerifiableFactory validateLazily() {
+        return NO_MESSAGE_LAZY_VERIFY_INSTANCE;
+    }
+
+    /**
+     * @return a {@link Validity} instance with the default message prefix
+     * that throws {@link ValidityIllegalStateException}s on failure. They
+     * only describe the subject and get the custom message the first time
+     * their message is asked for, see {@link ValidityException}, so use this
+     * for failures that are usually caught without reading the message. If
+     * expectations were disabled this is the same as {@link #expect()}.
+     */
+    public static ExpectVerifiableFactory expectLazily() {
+        return NO_MESSAGE_LAZY_EXPECT_INSTANCE;
+    }
+
+    /**
+     * @param result the {@link ValidationResult} to record failures in.
+     *               May not be null.
+     *
+     * @return a {@link Validity} instance with the default message prefix
+     * that never throws on failure. Failures are recorded in the given result
+     * instead, which can be re-used for many subjects by resetting it.
+     *
+     * @throws NullPointerException if result is null.
+     */
+    public static CheckVerifiableFactory check(ValidationResult result) {
+        if (null == result) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("result"));
+        }
+        return new CheckVerifiableFactory(() -> null, result);
+    }
+
+    /**
+     * @param collector the {@link ValidationCollector} to collect failures in.
+     *                  May not be null.
+     *
+     * @return a {@link Validity} instance with the default message prefix
+     * that never throws on failure. Every failure is collected in the given
+     * collector instead, which can report them all at once at the end.
+     *
+     * @throws NullPointerException if collector is null.
+     */
+    public static CheckVerifiableFactory collect(ValidationCollector collector) {
+        if (null == collector) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("collector"));
+        }
+        return new CheckVerifiableFactory(() -> null, collector);
+    }
+
+    /**
+     * @param shadow the {@link ShadowFailedValidationExecutor} to log failures with.
+     *               May not be null.
+     *
+     * @return a {@link Validity} instance with the default message prefix that never
+     * throws on failure. Failures are queued and logged in the background by the given
+     * executor instead, so that new rules can be tried out before they are enforced.
+     *
+     * @throws NullPointerException if shadow is null.
+     */
+    public static CheckVerifiableFactory shadow(ShadowFailedValidationExecutor shadow) {
+        if (null == shadow) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("shadow"));
+        }
+        return new CheckVerifiableFactory(() -> null, shadow);
+    }
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Instance Methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
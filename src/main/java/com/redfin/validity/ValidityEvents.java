@@ -0,0 +1,84 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Emits Java Flight Recorder events for validations. Flight Recorder events are not
+ * available on Java 8 so this version of the class does nothing. The jar is a multi-release
+ * jar and on Java 11 or later this class is replaced by the version in {@code src/main/java11}
+ * which commits {@code com.redfin.validity.ValidationFailed} and
+ * {@code com.redfin.validity.ValidationChecked} events. Both versions must keep the same
+ * method signatures.
+ */
+final class ValidityEvents {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @return true if a recording is currently collecting validation failure events.
+     */
+    static boolean isFailureEnabled() {
+        return false;
+    }
+
+    /**
+     * Commit a validation failure event.
+     *
+     * @param verifier       the name of the class of the verifier that failed.
+     * @param check          the name of the verifier method that failed.
+     * @param subjectType    the class of the subject that failed, or null for a null subject.
+     * @param expected       the description of what was expected of the subject.
+     * @param durationNanos  the time taken to create and trim the throwable, in nanoseconds.
+     */
+    static void failed(String verifier,
+                       String check,
+                       Class<?> subjectType,
+                       String expected,
+                       long durationNanos) {
+        // Flight Recorder is not available
+    }
+
+    /**
+     * @return true if a recording is currently collecting validation check events.
+     */
+    static boolean isCheckEnabled() {
+        return false;
+    }
+
+    /**
+     * Commit a validation check event.
+     *
+     * @param verifierClass  the class of the verifier the method was called on.
+     * @param check          the name of the verifier method that was called.
+     * @param sampleInterval the number of checks that this event stands in for.
+     */
+    static void checked(Class<?> verifierClass,
+                        String check,
+                        int sampleInterval) {
+        // Flight Recorder is not available
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ValidityEvents() {
+        throw new AssertionError(ValidityUtils.nonInstantiableMessage());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Implemented by the throwables that {@link Validity#validateLazily()} and
+ * {@link Validity#expectLazily()} throw on validation failure. Those throwables keep the
+ * parts of the failure message and only describe the subject, get the custom message, and
+ * format them the first time {@link #getMessage()} is called. Callers that catch a failure
+ * without reading its message never pay for it.
+ * <p>
+ * As the subject is only described when the message is first asked for, a mutable
+ * subject changed after the failure is described as it is at that time, and the message
+ * supplier is called then, or never. The throwable keeps the subject reachable until it
+ * is itself unreachable.
+ */
+public interface ValidityException {
+
+    /**
+     * @return the String description of the expected value.
+     * Will not be null.
+     */
+    String getExpected();
+
+    /**
+     * @return the subject that failed validation.
+     * May be null, including after the throwable has been serialized.
+     */
+    Object getSubject();
+
+    /**
+     * @return the formatted failure message, which is created and cached the first
+     * time this is called.
+     */
+    String getMessage();
+}
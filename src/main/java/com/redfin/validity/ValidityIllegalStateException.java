@@ -0,0 +1,97 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link IllegalStateException} thrown on validation failure by {@link Validity#expectLazily()}.
+ * The failure message is formatted the first time it is asked for, see {@link ValidityException}.
+ */
+public class ValidityIllegalStateException extends IllegalStateException
+        implements ValidityException {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final long serialVersionUID = 1L;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final LazyFailureMessage failure;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Create a new {@link ValidityIllegalStateException} instance with the given values.
+     *
+     * @param expected        the String description of the expected value.
+     *                        May not be null.
+     * @param subject         the subject that failed validation.
+     *                        May be null.
+     * @param messageSupplier the {@link Supplier} of the String custom message to pre-pend the failure with.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if expected or messageSupplier are null.
+     */
+    public ValidityIllegalStateException(String expected,
+                                         Object subject,
+                                         Supplier<String> messageSupplier) {
+        this(expected, subject, messageSupplier, Describers.defaults());
+    }
+
+    /**
+     * Create a new {@link ValidityIllegalStateException} instance with the given values.
+     *
+     * @param expected        the String description of the expected value.
+     *                        May not be null.
+     * @param subject         the subject that failed validation.
+     *                        May be null.
+     * @param messageSupplier the {@link Supplier} of the String custom message to pre-pend the failure with.
+     *                        May not be null.
+     * @param describers      the {@link Describers} to describe the subject with.
+     *                        May not be null.
+     *
+     * @throws NullPointerException if expected, messageSupplier, or describers are null.
+     */
+    public ValidityIllegalStateException(String expected,
+                                         Object subject,
+                                         Supplier<String> messageSupplier,
+                                         Describers describers) {
+        this.failure = new LazyFailureMessage(expected, subject, messageSupplier, describers);
+    }
+
+    @Override
+    public String getExpected() {
+        return failure.getExpected();
+    }
+
+    @Override
+    public Object getSubject() {
+        return failure.getSubject();
+    }
+
+    @Override
+    public String getMessage() {
+        return failure.getMessage();
+    }
+}
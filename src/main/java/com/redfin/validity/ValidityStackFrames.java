@@ -0,0 +1,49 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Finds frames of the current thread's stack. On Java 8 the only way to do that is to
+ * capture and copy the whole stack trace of a new throwable, so this version of the class
+ * does that. The jar is a multi-release jar and on Java 9 or later this class is replaced
+ * by the version in {@code src/main/java9} which walks only as many frames as it needs
+ * with a {@code StackWalker}. Both versions must keep the same method signatures.
+ */
+final class ValidityStackFrames {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param className the name of the library class whose caller should be found.
+     *
+     * @return the first frame of the current thread's stack that is outside of the library
+     * and below the outermost frame of the given class, or null if there is no such frame.
+     */
+    static StackTraceElement callSite(String className) {
+        return ValidityUtils.callSite(className, new Throwable().getStackTrace());
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ValidityStackFrames() {
+        throw new AssertionError(ValidityUtils.nonInstantiableMessage());
+    }
+}
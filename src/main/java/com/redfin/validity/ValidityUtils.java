@@ -18,11 +18,18 @@ package com.redfin.validity;
 
 import com.redfin.validity.predicates.AbstractDescriptivePredicate;
 
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Static class containing various utilities for the Validity library.
@@ -39,6 +46,23 @@ public final class ValidityUtils {
     private static final String UNKNOWN_PREDICATE_PREFIX = "unknown predicate: ";
     private static final String NULL = "null";
     private static final String TRUNCATE_FORMAT = "%s ...";
+    private static final int MAX_DESCRIPTION_LENGTH = 100;
+    private static final String DEFAULT_FAILURE_MESSAGE = "Subject failed validation";
+    private static final String FAILURE_MESSAGE_FORMAT = "%s\n    expected : %s\n     subject : <%s>";
+    private static final String PACKAGE_NAME = ValidityUtils.class.getPackage().getName() + ".";
+    private static final ClassValue<Boolean> DEFAULT_COLLECTION_TO_STRING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            // Looked up for every element, so it also answers whether the class is a collection
+            // at all as an instanceof check against an interface is slow when it fails
+            try {
+                return Collection.class.isAssignableFrom(type)
+                       && AbstractCollection.class == type.getMethod("toString").getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Static Methods
@@ -81,6 +105,101 @@ public final class ValidityUtils {
         return NULL_ARGUMENT_MESSAGE + argumentName;
     }
 
+    // --------------------------------------------------------------
+    // Failure Methods
+    // --------------------------------------------------------------
+
+    /*
+     * The individual stages of turning a failed validation into a
+     * throwable. They are shared by the failed validation executors of
+     * this package so that each of them behaves exactly like the default
+     * executor.
+     */
+
+    /**
+     * @param message            the String custom message supplied by the validation user.
+     *                           May be null, in which case a default message is used.
+     * @param expected           the String representation of the expected condition.
+     *                           May not be null.
+     * @param subjectDescription the String description of the subject.
+     *                           May be null.
+     *
+     * @return the String message for a throwable created from a failed validation.
+     *
+     * @throws NullPointerException if expected is null.
+     */
+    static String failureMessage(String message,
+                                 String expected,
+                                 String subjectDescription) {
+        if (null == expected) {
+            throw new NullPointerException(nullArgumentMessage("expected"));
+        }
+        return String.format(FAILURE_MESSAGE_FORMAT,
+                             (null == message) ? DEFAULT_FAILURE_MESSAGE : message,
+                             expected,
+                             subjectDescription);
+    }
+
+    /*
+     * The subject is described before the custom message is asked for, which is the order
+     * the failed validation executors have always used.
+     */
+
+    static String formatFailure(String expected,
+                                Object subject,
+                                Supplier<String> messageSupplier,
+                                Describers describers) {
+        String subjectDescription = describers.describe(subject);
+        return failureMessage(messageSupplier.get(), expected, subjectDescription);
+    }
+
+    /**
+     * Remove all of the Validity library stack frames from the given throwable's
+     * stack trace so that the first line of the stack trace is the line that called
+     * into the library. The rest of the stack trace is left alone. If the throwable
+     * has no stack trace then this does nothing.
+     *
+     * @param throwable the {@link Throwable} to trim.
+     *                  May not be null.
+     *
+     * @throws NullPointerException if throwable is null.
+     */
+    static void trimStackTrace(Throwable throwable) {
+        if (null == throwable) {
+            throw new NullPointerException(nullArgumentMessage("throwable"));
+        }
+        StackTraceElement[] elements = throwable.getStackTrace();
+        if (null != elements) {
+            // The returned array is a copy so the kept frames can be moved down in place
+            int size = 0;
+            for (StackTraceElement element : elements) {
+                if (!element.getClassName().startsWith(PACKAGE_NAME)) {
+                    elements[size++] = element;
+                }
+            }
+            if (size < elements.length) {
+                throwable.setStackTrace(Arrays.copyOf(elements, size));
+            }
+        }
+    }
+
+    /*
+     * The call site of a library class is the first frame outside of the library below
+     * its outermost frame, e.g. the line that called a verifier method that failed.
+     */
+
+    static StackTraceElement callSite(String className,
+                                      StackTraceElement[] elements) {
+        int index = 0;
+        while (index < elements.length && !className.equals(elements[index].getClassName())) {
+            index++;
+        }
+        while (index < elements.length && elements[index].getClassName().startsWith(PACKAGE_NAME)) {
+            index++;
+        }
+        return (index < elements.length) ? elements[index] : null;
+    }
+
     // --------------------------------------------------------------
     // Describe Methods
     // --------------------------------------------------------------
@@ -103,7 +222,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(boolean[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     /**
@@ -112,7 +233,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(byte[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     /**
@@ -121,7 +244,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(char[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     /**
@@ -130,7 +255,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(double[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     /**
@@ -139,7 +266,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(float[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     /**
@@ -148,7 +277,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(int[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     /**
@@ -157,7 +288,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(long[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     /**
@@ -166,7 +299,9 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(short[] value) {
-        return transformDescription(Arrays.toString(value));
+        BoundedAppendable description = new BoundedAppendable(MAX_DESCRIPTION_LENGTH);
+        appendArray(description, value);
+        return description.toString();
     }
 
     // - - - - - - - - - - - - - - - - - - - - - -
@@ -232,7 +367,13 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static String describe(String value) {
-        return transformDescription((null == value) ? NULL : "\"" + value + "\"");
+        if (null == value) {
+            return NULL;
+        }
+        return new BoundedAppendable(MAX_DESCRIPTION_LENGTH).append('"')
+                                                             .append(value)
+                                                             .append('"')
+                                                             .toString();
     }
 
     /**
@@ -242,14 +383,25 @@ public final class ValidityUtils {
      * @return a String representation of the given value.
      */
     public static <T> String describe(T value) {
-        // Check for an array and use the Streams API to allow for recursive
-        // conversion to a human-friendly string. The Arrays.toString method
-        // only handles a single level so without this multi-dimensional arrays
-        // of objects are not cleanly handled.
-        if (value instanceof Object[]) {
-            return transformDescription(Arrays.deepToString((Object[]) value));
+        return describe(value, MAX_DESCRIPTION_LENGTH);
+    }
+
+    /*
+     * The factories can be given Describers with their own limit, which call these
+     * with it. The rest of the describe methods always use the default limit.
+     */
+
+    static String describe(Object value, int limit) {
+        // Walk arrays of objects the same way as Arrays.deepToString, since
+        // Arrays.toString only handles a single level so multi-dimensional
+        // arrays of objects would not be cleanly handled.
+        if (value instanceof Object[]
+                || (null != value && DEFAULT_COLLECTION_TO_STRING.get(value.getClass()))) {
+            BoundedAppendable description = new BoundedAppendable(limit);
+            appendNested(description, value);
+            return description.toString();
         } else {
-            return transformDescription((null == value) ? NULL : value.toString());
+            return truncate((null == value) ? NULL : value.toString(), limit);
         }
     }
 
@@ -260,14 +412,114 @@ public final class ValidityUtils {
      * that will make the thrown message un-readable.
      */
 
-    private static String transformDescription(String value) {
-        if (value != null && value.length() > 100) {
-            return String.format(TRUNCATE_FORMAT, value.substring(0, 100));
+    static String truncate(String value, int limit) {
+        if (value != null && value.length() > limit) {
+            return String.format(TRUNCATE_FORMAT, value.substring(0, limit));
         } else {
             return value;
         }
     }
 
+    private static String transformDescription(String value) {
+        return truncate(value, MAX_DESCRIPTION_LENGTH);
+    }
+
+    /*
+     * Arrays and collections are written element by element into a BoundedAppendable
+     * which stops taking characters at the truncation limit, so describing a large subject
+     * costs no more than describing a small one. The output is the same as that of the
+     * Arrays toString methods and AbstractCollection.toString, truncated the same way
+     * as transformDescription. Only collections that use AbstractCollection.toString are
+     * walked, any other toString might format its elements differently.
+     */
+
+    private static void appendArray(BoundedAppendable description, Object value) {
+        if (null == value) {
+            description.append(NULL);
+            return;
+        }
+        // Primitive arrays are only described on failure and only up to the limit,
+        // so boxing each element through Array.get costs little
+        int length = Array.getLength(value);
+        description.append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                description.append(", ");
+            }
+            description.append(String.valueOf(Array.get(value, i)));
+            if (description.isFull()) {
+                return;
+            }
+        }
+        description.append(']');
+    }
+
+    /*
+     * Nested arrays and collections are walked with an explicit stack of containers rather
+     * than by recursion, which kept the JIT from compiling the loop as well and made small
+     * subjects slower to describe than with the toString methods.
+     */
+
+    private static void appendNested(BoundedAppendable description, Object value) {
+        Set<Object[]> seen = null;
+        Container current;
+        if (value instanceof Object[]) {
+            // Arrays do not override equals so a hash set compares them by identity
+            seen = new HashSet<>();
+            seen.add((Object[]) value);
+            current = new Container(null, (Object[]) value);
+        } else {
+            current = new Container(null, (Collection<?>) value);
+        }
+        description.append('[');
+        while (null != current) {
+            if (!current.hasNext()) {
+                description.append(']');
+                if (null != current.array) {
+                    seen.remove(current.array);
+                }
+                current = current.parent;
+                continue;
+            }
+            if (current.index > 0) {
+                description.append(", ");
+            }
+            Object element = current.next();
+            if (null == element) {
+                description.append(NULL);
+            } else if (null == current.array) {
+                // Collection elements are described as per AbstractCollection.toString
+                if (current.collection == element) {
+                    description.append("(this Collection)");
+                } else if (DEFAULT_COLLECTION_TO_STRING.get(element.getClass())) {
+                    current = new Container(current, (Collection<?>) element);
+                    description.append('[');
+                } else {
+                    description.append(element.toString());
+                }
+            } else if (element instanceof Object[]) {
+                // Array elements are described as per Arrays.deepToString
+                if (seen.contains(element)) {
+                    description.append("[...]");
+                } else {
+                    seen.add((Object[]) element);
+                    current = new Container(current, (Object[]) element);
+                    description.append('[');
+                }
+            } else if (element.getClass().isArray()) {
+                appendArray(description, element);
+            } else if (DEFAULT_COLLECTION_TO_STRING.get(element.getClass())) {
+                current = new Container(current, (Collection<?>) element);
+                description.append('[');
+            } else {
+                description.append(element.toString());
+            }
+            if (description.isFull()) {
+                return;
+            }
+        }
+    }
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Instance Methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -280,4 +532,45 @@ public final class ValidityUtils {
     private ValidityUtils() {
         throw new AssertionError(ValidityUtils.nonInstantiableMessage());
     }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * An array or collection that is being described along with the position in it and
+     * the container it was found in.
+     */
+
+    private static final class Container {
+
+        private final Container parent;
+        private final Object[] array;
+        private final Collection<?> collection;
+        private final Iterator<?> iterator;
+        private int index;
+
+        private Container(Container parent, Object[] array) {
+            this.parent = parent;
+            this.array = array;
+            this.collection = null;
+            this.iterator = null;
+        }
+
+        private Container(Container parent, Collection<?> collection) {
+            this.parent = parent;
+            this.array = null;
+            this.collection = collection;
+            this.iterator = collection.iterator();
+        }
+
+        private boolean hasNext() {
+            return (null == array) ? iterator.hasNext() : index < array.length;
+        }
+
+        private Object next() {
+            index++;
+            return (null == array) ? iterator.next() : array[index - 1];
+        }
+    }
 }
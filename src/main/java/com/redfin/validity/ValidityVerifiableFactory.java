@@ -21,7 +21,7 @@ import java.util.function.Supplier;
 /**
  * The default implementation of the {@link AbstractVerifiableFactory} for the Validity library.
  */
-public final class ValidityVerifiableFactory
+public class ValidityVerifiableFactory
            extends AbstractVerifiableFactory<IllegalArgumentException, ValidityVerifiableFactory> {
 
     /**
@@ -44,7 +44,25 @@ public final class ValidityVerifiableFactory
     @Override
     protected ValidityVerifiableFactory getFactory(Supplier<String> messageSupplier,
                                                    FailedValidationExecutor<IllegalArgumentException> failedValidationExecutor) {
-        return new ValidityVerifiableFactory(messageSupplier,
-                                             failedValidationExecutor);
+        return getFactory(messageSupplier,
+                          failedValidationExecutor,
+                          VerifiableFactoryConfig.defaults());
+    }
+
+    @Override
+    protected ValidityVerifiableFactory getFactory(Supplier<String> messageSupplier,
+                                                   FailedValidationExecutor<IllegalArgumentException> failedValidationExecutor,
+                                                   VerifiableFactoryConfig config) {
+        if (PassThroughFailedValidationExecutor.<IllegalArgumentException>getInstance() == failedValidationExecutor) {
+            return new DisabledValidityVerifiableFactory(messageSupplier,
+                                                         config);
+        }
+        if (config.isDefault()) {
+            return new ValidityVerifiableFactory(messageSupplier,
+                                                 failedValidationExecutor);
+        }
+        return new ConfiguredValidityVerifiableFactory(messageSupplier,
+                                                        failedValidationExecutor,
+                                                        config);
     }
 }
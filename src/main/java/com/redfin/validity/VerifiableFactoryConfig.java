@@ -0,0 +1,200 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * The immutable state of an {@link AbstractVerifiableFactory} besides its message and
+ * {@link FailedValidationExecutor}. A factory hands it to each factory derived from it
+ * through {@link AbstractVerifiableFactory#getFactory(java.util.function.Supplier, FailedValidationExecutor, VerifiableFactoryConfig)},
+ * so sub-classes only have to pass it along to support every setting.
+ */
+public final class VerifiableFactoryConfig {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final VerifiableFactoryConfig DEFAULTS = new VerifiableFactoryConfig(null, Describers.defaults(), null, null);
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Members
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private final ValidationMetrics metrics;
+    private final Describers describers;
+    private final Sampler sampler;
+    private final CostThreshold costThreshold;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @return the {@link VerifiableFactoryConfig} of a factory that was not given any
+     * settings, which records no metrics, describes subjects with {@link Describers#defaults()},
+     * checks every call, and has no {@link CostThreshold}.
+     */
+    public static VerifiableFactoryConfig defaults() {
+        return DEFAULTS;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private VerifiableFactoryConfig(ValidationMetrics metrics,
+                                    Describers describers,
+                                    Sampler sampler,
+                                    CostThreshold costThreshold) {
+        this.metrics = metrics;
+        this.describers = describers;
+        this.sampler = sampler;
+        this.costThreshold = costThreshold;
+    }
+
+    /**
+     * @param metrics the {@link ValidationMetrics} the verifiers should record checks and failures with.
+     *                May be null if no metrics should be recorded.
+     *
+     * @return a new {@link VerifiableFactoryConfig} with the given metrics and the other
+     * settings of this instance.
+     */
+    public VerifiableFactoryConfig withMetrics(ValidationMetrics metrics) {
+        return new VerifiableFactoryConfig(metrics, describers, sampler, costThreshold);
+    }
+
+    /**
+     * @param describers the {@link Describers} used to describe the subjects of failed validations.
+     *                   May not be null.
+     *
+     * @return a new {@link VerifiableFactoryConfig} with the given describers and the other
+     * settings of this instance.
+     *
+     * @throws NullPointerException if describers is null.
+     */
+    public VerifiableFactoryConfig withDescribers(Describers describers) {
+        if (null == describers) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("describers"));
+        }
+        return new VerifiableFactoryConfig(metrics, describers, sampler, costThreshold);
+    }
+
+    /**
+     * @param checked the number of calls out of every outOf calls that should be checked.
+     *                Must be at least 1.
+     * @param outOf   the number of calls that checked is taken from.
+     *                Must be at least checked.
+     *
+     * @return a new {@link VerifiableFactoryConfig} with the given sampling rate and the other
+     * settings of this instance. It checks every call if checked equals outOf.
+     *
+     * @throws IllegalArgumentException if checked is less than 1 or outOf is less than checked.
+     */
+    public VerifiableFactoryConfig withSampling(int checked, int outOf) {
+        if (checked < 1) {
+            throw new IllegalArgumentException("The number of checked calls must be at least 1, was " + checked);
+        }
+        if (outOf < checked) {
+            throw new IllegalArgumentException("The number of calls must be at least the number of checked calls, was " + outOf);
+        }
+        if (checked == outOf) {
+            return new VerifiableFactoryConfig(metrics, describers, null, costThreshold);
+        }
+        return new VerifiableFactoryConfig(metrics, describers, new Sampler(checked, outOf), costThreshold);
+    }
+
+    /**
+     * @param costThreshold the {@link CostThreshold} of the checks the verifiers make.
+     *                      May not be null.
+     *
+     * @return a new {@link VerifiableFactoryConfig} with the given cost threshold and the other
+     * settings of this instance.
+     *
+     * @throws NullPointerException if costThreshold is null.
+     */
+    public VerifiableFactoryConfig withCostThreshold(CostThreshold costThreshold) {
+        if (null == costThreshold) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("costThreshold"));
+        }
+        return new VerifiableFactoryConfig(metrics, describers, sampler, costThreshold);
+    }
+
+    /**
+     * @return the {@link ValidationMetrics} the verifiers record checks and failures with
+     * or null if no metrics are recorded.
+     */
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the {@link Describers} used to describe the subjects of failed validations.
+     * Will never be null.
+     */
+    public Describers getDescribers() {
+        return describers;
+    }
+
+    /**
+     * @return true if only a sample of the calls is checked.
+     */
+    public boolean isSampled() {
+        return null != sampler;
+    }
+
+    /**
+     * @return the number of calls out of every {@link #getSampleOutOf()} calls that are checked.
+     */
+    public int getSampleChecked() {
+        return (null == sampler) ? 1 : sampler.getChecked();
+    }
+
+    /**
+     * @return the number of calls {@link #getSampleChecked()} is taken from.
+     */
+    public int getSampleOutOf() {
+        return (null == sampler) ? 1 : sampler.getOutOf();
+    }
+
+    /**
+     * @return the {@link CostThreshold} of the checks the verifiers make or null if every
+     * check is made.
+     */
+    public CostThreshold getCostThreshold() {
+        return costThreshold;
+    }
+
+    /**
+     * @return true if every setting has its default value, in which case a factory that
+     * does not support a {@link VerifiableFactoryConfig} behaves as configured.
+     */
+    public boolean isDefault() {
+        return null == metrics
+                && Describers.defaults() == describers
+                && !isSampled()
+                && null == costThreshold;
+    }
+
+    /**
+     * @return the {@link Sampler} that decides which calls are checked or null if every
+     * call is checked. It is shared by every config derived from this one, other than
+     * with {@link #withSampling(int, int)}.
+     */
+    Sampler getSampler() {
+        return sampler;
+    }
+}
@@ -29,7 +29,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableArray<E, X extends Throwable>
+public class VerifiableArray<E, X extends Throwable>
            extends AbstractVerifiableObject<E[], X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
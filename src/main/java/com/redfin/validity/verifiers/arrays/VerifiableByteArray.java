@@ -21,7 +21,6 @@ import com.redfin.validity.ValidityUtils;
 import com.redfin.validity.verifiers.AbstractVerifiableObject;
 
 import java.util.Arrays;
-import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
@@ -29,7 +28,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableByteArray<X extends Throwable>
+public class VerifiableByteArray<X extends Throwable>
            extends AbstractVerifiableObject<byte[], X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -191,7 +190,10 @@ public final class VerifiableByteArray<X extends Throwable>
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
     private static boolean containsHelper(byte[] array, byte value) {
-        for (byte next : Objects.requireNonNull(array, ValidityUtils.nullArgumentMessage("array"))) {
+        if (null == array) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("array"));
+        }
+        for (byte next : array) {
             if (next == value) {
                 return true;
             }
@@ -21,7 +21,6 @@ import com.redfin.validity.ValidityUtils;
 import com.redfin.validity.verifiers.AbstractVerifiableObject;
 
 import java.util.Arrays;
-import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
@@ -29,7 +28,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableFloatArray<X extends Throwable>
+public class VerifiableFloatArray<X extends Throwable>
            extends AbstractVerifiableObject<float[], X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -191,7 +190,10 @@ public final class VerifiableFloatArray<X extends Throwable>
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
     private static boolean containsHelper(float[] array, float value) {
-        for (float next : Objects.requireNonNull(array, ValidityUtils.nullArgumentMessage("array"))) {
+        if (null == array) {
+            throw new NullPointerException(ValidityUtils.nullArgumentMessage("array"));
+        }
+        for (float next : array) {
             if (Float.compare(next, value) == 0) {
                 return true;
             }
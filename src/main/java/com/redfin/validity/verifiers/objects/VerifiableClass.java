@@ -29,7 +29,7 @@ import java.util.function.Supplier;
  * @param <T> the type of the class object being verified.
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableClass<T, X extends Throwable>
+public class VerifiableClass<T, X extends Throwable>
            extends AbstractVerifiableObject<Class<T>, X> {
 
     /**
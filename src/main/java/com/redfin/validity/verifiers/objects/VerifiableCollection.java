@@ -28,7 +28,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableCollection<E, T extends Collection<E>, X extends Throwable>
+public class VerifiableCollection<E, T extends Collection<E>, X extends Throwable>
            extends AbstractVerifiableObject<T, X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
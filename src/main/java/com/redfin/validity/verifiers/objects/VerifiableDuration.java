@@ -28,7 +28,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableDuration<X extends Throwable>
+public class VerifiableDuration<X extends Throwable>
            extends AbstractVerifiableComparable<Duration, X> {
 
     /**
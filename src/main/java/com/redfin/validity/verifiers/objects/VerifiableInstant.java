@@ -27,7 +27,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableInstant<X extends Throwable>
+public class VerifiableInstant<X extends Throwable>
            extends AbstractVerifiableComparable<Instant, X> {
 
     /**
@@ -27,7 +27,7 @@ import java.util.function.Supplier;
  * @param <T> the type of the object to be validated.
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiableObject<T, X extends Throwable>
+public class VerifiableObject<T, X extends Throwable>
            extends AbstractVerifiableObject<T, X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
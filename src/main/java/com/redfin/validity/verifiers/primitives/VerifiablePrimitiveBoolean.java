@@ -17,6 +17,7 @@
 package com.redfin.validity.verifiers.primitives;
 
 import com.redfin.validity.FailedValidationExecutor;
+import com.redfin.validity.ValidationFailure;
 import com.redfin.validity.ValidityUtils;
 import com.redfin.validity.verifiers.AbstractVerifiablePrimitive;
 
@@ -27,7 +28,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiablePrimitiveBoolean<X extends Throwable>
+public class VerifiablePrimitiveBoolean<X extends Throwable>
            extends AbstractVerifiablePrimitive<X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -59,6 +60,13 @@ public final class VerifiablePrimitiveBoolean<X extends Throwable>
         this.subject = subject;
     }
 
+    /**
+     * @return the given test subject.
+     */
+    protected final boolean getSubject() {
+        return subject;
+    }
+
     /**
      * @return the Boolean true if the subject is true.
      *
@@ -66,7 +74,7 @@ public final class VerifiablePrimitiveBoolean<X extends Throwable>
      */
     public boolean isTrue() throws X {
         if (!subject) {
-            fail("t -> t");
+            fail(new ValidationFailure("t -> t"));
         }
         return subject;
     }
@@ -78,19 +86,19 @@ public final class VerifiablePrimitiveBoolean<X extends Throwable>
      */
     public boolean isFalse() throws X {
         if (subject) {
-            fail("t -> !t");
+            fail(new ValidationFailure("t -> !t"));
         }
         return subject;
     }
 
     /**
-     * @param expected the String description of the expected value.
+     * @param failure the {@link ValidationFailure} describing the expected value.
      *
-     * @throws NullPointerException if expected is null.
-     * @throws X                    always, unless expected is null.
+     * @throws NullPointerException if failure is null.
+     * @throws X                    always, unless failure is null.
      */
-    protected void fail(String expected) throws X {
-        getFailedValidationExecutor().fail(expected, subject, getMessageSupplier());
+    protected void fail(ValidationFailure failure) throws X {
+        getFailedValidationExecutor().failBoolean(failure, subject, getMessageSupplier());
     }
 
     @Override
@@ -17,6 +17,8 @@
 package com.redfin.validity.verifiers.primitives;
 
 import com.redfin.validity.FailedValidationExecutor;
+import com.redfin.validity.ValidationFailure;
+import com.redfin.validity.ValidationFailure.Operator;
 import com.redfin.validity.ValidityUtils;
 import com.redfin.validity.verifiers.AbstractVerifiablePrimitive;
 
@@ -28,7 +30,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiablePrimitiveChar<X extends Throwable>
+public class VerifiablePrimitiveChar<X extends Throwable>
            extends AbstractVerifiablePrimitive<X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -60,6 +62,13 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
         this.subject = subject;
     }
 
+    /**
+     * @return the given test subject.
+     */
+    protected final char getSubject() {
+        return subject;
+    }
+
     /**
      * @param other the object to check for equality with against the subject.
      *
@@ -69,7 +78,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isEqualTo(char other) throws X {
         if (subject != other) {
-            fail("t -> t == " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.EQUAL_TO, other));
         }
         return subject;
     }
@@ -83,7 +92,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isNotEqualTo(char other) throws X {
         if (subject == other) {
-            fail("t -> t != " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.NOT_EQUAL_TO, other));
         }
         return subject;
     }
@@ -97,7 +106,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isGreaterThan(char other) throws X {
         if (subject <= other) {
-            fail("t -> t > " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN, other));
         }
         return subject;
     }
@@ -111,7 +120,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isGreaterThanOrEqualTo(char other) throws X {
         if (subject < other) {
-            fail("t -> t >= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -136,7 +145,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isLessThan(char other) throws X {
         if (subject >= other) {
-            fail("t -> t < " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN, other));
         }
         return subject;
     }
@@ -150,7 +159,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isLessThanOrEqualTo(char other) throws X {
         if (subject > other) {
-            fail("t -> t <= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -173,7 +182,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public Character isUpperCase() throws X {
         if (!Character.isUpperCase(subject)) {
-            fail("t -> Character.isUpperCase(t)");
+            fail(new ValidationFailure("t -> Character.isUpperCase(t)"));
         }
         return subject;
     }
@@ -185,7 +194,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isLowerCase() throws X {
         if (!Character.isLowerCase(subject)) {
-            fail("t -> Character.isLowerCase(t)");
+            fail(new ValidationFailure("t -> Character.isLowerCase(t)"));
         }
         return subject;
     }
@@ -197,7 +206,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isLetterOrDigit() throws X {
         if (!Character.isLetterOrDigit(subject)) {
-            fail("t -> Character.isLetterOrDigit(t)");
+            fail(new ValidationFailure("t -> Character.isLetterOrDigit(t)"));
         }
         return subject;
     }
@@ -209,7 +218,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isAlphabetic() throws X {
         if (!Character.isAlphabetic(subject)) {
-            fail("t -> Character.isAlphabetic(t)");
+            fail(new ValidationFailure("t -> Character.isAlphabetic(t)"));
         }
         return subject;
     }
@@ -221,7 +230,7 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
      */
     public char isDigit() throws X {
         if (!Character.isDigit(subject)) {
-            fail("t -> Character.isDigit(t)");
+            fail(new ValidationFailure("t -> Character.isDigit(t)"));
         }
         return subject;
     }
@@ -244,19 +253,19 @@ public final class VerifiablePrimitiveChar<X extends Throwable>
             throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
         }
         if (!expected.test(subject)) {
-            fail(ValidityUtils.describe(expected));
+            fail(new ValidationFailure(ValidityUtils.describe(expected)));
         }
         return subject;
     }
 
     /**
-     * @param expected the String description of the expected value.
+     * @param failure the {@link ValidationFailure} describing the expected value.
      *
-     * @throws NullPointerException if expected is null.
-     * @throws X                    always, unless expected is null.
+     * @throws NullPointerException if failure is null.
+     * @throws X                    always, unless failure is null.
      */
-    protected void fail(String expected) throws X {
-        getFailedValidationExecutor().fail(expected, subject, getMessageSupplier());
+    protected void fail(ValidationFailure failure) throws X {
+        getFailedValidationExecutor().failChar(failure, subject, getMessageSupplier());
     }
 
     @Override
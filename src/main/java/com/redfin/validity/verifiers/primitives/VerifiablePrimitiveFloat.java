@@ -17,6 +17,8 @@
 package com.redfin.validity.verifiers.primitives;
 
 import com.redfin.validity.FailedValidationExecutor;
+import com.redfin.validity.ValidationFailure;
+import com.redfin.validity.ValidationFailure.Operator;
 import com.redfin.validity.ValidityUtils;
 import com.redfin.validity.verifiers.AbstractVerifiablePrimitive;
 
@@ -28,7 +30,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiablePrimitiveFloat<X extends Throwable>
+public class VerifiablePrimitiveFloat<X extends Throwable>
            extends AbstractVerifiablePrimitive<X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -60,6 +62,13 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
         this.subject = subject;
     }
 
+    /**
+     * @return the given test subject.
+     */
+    protected final float getSubject() {
+        return subject;
+    }
+
     /**
      * @param other the object to check for equality with against the subject.
      *
@@ -69,7 +78,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isEqualTo(float other) throws X {
         if (subject != other) {
-            fail("t -> t == " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.EQUAL_TO, other));
         }
         return subject;
     }
@@ -83,7 +92,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isNotEqualTo(float other) throws X {
         if (subject == other) {
-            fail("t -> t != " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.NOT_EQUAL_TO, other));
         }
         return subject;
     }
@@ -95,7 +104,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isZero() throws X {
         if (subject != 0) {
-            fail("t -> t == 0");
+            fail(new ValidationFailure("t -> t == 0"));
         }
         return subject;
     }
@@ -107,7 +116,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isNotZero() throws X {
         if (subject == 0) {
-            fail("t -> t != 0");
+            fail(new ValidationFailure("t -> t != 0"));
         }
         return subject;
     }
@@ -139,7 +148,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isGreaterThan(float other) throws X {
         if (subject <= other) {
-            fail("t -> t > " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN, other));
         }
         return subject;
     }
@@ -153,7 +162,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isGreaterThanOrEqualTo(float other) throws X {
         if (subject < other) {
-            fail("t -> t >= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -178,7 +187,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isLessThan(float other) throws X {
         if (subject >= other) {
-            fail("t -> t < " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN, other));
         }
         return subject;
     }
@@ -192,7 +201,7 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
      */
     public float isLessThanOrEqualTo(float other) throws X {
         if (subject > other) {
-            fail("t -> t <= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -226,19 +235,19 @@ public final class VerifiablePrimitiveFloat<X extends Throwable>
             throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
         }
         if (!expected.test(subject)) {
-            fail(ValidityUtils.describe(expected));
+            fail(new ValidationFailure(ValidityUtils.describe(expected)));
         }
         return subject;
     }
 
     /**
-     * @param expected the String description of the expected value.
+     * @param failure the {@link ValidationFailure} describing the expected value.
      *
-     * @throws NullPointerException if expected is null.
-     * @throws X                    always, unless expected is null.
+     * @throws NullPointerException if failure is null.
+     * @throws X                    always, unless failure is null.
      */
-    protected void fail(String expected) throws X {
-        getFailedValidationExecutor().fail(expected, subject, getMessageSupplier());
+    protected void fail(ValidationFailure failure) throws X {
+        getFailedValidationExecutor().failFloat(failure, subject, getMessageSupplier());
     }
 
     @Override
@@ -17,6 +17,8 @@
 package com.redfin.validity.verifiers.primitives;
 
 import com.redfin.validity.FailedValidationExecutor;
+import com.redfin.validity.ValidationFailure;
+import com.redfin.validity.ValidationFailure.Operator;
 import com.redfin.validity.ValidityUtils;
 import com.redfin.validity.verifiers.AbstractVerifiablePrimitive;
 import java.util.function.LongPredicate;
@@ -27,7 +29,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiablePrimitiveLong<X extends Throwable>
+public class VerifiablePrimitiveLong<X extends Throwable>
            extends AbstractVerifiablePrimitive<X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -59,6 +61,13 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
         this.subject = subject;
     }
 
+    /**
+     * @return the given test subject.
+     */
+    protected final long getSubject() {
+        return subject;
+    }
+
     /**
      * @param other the object to check for equality with against the subject.
      * @return the subject if it is equal to other.
@@ -66,7 +75,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isEqualTo(long other) throws X {
         if (subject != other) {
-            fail("t -> t == " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.EQUAL_TO, other));
         }
         return subject;
     }
@@ -78,7 +87,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isNotEqualTo(long other) throws X {
         if (subject == other) {
-            fail("t -> t != " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.NOT_EQUAL_TO, other));
         }
         return subject;
     }
@@ -89,7 +98,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isZero() throws X {
         if (subject != 0) {
-            fail("t -> t == 0");
+            fail(new ValidationFailure("t -> t == 0"));
         }
         return subject;
     }
@@ -100,7 +109,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isNotZero() throws X {
         if (subject == 0) {
-            fail("t -> t != 0");
+            fail(new ValidationFailure("t -> t != 0"));
         }
         return subject;
     }
@@ -128,7 +137,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isGreaterThan(long other) throws X {
         if (subject <= other) {
-            fail("t -> t > " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN, other));
         }
         return subject;
     }
@@ -140,7 +149,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isGreaterThanOrEqualTo(long other) throws X {
         if (subject < other) {
-            fail("t -> t >= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -161,7 +170,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isLessThan(long other) throws X {
         if (subject >= other) {
-            fail("t -> t < " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN, other));
         }
         return subject;
     }
@@ -173,7 +182,7 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
      */
     public long isLessThanOrEqualTo(long other) throws X {
         if (subject > other) {
-            fail("t -> t <= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -203,18 +212,18 @@ public final class VerifiablePrimitiveLong<X extends Throwable>
             throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
         }
         if (!expected.test(subject)) {
-            fail(ValidityUtils.describe(expected));
+            fail(new ValidationFailure(ValidityUtils.describe(expected)));
         }
         return subject;
     }
 
     /**
-     * @param expected the String description of the expected value.
-     * @throws NullPointerException if expected is null.
-     * @throws X                    always, unless expected is null.
+     * @param failure the {@link ValidationFailure} describing the expected value.
+     * @throws NullPointerException if failure is null.
+     * @throws X                    always, unless failure is null.
      */
-    protected void fail(String expected) throws X {
-        getFailedValidationExecutor().fail(expected, subject, getMessageSupplier());
+    protected void fail(ValidationFailure failure) throws X {
+        getFailedValidationExecutor().failLong(failure, subject, getMessageSupplier());
     }
 
     @Override
@@ -17,6 +17,8 @@
 package com.redfin.validity.verifiers.primitives;
 
 import com.redfin.validity.FailedValidationExecutor;
+import com.redfin.validity.ValidationFailure;
+import com.redfin.validity.ValidationFailure.Operator;
 import com.redfin.validity.ValidityUtils;
 import com.redfin.validity.verifiers.AbstractVerifiablePrimitive;
 import java.util.function.IntPredicate;
@@ -27,7 +29,7 @@ import java.util.function.Supplier;
  *
  * @param <X> the type of {@link Throwable} to be thrown on validation failure.
  */
-public final class VerifiablePrimitiveShort<X extends Throwable>
+public class VerifiablePrimitiveShort<X extends Throwable>
            extends AbstractVerifiablePrimitive<X> {
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -59,6 +61,13 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
         this.subject = subject;
     }
 
+    /**
+     * @return the given test subject.
+     */
+    protected final short getSubject() {
+        return subject;
+    }
+
     /**
      * @param other the object to check for equality with against the subject.
      * @return the subject if it is equal to other.
@@ -66,7 +75,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isEqualTo(short other) throws X {
         if (subject != other) {
-            fail("t -> t == " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.EQUAL_TO, other));
         }
         return subject;
     }
@@ -78,7 +87,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isNotEqualTo(short other) throws X {
         if (subject == other) {
-            fail("t -> t != " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.NOT_EQUAL_TO, other));
         }
         return subject;
     }
@@ -89,7 +98,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isZero() throws X {
         if (subject != 0) {
-            fail("t -> t == 0");
+            fail(new ValidationFailure("t -> t == 0"));
         }
         return subject;
     }
@@ -100,7 +109,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isNotZero() throws X {
         if (subject == 0) {
-            fail("t -> t != 0");
+            fail(new ValidationFailure("t -> t != 0"));
         }
         return subject;
     }
@@ -128,7 +137,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isGreaterThan(short other) throws X {
         if (subject <= other) {
-            fail("t -> t > " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN, other));
         }
         return subject;
     }
@@ -140,7 +149,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isGreaterThanOrEqualTo(short other) throws X {
         if (subject < other) {
-            fail("t -> t >= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.GREATER_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -161,7 +170,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isLessThan(short other) throws X {
         if (subject >= other) {
-            fail("t -> t < " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN, other));
         }
         return subject;
     }
@@ -173,7 +182,7 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
      */
     public short isLessThanOrEqualTo(short other) throws X {
         if (subject > other) {
-            fail("t -> t <= " + ValidityUtils.describe(other));
+            fail(new ValidationFailure(Operator.LESS_THAN_OR_EQUAL_TO, other));
         }
         return subject;
     }
@@ -203,18 +212,18 @@ public final class VerifiablePrimitiveShort<X extends Throwable>
             throw new NullPointerException(ValidityUtils.nullArgumentMessage("expected"));
         }
         if (!expected.test(subject)) {
-            fail(ValidityUtils.describe(expected));
+            fail(new ValidationFailure(ValidityUtils.describe(expected)));
         }
         return subject;
     }
 
     /**
-     * @param expected the String description of the expected value.
-     * @throws NullPointerException if expected is null.
-     * @throws X                    always, unless expected is null.
+     * @param failure the {@link ValidationFailure} describing the expected value.
+     * @throws NullPointerException if failure is null.
+     * @throws X                    always, unless failure is null.
      */
-    protected void fail(String expected) throws X {
-        getFailedValidationExecutor().fail(expected, subject, getMessageSupplier());
+    protected void fail(ValidationFailure failure) throws X {
+        getFailedValidationExecutor().failShort(failure, subject, getMessageSupplier());
     }
 
     @Override
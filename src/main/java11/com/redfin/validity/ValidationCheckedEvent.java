@@ -0,0 +1,51 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event committed by the {@link FlightRecorderValidationMetrics}
+ * for a sample of the calls to verifier methods. It is disabled by default and has to
+ * be enabled in the recording settings (e.g. {@code com.redfin.validity.ValidationChecked#enabled=true}).
+ */
+@Name("com.redfin.validity.ValidationChecked")
+@Label("Validation Checked")
+@Category("Validity")
+@Description("A sampled call to a verifier method")
+@Enabled(false)
+@StackTrace(false)
+final class ValidationCheckedEvent extends Event {
+
+    @Label("Verifier Class")
+    @Description("The class of the verifier the method was called on")
+    Class<?> verifierClass;
+
+    @Label("Check")
+    @Description("The name of the verifier method that was called")
+    String check;
+
+    @Label("Sample Interval")
+    @Description("The number of calls this event stands in for")
+    int sampleInterval;
+}
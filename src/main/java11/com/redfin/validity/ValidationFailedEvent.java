@@ -0,0 +1,59 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event committed by the {@link DefaultValidityFailedValidationExecutor}
+ * each time a validation fails. It is enabled by default so it shows up in any recording
+ * using the default or profile settings.
+ */
+@Name("com.redfin.validity.ValidationFailed")
+@Label("Validation Failed")
+@Category("Validity")
+@Description("A subject failed validation")
+@StackTrace(false)
+final class ValidationFailedEvent extends Event {
+
+    @Label("Verifier")
+    @Description("The name of the class of the verifier that failed")
+    String verifier;
+
+    @Label("Check")
+    @Description("The name of the verifier method that failed")
+    String check;
+
+    @Label("Subject Type")
+    @Description("The class of the subject, or null for a null subject")
+    Class<?> subjectType;
+
+    @Label("Expected")
+    @Description("The description of what was expected of the subject")
+    String expected;
+
+    @Label("Handling Duration")
+    @Description("The time taken to describe the subject, create the throwable, and trim its stack trace")
+    @Timespan(Timespan.NANOSECONDS)
+    long handlingDuration;
+}
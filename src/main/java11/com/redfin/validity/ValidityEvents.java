@@ -0,0 +1,74 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Emits Java Flight Recorder events for validations. This is the Java 11 version of the
+ * class that replaces the no-op version in the multi-release jar. Each method creates its
+ * event before checking whether it is enabled so that, when no recording is collecting it,
+ * the JIT can remove the allocation and the check costs no more than reading a flag.
+ */
+final class ValidityEvents {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static boolean isFailureEnabled() {
+        return new ValidationFailedEvent().isEnabled();
+    }
+
+    static void failed(String verifier,
+                       String check,
+                       Class<?> subjectType,
+                       String expected,
+                       long durationNanos) {
+        ValidationFailedEvent event = new ValidationFailedEvent();
+        if (event.shouldCommit()) {
+            event.verifier = verifier;
+            event.check = check;
+            event.subjectType = subjectType;
+            event.expected = expected;
+            event.handlingDuration = durationNanos;
+            event.commit();
+        }
+    }
+
+    static boolean isCheckEnabled() {
+        return new ValidationCheckedEvent().isEnabled();
+    }
+
+    static void checked(Class<?> verifierClass,
+                        String check,
+                        int sampleInterval) {
+        ValidationCheckedEvent event = new ValidationCheckedEvent();
+        if (event.shouldCommit()) {
+            event.verifierClass = verifierClass;
+            event.check = check;
+            event.sampleInterval = sampleInterval;
+            event.commit();
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ValidityEvents() {
+        throw new AssertionError(ValidityUtils.nonInstantiableMessage());
+    }
+}
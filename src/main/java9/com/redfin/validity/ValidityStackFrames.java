@@ -0,0 +1,56 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import java.util.EnumSet;
+
+/**
+ * Finds frames of the current thread's stack. This is the Java 9 version of the class
+ * that replaces the Java 8 version in the multi-release jar. It walks the stack lazily
+ * with a {@link StackWalker} and stops at the frame it is looking for, so only the frames
+ * above it are ever visited and only that frame becomes a {@link StackTraceElement}.
+ * Reflection frames are shown so that the frames match those of a throwable's stack trace.
+ */
+final class ValidityStackFrames {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String PACKAGE_NAME = ValidityStackFrames.class.getPackage().getName() + ".";
+    private static final StackWalker WALKER = StackWalker.getInstance(EnumSet.of(StackWalker.Option.SHOW_REFLECT_FRAMES));
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static StackTraceElement callSite(String className) {
+        return WALKER.walk(frames -> frames.dropWhile(frame -> !className.equals(frame.getClassName()))
+                                           .dropWhile(frame -> frame.getClassName().startsWith(PACKAGE_NAME))
+                                           .findFirst()
+                                           .map(StackWalker.StackFrame::toStackTraceElement)
+                                           .orElse(null));
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ValidityStackFrames() {
+        throw new AssertionError(ValidityUtils.nonInstantiableMessage());
+    }
+}
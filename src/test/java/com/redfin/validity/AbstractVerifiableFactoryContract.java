@@ -52,6 +52,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 @SuppressWarnings("ConstantConditions")
@@ -86,6 +87,196 @@ interface AbstractVerifiableFactoryContract<X extends Throwable,
                               "AbstractVerifiableFactory withMessage(String) should return factory with same validation executor.");
     }
 
+    @Test
+    default void testIsConfigurable() {
+        Assertions.assertTrue(getNotValueTypeInstance().isConfigurable(),
+                              "AbstractVerifiableFactory implementations of the library should be configurable.");
+    }
+
+    @Test
+    default void testWithMetricsReturnsFactoryWithGivenMetrics() {
+        ValidationMetrics metrics = new StripedValidationMetrics();
+        Assertions.assertTrue(metrics == getNotValueTypeInstance().withMetrics(metrics).getMetrics(),
+                              "AbstractVerifiableFactory withMetrics should return factory with the given metrics.");
+    }
+
+    @Test
+    default void testWithMetricsReturnsFactoryWithSameMessageAndExecutor() {
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance();
+        F withMetrics = factory.withMetrics(new StripedValidationMetrics());
+        Assertions.assertTrue(factory.getMessageSupplier() == withMetrics.getMessageSupplier() && factory.getFailedValidationExecutor() == withMetrics.getFailedValidationExecutor(),
+                              "AbstractVerifiableFactory withMetrics should return factory with the same message and validation executor.");
+    }
+
+    @Test
+    default void testWithMessageReturnsFactoryWithSameMetrics() {
+        ValidationMetrics metrics = new StripedValidationMetrics();
+        Assertions.assertTrue(metrics == getNotValueTypeInstance().withMetrics(metrics).withMessage("hello").getMetrics(),
+                              "AbstractVerifiableFactory withMessage(String) should return factory with the same metrics.");
+    }
+
+    @Test
+    default void testWithDescribersThrowsForNullDescribers() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> getNotValueTypeInstance().withDescribers(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("describers"),
+                                exception.getMessage(),
+                                "AbstractVerifiableFactory withDescribers should throw for null describers.");
+    }
+
+    @Test
+    default void testWithDescribersReturnsFactoryWithSameMessageAndExecutor() {
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance().withMessage("hello");
+        F withDescribers = factory.withDescribers(Describers.defaults().withLimit(5));
+        Assertions.assertTrue("hello".equals(withDescribers.getMessageSupplier().get()) && factory.getFailedValidationExecutor() == withDescribers.getFailedValidationExecutor(),
+                              "AbstractVerifiableFactory withDescribers should return factory with the same message and validation executor.");
+    }
+
+    @Test
+    default void testWithMessageReturnsFactoryWithSameDescribers() {
+        Describers describers = Describers.defaults().withLimit(5);
+        F factory = getNotValueTypeInstance().withDescribers(describers).withMessage("hello");
+        Assertions.assertSame(describers,
+                              factory.getConfig().getDescribers(),
+                              "AbstractVerifiableFactory withMessage(String) should return factory with the same describers.");
+        Assertions.assertEquals("hello",
+                                factory.getMessageSupplier().get(),
+                                "AbstractVerifiableFactory withMessage(String) should return factory with the given message and the same describers.");
+    }
+
+    @Test
+    default void testVerifiersRecordWithFactoryMetrics() throws X {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        getNotValueTypeInstance().withMetrics(metrics).that(1).isStrictlyPositive();
+        Assertions.assertEquals(1,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, "isStrictlyPositive"),
+                                "Verifiers from a factory with metrics should record their checks.");
+    }
+
+    @Test
+    default void testSampledThrowsForTooFewCheckedCalls() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> getNotValueTypeInstance().sampled(0, 10));
+    }
+
+    @Test
+    default void testSampledThrowsForFewerCallsThanCheckedCalls() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> getNotValueTypeInstance().sampled(2, 1));
+    }
+
+    @Test
+    default void testSampledEveryCallReturnsFactoryWithSameExecutor() {
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance();
+        Assertions.assertTrue(factory.getFailedValidationExecutor() == factory.sampled(1, 1).getFailedValidationExecutor(),
+                              "AbstractVerifiableFactory sampled(1, 1) should return factory with the same validation executor.");
+    }
+
+    @Test
+    default void testSampledReturnsFactoryWithSameMessageMetricsAndExecutor() {
+        ValidationMetrics metrics = new StripedValidationMetrics();
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance().withMetrics(metrics).withMessage("hello");
+        F sampled = factory.sampled(1, 10);
+        Assertions.assertTrue(factory.getMessageSupplier() == sampled.getMessageSupplier() && metrics == sampled.getMetrics(),
+                              "AbstractVerifiableFactory sampled should return factory with the same message and metrics.");
+        Assertions.assertTrue(factory.getFailedValidationExecutor() == sampled.getFailedValidationExecutor() && sampled.getConfig().isSampled(),
+                              "AbstractVerifiableFactory sampled should return factory that samples with the same validation executor.");
+    }
+
+    @Test
+    default void testDisabledReturnsFactoryWithSameMessageMetricsAndPassThroughExecutor() {
+        ValidationMetrics metrics = new StripedValidationMetrics();
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance().withMetrics(metrics).withMessage("hello");
+        F disabled = factory.disabled();
+        Assertions.assertTrue(factory.getMessageSupplier() == disabled.getMessageSupplier() && metrics == disabled.getMetrics(),
+                              "AbstractVerifiableFactory disabled should return factory with the same message and metrics.");
+        Assertions.assertTrue(PassThroughFailedValidationExecutor.getInstance() == disabled.getFailedValidationExecutor(),
+                              "AbstractVerifiableFactory disabled should return factory with the pass-through validation executor.");
+    }
+
+    @Test
+    default void testSampledReplacesSamplingRate() {
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance();
+        F sampled = factory.sampled(1, 10).sampled(3, 100);
+        Assertions.assertTrue(factory.getFailedValidationExecutor() == sampled.getFailedValidationExecutor() && 3 == sampled.getConfig().getSampleChecked() && 100 == sampled.getConfig().getSampleOutOf(),
+                              "AbstractVerifiableFactory sampled on a sampled factory should replace the sampling rate.");
+        Assertions.assertFalse(factory.sampled(1, 10).sampled(1, 1).getConfig().isSampled(),
+                               "AbstractVerifiableFactory sampled(1, 1) on a sampled factory should stop sampling.");
+    }
+
+    @Test
+    default void testSampledVerifiersCheckSomeOfTheCalls() throws X {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        F sampled = getNotValueTypeInstance().withMetrics(metrics).sampled(1, 2);
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertEquals(i,
+                                    sampled.that(i).isAtLeast(0),
+                                    "Sampled verifiers should return the subject whether or not it was checked.");
+        }
+        long checks = metrics.getChecks(VerifiablePrimitiveInt.class, "isAtLeast");
+        Assertions.assertEquals(5_000,
+                                checks,
+                                "Sampled verifiers should check the sampled share of the calls.");
+    }
+
+    @Test
+    default void testWithCostThresholdThrowsForNullThreshold() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> getNotValueTypeInstance().withCostThreshold(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("costThreshold"),
+                                exception.getMessage(),
+                                "AbstractVerifiableFactory withCostThreshold should throw for a null threshold.");
+    }
+
+    @Test
+    default void testWithCostThresholdReturnsFactoryWithSameMessageAndMetrics() {
+        ValidationMetrics metrics = new StripedValidationMetrics();
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance().withMetrics(metrics).withMessage("hello");
+        F withCostThreshold = factory.withCostThreshold(new CostThreshold(CostTier.CONSTANT));
+        Assertions.assertTrue(factory.getMessageSupplier() == withCostThreshold.getMessageSupplier() && metrics == withCostThreshold.getMetrics(),
+                              "AbstractVerifiableFactory withCostThreshold should return factory with the same message and metrics.");
+    }
+
+    @Test
+    default void testWithCostThresholdKeepsSamplingRate() {
+        AbstractVerifiableFactory<X, F> factory = getNotValueTypeInstance();
+        CostThreshold threshold = new CostThreshold(CostTier.CONSTANT);
+        for (F configured : Arrays.asList(factory.sampled(1, 10).withCostThreshold(threshold),
+                                          factory.withCostThreshold(new CostThreshold(CostTier.LINEAR)).withCostThreshold(threshold).sampled(1, 10))) {
+            Assertions.assertTrue(configured.getConfig().isSampled() && 10 == configured.getConfig().getSampleOutOf(),
+                                  "AbstractVerifiableFactory should keep the sampling rate along with the cost threshold.");
+            Assertions.assertTrue(threshold == configured.getConfig().getCostThreshold() && factory.getFailedValidationExecutor() == configured.getFailedValidationExecutor(),
+                                  "AbstractVerifiableFactory should replace the cost threshold and keep the factory's executor.");
+        }
+    }
+
+    @Test
+    default void testVerifiersSkipChecksAboveTheCostThreshold() throws X {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        CostThreshold threshold = new CostThreshold(CostTier.CONSTANT);
+        F factory = getNotValueTypeInstance().withMetrics(metrics).withCostThreshold(threshold);
+        int[] array = { 1 };
+        Assertions.assertTrue(array == factory.that(array).doesNotContain(1),
+                              "Verifiers above the cost threshold should return the subject unchecked.");
+        Assertions.assertEquals(1,
+                                factory.that(1).satisfies(i -> i < 0),
+                                "Verifiers above the cost threshold should return the subject unchecked.");
+        Assertions.assertEquals(1,
+                                factory.that(1).isStrictlyPositive(),
+                                "Verifiers at the cost threshold should return the subject.");
+        Assertions.assertEquals(0,
+                                metrics.getChecks(VerifiableIntArray.class, "doesNotContain") + metrics.getChecks(VerifiablePrimitiveInt.class, "satisfies"),
+                                "Verifiers above the cost threshold should not record their checks.");
+        Assertions.assertEquals(1,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, "isStrictlyPositive"),
+                                "Verifiers at the cost threshold should record their checks.");
+        threshold.setMaxTier(CostTier.PREDICATE);
+        factory.that(array).contains(1);
+        Assertions.assertEquals(1,
+                                metrics.getChecks(VerifiableIntArray.class, "contains"),
+                                "Verifiers should make their checks once the cost threshold is raised.");
+    }
+
     // --------------------------------------------------------------
     // Factory method tests
     // --------------------------------------------------------------
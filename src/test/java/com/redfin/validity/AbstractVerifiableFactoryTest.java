@@ -151,4 +151,45 @@ final class AbstractVerifiableFactoryTest {
                                                                                                              .getFailedValidationExecutor(),
                                 "A verifiable factory withMessage(String) should return a factory with the same failed validation executor.");
     }
+
+    @Test
+    void testIsNotConfigurableWhenGetFactoryIsNotOverridden() {
+        Assertions.assertFalse(new TestAbstractVerifiableFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR).isConfigurable(),
+                               "A verifiable factory that does not override getFactory with a config should not be configurable.");
+    }
+
+    @Test
+    void testWithMetricsThrowsWhenGetFactoryIsNotOverridden() {
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                                () -> new TestAbstractVerifiableFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR).withMetrics(new StripedValidationMetrics()));
+    }
+
+    @Test
+    void testOtherSettingsThrowWhenGetFactoryIsNotOverridden() {
+        TestAbstractVerifiableFactory factory = new TestAbstractVerifiableFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR);
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                                () -> factory.withDescribers(Describers.defaults().withLimit(5)));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                                () -> factory.sampled(1, 10));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                                () -> factory.withCostThreshold(new CostThreshold(CostTier.LINEAR)));
+        Assertions.assertNotNull(factory.sampled(1, 1),
+                                 "A factory that is not configurable should still support settings with their default values.");
+    }
+
+    @Test
+    void testThrowsWithNullConfig() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ConfiguredValidityVerifiableFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR, null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("config"),
+                                exception.getMessage(),
+                                "Should not be able to instantiate a configured verifiable factory with a null config.");
+    }
+
+    @Test
+    void testWithNullMetricsCallsGetFactory() {
+        Assertions.assertNull(new TestAbstractVerifiableFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR).withMetrics(null)
+                                                                                                         .getMetrics(),
+                              "A verifiable factory withMetrics(null) should return a factory without metrics.");
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+final class AdaptiveFailedValidationExecutorTest
+        implements FailedValidationExecutorContract<IllegalArgumentException> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test contract implementations
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Override
+    public FailedValidationExecutor<IllegalArgumentException> getFailedValidationExecutor() {
+        return new AdaptiveFailedValidationExecutor<>(IllegalArgumentException::new,
+                                                      new FailureStormPolicy(100, Duration.ofSeconds(1), false));
+    }
+
+    @Override
+    public Class<IllegalArgumentException> getThrowableClass() {
+        return IllegalArgumentException.class;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test requirements
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static IllegalArgumentException failure(AdaptiveFailedValidationExecutor<IllegalArgumentException> executor) {
+        return Assertions.assertThrows(IllegalArgumentException.class,
+                                       () -> executor.fail("t -> t > 0", 0, () -> "message"));
+    }
+
+    private static final class CountingException extends IllegalArgumentException {
+
+        private static final long serialVersionUID = 1L;
+        private static final ThreadLocal<int[]> FILLS = ThreadLocal.withInitial(() -> new int[1]);
+
+        private CountingException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            FILLS.get()[0]++;
+            return super.fillInStackTrace();
+        }
+    }
+
+    private static final class RecordingHandler extends Handler {
+
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNullArguments() {
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new AdaptiveFailedValidationExecutor<>(null, new FailureStormPolicy(1, Duration.ofSeconds(1), false)));
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new AdaptiveFailedValidationExecutor<>(IllegalArgumentException::new, null));
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new AdaptiveFailedValidationExecutor<>(IllegalArgumentException::new, null, new FailureStormPolicy(1, Duration.ofSeconds(1), false)));
+    }
+
+    @Test
+    void testThrowsForNullThrowableCreation() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new AdaptiveFailedValidationExecutor<>(str -> null, new FailureStormPolicy(1, Duration.ofSeconds(1), false)).fail("", "", () -> ""));
+        Assertions.assertEquals(ValidityUtils.nullThrowableFromFunction(),
+                                exception.getMessage(),
+                                "AdaptiveFailedValidationExecutor should throw the expected exception for a null throwable created.");
+    }
+
+    @Test
+    void testCallSiteIsFirstFrameOutsideLibraryBelowExecutor() {
+        StackTraceElement caller = new StackTraceElement("com.example.Caller", "call", null, 1);
+        StackTraceElement[] elements = new StackTraceElement[]{
+                new StackTraceElement("com.example.Thrower", "apply", null, 1),
+                new StackTraceElement(AdaptiveFailedValidationExecutor.class.getName(), "fail", null, 1),
+                new StackTraceElement("com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt", "isStrictlyPositive", null, 1),
+                caller
+        };
+        Assertions.assertSame(caller,
+                              AdaptiveFailedValidationExecutor.callSite(elements),
+                              "The call site should be the first frame outside of the library below the executor.");
+    }
+
+    @Test
+    void testFailuresAreFullBelowThreshold() {
+        AdaptiveFailedValidationExecutor<IllegalArgumentException> executor = new AdaptiveFailedValidationExecutor<>(IllegalArgumentException::new,
+                                                                                                                    new FailureStormPolicy(3, Duration.ofHours(1), true));
+        for (int i = 0; i < 3; i++) {
+            IllegalArgumentException exception = failure(executor);
+            Assertions.assertNotEquals(0,
+                                       exception.getStackTrace().length,
+                                       "Failures below the threshold should have a stack trace.");
+            Assertions.assertTrue(exception.getMessage().startsWith("message"),
+                                  "Failures below the threshold should have the full message.");
+        }
+        Assertions.assertEquals(0,
+                                executor.getSuppressedFailures(),
+                                "Failures below the threshold should not be suppressed.");
+        Assertions.assertTrue(executor.getStormingCallSites().isEmpty(),
+                              "No call site should be storming below the threshold.");
+    }
+
+    @Test
+    void testFailuresAreCheapAboveThreshold() {
+        AdaptiveFailedValidationExecutor<IllegalArgumentException> executor = new AdaptiveFailedValidationExecutor<>(IllegalArgumentException::new,
+                                                                                                                    new FailureStormPolicy(2, Duration.ofHours(1), true));
+        for (int i = 0; i < 3; i++) {
+            failure(executor);
+        }
+        IllegalArgumentException exception = failure(executor);
+        Assertions.assertEquals(0,
+                                exception.getStackTrace().length,
+                                "Failures during a storm should not have a stack trace.");
+        Assertions.assertEquals(ValidityUtils.failureMessage(null, "t -> t > 0", "not described during a failure storm"),
+                                exception.getMessage(),
+                                "Failures during a storm should have the template message.");
+        Assertions.assertEquals(1,
+                                executor.getSuppressedFailures(),
+                                "Failures during a storm should be counted as suppressed.");
+        Assertions.assertEquals(1,
+                                executor.getStormingCallSites().size(),
+                                "The call site should be storming above the threshold.");
+    }
+
+    @Test
+    void testCheapFailuresAreCreatedWithTheStormThrowableFunction() {
+        AdaptiveFailedValidationExecutor<IllegalArgumentException> executor = new AdaptiveFailedValidationExecutor<>(CountingException::new,
+                                                                                                                    StacklessIllegalArgumentException::new,
+                                                                                                                    new FailureStormPolicy(1, Duration.ofHours(1), true));
+        failure(executor);
+        failure(executor);
+        int fills = CountingException.FILLS.get()[0];
+        IllegalArgumentException exception = failure(executor);
+        Assertions.assertTrue(exception instanceof StacklessIllegalArgumentException,
+                              "Failures during a storm should be created with the storm throwable function.");
+        Assertions.assertEquals(fills,
+                                CountingException.FILLS.get()[0],
+                                "Failures during a storm should not capture a stack trace with a stackless storm throwable function.");
+        Assertions.assertEquals(0,
+                                exception.getStackTrace().length,
+                                "Failures during a storm should not have a stack trace.");
+        Assertions.assertEquals(1,
+                                executor.getSuppressedFailures(),
+                                "Failures during a storm should be counted as suppressed.");
+    }
+
+    @Test
+    void testFailuresKeepMessageWithoutTemplateMessages() {
+        AdaptiveFailedValidationExecutor<IllegalArgumentException> executor = new AdaptiveFailedValidationExecutor<>(IllegalArgumentException::new,
+                                                                                                                    new FailureStormPolicy(0, Duration.ofHours(1), false));
+        failure(executor);
+        IllegalArgumentException exception = failure(executor);
+        Assertions.assertEquals(0,
+                                exception.getStackTrace().length,
+                                "Failures during a storm should not have a stack trace.");
+        Assertions.assertTrue(exception.getMessage().startsWith("message"),
+                              "Failures during a storm should keep the full message without template messages.");
+    }
+
+    @Test
+    void testStormEndsAndIsLoggedWhenRateDrops() throws InterruptedException {
+        Logger logger = Logger.getLogger(AdaptiveFailedValidationExecutor.class.getName());
+        RecordingHandler handler = new RecordingHandler();
+        boolean useParentHandlers = logger.getUseParentHandlers();
+        logger.addHandler(handler);
+        logger.setUseParentHandlers(false);
+        try {
+            AdaptiveFailedValidationExecutor<IllegalArgumentException> executor = new AdaptiveFailedValidationExecutor<>(IllegalArgumentException::new,
+                                                                                                                        new FailureStormPolicy(1, Duration.ofMillis(20), true));
+            failure(executor);
+            failure(executor);
+            failure(executor);
+            Thread.sleep(100);
+            IllegalArgumentException exception = failure(executor);
+            Assertions.assertNotEquals(0,
+                                       exception.getStackTrace().length,
+                                       "Failures should have a stack trace again after the rate drops.");
+            Assertions.assertTrue(executor.getStormingCallSites().isEmpty(),
+                                  "No call site should be storming after the rate drops.");
+            Assertions.assertEquals(2,
+                                    handler.messages.size(),
+                                    "The start and end of the storm should be logged.");
+            Assertions.assertTrue(handler.messages.get(1).endsWith("1 failures were suppressed"),
+                                  "The end of the storm should log the number of suppressed failures.");
+        } finally {
+            logger.removeHandler(handler);
+            logger.setUseParentHandlers(useParentHandlers);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+final class CheckVerifiableFactoryTest
+ implements AbstractVerifiableFactoryContract<RuntimeException, CheckVerifiableFactory> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test requirements
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final Supplier<String> VALID_MESSAGE_SUPPLIER = () -> "hello";
+
+    private static final FailedValidationExecutor<RuntimeException> VALIDATION_EXECUTOR = new FailedValidationExecutor<RuntimeException>() {
+        @Override
+        public <T> void fail(String expected, T subject, Supplier<String> messageSupplier) throws RuntimeException {
+            throw new IllegalArgumentException(expected + subject + messageSupplier.get());
+        }
+    };
+
+    private CheckVerifiableFactory getInstance() {
+        return new CheckVerifiableFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR);
+    }
+
+    @Override
+    public AbstractVerifiableFactory<RuntimeException, CheckVerifiableFactory> getNotValueTypeInstance() {
+        return getInstance();
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testCanInstantiateWithValidArguments() {
+        try {
+            getInstance();
+        } catch (Throwable thrown) {
+            throw new RuntimeException("Should be able to instantiate a CheckVerifiableFactory with valid arguments", thrown);
+        }
+    }
+
+    @Test
+    void testCanInstantiateWithNullMessage() {
+        try {
+            new CheckVerifiableFactory(() -> null, VALIDATION_EXECUTOR);
+        } catch (Throwable thrown) {
+            throw new RuntimeException("Should be able to instantiate a CheckVerifiableFactory with a null message", thrown);
+        }
+    }
+
+    @Test
+    void testConstructorThrowsExceptionForNullMessageSupplier() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new CheckVerifiableFactory(null, VALIDATION_EXECUTOR));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("messageSupplier"),
+                                exception.getMessage(),
+                                "Should not be able to instantiate a CheckVerifiableFactory with a null message supplier.");
+    }
+
+    @Test
+    void testConstructorThrowsExceptionForNullValidationExecutor() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new CheckVerifiableFactory(VALID_MESSAGE_SUPPLIER, null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("failedValidationExecutor"),
+                                exception.getMessage(),
+                                "Should not be able to instantiate a CheckVerifiableFactory with a null failed validation executor.");
+    }
+
+    @Test
+    void testReturnsGivenMessage() {
+        Assertions.assertTrue( VALID_MESSAGE_SUPPLIER.get().equals(getInstance().getMessageSupplier().get()),
+                               "A verifiable factory should return the same string message instance it is given");
+    }
+
+    @Test
+    void testReturnsGivenExecutor() {
+        Assertions.assertTrue( VALIDATION_EXECUTOR.equals(getInstance().getFailedValidationExecutor()),
+                               "A verifiable factory should return the same FailedValidationExecutor instance it is given");
+    }
+
+    @Test
+    void testGetFactoryReturnsNonNUllInstance() {
+        Assertions.assertNotNull(getInstance().getFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR),
+                                 "The getFactory method of the verifiable factory should return a non-null instance.");
+    }
+
+    @Test
+    void testGetFactoryReturnsGivenMessage() {
+        Assertions.assertTrue( VALID_MESSAGE_SUPPLIER.get().equals(getInstance().getFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR)
+                                                                                .getMessageSupplier()
+                                                                                .get()),
+                               "A verifiable factory should return the same string message instance it is given");
+    }
+
+    @Test
+    void testGetFactoryReturnsGivenExecutor() {
+        Assertions.assertTrue( VALIDATION_EXECUTOR.equals(getInstance().getFactory(VALID_MESSAGE_SUPPLIER, VALIDATION_EXECUTOR)
+                                                                       .getFailedValidationExecutor()),
+                               "A verifiable factory should return the same FailedValidationExecutor instance it is given");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class CostThresholdTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testConstructorThrowsForNullMaxTier() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new CostThreshold(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("maxTier"),
+                                exception.getMessage(),
+                                "CostThreshold should throw for a null maxTier.");
+    }
+
+    @Test
+    void testConstructorThrowsForNegativeChecked() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new CostThreshold(CostTier.CONSTANT, -1, 10));
+    }
+
+    @Test
+    void testConstructorThrowsForFewerCallsThanChecked() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new CostThreshold(CostTier.CONSTANT, 2, 1));
+    }
+
+    @Test
+    void testConstructorThrowsForNoCalls() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new CostThreshold(CostTier.CONSTANT, 0, 0));
+    }
+
+    @Test
+    void testSetMaxTierThrowsForNull() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new CostThreshold(CostTier.CONSTANT).setMaxTier(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("maxTier"),
+                                exception.getMessage(),
+                                "CostThreshold should throw for a null maxTier.");
+    }
+
+    @Test
+    void testGettersReturnGivenValues() {
+        CostThreshold threshold = new CostThreshold(CostTier.LINEAR, 1, 100);
+        Assertions.assertEquals(CostTier.LINEAR,
+                                threshold.getMaxTier(),
+                                "CostThreshold should return the given maximum tier.");
+        Assertions.assertEquals(1,
+                                threshold.getChecked(),
+                                "CostThreshold should return the given number of checked calls.");
+        Assertions.assertEquals(100,
+                                threshold.getOutOf(),
+                                "CostThreshold should return the given number of calls.");
+        threshold.setMaxTier(CostTier.PREDICATE);
+        Assertions.assertEquals(CostTier.PREDICATE,
+                                threshold.getMaxTier(),
+                                "CostThreshold should return the maximum tier it was set to.");
+    }
+
+    @Test
+    void testSkipsOnlyTiersAboveTheMaximum() {
+        CostThreshold threshold = new CostThreshold(CostTier.LINEAR);
+        Assertions.assertFalse(threshold.isSkipping(CostTier.CONSTANT),
+                               "CostThreshold should not skip checks below the maximum tier.");
+        Assertions.assertFalse(threshold.isSkipping(CostTier.LINEAR),
+                               "CostThreshold should not skip checks of the maximum tier.");
+        Assertions.assertTrue(threshold.isSkipping(CostTier.PREDICATE),
+                              "CostThreshold should skip checks above the maximum tier.");
+        threshold.setMaxTier(CostTier.PREDICATE);
+        Assertions.assertFalse(threshold.isSkipping(CostTier.PREDICATE),
+                               "CostThreshold should not skip checks once the maximum tier is raised.");
+    }
+
+    @Test
+    void testSamplesTiersAboveTheMaximum() {
+        CostThreshold threshold = new CostThreshold(CostTier.CONSTANT, 1, 2);
+        int made = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (!threshold.isSkipping(CostTier.LINEAR)) {
+                made++;
+            }
+        }
+        Assertions.assertTrue(made > 4_000 && made < 6_000,
+                              "CostThreshold should make about the sampled share of the checks above the maximum tier, made " + made);
+    }
+
+    @Test
+    void testFactoryVerifiersSkipChecksAboveTheMaximum() {
+        ValidationResult result = new ValidationResult();
+        CheckVerifiableFactory factory = Validity.check(result).withCostThreshold(new CostThreshold(CostTier.CONSTANT));
+        factory.that("subject").satisfies(subject -> false);
+        Assertions.assertTrue(result.isValid(),
+                              "The verifiers of a factory with a cost threshold should skip checks above the maximum tier.");
+        factory.that(-1).isStrictlyPositive();
+        Assertions.assertEquals(-1,
+                                result.getSubject(),
+                                "The verifiers of a factory with a cost threshold should pass failures of constant checks to the factory's executor.");
+    }
+}
@@ -124,5 +124,91 @@ final class DefaultValidityFailedValidationExecutorTest {
                                     exception.getMessage(),
                                     "Failed validation executors should throw the expected exception for a null throwable created.");
         }
+
+        @Test
+        void testVerifierFrameIsOutermostLibraryFrameBelowExecutor() {
+            StackTraceElement verifier = new StackTraceElement("com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt", "isStrictlyPositive", null, 1);
+            StackTraceElement[] elements = new StackTraceElement[]{
+                    new StackTraceElement("com.example.Thrower", "apply", null, 1),
+                    new StackTraceElement(DefaultValidityFailedValidationExecutor.class.getName(), "fail", null, 1),
+                    new StackTraceElement("com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt", "fail", null, 1),
+                    verifier,
+                    new StackTraceElement("com.example.Caller", "call", null, 1)
+            };
+            Assertions.assertSame(verifier,
+                                  DefaultValidityFailedValidationExecutor.verifierFrame(elements),
+                                  "The verifier frame should be the outermost library frame below the executor.");
+        }
+
+        @Test
+        void testVerifierFrameFallsBackToCallerOfExecutor() {
+            StackTraceElement custom = new StackTraceElement("com.example.CustomVerifier", "isValid", null, 1);
+            StackTraceElement[] elements = new StackTraceElement[]{
+                    new StackTraceElement(DefaultValidityFailedValidationExecutor.class.getName(), "fail", null, 1),
+                    custom,
+                    new StackTraceElement("com.example.Caller", "call", null, 1)
+            };
+            Assertions.assertSame(custom,
+                                  DefaultValidityFailedValidationExecutor.verifierFrame(elements),
+                                  "The verifier frame should be the caller of the executor for custom verifiers.");
+        }
+
+        @Test
+        void testVerifierFrameIsNullWithoutExecutorFrame() {
+            Assertions.assertNull(DefaultValidityFailedValidationExecutor.verifierFrame(new StackTraceElement[0]),
+                                  "The verifier frame should be null if the executor is not on the stack.");
+            Assertions.assertNull(DefaultValidityFailedValidationExecutor.verifierFrame(null),
+                                  "The verifier frame should be null for a null stack.");
+        }
+    }
+
+    @Nested
+    final class LazyMessageFailedValidationExecutorTestContainer implements ValidationExecutorsMessageContract<IllegalArgumentException> {
+
+        @Override
+        public FailedValidationExecutor<IllegalArgumentException> getFailedValidationExecutor() {
+            return DefaultValidityFailedValidationExecutor.withLazyMessages(ValidityIllegalArgumentException::new);
+        }
+
+        @Override
+        public Class<IllegalArgumentException> getThrowableClass() {
+            return IllegalArgumentException.class;
+        }
+
+        @Test
+        void throwsExceptionForNullLazyThrowableFunction() {
+            NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                     () -> DefaultValidityFailedValidationExecutor.withLazyMessages(null));
+            Assertions.assertEquals(ValidityUtils.nullArgumentMessage("throwableFunction"),
+                                    exception.getMessage(),
+                                    "Failed validation executors should throw an exception for a null throwable function.");
+        }
+
+        @Test
+        void testFailedValidationExecutorThrowsExceptionForNullLazyThrowableCreation() {
+            NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                     () -> DefaultValidityFailedValidationExecutor.withLazyMessages((expected, subject, messageSupplier, describers) -> null).fail("", "", () -> ""));
+            Assertions.assertEquals(ValidityUtils.nullThrowableFromFunction(),
+                                    exception.getMessage(),
+                                    "Failed validation executors should throw the expected exception for a null throwable created.");
+        }
+
+        @Test
+        void testFailureDoesNotGetCustomMessage() {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> getFailedValidationExecutor().fail("expected", "subject", () -> {
+                                        throw new AssertionError("The custom message should not be asked for");
+                                    }));
+        }
+
+        @Test
+        void testThrownExceptionIsTrimmed() {
+            IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                         () -> getFailedValidationExecutor().fail("expected", "subject", () -> null));
+            for (StackTraceElement element : exception.getStackTrace()) {
+                Assertions.assertFalse(element.getClassName().startsWith(DefaultValidityFailedValidationExecutor.class.getName()),
+                                       "The thrown exception should not have executor frames.");
+            }
+        }
     }
 }
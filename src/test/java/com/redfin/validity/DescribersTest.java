@@ -0,0 +1,193 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class DescribersTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test values
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private interface Identified {
+
+        int getId();
+    }
+
+    private static class Entity implements Identified, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int getId() {
+            return 7;
+        }
+
+        @Override
+        public String toString() {
+            throw new AssertionError("The expensive toString should not be called");
+        }
+    }
+
+    private static final class SubEntity extends Entity {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testDefaultsDescribeLikeValidityUtils() {
+        List<Integer> subject = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            subject.add(i);
+        }
+        Assertions.assertEquals(ValidityUtils.describe(subject),
+                                Describers.defaults().describe(subject),
+                                "The default describers should describe subjects the same way as ValidityUtils.");
+        Assertions.assertEquals(ValidityUtils.describe((Object) null),
+                                Describers.defaults().describe(null),
+                                "The default describers should describe null the same way as ValidityUtils.");
+        Assertions.assertEquals(Describers.DEFAULT_LIMIT,
+                                Describers.defaults().getLimit(),
+                                "The default describers should have the default limit.");
+    }
+
+    @Test
+    void testWithThrowsForNullType() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> Describers.defaults().with(null, Object::toString));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("type"),
+                                exception.getMessage(),
+                                "Describers should throw for a null type.");
+    }
+
+    @Test
+    void testWithThrowsForNullDescriber() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> Describers.defaults().with(Entity.class, null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("describer"),
+                                exception.getMessage(),
+                                "Describers should throw for a null describer.");
+    }
+
+    @Test
+    void testWithLimitThrowsForNonPositiveLimit() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> Describers.defaults().withLimit(0));
+    }
+
+    @Test
+    void testWithReturnsNewInstance() {
+        Describers describers = Describers.defaults();
+        Assertions.assertNotSame(describers,
+                                 describers.with(Entity.class, entity -> "entity"),
+                                 "Describers with should return a new instance.");
+        Assertions.assertThrows(AssertionError.class,
+                                () -> describers.describe(new Entity()));
+    }
+
+    @Test
+    void testUsesDescriberRegisteredForClass() {
+        Describers describers = Describers.defaults().with(Entity.class, entity -> "Entity#" + entity.getId());
+        Assertions.assertEquals("Entity#7",
+                                describers.describe(new Entity()),
+                                "Describers should use the describer registered for the subject's class.");
+    }
+
+    @Test
+    void testUsesDescriberRegisteredForClosestSuperClassBeforeInterface() {
+        Describers describers = Describers.defaults()
+                                          .with(Identified.class, identified -> "Identified")
+                                          .with(Serializable.class, serializable -> "Serializable")
+                                          .with(Entity.class, entity -> "Entity");
+        Assertions.assertEquals("Entity",
+                                describers.describe(new SubEntity()),
+                                "Describers should prefer the closest registered super-class.");
+    }
+
+    @Test
+    void testUsesDescriberRegisteredForInterface() {
+        Describers describers = Describers.defaults().with(Identified.class, identified -> "Identified#" + identified.getId());
+        Assertions.assertEquals("Identified#7",
+                                describers.describe(new SubEntity()),
+                                "Describers should use the describer registered for an interface of the subject.");
+    }
+
+    @Test
+    void testTruncatesToLimit() {
+        Describers describers = Describers.defaults()
+                                          .withLimit(5)
+                                          .with(Entity.class, entity -> "Entity#" + entity.getId());
+        Assertions.assertEquals("Entit ...",
+                                describers.describe(new Entity()),
+                                "Describers should truncate registered descriptions to the limit.");
+        Assertions.assertEquals("[1, 2 ...",
+                                describers.describe(Arrays.asList(1, 2, 3)),
+                                "Describers should truncate default descriptions to the limit.");
+        Assertions.assertEquals("abc",
+                                describers.describe("abc"),
+                                "Describers should not truncate descriptions within the limit.");
+    }
+
+    @Test
+    void testFactoryUsesDescribersForFailureMessages() {
+        Describers describers = Describers.defaults().with(Entity.class, entity -> "Entity#" + entity.getId());
+        Entity subject = new Entity();
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     () -> Validity.validate()
+                                                                                   .withDescribers(describers)
+                                                                                   .withMessage("hello")
+                                                                                   .that((Object) subject)
+                                                                                   .isNull());
+        Assertions.assertEquals(ValidityUtils.failureMessage("hello", "t -> null == t", "Entity#7"),
+                                exception.getMessage(),
+                                "A factory with describers should use them to describe the subject.");
+    }
+
+    @Test
+    void testFastFactoryUsesDescriberLimit() {
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     () -> Validity.validateFast()
+                                                                                   .withDescribers(Describers.defaults().withLimit(3))
+                                                                                   .that(12345)
+                                                                                   .isStrictlyNegative());
+        Assertions.assertTrue(exception.getMessage().endsWith("<123 ...>"),
+                              "A fast factory with describers should use their limit.");
+    }
+
+    @Test
+    void testCollectorUsesDescribers() {
+        ValidationCollector collector = new ValidationCollector();
+        Validity.collect(collector)
+                .withDescribers(Describers.defaults().with(Entity.class, entity -> "Entity#" + entity.getId()))
+                .that((Object) new Entity())
+                .isNull();
+        Assertions.assertEquals(ValidityUtils.failureMessage(null, "t -> null == t", "Entity#7"),
+                                collector.getMessages().get(0),
+                                "A collector should describe subjects with the describers of the factory.");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+final class FailedValidationExecutorTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test values
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final class RecordingFailedValidationExecutor
+            implements FailedValidationExecutor<IllegalArgumentException> {
+
+        private final List<Object> subjects = new ArrayList<>();
+        private final List<String> expectations = new ArrayList<>();
+
+        @Override
+        public <T> void fail(String expected,
+                             T subject,
+                             Supplier<String> messageSupplier) {
+            expectations.add(expected);
+            subjects.add(subject);
+            throw new IllegalArgumentException(expected);
+        }
+    }
+
+    private static final class CountingFailedValidationExecutor
+            implements FailedValidationExecutor<IllegalArgumentException> {
+
+        private int failures;
+
+        @Override
+        public <T> void fail(String expected,
+                             T subject,
+                             Supplier<String> messageSupplier) {
+            throw new AssertionError("The generic fail method should not be called");
+        }
+
+        @Override
+        public void failInt(ValidationFailure failure,
+                            int subject,
+                            Supplier<String> messageSupplier) {
+            failures++;
+            throw new IllegalArgumentException();
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testPrimitiveFailMethodsThrowForNullFailure() {
+        RecordingFailedValidationExecutor executor = new RecordingFailedValidationExecutor();
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> executor.failInt(null, 1, () -> null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("failure"),
+                                exception.getMessage(),
+                                "The primitive fail methods should throw for a null failure.");
+    }
+
+    @Test
+    void testPrimitiveFailMethodsDelegateToFailWithBoxedSubject() {
+        RecordingFailedValidationExecutor executor = new RecordingFailedValidationExecutor();
+        ValidationFailure failure = new ValidationFailure(ValidationFailure.Operator.GREATER_THAN, 0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failBoolean(failure, true, () -> null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failByte(failure, (byte) 1, () -> null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failChar(failure, 'c', () -> null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failShort(failure, (short) 1, () -> null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failInt(failure, 1, () -> null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failLong(failure, 1L, () -> null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failFloat(failure, 1f, () -> null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.failDouble(failure, 1d, () -> null));
+        Object[] expectedSubjects = { true, (byte) 1, 'c', (short) 1, 1, 1L, 1f, 1d };
+        Assertions.assertArrayEquals(expectedSubjects,
+                                     executor.subjects.toArray(),
+                                     "The primitive fail methods should pass the boxed subject to fail.");
+        for (String expected : executor.expectations) {
+            Assertions.assertEquals("t -> t > 0",
+                                    expected,
+                                    "The primitive fail methods should pass the expected description to fail.");
+        }
+    }
+
+    @Test
+    void testPrimitiveVerifiersCallPrimitiveFailMethods() {
+        CountingFailedValidationExecutor executor = new CountingFailedValidationExecutor();
+        ValidityVerifiableFactory factory = new ValidityVerifiableFactory(() -> null, executor);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> factory.that(0).isGreaterThan(1));
+        Assertions.assertEquals(1,
+                                executor.failures,
+                                "The primitive verifiers should call the primitive fail methods.");
+    }
+
+    @Test
+    void testDescribedFailThrowsForNullDescribers() {
+        RecordingFailedValidationExecutor executor = new RecordingFailedValidationExecutor();
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> executor.fail("expected", "subject", () -> null, null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("describers"),
+                                exception.getMessage(),
+                                "The described fail method should throw for null describers.");
+    }
+
+    @Test
+    void testDescribedFailDelegatesToFail() {
+        RecordingFailedValidationExecutor executor = new RecordingFailedValidationExecutor();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> executor.fail("expected", "subject", () -> null, Describers.defaults().withLimit(3)));
+        Assertions.assertEquals("subject",
+                                executor.subjects.get(0),
+                                "The described fail method should pass the subject to fail by default.");
+    }
+
+    @Test
+    void testPrimitiveVerifiersWithDescribersCallDescribedFail() {
+        RecordingFailedValidationExecutor executor = new RecordingFailedValidationExecutor();
+        ValidityVerifiableFactory factory = new ValidityVerifiableFactory(() -> null, executor).withDescribers(Describers.defaults().withLimit(3));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> factory.that(0).isGreaterThan(1));
+        Assertions.assertEquals(Integer.valueOf(0),
+                                executor.subjects.get(0),
+                                "The primitive verifiers of a factory with describers should pass the boxed subject to fail.");
+    }
+}
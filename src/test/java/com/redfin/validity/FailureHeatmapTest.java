@@ -0,0 +1,269 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+final class FailureHeatmapTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test requirements
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static StackTraceElement callSite(int line) {
+        return new StackTraceElement("com.example.Caller", "call", "Caller.java", line);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForInvalidCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FailureHeatmap(0));
+    }
+
+    @Test
+    void testThrowsForCapacityOverMaximum() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FailureHeatmap((1 << 28) + 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FailureHeatmap(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testTableSizeDoesNotOverflowAtMaximumCapacity() {
+        Assertions.assertEquals(1 << 30,
+                                FailureHeatmap.tableSize(1 << 28),
+                                "FailureHeatmap should fit the table of the maximum capacity in an array.");
+        Assertions.assertEquals(1 << 30,
+                                FailureHeatmap.tableSize((1 << 28) - 1) * 2,
+                                "FailureHeatmap should size the table of the capacity below the maximum without overflow.");
+    }
+
+    @Test
+    void testTableSizeIsAtLeastTwiceTheCapacity() {
+        for (int capacity : new int[]{1, 2, 3, 255, 256, 257, 1000}) {
+            int tableSize = FailureHeatmap.tableSize(capacity);
+            Assertions.assertTrue(tableSize >= 2 * capacity && Integer.bitCount(tableSize) == 1,
+                                  "FailureHeatmap should use a power of two table at least twice the capacity of " + capacity);
+        }
+    }
+
+    @Test
+    void testReturnsGivenCapacity() {
+        Assertions.assertEquals(3,
+                                new FailureHeatmap(3).getCapacity(),
+                                "FailureHeatmap should return the given capacity.");
+    }
+
+    @Test
+    void testThrowsForNullArguments() {
+        FailureHeatmap heatmap = new FailureHeatmap();
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> heatmap.record((Throwable) null));
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> heatmap.record((StackTraceElement) null));
+    }
+
+    @Test
+    void testThrowsForNegativeTop() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FailureHeatmap().getTop(-1));
+    }
+
+    @Test
+    void testTopIsOrderedByCount() {
+        FailureHeatmap heatmap = new FailureHeatmap();
+        heatmap.record(callSite(1));
+        heatmap.record(callSite(2));
+        heatmap.record(callSite(2));
+        heatmap.record(callSite(3));
+        heatmap.record(callSite(3));
+        heatmap.record(callSite(3));
+        Assertions.assertEquals(Arrays.asList(callSite(3), callSite(2)),
+                                new ArrayList<>(heatmap.getTop(2).keySet()),
+                                "FailureHeatmap should return the call sites with the most failures first.");
+        Assertions.assertEquals(Arrays.asList(3L, 2L, 1L),
+                                new ArrayList<>(heatmap.getTop(10).values()),
+                                "FailureHeatmap should return the count of each call site.");
+    }
+
+    @Test
+    void testRecordsFirstFrameOutsideOfLibrary() {
+        FailureHeatmap heatmap = new FailureHeatmap();
+        Throwable throwable = new IllegalArgumentException();
+        throwable.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("com.redfin.validity.verifiers.objects.VerifiableString", "isEmpty", null, 1),
+                callSite(42),
+                callSite(43)
+        });
+        heatmap.record(throwable);
+        Assertions.assertEquals(Arrays.asList(callSite(42)),
+                                new ArrayList<>(heatmap.getTop(10).keySet()),
+                                "FailureHeatmap should record the first frame outside of the library.");
+    }
+
+    @Test
+    void testThrowableWithoutCallSiteIsUntracked() {
+        FailureHeatmap heatmap = new FailureHeatmap();
+        Throwable throwable = new IllegalArgumentException();
+        throwable.setStackTrace(new StackTraceElement[0]);
+        heatmap.record(throwable);
+        Assertions.assertEquals(1,
+                                heatmap.getUntrackedFailures(),
+                                "FailureHeatmap should count failures without a call site as untracked.");
+    }
+
+    @Test
+    void testCallSiteOverCapacityReplacesTheOneWithFewestFailures() {
+        FailureHeatmap heatmap = new FailureHeatmap(2);
+        heatmap.record(callSite(1));
+        heatmap.record(callSite(1));
+        heatmap.record(callSite(2));
+        heatmap.record(callSite(3));
+        Map<StackTraceElement, Long> top = heatmap.getTop(10);
+        Assertions.assertEquals(2,
+                                top.size(),
+                                "FailureHeatmap should not track more call sites than its capacity.");
+        Assertions.assertFalse(top.containsKey(callSite(2)),
+                               "FailureHeatmap should replace the call site with the fewest failures when full.");
+        Assertions.assertEquals(Long.valueOf(2),
+                                top.get(callSite(3)),
+                                "FailureHeatmap should start a replacing call site from the count of the replaced one plus one.");
+        Assertions.assertEquals(Long.valueOf(2),
+                                top.get(callSite(1)),
+                                "FailureHeatmap should keep counting call sites that are tracked when full.");
+        Assertions.assertEquals(0,
+                                heatmap.getUntrackedFailures(),
+                                "FailureHeatmap should not count failures at call sites over its capacity as untracked.");
+    }
+
+    @Test
+    void testFrequentCallSiteIsNotPushedOutByRareOnes() {
+        FailureHeatmap heatmap = new FailureHeatmap(4);
+        for (int i = 0; i < 100; i++) {
+            heatmap.record(callSite(0));
+            heatmap.record(callSite(1 + i));
+        }
+        Assertions.assertEquals(callSite(0),
+                                heatmap.getTop(1).keySet().iterator().next(),
+                                "FailureHeatmap should keep the call site that fails most often.");
+        Assertions.assertEquals(Long.valueOf(100),
+                                heatmap.getTop(1).get(callSite(0)),
+                                "FailureHeatmap should count every failure at a call site that stays tracked.");
+    }
+
+    @Test
+    void testResetZeroesCounts() {
+        FailureHeatmap heatmap = new FailureHeatmap(1);
+        heatmap.record(callSite(1));
+        heatmap.record(callSite(2));
+        heatmap.reset();
+        Assertions.assertTrue(heatmap.getTop(10).isEmpty(),
+                              "FailureHeatmap should not return call sites with no failures after a reset.");
+        Assertions.assertEquals(0,
+                                heatmap.getUntrackedFailures(),
+                                "FailureHeatmap should zero the untracked failures on reset.");
+    }
+
+    @Test
+    void testResetStopsTrackingCallSitesWithoutFailures() {
+        FailureHeatmap heatmap = new FailureHeatmap(2);
+        heatmap.record(callSite(1));
+        heatmap.record(callSite(2));
+        heatmap.reset();
+        heatmap.record(callSite(1));
+        heatmap.reset();
+        heatmap.record(callSite(3));
+        heatmap.record(callSite(1));
+        Map<StackTraceElement, Long> top = heatmap.getTop(10);
+        Assertions.assertEquals(Long.valueOf(1),
+                                top.get(callSite(3)),
+                                "FailureHeatmap should count a new call site from zero once reset freed a slot.");
+        Assertions.assertEquals(Long.valueOf(1),
+                                top.get(callSite(1)),
+                                "FailureHeatmap should keep tracking call sites with failures since the previous reset.");
+    }
+
+    @Test
+    void testTopIsUnmodifiable() {
+        FailureHeatmap heatmap = new FailureHeatmap();
+        heatmap.record(callSite(1));
+        Map<StackTraceElement, Long> top = heatmap.getTop(10);
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                                top::clear);
+    }
+
+    @Test
+    void testCountsFromManyThreads() throws InterruptedException {
+        FailureHeatmap heatmap = new FailureHeatmap(16);
+        int threads = 4;
+        int failures = 10_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Thread(() -> {
+                for (int j = 0; j < failures; j++) {
+                    heatmap.record(callSite(j % 16));
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long tracked = heatmap.getTop(16).values().stream().mapToLong(Long::longValue).sum();
+        Assertions.assertEquals(16,
+                                heatmap.getTop(16).size(),
+                                "FailureHeatmap should track every call site from many threads.");
+        Assertions.assertEquals((long) threads * failures,
+                                tracked,
+                                "FailureHeatmap should count every failure from many threads.");
+    }
+
+    @Test
+    void testReplacesCallSitesFromManyThreads() throws InterruptedException {
+        FailureHeatmap heatmap = new FailureHeatmap(8);
+        int threads = 4;
+        int failures = 10_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Thread(() -> {
+                for (int j = 0; j < failures; j++) {
+                    heatmap.record(callSite(j % 16));
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long tracked = heatmap.getTop(16).values().stream().mapToLong(Long::longValue).sum();
+        Assertions.assertEquals(8,
+                                heatmap.getTop(16).size(),
+                                "FailureHeatmap should track up to its capacity of call sites from many threads.");
+        Assertions.assertTrue(tracked <= (long) threads * failures,
+                              "FailureHeatmap should not count more failures than were recorded, was: " + tracked);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+final class FailureStormPolicyTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testReturnsGivenValues() {
+        FailureStormPolicy policy = new FailureStormPolicy(10, Duration.ofSeconds(1), true);
+        Assertions.assertEquals(10,
+                                policy.getMaxFailures(),
+                                "FailureStormPolicy should return the given maximum failures.");
+        Assertions.assertEquals(Duration.ofSeconds(1),
+                                policy.getWindow(),
+                                "FailureStormPolicy should return the given window.");
+        Assertions.assertTrue(policy.isTemplateMessages(),
+                              "FailureStormPolicy should return the given template messages flag.");
+    }
+
+    @Test
+    void testThrowsForNullWindow() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new FailureStormPolicy(10, null, false));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("window"),
+                                exception.getMessage(),
+                                "FailureStormPolicy should throw for a null window.");
+    }
+
+    @Test
+    void testThrowsForInvalidValues() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FailureStormPolicy(-1, Duration.ofSeconds(1), false));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FailureStormPolicy(10, Duration.ZERO, false));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FailureStormPolicy(10, Duration.ofSeconds(-1), false));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class FlightRecorderValidationMetricsTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testDefaultSampleInterval() {
+        Assertions.assertEquals(1000,
+                                new FlightRecorderValidationMetrics().getSampleInterval(),
+                                "FlightRecorderValidationMetrics should sample one in every 1000 calls by default.");
+    }
+
+    @Test
+    void testReturnsGivenSampleInterval() {
+        Assertions.assertEquals(7,
+                                new FlightRecorderValidationMetrics(7).getSampleInterval(),
+                                "FlightRecorderValidationMetrics should return the given sample interval.");
+    }
+
+    @Test
+    void testThrowsForNonPositiveSampleInterval() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new FlightRecorderValidationMetrics(0));
+    }
+
+    @Test
+    void testRecordingWithoutFlightRecorderDoesNotThrow() {
+        FlightRecorderValidationMetrics metrics = new FlightRecorderValidationMetrics(1);
+        metrics.recordCheck(VerifiablePrimitiveInt.class, "isStrictlyPositive");
+        metrics.recordFailure(VerifiablePrimitiveInt.class, "isStrictlyPositive");
+    }
+
+    @Test
+    void testCanBeUsedAsFactoryMetrics() {
+        Assertions.assertEquals(5,
+                                (int) Validity.validate().withMetrics(new FlightRecorderValidationMetrics(1)).that(5).isStrictlyPositive(),
+                                "FlightRecorderValidationMetrics should not change the result of a validation.");
+    }
+}
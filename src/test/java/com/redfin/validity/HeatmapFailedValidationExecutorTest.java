@@ -0,0 +1,93 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+final class HeatmapFailedValidationExecutorTest
+        implements FailedValidationExecutorContract<IllegalArgumentException> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test contract implementations
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Override
+    public FailedValidationExecutor<IllegalArgumentException> getFailedValidationExecutor() {
+        return new HeatmapFailedValidationExecutor<>(new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new),
+                                                     new FailureHeatmap());
+    }
+
+    @Override
+    public Class<IllegalArgumentException> getThrowableClass() {
+        return IllegalArgumentException.class;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNullDelegate() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new HeatmapFailedValidationExecutor<>(null, new FailureHeatmap()));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("delegate"),
+                                exception.getMessage(),
+                                "HeatmapFailedValidationExecutor should throw for a null delegate.");
+    }
+
+    @Test
+    void testThrowsForNullHeatmap() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new HeatmapFailedValidationExecutor<>(new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new), null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("heatmap"),
+                                exception.getMessage(),
+                                "HeatmapFailedValidationExecutor should throw for a null heatmap.");
+    }
+
+    @Test
+    void testReturnsGivenHeatmap() {
+        FailureHeatmap heatmap = new FailureHeatmap();
+        Assertions.assertSame(heatmap,
+                              new HeatmapFailedValidationExecutor<>(new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new), heatmap).getHeatmap(),
+                              "HeatmapFailedValidationExecutor should return the given heatmap.");
+    }
+
+    @Test
+    void testRecordsCallSiteOfFailedValidations() {
+        FailureHeatmap heatmap = new FailureHeatmap();
+        ValidityVerifiableFactory factory = new ValidityVerifiableFactory(() -> null,
+                                                                          new HeatmapFailedValidationExecutor<>(new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new), heatmap));
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> factory.that(0).isStrictlyPositive());
+        }
+        Map<StackTraceElement, Long> top = heatmap.getTop(10);
+        Assertions.assertEquals(1,
+                                top.size(),
+                                "HeatmapFailedValidationExecutor should record the failures at a single call site.");
+        Map.Entry<StackTraceElement, Long> entry = top.entrySet().iterator().next();
+        // This test is itself in the library package so the call site is the test framework frame that called it
+        Assertions.assertFalse(entry.getKey().getClassName().startsWith("com.redfin.validity."),
+                               "HeatmapFailedValidationExecutor should record the first frame outside of the library as the call site.");
+        Assertions.assertEquals(3L,
+                                (long) entry.getValue(),
+                                "HeatmapFailedValidationExecutor should record every failure.");
+    }
+}
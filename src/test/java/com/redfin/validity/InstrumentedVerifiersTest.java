@@ -0,0 +1,98 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.InstrumentedVerifiers.InstrumentedString;
+import com.redfin.validity.verifiers.objects.VerifiableString;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class InstrumentedVerifiersTest
+ implements NonInstantiableContract<InstrumentedVerifiers> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test values & contract implementations
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Override
+    public Class<InstrumentedVerifiers> getNonInstantiableClassObject() {
+        return InstrumentedVerifiers.class;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testEveryVerifierOfTheFactoriesHasAnInstrumentedVerifier() {
+        Set<Class<?>> verifiers = Arrays.stream(InstrumentedVerifiers.class.getDeclaredClasses())
+                                        .map(Class::getSuperclass)
+                                        .collect(Collectors.toSet());
+        for (Method method : AbstractVerifiableFactory.class.getMethods()) {
+            if ("that".equals(method.getName())) {
+                Assertions.assertTrue(verifiers.contains(method.getReturnType()),
+                                      "There should be an instrumented verifier for " + method.getReturnType().getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    void testInstrumentedVerifiersOverrideEveryVerifierMethod() {
+        for (Class<?> instrumented : InstrumentedVerifiers.class.getDeclaredClasses()) {
+            for (Method method : instrumented.getSuperclass().getMethods()) {
+                // Only the verifier methods are declared to throw
+                if (Object.class != method.getDeclaringClass() && method.getExceptionTypes().length > 0) {
+                    Assertions.assertEquals(instrumented,
+                                            getOverride(instrumented, method).getDeclaringClass(),
+                                            instrumented.getSimpleName() + " should override " + method);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConfiguredFactoriesOnlyInstrumentVerifiersWithMetricsOrCostThreshold() {
+        Assertions.assertEquals(InstrumentedString.class,
+                                Validity.validate().withMetrics(new StripedValidationMetrics()).that("").getClass(),
+                                "A factory with metrics should create instrumented verifiers.");
+        Assertions.assertEquals(InstrumentedString.class,
+                                Validity.validate().withCostThreshold(new CostThreshold(CostTier.LINEAR)).that("").getClass(),
+                                "A factory with a cost threshold should create instrumented verifiers.");
+        Assertions.assertEquals(VerifiableString.class,
+                                Validity.validate().withDescribers(Describers.defaults().withLimit(5)).that("").getClass(),
+                                "A factory with only describers should create plain verifiers.");
+        Assertions.assertEquals(VerifiableString.class,
+                                Validity.validate().that("").getClass(),
+                                "A factory with the default config should create plain verifiers.");
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helpers
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static Method getOverride(Class<?> instrumented, Method method) {
+        try {
+            return instrumented.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(instrumented.getSimpleName() + " should have the method " + method, e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+final class PassThroughFailedValidationExecutorTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testGetInstanceReturnsTheSameInstance() {
+        Assertions.assertSame(PassThroughFailedValidationExecutor.getInstance(),
+                              PassThroughFailedValidationExecutor.getInstance(),
+                              "PassThroughFailedValidationExecutor should always return the same instance.");
+    }
+
+    @Test
+    void testFailThrowsForNullExpected() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> PassThroughFailedValidationExecutor.getInstance().fail(null, "subject", () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                exception.getMessage(),
+                                "PassThroughFailedValidationExecutor should throw for a null expected.");
+    }
+
+    @Test
+    void testFailThrowsForNullMessageSupplier() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> PassThroughFailedValidationExecutor.getInstance().fail("expected", "subject", null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("messageSupplier"),
+                                exception.getMessage(),
+                                "PassThroughFailedValidationExecutor should throw for a null message supplier.");
+    }
+
+    @Test
+    void testPrimitiveFailThrowsForNullFailure() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> PassThroughFailedValidationExecutor.getInstance().failInt(null, 1, () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("failure"),
+                                exception.getMessage(),
+                                "PassThroughFailedValidationExecutor should throw for a null failure.");
+    }
+
+    @Test
+    void testFailDoesNotThrow() {
+        // Fails the test by throwing if the failures are not ignored
+        PassThroughFailedValidationExecutor<RuntimeException> executor = PassThroughFailedValidationExecutor.getInstance();
+        executor.fail("expected", "subject", () -> "message");
+        executor.failInt(new ValidationFailure(ValidationFailure.Operator.GREATER_THAN, 0), -1, () -> null);
+    }
+
+    @Test
+    void testVerifiersReturnTheSubjectWithoutChecking() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        ExpectVerifiableFactory factory = Validity.expect().withMetrics(metrics).disabled();
+        Assertions.assertEquals(-1,
+                                factory.that(-1).isStrictlyPositive(),
+                                "A primitive verifier with a pass-through executor should return the subject.");
+        Assertions.assertEquals("",
+                                factory.that("").isNotEmpty(),
+                                "An object verifier with a pass-through executor should return the subject.");
+        Assertions.assertNull(factory.that((String) null).isNotNull(),
+                              "An object verifier with a pass-through executor should return a null subject.");
+        Assertions.assertEquals(0,
+                                metrics.getTotalChecks(),
+                                "A verifier with a pass-through executor should not record its checks.");
+    }
+
+    @Test
+    void testOtherFactoriesWithThePassThroughExecutorIgnoreFailures() {
+        TestFactory factory = new TestFactory(() -> null, PassThroughFailedValidationExecutor.getInstance());
+        Assertions.assertEquals(-1,
+                                factory.that(-1).isStrictlyPositive(),
+                                "A verifier of another factory with a pass-through executor should return the subject.");
+        Assertions.assertSame(TestFactory.class,
+                              factory.disabled().getClass(),
+                              "Another factory should be disabled with a pass-through executor.");
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final class TestFactory
+                         extends AbstractVerifiableFactory<RuntimeException, TestFactory> {
+
+        TestFactory(Supplier<String> messageSupplier,
+                    FailedValidationExecutor<RuntimeException> failedValidationExecutor) {
+            super(messageSupplier, failedValidationExecutor);
+        }
+
+        @Override
+        protected TestFactory getFactory(Supplier<String> messageSupplier,
+                                         FailedValidationExecutor<RuntimeException> failedValidationExecutor) {
+            return new TestFactory(messageSupplier, failedValidationExecutor);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class PassThroughVerifiersTest
+ implements NonInstantiableContract<PassThroughVerifiers> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test values & contract implementations
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Override
+    public Class<PassThroughVerifiers> getNonInstantiableClassObject() {
+        return PassThroughVerifiers.class;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testEveryVerifierOfTheFactoriesHasAPassThroughVerifier() {
+        Set<Class<?>> verifiers = Arrays.stream(PassThroughVerifiers.class.getDeclaredClasses())
+                                        .map(Class::getSuperclass)
+                                        .collect(Collectors.toSet());
+        for (Method method : AbstractVerifiableFactory.class.getMethods()) {
+            if ("that".equals(method.getName())) {
+                Assertions.assertTrue(verifiers.contains(method.getReturnType()),
+                                      "There should be a pass-through verifier for " + method.getReturnType().getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    void testPassThroughVerifiersOverrideEveryVerifierMethod() {
+        for (Class<?> passThrough : PassThroughVerifiers.class.getDeclaredClasses()) {
+            for (Method method : passThrough.getSuperclass().getMethods()) {
+                // Only the verifier methods are declared to throw
+                if (Object.class != method.getDeclaringClass() && method.getExceptionTypes().length > 0) {
+                    Method override = getOverride(passThrough, method);
+                    Assertions.assertEquals(passThrough,
+                                            override.getDeclaringClass(),
+                                            passThrough.getSimpleName() + " should override " + method);
+                    // Bridge methods copy the throws clause of the method they bridge
+                    Assertions.assertEquals(0,
+                                            override.isBridge() ? 0 : override.getExceptionTypes().length,
+                                            passThrough.getSimpleName() + " should not declare that " + method.getName() + " throws");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLoadSignatureClassesCoversThePassThroughVerifiers() {
+        List<Class<?>> signatureClasses = PassThroughVerifiers.loadSignatureClasses();
+        for (Class<?> passThrough : PassThroughVerifiers.class.getDeclaredClasses()) {
+            for (Method method : passThrough.getDeclaredMethods()) {
+                List<Class<?>> types = new ArrayList<>(Arrays.asList(method.getParameterTypes()));
+                types.add(method.getReturnType());
+                for (Class<?> type : types) {
+                    while (type.isArray()) {
+                        type = type.getComponentType();
+                    }
+                    if (!type.isPrimitive() && !"java.lang".equals(type.getPackage().getName())) {
+                        Assertions.assertTrue(signatureClasses.contains(type),
+                                              "The signature classes should include " + type.getName() + " of " + method);
+                    }
+                }
+            }
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helpers
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static Method getOverride(Class<?> passThrough, Method method) {
+        try {
+            return passThrough.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(passThrough.getSimpleName() + " should have the method " + method, e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+final class PredicateLatencyTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test requirements
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static PredicateLatency latency(long... nanos) {
+        long[] counts = new long[PredicateLatency.BUCKETS];
+        long total = 0;
+        long max = 0;
+        for (long n : nanos) {
+            counts[PredicateLatency.bucket(n)]++;
+            total += n;
+            max = Math.max(max, n);
+        }
+        return new PredicateLatency("description", counts, total, max, 0);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testBucketsArePowersOfTwo() {
+        Assertions.assertEquals(0, PredicateLatency.bucket(0), "A time of zero should be in the first bucket.");
+        Assertions.assertEquals(1, PredicateLatency.bucket(1), "A time of 1 should be in bucket 1.");
+        Assertions.assertEquals(2, PredicateLatency.bucket(3), "A time of 3 should be in bucket 2.");
+        Assertions.assertEquals(3, PredicateLatency.bucket(4), "A time of 4 should be in bucket 3.");
+        Assertions.assertEquals(63, PredicateLatency.bucket(Long.MAX_VALUE), "The longest time should be in the last bucket.");
+    }
+
+    @Test
+    void testEmptyLatencyIsZero() {
+        PredicateLatency latency = latency();
+        Assertions.assertEquals(0, latency.getSamples(), "An empty latency should have no samples.");
+        Assertions.assertEquals(Duration.ZERO, latency.getMean(), "An empty latency should have a zero mean.");
+        Assertions.assertEquals(Duration.ZERO, latency.getPercentile(99), "An empty latency should have a zero percentile.");
+    }
+
+    @Test
+    void testMeanAndMax() {
+        PredicateLatency latency = latency(10, 20, 30);
+        Assertions.assertEquals(3, latency.getSamples(), "The latency should count every sample.");
+        Assertions.assertEquals(Duration.ofNanos(20), latency.getMean(), "The latency should return the mean time.");
+        Assertions.assertEquals(Duration.ofNanos(30), latency.getMax(), "The latency should return the longest time.");
+    }
+
+    @Test
+    void testPercentileIsBucketUpperBoundCappedAtMax() {
+        PredicateLatency latency = latency(10, 10, 10, 1000);
+        Assertions.assertEquals(Duration.ofNanos(15),
+                                latency.getPercentile(50),
+                                "The percentile should be the upper bound of its bucket.");
+        Assertions.assertEquals(Duration.ofNanos(1000),
+                                latency.getPercentile(100),
+                                "The percentile should be capped at the longest time.");
+    }
+
+    @Test
+    void testThrowsForInvalidPercentile() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> latency(1).getPercentile(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> latency(1).getPercentile(100.1));
+    }
+
+    @Test
+    void testBucketCountsAreCopied() {
+        PredicateLatency latency = latency(1);
+        latency.getBucketCounts()[1] = 42;
+        Assertions.assertEquals(1,
+                                latency.getBucketCounts()[1],
+                                "The latency should not expose its bucket counts.");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.predicates.DescriptivePredicate;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+final class PredicateTimingMetricsTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test requirements
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final Predicate<String> DESCRIPTIVE = new DescriptivePredicate<>("{}.isEmpty()", String::isEmpty);
+
+    private static PredicateTimingMetrics timeEverything(Duration threshold) {
+        return new PredicateTimingMetrics(null, 1, threshold);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForInvalidArguments() {
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new PredicateTimingMetrics(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new PredicateTimingMetrics(null, 0, Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new PredicateTimingMetrics(Duration.ofNanos(-1)));
+    }
+
+    @Test
+    void testReturnsGivenValues() {
+        PredicateTimingMetrics metrics = new PredicateTimingMetrics(null, 7, Duration.ofMillis(1));
+        Assertions.assertEquals(7,
+                                metrics.getSampleInterval(),
+                                "PredicateTimingMetrics should return the given sample interval.");
+        Assertions.assertEquals(Duration.ofMillis(1),
+                                metrics.getThreshold(),
+                                "PredicateTimingMetrics should return the given threshold.");
+    }
+
+    @Test
+    void testDefaultMetricsDoNotTimePredicates() {
+        Assertions.assertFalse(new StripedValidationMetrics().shouldTimePredicate(),
+                               "ValidationMetrics should not time predicates by default.");
+    }
+
+    @Test
+    void testKeysDescriptivePredicatesByDescription() {
+        PredicateTimingMetrics metrics = timeEverything(Duration.ofDays(1));
+        metrics.recordPredicateTime(VerifiablePrimitiveInt.class, DESCRIPTIVE, 10);
+        Assertions.assertEquals(Arrays.asList("t -> t.isEmpty()"),
+                                Arrays.asList(metrics.getLatencies().keySet().toArray()),
+                                "PredicateTimingMetrics should key descriptive predicates by their description.");
+    }
+
+    @Test
+    void testKeysOtherPredicatesByClassName() {
+        PredicateTimingMetrics metrics = timeEverything(Duration.ofDays(1));
+        Predicate<String> predicate = String::isEmpty;
+        metrics.recordPredicateTime(VerifiablePrimitiveInt.class, predicate, 10);
+        Assertions.assertEquals(Arrays.asList(ValidityUtils.unknownPredicatePrefix() + predicate.getClass().getName()),
+                                Arrays.asList(metrics.getLatencies().keySet().toArray()),
+                                "PredicateTimingMetrics should key other predicates by their class name.");
+    }
+
+    @Test
+    void testReportsOnlyPredicatesOverThreshold() {
+        PredicateTimingMetrics metrics = timeEverything(Duration.ofNanos(100));
+        Predicate<String> fast = String::isEmpty;
+        metrics.recordPredicateTime(VerifiablePrimitiveInt.class, fast, 10);
+        metrics.recordPredicateTime(VerifiablePrimitiveInt.class, DESCRIPTIVE, 50);
+        metrics.recordPredicateTime(VerifiablePrimitiveInt.class, DESCRIPTIVE, 500);
+        List<PredicateLatency> slow = metrics.getSlowPredicates();
+        Assertions.assertEquals(Arrays.asList("t -> t.isEmpty()"),
+                                slow.stream().map(PredicateLatency::getDescription).collect(Collectors.toList()),
+                                "PredicateTimingMetrics should only report predicates with executions over the threshold.");
+        Assertions.assertEquals(2,
+                                slow.get(0).getSamples(),
+                                "PredicateTimingMetrics should count every timed execution.");
+        Assertions.assertEquals(1,
+                                slow.get(0).getSlowSamples(),
+                                "PredicateTimingMetrics should count the executions over the threshold.");
+        Assertions.assertEquals(Duration.ofNanos(500),
+                                slow.get(0).getMax(),
+                                "PredicateTimingMetrics should record the longest execution.");
+    }
+
+    @Test
+    void testResetZeroesHistograms() {
+        PredicateTimingMetrics metrics = timeEverything(Duration.ZERO);
+        metrics.recordPredicateTime(VerifiablePrimitiveInt.class, DESCRIPTIVE, 50);
+        metrics.reset();
+        Assertions.assertTrue(metrics.getSlowPredicates().isEmpty(),
+                              "PredicateTimingMetrics should not report slow predicates after a reset.");
+        Assertions.assertEquals(0,
+                                metrics.getLatencies().get("t -> t.isEmpty()").getSamples(),
+                                "PredicateTimingMetrics should zero the histograms on reset.");
+    }
+
+    @Test
+    void testPassesChecksAndFailuresToDelegate() {
+        StripedValidationMetrics delegate = new StripedValidationMetrics();
+        PredicateTimingMetrics metrics = new PredicateTimingMetrics(delegate, 1, Duration.ZERO);
+        metrics.recordCheck(VerifiablePrimitiveInt.class, "satisfies");
+        metrics.recordFailure(VerifiablePrimitiveInt.class, "satisfies");
+        Assertions.assertEquals(1,
+                                delegate.getChecks(VerifiablePrimitiveInt.class, "satisfies") + delegate.getPasses(VerifiablePrimitiveInt.class, "satisfies"),
+                                "PredicateTimingMetrics should pass checks and failures to the delegate.");
+        Assertions.assertEquals(1,
+                                delegate.getFailures(VerifiablePrimitiveInt.class, "satisfies"),
+                                "PredicateTimingMetrics should pass failures to the delegate.");
+    }
+
+    @Test
+    void testVerifiersTimeSatisfiesPredicates() {
+        PredicateTimingMetrics metrics = timeEverything(Duration.ZERO);
+        ValidityVerifiableFactory factory = Validity.validate().withMetrics(metrics);
+        factory.that("").satisfies(DESCRIPTIVE);
+        factory.that(1).satisfies(i -> i > 0);
+        factory.that(1L).satisfies(l -> l > 0);
+        factory.that(1.0).satisfies(d -> d > 0);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> factory.that("a").satisfies(DESCRIPTIVE));
+        long samples = metrics.getLatencies().values().stream().mapToLong(PredicateLatency::getSamples).sum();
+        Assertions.assertEquals(5,
+                                samples,
+                                "The verifiers should time every satisfies predicate when the metrics ask for it.");
+        Assertions.assertEquals(2,
+                                metrics.getLatencies().get("t -> t.isEmpty()").getSamples(),
+                                "The verifiers should time predicates that pass and fail.");
+    }
+}
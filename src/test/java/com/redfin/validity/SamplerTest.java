@@ -0,0 +1,80 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class SamplerTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testConstructorThrowsForInvalidRate() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new Sampler(0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new Sampler(2, 2));
+    }
+
+    @Test
+    void testReturnsGivenRate() {
+        Sampler sampler = new Sampler(2, 5);
+        Assertions.assertEquals(2,
+                                sampler.getChecked(),
+                                "Sampler should return the given number of checked calls.");
+        Assertions.assertEquals(5,
+                                sampler.getOutOf(),
+                                "Sampler should return the given number of calls.");
+    }
+
+    @Test
+    void testChecksTheFirstCallsOfEveryPeriod() {
+        Sampler sampler = new Sampler(2, 5);
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals(i % 5 < 2,
+                                    sampler.checksThisCall(),
+                                    "Sampler should check the first checked calls out of every outOf calls, failed at call " + i);
+        }
+    }
+
+    @Test
+    void testCountsTheCallsOfEachThread() throws InterruptedException {
+        Sampler sampler = new Sampler(1, 3);
+        Assertions.assertTrue(sampler.checksThisCall(),
+                              "Sampler should check the first call of a thread.");
+        AtomicInteger checked = new AtomicInteger();
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 9; i++) {
+                if (sampler.checksThisCall()) {
+                    checked.incrementAndGet();
+                }
+            }
+        });
+        thread.start();
+        thread.join();
+        Assertions.assertEquals(3,
+                                checked.get(),
+                                "Sampler should count the calls of another thread on their own.");
+        Assertions.assertFalse(sampler.checksThisCall(),
+                               "Sampler should not count the calls of other threads.");
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class ShadowFailedValidationExecutorTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testStartThrowsForTooSmallCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> ShadowFailedValidationExecutor.start(0, 10, message -> { }));
+    }
+
+    @Test
+    void testStartThrowsForTooFewLoggedPerSecond() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> ShadowFailedValidationExecutor.start(16, 0, message -> { }));
+    }
+
+    @Test
+    void testStartThrowsForNullLog() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> ShadowFailedValidationExecutor.start(16, 10, null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("log"),
+                                exception.getMessage(),
+                                "ShadowFailedValidationExecutor should throw for a null log.");
+    }
+
+    @Test
+    void testFailThrowsForNullArguments() {
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, message -> { })) {
+            Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                    Assertions.assertThrows(NullPointerException.class, () -> shadow.fail(null, "subject", () -> null)).getMessage(),
+                                    "ShadowFailedValidationExecutor should throw for a null expected.");
+            Assertions.assertEquals(ValidityUtils.nullArgumentMessage("messageSupplier"),
+                                    Assertions.assertThrows(NullPointerException.class, () -> shadow.fail("expected", "subject", null)).getMessage(),
+                                    "ShadowFailedValidationExecutor should throw for a null message supplier.");
+            Assertions.assertEquals(ValidityUtils.nullArgumentMessage("failure"),
+                                    Assertions.assertThrows(NullPointerException.class, () -> shadow.failInt(null, 1, () -> null)).getMessage(),
+                                    "ShadowFailedValidationExecutor should throw for a null failure.");
+        }
+    }
+
+    @Test
+    void testFailuresAreLoggedInTheBackground() throws InterruptedException {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, messages::add)) {
+            Validity.shadow(shadow).withMessage("custom").that(-5).isStrictlyPositive();
+            String message = messages.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(message,
+                                     "ShadowFailedValidationExecutor should log failures in the background.");
+            Assertions.assertTrue(message.contains("custom") && message.contains("t > 0") && message.contains("-5"),
+                                  "ShadowFailedValidationExecutor should log the formatted failure message, was: " + message);
+            Assertions.assertEquals(1,
+                                    shadow.getFailureCount(),
+                                    "ShadowFailedValidationExecutor should count the failure.");
+            Assertions.assertEquals(1,
+                                    shadow.getLoggedCount(),
+                                    "ShadowFailedValidationExecutor should count the logged failure.");
+        }
+    }
+
+    @Test
+    void testMessageSupplierIsNotCalledOnTheValidatingThread() throws InterruptedException {
+        Thread validating = Thread.currentThread();
+        BlockingQueue<Thread> callers = new LinkedBlockingQueue<>();
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, message -> { })) {
+            shadow.fail("expected", "subject", () -> {
+                callers.add(Thread.currentThread());
+                return null;
+            });
+            Thread caller = callers.poll(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(null != caller && validating != caller,
+                                  "ShadowFailedValidationExecutor should only ask for the message on the background thread.");
+        }
+    }
+
+    @Test
+    void testLoggingIsRateLimited() throws InterruptedException {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 2, messages::add)) {
+            for (int i = 0; i < 10; i++) {
+                shadow.fail("expected", i, () -> null);
+            }
+            String summary = null;
+            for (int i = 0; i < 3 && null == summary; i++) {
+                String message = messages.poll(5, TimeUnit.SECONDS);
+                if (null != message && message.contains("were not logged")) {
+                    summary = message;
+                }
+            }
+            Assertions.assertEquals("8 shadow validation failures were not logged, more than 2 failed within a second",
+                                    summary,
+                                    "ShadowFailedValidationExecutor should log how many failures were rate limited.");
+            Assertions.assertEquals(2,
+                                    shadow.getLoggedCount(),
+                                    "ShadowFailedValidationExecutor should only log the maximum number of failures each second.");
+            Assertions.assertEquals(8,
+                                    shadow.getRateLimitedCount(),
+                                    "ShadowFailedValidationExecutor should count the rate limited failures.");
+        }
+    }
+
+    @Test
+    void testFailuresAreDroppedWhenTheQueueIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(1, 10, message -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })) {
+            for (int i = 0; i < 5; i++) {
+                shadow.fail("expected", i, () -> null);
+            }
+            Assertions.assertEquals(5,
+                                    shadow.getFailureCount(),
+                                    "ShadowFailedValidationExecutor should count every failure.");
+            Assertions.assertTrue(shadow.getDroppedCount() >= 3,
+                                  "ShadowFailedValidationExecutor should drop failures when its queue is full, dropped " + shadow.getDroppedCount());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testCloseLogsQueuedFailuresAndDropsLaterOnes() {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, messages::add);
+        shadow.fail("expected", "subject", () -> null);
+        shadow.close();
+        Assertions.assertTrue(shadow.isClosed(),
+                              "ShadowFailedValidationExecutor should be closed after close.");
+        Assertions.assertEquals(1,
+                                messages.size(),
+                                "ShadowFailedValidationExecutor should log the queued failures when it is closed.");
+        shadow.fail("expected", "subject", () -> null);
+        Assertions.assertEquals(1,
+                                shadow.getDroppedCount(),
+                                "ShadowFailedValidationExecutor should drop failures after it is closed.");
+    }
+
+    @Test
+    void testCloseWhileValidatingCountsEveryFailureOnce() throws InterruptedException {
+        for (int run = 0; run < 20; run++) {
+            ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(4, 1000, message -> { });
+            AtomicBoolean stop = new AtomicBoolean();
+            CountDownLatch started = new CountDownLatch(4);
+            Thread[] producers = new Thread[4];
+            for (int i = 0; i < producers.length; i++) {
+                producers[i] = new Thread(() -> {
+                    started.countDown();
+                    while (!stop.get()) {
+                        shadow.fail("expected", "subject", () -> null);
+                    }
+                });
+                producers[i].start();
+            }
+            started.await();
+            shadow.close();
+            long closedFailures = shadow.getFailureCount();
+            stop.set(true);
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            Assertions.assertTrue(closedFailures > 0,
+                                  "ShadowFailedValidationExecutor should have had failures before it was closed.");
+            Assertions.assertEquals(shadow.getFailureCount(),
+                                    shadow.getLoggedCount() + shadow.getRateLimitedCount() + shadow.getDroppedCount(),
+                                    "ShadowFailedValidationExecutor should count every failure as logged, rate limited, or dropped exactly once.");
+        }
+    }
+
+    @Test
+    void testCloseWaitsForTheLoggerAndRestoresTheInterruptStatus() {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, messages::add);
+        shadow.fail("expected", "subject", () -> null);
+        Thread.currentThread().interrupt();
+        shadow.close();
+        Assertions.assertTrue(Thread.interrupted(),
+                              "ShadowFailedValidationExecutor close should keep the interrupt status of the calling thread.");
+        Assertions.assertEquals(1,
+                                messages.size(),
+                                "ShadowFailedValidationExecutor close should wait for the queued failures to be logged when interrupted.");
+    }
+
+    @Test
+    void testBrokenMessageSupplierIsLogged() throws InterruptedException {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, messages::add)) {
+            shadow.fail("expected", "subject", () -> {
+                throw new IllegalStateException("broken");
+            });
+            String message = messages.poll(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(null != message && message.contains("could not be formatted") && message.contains("broken"),
+                                  "ShadowFailedValidationExecutor should log failures whose message cannot be formatted, was: " + message);
+            Assertions.assertEquals(1L,
+                                    shadow.getUnformattedCount(),
+                                    "ShadowFailedValidationExecutor should count failures whose message cannot be formatted.");
+        }
+    }
+
+    @Test
+    void testErrorFromSubjectToStringDoesNotStopTheLogger() throws InterruptedException {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, messages::add)) {
+            shadow.fail("expected", new Object() {
+                @Override
+                public String toString() {
+                    throw new AssertionError("broken");
+                }
+            }, () -> null);
+            shadow.fail("expected", "subject", () -> null);
+            String first = messages.poll(5, TimeUnit.SECONDS);
+            String second = messages.poll(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(null != first && first.contains("could not be formatted") && first.contains("AssertionError"),
+                                  "ShadowFailedValidationExecutor should log failures whose subject throws an Error, was: " + first);
+            Assertions.assertTrue(null != second && second.contains("subject"),
+                                  "ShadowFailedValidationExecutor should keep logging after a subject throws an Error, was: " + second);
+            Assertions.assertEquals(1L,
+                                    shadow.getUnformattedCount(),
+                                    "ShadowFailedValidationExecutor should count failures whose message cannot be formatted.");
+            Assertions.assertEquals(2L,
+                                    shadow.getLoggedCount(),
+                                    "ShadowFailedValidationExecutor should count failures that could not be formatted as logged.");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class StacklessFailedValidationExecutorTest
+        implements FailedValidationExecutorContract<IllegalArgumentException> {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test contract implementations
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Override
+    public FailedValidationExecutor<IllegalArgumentException> getFailedValidationExecutor() {
+        return new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new);
+    }
+
+    @Override
+    public Class<IllegalArgumentException> getThrowableClass() {
+        return IllegalArgumentException.class;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNullThrowableFunction() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new StacklessFailedValidationExecutor<IllegalArgumentException>(null, true));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("throwableFunction"),
+                                exception.getMessage(),
+                                "StacklessFailedValidationExecutor should throw for a null throwable function.");
+    }
+
+    @Test
+    void testThrowsForNullThrowableFromFunction() {
+        StacklessFailedValidationExecutor<IllegalArgumentException> executor = new StacklessFailedValidationExecutor<>(message -> null);
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> executor.fail("expected", "subject", () -> null));
+        Assertions.assertEquals(ValidityUtils.nullThrowableFromFunction(),
+                                exception.getMessage(),
+                                "StacklessFailedValidationExecutor should throw for a null throwable from the function.");
+    }
+
+    @Test
+    void testIsNotPreallocatingByDefault() {
+        Assertions.assertFalse(new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new).isPreallocating(),
+                               "StacklessFailedValidationExecutor should not preallocate by default.");
+    }
+
+    @Test
+    void testThrowsNewThrowableWithFullMessage() {
+        StacklessFailedValidationExecutor<IllegalArgumentException> executor = new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new);
+        IllegalArgumentException first = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                 () -> executor.fail("expected", "subject", () -> "message"));
+        IllegalArgumentException second = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                  () -> executor.fail("expected", "subject", () -> "message"));
+        Assertions.assertNotSame(first,
+                                 second,
+                                 "StacklessFailedValidationExecutor should create a new throwable for every failure.");
+        Assertions.assertEquals(ValidityUtils.failureMessage("message", "expected", "subject"),
+                                first.getMessage(),
+                                "StacklessFailedValidationExecutor should throw with the full failure message.");
+        Assertions.assertEquals(0,
+                                first.getStackTrace().length,
+                                "StacklessFailedValidationExecutor should throw without a stack trace.");
+    }
+
+    @Test
+    void testPreallocatingRethrowsSameThrowableForExpected() {
+        StacklessFailedValidationExecutor<IllegalArgumentException> executor = new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new, true);
+        IllegalArgumentException first = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                 () -> executor.fail("expected", "first", () -> null));
+        IllegalArgumentException second = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                  () -> executor.fail("expected", "second", () -> null));
+        IllegalArgumentException other = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                 () -> executor.fail("other", "first", () -> null));
+        Assertions.assertTrue(executor.isPreallocating(),
+                              "StacklessFailedValidationExecutor should be preallocating when asked to.");
+        Assertions.assertSame(first,
+                              second,
+                              "A preallocating executor should re-throw the same throwable for the same expected description.");
+        Assertions.assertNotSame(first,
+                                 other,
+                                 "A preallocating executor should throw a different throwable for a different expected description.");
+        Assertions.assertFalse(first.getMessage().contains("first"),
+                               "A preallocated throwable should not describe the subject.");
+    }
+
+    @Test
+    void testPreallocatingThrowsForThrowableFunctionWithStackTraces() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new StacklessFailedValidationExecutor<>(IllegalArgumentException::new, true));
+    }
+
+    @Test
+    void testPreallocatingThrowsForNullThrowableFromFunction() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new StacklessFailedValidationExecutor<IllegalArgumentException>(message -> null, true));
+        Assertions.assertEquals(ValidityUtils.nullThrowableFromFunction(),
+                                exception.getMessage(),
+                                "A preallocating executor should throw for a null throwable from the function.");
+    }
+
+    @Test
+    void testNotPreallocatingAllowsThrowablesWithStackTraces() {
+        StacklessFailedValidationExecutor<IllegalArgumentException> executor = new StacklessFailedValidationExecutor<>(IllegalArgumentException::new);
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     () -> executor.fail("expected", "subject", () -> null));
+        Assertions.assertNotEquals(0,
+                                   exception.getStackTrace().length,
+                                   "A non-preallocating executor should throw what the throwable function creates.");
+    }
+
+    @Test
+    void testPreallocatingDoesNotRethrowThrowableWithSuppressedThrowables() {
+        StacklessFailedValidationExecutor<IllegalArgumentException> executor = new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new, true);
+        IllegalArgumentException first = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                 () -> executor.fail("expected", "subject", () -> null));
+        first.addSuppressed(new IllegalStateException("close failed"));
+        IllegalArgumentException second = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                  () -> executor.fail("expected", "subject", () -> null));
+        IllegalArgumentException third = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                 () -> executor.fail("expected", "subject", () -> null));
+        Assertions.assertNotSame(first,
+                                 second,
+                                 "A preallocating executor should not re-throw a throwable that has suppressed throwables.");
+        Assertions.assertEquals(0,
+                                second.getSuppressed().length,
+                                "A preallocating executor should replace a throwable that has suppressed throwables with a new one.");
+        Assertions.assertSame(second,
+                              third,
+                              "A preallocating executor should re-throw the replacement throwable.");
+    }
+
+    @Test
+    void testPreallocatingCreatesNewThrowableForCustomMessage() {
+        StacklessFailedValidationExecutor<IllegalArgumentException> executor = new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new, true);
+        IllegalArgumentException first = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                 () -> executor.fail("expected", "subject", () -> "message"));
+        IllegalArgumentException second = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                  () -> executor.fail("expected", "subject", () -> "message"));
+        Assertions.assertNotSame(first,
+                                 second,
+                                 "A preallocating executor should create a new throwable for a custom message.");
+        Assertions.assertEquals(ValidityUtils.failureMessage("message", "expected", "subject"),
+                                first.getMessage(),
+                                "A failure with a custom message should have the full failure message.");
+    }
+
+    @Test
+    void testPreallocatingCreatesNewThrowablesOncePreallocationIsFull() {
+        StacklessFailedValidationExecutor<IllegalArgumentException> executor = new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new, true);
+        for (int i = 0; i < StacklessFailedValidationExecutor.MAX_PREALLOCATED; i++) {
+            String expected = "expected " + i;
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> executor.fail(expected, "subject", () -> null));
+        }
+        IllegalArgumentException first = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                 () -> executor.fail("expected", "subject", () -> null));
+        IllegalArgumentException second = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                  () -> executor.fail("expected", "subject", () -> null));
+        Assertions.assertNotSame(first,
+                                 second,
+                                 "A preallocating executor should create new throwables once it has preallocated the maximum.");
+    }
+}
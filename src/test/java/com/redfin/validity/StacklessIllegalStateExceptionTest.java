@@ -0,0 +1,47 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class StacklessIllegalStateExceptionTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testHasGivenMessage() {
+        Assertions.assertEquals("message",
+                                new StacklessIllegalStateException("message").getMessage(),
+                                "StacklessIllegalStateException should have the given message.");
+    }
+
+    @Test
+    void testHasNoStackTrace() {
+        Assertions.assertEquals(0,
+                                new StacklessIllegalStateException("message").getStackTrace().length,
+                                "StacklessIllegalStateException should not capture a stack trace.");
+    }
+
+    @Test
+    void testCauseCannotBeInitialized() {
+        Assertions.assertThrows(IllegalStateException.class,
+                                () -> new StacklessIllegalStateException("message").initCause(new RuntimeException()));
+    }
+}
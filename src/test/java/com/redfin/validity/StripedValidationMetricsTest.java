@@ -0,0 +1,192 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.verifiers.objects.VerifiableInteger;
+import com.redfin.validity.verifiers.objects.VerifiableString;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class StripedValidationMetricsTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test requirements
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String CHECK = "isStrictlyPositive";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testUnknownCheckHasZeroCounts() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        Assertions.assertEquals(0,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, CHECK) + metrics.getFailures(VerifiablePrimitiveInt.class, CHECK) + metrics.getPasses(VerifiablePrimitiveInt.class, CHECK),
+                                "StripedValidationMetrics should return zero counts for unrecorded checks.");
+    }
+
+    @Test
+    void testRecordsChecksAndFailures() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        metrics.recordCheck(VerifiablePrimitiveInt.class, CHECK);
+        metrics.recordCheck(VerifiablePrimitiveInt.class, CHECK);
+        metrics.recordFailure(VerifiablePrimitiveInt.class, CHECK);
+        Assertions.assertEquals(2,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, CHECK),
+                                "StripedValidationMetrics should count every recorded check.");
+        Assertions.assertEquals(1,
+                                metrics.getFailures(VerifiablePrimitiveInt.class, CHECK),
+                                "StripedValidationMetrics should count every recorded failure.");
+        Assertions.assertEquals(1,
+                                metrics.getPasses(VerifiablePrimitiveInt.class, CHECK),
+                                "StripedValidationMetrics should count the checks that did not fail as passes.");
+    }
+
+    @Test
+    void testTotalsSumEveryCheck() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        metrics.recordCheck(VerifiablePrimitiveInt.class, CHECK);
+        metrics.recordCheck(VerifiableInteger.class, CHECK);
+        metrics.recordChecks(VerifiableString.class, "isEmpty", 3);
+        metrics.recordFailure(VerifiableInteger.class, CHECK);
+        Assertions.assertEquals(5,
+                                metrics.getTotalChecks(),
+                                "StripedValidationMetrics should total the checks of every verifier method.");
+        Assertions.assertEquals(1,
+                                metrics.getTotalFailures(),
+                                "StripedValidationMetrics should total the failures of every verifier method.");
+    }
+
+    @Test
+    void testCountsAreKeyedByClassAndCheck() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        metrics.recordCheck(VerifiablePrimitiveInt.class, CHECK);
+        Assertions.assertEquals(0,
+                                metrics.getChecks(VerifiableInteger.class, CHECK) + metrics.getChecks(VerifiablePrimitiveInt.class, "isZero"),
+                                "StripedValidationMetrics should keep separate counts per verifier class and method.");
+    }
+
+    @Test
+    void testGetChecksThrowsForNullClass() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new StripedValidationMetrics().getChecks(null, CHECK));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("verifierClass"),
+                                exception.getMessage(),
+                                "StripedValidationMetrics should throw for a null verifier class.");
+    }
+
+    @Test
+    void testGetChecksThrowsForNullCheck() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new StripedValidationMetrics().getChecks(VerifiablePrimitiveInt.class, null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("check"),
+                                exception.getMessage(),
+                                "StripedValidationMetrics should throw for a null check.");
+    }
+
+    @Test
+    void testCountMapsAreKeyedByClassNameAndCheck() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        Validity.validate().withMetrics(metrics).that("hello").isNotEmpty();
+        Assertions.assertEquals(Long.valueOf(1),
+                                metrics.getCheckCounts().get(VerifiableString.class.getName() + "#isNotEmpty"),
+                                "StripedValidationMetrics check counts should be keyed by class name and check.");
+        Assertions.assertEquals(Long.valueOf(1),
+                                metrics.getPassCounts().get(VerifiableString.class.getName() + "#isNotEmpty"),
+                                "StripedValidationMetrics pass counts should be keyed by class name and check.");
+        Assertions.assertEquals(Long.valueOf(0),
+                                metrics.getFailureCounts().get(VerifiableString.class.getName() + "#isNotEmpty"),
+                                "StripedValidationMetrics failure counts should be keyed by class name and check.");
+    }
+
+    @Test
+    void testResetSetsCountsToZero() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        metrics.recordCheck(VerifiablePrimitiveInt.class, CHECK);
+        metrics.recordFailure(VerifiablePrimitiveInt.class, CHECK);
+        metrics.reset();
+        Assertions.assertEquals(0,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, CHECK) + metrics.getFailures(VerifiablePrimitiveInt.class, CHECK),
+                                "StripedValidationMetrics should have zero counts after a reset.");
+    }
+
+    @Test
+    void testVerifiersRecordPassesAndFailures() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        ValidityVerifiableFactory validate = Validity.validate().withMetrics(metrics);
+        validate.that(1).isStrictlyPositive();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> validate.that(-1).isStrictlyPositive());
+        Assertions.assertEquals(2,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, CHECK),
+                                "Verifiers should record every check.");
+        Assertions.assertEquals(1,
+                                metrics.getFailures(VerifiablePrimitiveInt.class, CHECK),
+                                "Verifiers should record every failure.");
+    }
+
+    @Test
+    void testDelegatingPrimitiveMethodsAreOnlyRecordedOnce() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        Validity.validate().withMetrics(metrics).that(1).isStrictlyPositive();
+        Assertions.assertEquals(0,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, "isGreaterThan"),
+                                "Verifier methods should only be recorded under the name of the called method.");
+    }
+
+    @Test
+    void testDelegatingComparableMethodsAreOnlyRecordedOnce() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        Validity.validate().withMetrics(metrics).that(Integer.valueOf(5)).isAtLeast(1);
+        Assertions.assertEquals(1,
+                                metrics.getChecks(VerifiableInteger.class, "isAtLeast"),
+                                "Verifier methods should be recorded under the name of the called method.");
+        Assertions.assertEquals(0,
+                                metrics.getChecks(VerifiableInteger.class, "isGreaterThanOrEqualTo"),
+                                "Verifier methods should only be recorded under the name of the called method.");
+    }
+
+    @Test
+    void testCountsAreNotLostAcrossThreads() throws InterruptedException {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        int threadCount = 4;
+        int iterations = 10_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < iterations; j++) {
+                    metrics.recordCheck(VerifiablePrimitiveInt.class, CHECK);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(threadCount * iterations,
+                                metrics.getChecks(VerifiablePrimitiveInt.class, CHECK),
+                                "StripedValidationMetrics should not lose counts recorded from several threads.");
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+final class ValidationCollectorTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNonPositiveInitialCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new ValidationCollector(0));
+    }
+
+    @Test
+    void testNewCollectorIsValid() {
+        ValidationCollector collector = new ValidationCollector();
+        Assertions.assertTrue(collector.isValid(),
+                              "A new ValidationCollector should be valid.");
+        Assertions.assertTrue(collector.getMessages().isEmpty(),
+                              "A new ValidationCollector should have no messages.");
+        collector.throwIfInvalid();
+    }
+
+    @Test
+    void testFailThrowsForNullExpected() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationCollector().fail(null, "subject", () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                exception.getMessage(),
+                                "ValidationCollector should throw for a null expected.");
+    }
+
+    @Test
+    void testFailThrowsForNullMessageSupplier() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationCollector().fail("expected", "subject", null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("messageSupplier"),
+                                exception.getMessage(),
+                                "ValidationCollector should throw for a null message supplier.");
+    }
+
+    @Test
+    void testPrimitiveFailThrowsForNullFailure() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationCollector().failDouble(null, 1, () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("failure"),
+                                exception.getMessage(),
+                                "ValidationCollector should throw for a null failure.");
+    }
+
+    @Test
+    void testCollectsEveryFailureInOrderPastInitialCapacity() {
+        ValidationCollector collector = new ValidationCollector(1);
+        CheckVerifiableFactory collect = Validity.collect(collector);
+        collect.that("").isNotEmpty();
+        collect.that(-1).isStrictlyPositive();
+        collect.withMessage("hello").that((Object) null).isNotNull();
+        List<String> messages = collector.getMessages();
+        Assertions.assertEquals(3,
+                                collector.getFailureCount(),
+                                "A ValidationCollector should collect every failure.");
+        Assertions.assertEquals(Assertions.assertThrows(IllegalArgumentException.class,
+                                                        () -> Validity.validate().that("").isNotEmpty()).getMessage(),
+                                messages.get(0),
+                                "A ValidationCollector should format messages the same way as validate.");
+        Assertions.assertEquals(Assertions.assertThrows(IllegalArgumentException.class,
+                                                        () -> Validity.validate().that(-1).isStrictlyPositive()).getMessage(),
+                                messages.get(1),
+                                "A ValidationCollector should format primitive messages the same way as validate.");
+        Assertions.assertEquals(Assertions.assertThrows(IllegalArgumentException.class,
+                                                        () -> Validity.validate().withMessage("hello").that((Object) null).isNotNull()).getMessage(),
+                                messages.get(2),
+                                "A ValidationCollector should use the custom message of each failure.");
+    }
+
+    @Test
+    void testThrowIfInvalidThrowsOneExceptionWithEveryMessage() {
+        ValidationCollector collector = new ValidationCollector();
+        collector.fail("first", 1, () -> null);
+        collector.fail("second", 2, () -> null);
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     collector::throwIfInvalid);
+        Assertions.assertEquals("2 validations failed\n" + String.join("\n", collector.getMessages()),
+                                exception.getMessage(),
+                                "A ValidationCollector should throw one exception with every message.");
+    }
+
+    @Test
+    void testThrowIfInvalidUsesGivenFunction() {
+        ValidationCollector collector = new ValidationCollector();
+        collector.fail("expected", "subject", () -> null);
+        Assertions.assertThrows(IllegalStateException.class,
+                                () -> collector.throwIfInvalid(IllegalStateException::new));
+    }
+
+    @Test
+    void testThrowIfInvalidThrowsForNullThrowable() {
+        ValidationCollector collector = new ValidationCollector();
+        collector.fail("expected", "subject", () -> null);
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> collector.throwIfInvalid(message -> null));
+        Assertions.assertEquals(ValidityUtils.nullThrowableFromFunction(),
+                                exception.getMessage(),
+                                "A ValidationCollector should throw for a null throwable from the function.");
+    }
+
+    @Test
+    void testMessagesAreOnlyRequestedWhenAskedFor() {
+        ValidationCollector collector = new ValidationCollector();
+        int[] calls = new int[1];
+        collector.fail("expected", "subject", () -> {
+            calls[0]++;
+            return "message";
+        });
+        Assertions.assertEquals(0,
+                                calls[0],
+                                "A ValidationCollector should not get the custom message until its messages are asked for.");
+    }
+
+    @Test
+    void testResetForgetsFailures() {
+        ValidationCollector collector = new ValidationCollector();
+        collector.fail("expected", "subject", () -> "message");
+        collector.reset();
+        Assertions.assertTrue(collector.isValid(),
+                              "A ValidationCollector should be valid after a reset.");
+        Assertions.assertTrue(collector.getMessages().isEmpty(),
+                              "A ValidationCollector should have no messages after a reset.");
+    }
+}
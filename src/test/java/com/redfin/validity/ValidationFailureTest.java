@@ -0,0 +1,106 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class ValidationFailureTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNullExpected() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationFailure(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                exception.getMessage(),
+                                "ValidationFailure should throw for a null expected.");
+    }
+
+    @Test
+    void testThrowsForNullOperator() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationFailure(null, 1));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("operator"),
+                                exception.getMessage(),
+                                "ValidationFailure should throw for a null operator.");
+    }
+
+    @Test
+    void testThrowsForDescribedOperatorWithOperand() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new ValidationFailure(ValidationFailure.Operator.DESCRIBED, 1));
+    }
+
+    @Test
+    void testDescribedFailureReturnsGivenExpected() {
+        ValidationFailure failure = new ValidationFailure("t -> t == 0");
+        Assertions.assertEquals(ValidationFailure.Operator.DESCRIBED,
+                                failure.getOperator(),
+                                "A described failure should have the described operator.");
+        Assertions.assertEquals(ValidationFailure.OperandType.NONE,
+                                failure.getOperandType(),
+                                "A described failure should have no operand.");
+        Assertions.assertEquals("t -> t == 0",
+                                failure.getExpected(),
+                                "A described failure should return the given expected description.");
+    }
+
+    @Test
+    void testIntegralFailureKeepsOperatorAndOperand() {
+        ValidationFailure failure = new ValidationFailure(ValidationFailure.Operator.GREATER_THAN_OR_EQUAL_TO, 5);
+        Assertions.assertEquals(ValidationFailure.Operator.GREATER_THAN_OR_EQUAL_TO,
+                                failure.getOperator(),
+                                "A comparison failure should keep the given operator.");
+        Assertions.assertEquals(ValidationFailure.OperandType.LONG,
+                                failure.getOperandType(),
+                                "An integral comparison failure should have a long operand.");
+        Assertions.assertEquals(5,
+                                failure.getLongOperand(),
+                                "A comparison failure should keep the given operand.");
+        Assertions.assertEquals("t -> t >= 5",
+                                failure.getExpected(),
+                                "An integral comparison failure should describe the comparison.");
+    }
+
+    @Test
+    void testExpectedDescribesOperandsLikeValidityUtils() {
+        Assertions.assertEquals("t -> t < " + ValidityUtils.describe('a'),
+                                new ValidationFailure(ValidationFailure.Operator.LESS_THAN, 'a').getExpected(),
+                                "A char comparison failure should describe the operand as a char.");
+        Assertions.assertEquals("t -> t != " + ValidityUtils.describe(1.1f),
+                                new ValidationFailure(ValidationFailure.Operator.NOT_EQUAL_TO, 1.1f).getExpected(),
+                                "A float comparison failure should describe the operand as a float.");
+        Assertions.assertEquals("t -> t == " + ValidityUtils.describe(-0.0),
+                                new ValidationFailure(ValidationFailure.Operator.EQUAL_TO, -0.0).getExpected(),
+                                "A double comparison failure should describe the operand as a double.");
+        Assertions.assertEquals("t -> t <= " + ValidityUtils.describe(Long.MIN_VALUE),
+                                new ValidationFailure(ValidationFailure.Operator.LESS_THAN_OR_EQUAL_TO, Long.MIN_VALUE).getExpected(),
+                                "A long comparison failure should describe the operand as a long.");
+    }
+
+    @Test
+    void testToStringReturnsExpected() {
+        ValidationFailure failure = new ValidationFailure(ValidationFailure.Operator.GREATER_THAN, 2.5);
+        Assertions.assertEquals(failure.getExpected(),
+                                failure.toString(),
+                                "ValidationFailure toString should return the expected description.");
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class ValidationModeTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testSampledThrowsForTooFewCheckedCalls() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> ValidationMode.sampled(0, 10));
+    }
+
+    @Test
+    void testSampledThrowsForFewerCallsThanCheckedCalls() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> ValidationMode.sampled(2, 1));
+    }
+
+    @Test
+    void testSampledEveryCallReturnsEnabled() {
+        Assertions.assertTrue(ValidationMode.ENABLED == ValidationMode.sampled(3, 3),
+                              "ValidationMode sampled every call should return the enabled mode.");
+    }
+
+    @Test
+    void testSampledReturnsGivenRate() {
+        ValidationMode mode = ValidationMode.sampled(1, 100);
+        Assertions.assertEquals(1,
+                                mode.getChecked(),
+                                "ValidationMode should return the given number of checked calls.");
+        Assertions.assertEquals(100,
+                                mode.getOutOf(),
+                                "ValidationMode should return the given number of calls.");
+    }
+
+    @Test
+    void testParseThrowsForNullMode() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> ValidationMode.parse(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("mode"),
+                                exception.getMessage(),
+                                "ValidationMode should throw for a null mode.");
+    }
+
+    @Test
+    void testParseReturnsModes() {
+        Assertions.assertTrue(ValidationMode.ENABLED == ValidationMode.parse("enabled"),
+                              "ValidationMode should parse the enabled mode.");
+        Assertions.assertTrue(ValidationMode.DISABLED == ValidationMode.parse(" disabled "),
+                              "ValidationMode should parse the disabled mode.");
+        Assertions.assertEquals(ValidationMode.sampled(1, 100),
+                                ValidationMode.parse("sampled:1/100"),
+                                "ValidationMode should parse a sampled mode.");
+    }
+
+    @Test
+    void testParseReturnsToStringOfEachMode() {
+        for (ValidationMode mode : new ValidationMode[]{ValidationMode.ENABLED, ValidationMode.DISABLED, ValidationMode.sampled(3, 1000)}) {
+            Assertions.assertEquals(mode,
+                                    ValidationMode.parse(mode.toString()),
+                                    "ValidationMode should parse its own String form.");
+        }
+    }
+
+    @Test
+    void testParseThrowsForUnknownModes() {
+        for (String mode : new String[]{"", "on", "ENABLED", "sampled:", "sampled:1", "sampled:/10", "sampled:a/10", "sampled:0/10", "sampled:2/1"}) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> ValidationMode.parse(mode),
+                                    "ValidationMode should throw for the unknown mode: " + mode);
+        }
+    }
+
+    @Test
+    void testApplyThrowsForNullFactory() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> ValidationMode.ENABLED.apply((ValidityVerifiableFactory) null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("factory"),
+                                exception.getMessage(),
+                                "ValidationMode should throw for a null factory.");
+    }
+
+    @Test
+    void testEnabledApplyReturnsGivenFactory() {
+        ValidityVerifiableFactory factory = Validity.validate();
+        Assertions.assertTrue(factory == ValidationMode.ENABLED.apply(factory),
+                              "ValidationMode enabled should return the given factory.");
+    }
+
+    @Test
+    void testDisabledApplyReturnsPassThroughFactory() {
+        ValidityVerifiableFactory factory = ValidationMode.DISABLED.apply(Validity.validate());
+        Assertions.assertTrue(factory instanceof DisabledValidityVerifiableFactory,
+                              "ValidationMode disabled should return a factory that passes subjects through.");
+        Assertions.assertEquals(-1,
+                                factory.that(-1).isStrictlyPositive(),
+                                "ValidationMode disabled should return a factory that does not check subjects.");
+    }
+
+    @Test
+    void testSampledApplyReturnsSampledFactory() {
+        ValidityVerifiableFactory factory = ValidationMode.sampled(1, 100).apply(Validity.validate());
+        Assertions.assertTrue(factory.getConfig().isSampled(),
+                              "ValidationMode sampled should return a sampled factory.");
+        Assertions.assertTrue(1 == factory.getConfig().getSampleChecked() && 100 == factory.getConfig().getSampleOutOf(),
+                              "ValidationMode sampled should return a factory with the sampling rate of the mode.");
+    }
+
+    @Test
+    void testEqualsAndHashCodeUseSamplingRate() {
+        Assertions.assertTrue(ValidationMode.sampled(1, 10).equals(ValidationMode.sampled(1, 10))
+                                      && ValidationMode.sampled(1, 10).hashCode() == ValidationMode.sampled(1, 10).hashCode(),
+                              "ValidationMode should equal another mode with the same sampling rate.");
+        Assertions.assertNotEquals(ValidationMode.sampled(1, 10),
+                                   ValidationMode.sampled(1, 100),
+                                   "ValidationMode should not equal a mode with another sampling rate.");
+        Assertions.assertNotEquals(ValidationMode.ENABLED,
+                                   ValidationMode.DISABLED,
+                                   "ValidationMode enabled should not equal disabled.");
+    }
+}
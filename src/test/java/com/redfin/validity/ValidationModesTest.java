@@ -0,0 +1,173 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.predicates.DescriptivePredicate;
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+final class ValidationModesTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testConstructorThrowsForNullDefaultMode() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationModes(null, Collections.emptyMap()));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("defaultMode"),
+                                exception.getMessage(),
+                                "ValidationModes should throw for a null default mode.");
+    }
+
+    @Test
+    void testConstructorThrowsForNullModes() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationModes(ValidationMode.ENABLED, null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("modesByPrefix"),
+                                exception.getMessage(),
+                                "ValidationModes should throw for null modes.");
+    }
+
+    @Test
+    void testConstructorThrowsForNullPrefix() {
+        Map<String, ValidationMode> modes = new HashMap<>();
+        modes.put(null, ValidationMode.DISABLED);
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new ValidationModes(ValidationMode.ENABLED, modes));
+    }
+
+    @Test
+    void testConstructorThrowsForNullMode() {
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new ValidationModes(ValidationMode.ENABLED, Collections.singletonMap("com.redfin", null)));
+    }
+
+    @Test
+    void testConstructorCopiesModes() {
+        Map<String, ValidationMode> modes = new HashMap<>();
+        ValidationModes validationModes = new ValidationModes(ValidationMode.ENABLED, modes);
+        modes.put("com.redfin", ValidationMode.DISABLED);
+        Assertions.assertTrue(validationModes.getModesByPrefix().isEmpty(),
+                              "ValidationModes should not change when the given map does.");
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                                () -> validationModes.getModesByPrefix().put("com.redfin", ValidationMode.DISABLED));
+    }
+
+    @Test
+    void testGetModeThrowsForNullType() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> ValidationModes.parse("").getMode(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("type"),
+                                exception.getMessage(),
+                                "ValidationModes should throw for a null type.");
+    }
+
+    @Test
+    void testGetModeReturnsDefaultModeWithoutMatchingPrefix() {
+        ValidationModes modes = new ValidationModes(ValidationMode.DISABLED, Collections.singletonMap("org.example", ValidationMode.ENABLED));
+        Assertions.assertEquals(ValidationMode.DISABLED,
+                                modes.getMode(ValidationModesTest.class),
+                                "ValidationModes should return the default mode for a class without a matching prefix.");
+    }
+
+    @Test
+    void testGetModeReturnsModeOfLongestMatchingPrefix() {
+        ValidationModes modes = ValidationModes.parse("com.redfin=disabled,com.redfin.validity=sampled:1/10,com.redfin.validity.verifiers=enabled");
+        Assertions.assertEquals(ValidationMode.sampled(1, 10),
+                                modes.getMode(ValidationModesTest.class),
+                                "ValidationModes should return the mode of the package of the class.");
+        Assertions.assertEquals(ValidationMode.sampled(1, 10),
+                                modes.getMode(DescriptivePredicate.class),
+                                "ValidationModes should return the mode of the closest parent package of the class.");
+        Assertions.assertEquals(ValidationMode.ENABLED,
+                                modes.getMode(VerifiablePrimitiveInt.class),
+                                "ValidationModes should return the mode of the longest matching prefix.");
+    }
+
+    @Test
+    void testGetModeOnlyMatchesWholeNames() {
+        ValidationModes modes = ValidationModes.parse("com.redfin.valid=disabled,com.redfin.validity.ValidationModes=disabled");
+        Assertions.assertEquals(ValidationMode.ENABLED,
+                                modes.getMode(ValidationModesTest.class),
+                                "ValidationModes should not match a prefix that ends within a package or class name.");
+    }
+
+    @Test
+    void testGetModeMatchesClassAndNestedClasses() {
+        ValidationModes modes = ValidationModes.parse("com.redfin.validity.ValidationModesTest=disabled");
+        Assertions.assertEquals(ValidationMode.DISABLED,
+                                modes.getMode(ValidationModesTest.class),
+                                "ValidationModes should match the name of the class.");
+        Assertions.assertEquals(ValidationMode.DISABLED,
+                                modes.getMode(Nested.class),
+                                "ValidationModes should match the name of an enclosing class.");
+    }
+
+    @Test
+    void testGetModeReturnsSameModeEachTime() {
+        ValidationModes modes = ValidationModes.parse("com.redfin=sampled:1/10");
+        Assertions.assertTrue(modes.getMode(ValidationModesTest.class) == modes.getMode(ValidationModesTest.class),
+                              "ValidationModes should return the resolved mode of a class each time.");
+    }
+
+    @Test
+    void testParseThrowsForNullModes() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> ValidationModes.parse(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("modes"),
+                                exception.getMessage(),
+                                "ValidationModes should throw for null modes.");
+    }
+
+    @Test
+    void testParseReturnsGivenModes() {
+        ValidationModes modes = ValidationModes.parse(" com.example.ingest = enabled , com.example.hotloop...=sampled:1/100,,com.example.legacy=disabled");
+        Map<String, ValidationMode> expected = new HashMap<>();
+        expected.put("com.example.ingest", ValidationMode.ENABLED);
+        expected.put("com.example.hotloop", ValidationMode.sampled(1, 100));
+        expected.put("com.example.legacy", ValidationMode.DISABLED);
+        Assertions.assertEquals(expected,
+                                modes.getModesByPrefix(),
+                                "ValidationModes should parse each prefix and mode.");
+        Assertions.assertEquals(ValidationMode.ENABLED,
+                                modes.getDefaultMode(),
+                                "ValidationModes should enable validation by default.");
+    }
+
+    @Test
+    void testParseThrowsForInvalidPairs() {
+        for (String modes : new String[]{"com.example", "=disabled", "...=disabled", "com.example=off", "com.example=enabled,com.example=disabled"}) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> ValidationModes.parse(modes),
+                                    "ValidationModes should throw for the invalid modes: " + modes);
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helper Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final class Nested {
+    }
+}
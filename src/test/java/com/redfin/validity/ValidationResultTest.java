@@ -0,0 +1,158 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class ValidationResultTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testNewResultIsValid() {
+        ValidationResult result = new ValidationResult();
+        Assertions.assertTrue(result.isValid(),
+                              "A new ValidationResult should be valid.");
+        Assertions.assertEquals(0,
+                                result.getFailureCount(),
+                                "A new ValidationResult should have no failures.");
+        Assertions.assertNull(result.getExpected(),
+                              "A new ValidationResult should have no expected description.");
+        Assertions.assertNull(result.getMessage(),
+                              "A new ValidationResult should have no message.");
+    }
+
+    @Test
+    void testFailThrowsForNullExpected() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationResult().fail(null, "subject", () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                exception.getMessage(),
+                                "ValidationResult should throw for a null expected.");
+    }
+
+    @Test
+    void testFailThrowsForNullMessageSupplier() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationResult().fail("expected", "subject", null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("messageSupplier"),
+                                exception.getMessage(),
+                                "ValidationResult should throw for a null message supplier.");
+    }
+
+    @Test
+    void testPrimitiveFailThrowsForNullFailure() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidationResult().failInt(null, 1, () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("failure"),
+                                exception.getMessage(),
+                                "ValidationResult should throw for a null failure.");
+    }
+
+    @Test
+    void testFailRecordsFailureWithoutThrowing() {
+        ValidationResult result = new ValidationResult();
+        result.fail("expected", "subject", () -> "message");
+        Assertions.assertFalse(result.isValid(),
+                               "A ValidationResult should not be valid after a failure.");
+        Assertions.assertEquals("expected",
+                                result.getExpected(),
+                                "A ValidationResult should return the expected description of the failure.");
+        Assertions.assertEquals("subject",
+                                result.getSubject(),
+                                "A ValidationResult should return the subject of the failure.");
+        Assertions.assertEquals(ValidityUtils.formatFailure("expected", "subject", () -> "message", Describers.defaults()),
+                                result.getMessage(),
+                                "A ValidationResult should format the message the same way as the throwing executors.");
+    }
+
+    @Test
+    void testPrimitiveFailRecordsFailure() {
+        ValidationResult result = new ValidationResult();
+        ValidationFailure failure = new ValidationFailure(ValidationFailure.Operator.GREATER_THAN, 5);
+        result.failLong(failure, 3L, () -> null);
+        Assertions.assertEquals(failure.getExpected(),
+                                result.getExpected(),
+                                "A ValidationResult should render the expected description of a primitive failure.");
+        Assertions.assertEquals(3L,
+                                result.getSubject(),
+                                "A ValidationResult should return the subject of a primitive failure.");
+        Assertions.assertEquals(ValidityUtils.formatFailure(failure.getExpected(), 3L, () -> null, Describers.defaults()),
+                                result.getMessage(),
+                                "A ValidationResult should format the message of a primitive failure.");
+    }
+
+    @Test
+    void testKeepsFirstFailureAndCountsAll() {
+        ValidationResult result = new ValidationResult();
+        result.fail("first", 1, () -> null);
+        result.fail("second", 2, () -> null);
+        Assertions.assertEquals(2,
+                                result.getFailureCount(),
+                                "A ValidationResult should count every failure.");
+        Assertions.assertEquals("first",
+                                result.getExpected(),
+                                "A ValidationResult should keep the first failure.");
+    }
+
+    @Test
+    void testMessageIsOnlyRequestedWhenAskedFor() {
+        ValidationResult result = new ValidationResult();
+        int[] calls = new int[1];
+        result.fail("expected", "subject", () -> {
+            calls[0]++;
+            return "message";
+        });
+        Assertions.assertEquals(0,
+                                calls[0],
+                                "A ValidationResult should not get the custom message until its message is asked for.");
+        result.getMessage();
+        result.getMessage();
+        Assertions.assertEquals(1,
+                                calls[0],
+                                "A ValidationResult should only format its message once.");
+    }
+
+    @Test
+    void testResetForgetsFailure() {
+        ValidationResult result = new ValidationResult();
+        result.fail("expected", "subject", () -> "message");
+        result.getMessage();
+        result.reset();
+        Assertions.assertTrue(result.isValid(),
+                              "A ValidationResult should be valid after a reset.");
+        Assertions.assertNull(result.getSubject(),
+                              "A ValidationResult should have no subject after a reset.");
+        Assertions.assertNull(result.getMessage(),
+                              "A ValidationResult should have no message after a reset.");
+    }
+
+    @Test
+    void testVerifiersDoNotThrowForNullSubjects() {
+        ValidationResult result = new ValidationResult();
+        CheckVerifiableFactory check = Validity.check(result);
+        check.that((String) null).isNotEmpty();
+        check.that((int[]) null).isNotEmpty();
+        check.that((Integer) null).isStrictlyPositive();
+        Assertions.assertEquals(3,
+                                result.getFailureCount(),
+                                "Verifiers should record failures for null subjects without throwing.");
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import com.redfin.validity.verifiers.primitives.VerifiablePrimitiveInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+final class ValidationStatisticsTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test requirements
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String CHECK = "isStrictlyPositive";
+
+    private static ValidityVerifiableFactory monitoredFactory(ValidationStatistics statistics) {
+        return new ValidityVerifiableFactory(() -> null,
+                                             statistics.monitor("validate",
+                                                                new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new),
+                                                                new StacklessFailedValidationExecutor<>(StacklessIllegalArgumentException::new)))
+                .withMetrics(statistics);
+    }
+
+    private static void recordFailures(ValidationStatistics statistics,
+                                       int failures) {
+        for (int i = 0; i < failures; i++) {
+            statistics.recordFailure(VerifiablePrimitiveInt.class, CHECK);
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNullArguments() {
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new ValidationStatistics(null));
+        ValidationStatistics statistics = new ValidationStatistics("test");
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> statistics.monitor(null, new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new)));
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> statistics.monitor("validate", null));
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> statistics.monitor("validate", new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new), null));
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> new ValidationStatistics("test", null));
+    }
+
+    @Test
+    void testCountsChecksAndFailures() {
+        ValidationStatistics statistics = new ValidationStatistics("test");
+        ValidityVerifiableFactory factory = monitoredFactory(statistics);
+        factory.that(1).isStrictlyPositive();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> factory.that(0).isStrictlyPositive());
+        Assertions.assertEquals(2,
+                                statistics.getChecks(),
+                                "ValidationStatistics should count every check.");
+        Assertions.assertEquals(1,
+                                statistics.getFailures(),
+                                "ValidationStatistics should count every failure.");
+        Assertions.assertEquals(Collections.singletonMap(VerifiablePrimitiveInt.class.getName() + "#" + CHECK, 1L),
+                                statistics.getFailureCounts(),
+                                "ValidationStatistics should count failures per verifier method.");
+        Assertions.assertEquals(Collections.singletonMap("validate", 1L),
+                                statistics.getExecutorFailureCounts(),
+                                "ValidationStatistics should count failures per monitored executor.");
+    }
+
+    @Test
+    void testDisabledStatisticsDoNotCount() {
+        ValidationStatistics statistics = new ValidationStatistics("test");
+        statistics.setEnabled(false);
+        ValidityVerifiableFactory factory = monitoredFactory(statistics);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> factory.that(0).isStrictlyPositive());
+        Assertions.assertEquals(0,
+                                statistics.getChecks() + statistics.getFailures() + statistics.getExecutorFailureCounts().get("validate"),
+                                "Disabled ValidationStatistics should not count anything.");
+    }
+
+    @Test
+    void testSampledChecksAreWeighted() {
+        ValidationStatistics statistics = new ValidationStatistics("test");
+        statistics.setSampleInterval(10);
+        for (int i = 0; i < 1000; i++) {
+            statistics.recordCheck(VerifiablePrimitiveInt.class, CHECK);
+        }
+        Assertions.assertEquals(0,
+                                statistics.getChecks() % 10,
+                                "Sampled checks should be counted with the weight of the sample interval.");
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> statistics.setSampleInterval(0));
+    }
+
+    @Test
+    void testStackTracesCanBeTurnedOff() {
+        ValidationStatistics statistics = new ValidationStatistics("test");
+        ValidityVerifiableFactory factory = monitoredFactory(statistics);
+        IllegalArgumentException withStack = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     () -> factory.that(0).isStrictlyPositive());
+        statistics.setStackTracesEnabled(false);
+        IllegalArgumentException withoutStack = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                        () -> factory.that(0).isStrictlyPositive());
+        Assertions.assertNotEquals(0,
+                                   withStack.getStackTrace().length,
+                                   "Monitored executors should keep stack traces by default.");
+        Assertions.assertEquals(0,
+                                withoutStack.getStackTrace().length,
+                                "Monitored executors should throw without a stack trace when they are turned off.");
+        Assertions.assertEquals(Long.valueOf(2),
+                                statistics.getExecutorFailureCounts().get("validate"),
+                                "Monitored executors should count the failures of the stackless executor too.");
+    }
+
+    @Test
+    void testStackTracesAreKeptForExecutorsMonitoredWithoutStacklessExecutor() {
+        ValidationStatistics statistics = new ValidationStatistics("test");
+        statistics.setStackTracesEnabled(false);
+        ValidityVerifiableFactory factory = new ValidityVerifiableFactory(() -> null,
+                                                                          statistics.monitor("validate", new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new)));
+        IllegalArgumentException thrown = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                  () -> factory.that(0).isStrictlyPositive());
+        Assertions.assertNotEquals(0,
+                                   thrown.getStackTrace().length,
+                                   "Executors monitored without a stackless executor should keep their stack traces.");
+    }
+
+    @Test
+    void testMonitoredExecutorForwardsPrimitiveFailures() {
+        ValidationStatistics statistics = new ValidationStatistics("test");
+        IllegalStateException primitive = new IllegalStateException();
+        FailedValidationExecutor<IllegalArgumentException> executor = new FailedValidationExecutor<IllegalArgumentException>() {
+            @Override
+            public <T> void fail(String expected, T subject, Supplier<String> messageSupplier) {
+                throw new IllegalArgumentException();
+            }
+
+            @Override
+            public void failInt(ValidationFailure failure, int subject, Supplier<String> messageSupplier) {
+                throw primitive;
+            }
+        };
+        ValidityVerifiableFactory factory = new ValidityVerifiableFactory(() -> null,
+                                                                          statistics.monitor("validate", executor));
+        Assertions.assertSame(primitive,
+                              Assertions.assertThrows(IllegalStateException.class,
+                                                      () -> factory.that(0).isStrictlyPositive()),
+                              "Monitored executors should hand primitive failures to the primitive method of the executor.");
+        Assertions.assertEquals(Long.valueOf(1),
+                                statistics.getExecutorFailureCounts().get("validate"),
+                                "Monitored executors should count primitive failures.");
+    }
+
+    @Test
+    void testFailureRateIsAveragedOverCompleteSeconds() {
+        AtomicLong nanos = new AtomicLong(123);
+        ValidationStatistics statistics = new ValidationStatistics("test", nanos::get);
+        recordFailures(statistics, 30);
+        Assertions.assertEquals(0,
+                                statistics.getFailuresPerSecond(),
+                                "The failures of the current second should not count towards the rate.");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        recordFailures(statistics, 20);
+        Assertions.assertEquals(3,
+                                statistics.getFailuresPerSecond(),
+                                "The rate should be the average of the failures of the last 10 complete seconds.");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(5,
+                                statistics.getFailuresPerSecond(),
+                                "The rate should be the average of the failures of the last 10 complete seconds.");
+        Assertions.assertEquals(5,
+                                statistics.getFailuresPerSecond(),
+                                "Reading the rate should not change it.");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        Assertions.assertEquals(2,
+                                statistics.getFailuresPerSecond(),
+                                "Seconds older than the window should not count towards the rate.");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(0,
+                                statistics.getFailuresPerSecond(),
+                                "Seconds older than the window should not count towards the rate.");
+    }
+
+    @Test
+    void testFailureRateReusesSlotsOfOldSeconds() {
+        AtomicLong nanos = new AtomicLong();
+        ValidationStatistics statistics = new ValidationStatistics("test", nanos::get);
+        recordFailures(statistics, 50);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        recordFailures(statistics, 10);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(1,
+                                statistics.getFailuresPerSecond(),
+                                "A slot reused for a new second should only count the failures of that second.");
+    }
+
+    @Test
+    void testResetZeroesCounts() {
+        AtomicLong nanos = new AtomicLong();
+        ValidationStatistics statistics = new ValidationStatistics("test", nanos::get);
+        ValidityVerifiableFactory factory = monitoredFactory(statistics);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> factory.that(0).isStrictlyPositive());
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        statistics.reset();
+        Assertions.assertEquals(0,
+                                statistics.getChecks() + statistics.getFailures() + statistics.getExecutorFailureCounts().get("validate"),
+                                "ValidationStatistics should zero every count on reset.");
+        Assertions.assertEquals(0,
+                                statistics.getFailuresPerSecond(),
+                                "ValidationStatistics should have no failure rate after a reset.");
+    }
+
+    @Test
+    void testRegisteredStatisticsCanBeReadAndChangedThroughMBeanServer() throws Exception {
+        ValidationStatistics statistics = ValidationStatistics.register("registered");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> ValidationStatistics.register("registered"));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                                    () -> monitoredFactory(statistics).that(0).isStrictlyPositive());
+            Assertions.assertEquals(1L,
+                                    server.getAttribute(statistics.getObjectName(), "Failures"),
+                                    "The MBean should expose the failure count.");
+            Assertions.assertEquals(1,
+                                    ((TabularData) server.getAttribute(statistics.getObjectName(), "FailureCounts")).size(),
+                                    "The MBean should expose the failure counts per verifier method.");
+            server.setAttribute(statistics.getObjectName(), new Attribute("StackTracesEnabled", false));
+            Assertions.assertFalse(statistics.isStackTracesEnabled(),
+                                   "The MBean should allow turning stack traces off.");
+            server.invoke(statistics.getObjectName(), "reset", new Object[0], new String[0]);
+            Assertions.assertEquals(0,
+                                    statistics.getFailures(),
+                                    "The MBean should allow resetting the counts.");
+        } finally {
+            statistics.unregister();
+        }
+        Assertions.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(statistics.getObjectName()),
+                               "Unregistered statistics should not be registered.");
+    }
+}
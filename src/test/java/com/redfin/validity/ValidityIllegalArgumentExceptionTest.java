@@ -0,0 +1,114 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+final class ValidityIllegalArgumentExceptionTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNullExpected() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidityIllegalArgumentException(null, "subject", () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                exception.getMessage(),
+                                "ValidityIllegalArgumentException should throw for a null expected.");
+    }
+
+    @Test
+    void testThrowsForNullMessageSupplier() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidityIllegalArgumentException("expected", "subject", null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("messageSupplier"),
+                                exception.getMessage(),
+                                "ValidityIllegalArgumentException should throw for a null message supplier.");
+    }
+
+    @Test
+    void testReturnsGivenValues() {
+        Object subject = new Object();
+        ValidityIllegalArgumentException exception = new ValidityIllegalArgumentException("expected", subject, () -> "message");
+        Assertions.assertEquals("expected",
+                                exception.getExpected(),
+                                "ValidityIllegalArgumentException should return the given expected description.");
+        Assertions.assertSame(subject,
+                              exception.getSubject(),
+                              "ValidityIllegalArgumentException should return the given subject.");
+    }
+
+    @Test
+    void testFormatsMessageOnlyWhenFirstAskedFor() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> messageSupplier = () -> {
+            calls.incrementAndGet();
+            return "message";
+        };
+        ValidityIllegalArgumentException exception = new ValidityIllegalArgumentException("expected", "subject", messageSupplier);
+        Assertions.assertEquals(0,
+                                calls.get(),
+                                "ValidityIllegalArgumentException should not get the custom message when created.");
+        Assertions.assertEquals(ValidityUtils.failureMessage("message", "expected", "subject"),
+                                exception.getMessage(),
+                                "ValidityIllegalArgumentException should return the formatted failure message.");
+        Assertions.assertSame(exception.getMessage(),
+                              exception.getMessage(),
+                              "ValidityIllegalArgumentException should cache the formatted failure message.");
+        Assertions.assertEquals(1,
+                                calls.get(),
+                                "ValidityIllegalArgumentException should only get the custom message once.");
+    }
+
+    @Test
+    void testToStringIncludesMessage() {
+        ValidityIllegalArgumentException exception = new ValidityIllegalArgumentException("expected", "subject", () -> null);
+        Assertions.assertEquals(ValidityIllegalArgumentException.class.getName() + ": " + exception.getMessage(),
+                                exception.toString(),
+                                "ValidityIllegalArgumentException toString should include the failure message.");
+    }
+
+    @Test
+    void testSerializationKeepsMessage() throws IOException, ClassNotFoundException {
+        ValidityIllegalArgumentException exception = new ValidityIllegalArgumentException("expected", new Object(), () -> "message");
+        String message = exception.getMessage();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        ValidityIllegalArgumentException copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ValidityIllegalArgumentException) in.readObject();
+        }
+        Assertions.assertEquals(message,
+                                copy.getMessage(),
+                                "A deserialized ValidityIllegalArgumentException should keep the failure message.");
+        Assertions.assertNull(copy.getSubject(),
+                              "A deserialized ValidityIllegalArgumentException should not have the subject.");
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+final class ValidityIllegalStateExceptionTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testThrowsForNullExpected() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidityIllegalStateException(null, "subject", () -> "message"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                exception.getMessage(),
+                                "ValidityIllegalStateException should throw for a null expected.");
+    }
+
+    @Test
+    void testThrowsForNullMessageSupplier() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> new ValidityIllegalStateException("expected", "subject", null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("messageSupplier"),
+                                exception.getMessage(),
+                                "ValidityIllegalStateException should throw for a null message supplier.");
+    }
+
+    @Test
+    void testReturnsGivenValues() {
+        Object subject = new Object();
+        ValidityIllegalStateException exception = new ValidityIllegalStateException("expected", subject, () -> "message");
+        Assertions.assertEquals("expected",
+                                exception.getExpected(),
+                                "ValidityIllegalStateException should return the given expected description.");
+        Assertions.assertSame(subject,
+                              exception.getSubject(),
+                              "ValidityIllegalStateException should return the given subject.");
+    }
+
+    @Test
+    void testFormatsMessageOnlyWhenFirstAskedFor() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> messageSupplier = () -> {
+            calls.incrementAndGet();
+            return "message";
+        };
+        ValidityIllegalStateException exception = new ValidityIllegalStateException("expected", "subject", messageSupplier);
+        Assertions.assertEquals(0,
+                                calls.get(),
+                                "ValidityIllegalStateException should not get the custom message when created.");
+        Assertions.assertEquals(ValidityUtils.failureMessage("message", "expected", "subject"),
+                                exception.getMessage(),
+                                "ValidityIllegalStateException should return the formatted failure message.");
+        Assertions.assertSame(exception.getMessage(),
+                              exception.getMessage(),
+                              "ValidityIllegalStateException should cache the formatted failure message.");
+        Assertions.assertEquals(1,
+                                calls.get(),
+                                "ValidityIllegalStateException should only get the custom message once.");
+    }
+
+    @Test
+    void testToStringIncludesMessage() {
+        ValidityIllegalStateException exception = new ValidityIllegalStateException("expected", "subject", () -> null);
+        Assertions.assertEquals(ValidityIllegalStateException.class.getName() + ": " + exception.getMessage(),
+                                exception.toString(),
+                                "ValidityIllegalStateException toString should include the failure message.");
+    }
+
+    @Test
+    void testSerializationKeepsMessage() throws IOException, ClassNotFoundException {
+        ValidityIllegalStateException exception = new ValidityIllegalStateException("expected", new Object(), () -> "message");
+        String message = exception.getMessage();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        ValidityIllegalStateException copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ValidityIllegalStateException) in.readObject();
+        }
+        Assertions.assertEquals(message,
+                                copy.getMessage(),
+                                "A deserialized ValidityIllegalStateException should keep the failure message.");
+        Assertions.assertNull(copy.getSubject(),
+                              "A deserialized ValidityIllegalStateException should not have the subject.");
+    }
+}
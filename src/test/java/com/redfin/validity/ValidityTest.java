@@ -53,6 +53,81 @@ final class ValidityTest
                               "Validity validate should return a factory with a null message.");
     }
 
+    @Test
+    void testValidateThrowsEagerlyFormattedIllegalArgumentException() {
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     () -> Validity.validate().that(0).isStrictlyPositive());
+        Assertions.assertFalse(exception instanceof ValidityException,
+                               "Validity validate should throw exceptions with an already formatted message.");
+    }
+
+    @Test
+    void testValidateLazilyThrowsValidityIllegalArgumentException() {
+        Assertions.assertThrows(ValidityIllegalArgumentException.class,
+                                () -> Validity.validateLazily().that(0).isStrictlyPositive());
+    }
+
+    @Test
+    void testRepeatedCallsToValidateLazilyReturnTheSameInstance() {
+        Assertions.assertTrue(Validity.validateLazily() == Validity.validateLazily(),
+                              "Repeated calls to validateLazily should return the same instance.");
+    }
+
+    @Test
+    void testValidateIsNotDisabledByDefault() {
+        Assertions.assertFalse(Validity.isValidateDisabled(),
+                               "Validity validate should not be disabled without the system property.");
+        Assertions.assertFalse(Validity.validate().getFailedValidationExecutor() instanceof PassThroughFailedValidationExecutor,
+                               "Validity validate should not pass subjects through without the system property.");
+    }
+
+    @Test
+    void testExpectIsNotDisabledByDefault() {
+        Assertions.assertFalse(Validity.isExpectDisabled(),
+                               "Validity expect should not be disabled without the system property.");
+        Assertions.assertFalse(Validity.expect().getFailedValidationExecutor() instanceof PassThroughFailedValidationExecutor,
+                               "Validity expect should not pass subjects through without the system property.");
+    }
+
+    @Test
+    void testModesAreEmptyByDefault() {
+        Assertions.assertTrue(Validity.getModes().getModesByPrefix().isEmpty(),
+                              "Validity modes should have no prefixes without the system property.");
+        Assertions.assertEquals(ValidationMode.ENABLED,
+                                Validity.getModes().getDefaultMode(),
+                                "Validity modes should enable validation by default.");
+    }
+
+    @Test
+    void testValidateForCallerThrowsForNullCaller() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> Validity.validate(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("caller"),
+                                exception.getMessage(),
+                                "Validity validate should throw for a null caller.");
+    }
+
+    @Test
+    void testExpectForCallerThrowsForNullCaller() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> Validity.expect(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("caller"),
+                                exception.getMessage(),
+                                "Validity expect should throw for a null caller.");
+    }
+
+    @Test
+    void testValidateForCallerReturnsValidateByDefault() {
+        Assertions.assertTrue(Validity.validate() == Validity.validate(ValidityTest.class),
+                              "Validity validate for an enabled caller should return the validate instance.");
+    }
+
+    @Test
+    void testExpectForCallerReturnsExpectByDefault() {
+        Assertions.assertTrue(Validity.expect() == Validity.expect(ValidityTest.class),
+                              "Validity expect for an enabled caller should return the expect instance.");
+    }
+
     @Test
     void testExpectReturnsNonNull() {
         Assertions.assertNotNull(Validity.expect(),
@@ -70,4 +145,152 @@ final class ValidityTest
         Assertions.assertNull(Validity.expect().getMessageSupplier().get(),
                               "Validity expect should return a factory with a null message.");
     }
+    @Test
+    void testExpectThrowsEagerlyFormattedIllegalStateException() {
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                                                                  () -> Validity.expect().that(0).isStrictlyPositive());
+        Assertions.assertFalse(exception instanceof ValidityException,
+                               "Validity expect should throw exceptions with an already formatted message.");
+    }
+
+    @Test
+    void testExpectLazilyThrowsValidityIllegalStateException() {
+        Assertions.assertThrows(ValidityIllegalStateException.class,
+                                () -> Validity.expectLazily().that(0).isStrictlyPositive());
+    }
+
+    @Test
+    void testRepeatedCallsToExpectLazilyReturnTheSameInstance() {
+        Assertions.assertTrue(Validity.expectLazily() == Validity.expectLazily(),
+                              "Repeated calls to expectLazily should return the same instance.");
+    }
+
+    @Test
+    void testRepeatedCallsToValidateFastReturnTheSameInstance() {
+        Assertions.assertTrue(Validity.validateFast() == Validity.validateFast(),
+                              "Repeated calls to validateFast should return the same instance.");
+    }
+
+    @Test
+    void testValidateFastReturnsFactoryWithNullMessage() {
+        Assertions.assertNull(Validity.validateFast().getMessageSupplier().get(),
+                              "Validity validateFast should return a factory with a null message.");
+    }
+
+    @Test
+    void testValidateFastThrowsStacklessIllegalArgumentException() {
+        StacklessIllegalArgumentException exception = Assertions.assertThrows(StacklessIllegalArgumentException.class,
+                                                                              () -> Validity.validateFast().that(0).isStrictlyPositive());
+        Assertions.assertEquals(0,
+                                exception.getStackTrace().length,
+                                "Validity validateFast should throw exceptions without a stack trace.");
+    }
+
+    @Test
+    void testRepeatedCallsToExpectFastReturnTheSameInstance() {
+        Assertions.assertTrue(Validity.expectFast() == Validity.expectFast(),
+                              "Repeated calls to expectFast should return the same instance.");
+    }
+
+    @Test
+    void testExpectFastReturnsFactoryWithNullMessage() {
+        Assertions.assertNull(Validity.expectFast().getMessageSupplier().get(),
+                              "Validity expectFast should return a factory with a null message.");
+    }
+
+    @Test
+    void testExpectFastThrowsStacklessIllegalStateException() {
+        StacklessIllegalStateException exception = Assertions.assertThrows(StacklessIllegalStateException.class,
+                                                                           () -> Validity.expectFast().that(0).isStrictlyPositive());
+        Assertions.assertEquals(0,
+                                exception.getStackTrace().length,
+                                "Validity expectFast should throw exceptions without a stack trace.");
+    }
+
+    @Test
+    void testCheckThrowsForNullResult() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> Validity.check(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("result"),
+                                exception.getMessage(),
+                                "Validity check should throw for a null result.");
+    }
+
+    @Test
+    void testCheckReturnsFactoryWithNullMessageAndGivenResult() {
+        ValidationResult result = new ValidationResult();
+        CheckVerifiableFactory factory = Validity.check(result);
+        Assertions.assertNull(factory.getMessageSupplier().get(),
+                              "Validity check should return a factory with a null message.");
+        Assertions.assertTrue(result == factory.getFailedValidationExecutor(),
+                              "Validity check should return a factory that records failures in the given result.");
+    }
+
+    @Test
+    void testCheckDoesNotThrowAndRecordsTheSameMessageAsValidate() {
+        ValidationResult result = new ValidationResult();
+        Assertions.assertEquals(0,
+                                Validity.check(result).that(0).isStrictlyPositive(),
+                                "Validity check should return the subject of a failed validation.");
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     () -> Validity.validate().that(0).isStrictlyPositive());
+        Assertions.assertFalse(result.isValid(),
+                               "Validity check should record the failed validation.");
+        Assertions.assertEquals(exception.getMessage(),
+                                result.getMessage(),
+                                "Validity check should record the same message that validate throws.");
+    }
+
+    @Test
+    void testCheckWithMessageRecordsTheSameMessageAsValidate() {
+        ValidationResult result = new ValidationResult();
+        Validity.check(result).withMessage("hello").that("").isNotEmpty();
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                                                                     () -> Validity.validate().withMessage("hello").that("").isNotEmpty());
+        Assertions.assertEquals(exception.getMessage(),
+                                result.getMessage(),
+                                "Validity check should record the same message that validate throws.");
+    }
+
+    @Test
+    void testCollectThrowsForNullCollector() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> Validity.collect(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("collector"),
+                                exception.getMessage(),
+                                "Validity collect should throw for a null collector.");
+    }
+
+    @Test
+    void testCollectReturnsFactoryWithNullMessageAndGivenCollector() {
+        ValidationCollector collector = new ValidationCollector();
+        CheckVerifiableFactory factory = Validity.collect(collector);
+        Assertions.assertNull(factory.getMessageSupplier().get(),
+                              "Validity collect should return a factory with a null message.");
+        Assertions.assertTrue(collector == factory.getFailedValidationExecutor(),
+                              "Validity collect should return a factory that collects failures in the given collector.");
+    }
+
+    @Test
+    void testShadowThrowsForNullShadow() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> Validity.shadow(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("shadow"),
+                                exception.getMessage(),
+                                "Validity shadow should throw for a null shadow executor.");
+    }
+
+    @Test
+    void testShadowReturnsFactoryWithNullMessageAndGivenShadow() {
+        try (ShadowFailedValidationExecutor shadow = ShadowFailedValidationExecutor.start(16, 10, message -> { })) {
+            CheckVerifiableFactory factory = Validity.shadow(shadow);
+            Assertions.assertNull(factory.getMessageSupplier().get(),
+                                  "Validity shadow should return a factory with a null message.");
+            Assertions.assertTrue(shadow == factory.getFailedValidationExecutor(),
+                                  "Validity shadow should return a factory that logs failures with the given executor.");
+            Assertions.assertEquals(0,
+                                    factory.that(0).isStrictlyPositive(),
+                                    "Validity shadow should return a factory that does not throw on failure.");
+        }
+    }
 }
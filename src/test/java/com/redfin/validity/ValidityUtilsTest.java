@@ -23,7 +23,12 @@ import com.redfin.validity.predicates.DescriptiveLongPredicate;
 import com.redfin.validity.predicates.DescriptivePredicate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
@@ -68,6 +73,86 @@ final class ValidityUtilsTest
                                 "Long strings should get truncated.");
     }
 
+    // --------------------------------------------------------------
+    // Failure tests
+    // --------------------------------------------------------------
+
+    @Test
+    void testFailureMessageReturnsExpectedString() {
+        Assertions.assertEquals("message\n    expected : expected\n     subject : <subject>",
+                                ValidityUtils.failureMessage("message", "expected", "subject"),
+                                "The failure message should have the expected format.");
+    }
+
+    @Test
+    void testFailureMessageUsesDefaultMessageForNullMessage() {
+        Assertions.assertEquals("Subject failed validation\n    expected : expected\n     subject : <subject>",
+                                ValidityUtils.failureMessage(null, "expected", "subject"),
+                                "The failure message should use the default message for a null message.");
+    }
+
+    @Test
+    void testFailureMessageThrowsExceptionForNullExpected() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> ValidityUtils.failureMessage("message", null, "subject"));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("expected"),
+                                exception.getMessage(),
+                                "The failure message method should throw the expected exception for a null expected.");
+    }
+
+    @Test
+    void testTrimStackTraceThrowsExceptionForNullThrowable() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> ValidityUtils.trimStackTrace(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("throwable"),
+                                exception.getMessage(),
+                                "The trim stack trace method should throw the expected exception for a null throwable.");
+    }
+
+    @Test
+    void testTrimStackTraceRemovesValidityFrames() {
+        StackTraceElement validity = new StackTraceElement("com.redfin.validity.Validity", "validate", "Validity.java", 1);
+        StackTraceElement external = new StackTraceElement("com.redfin.external.Foo", "bar", "Foo.java", 2);
+        Throwable throwable = new IllegalArgumentException();
+        throwable.setStackTrace(new StackTraceElement[]{ validity, external, validity });
+        ValidityUtils.trimStackTrace(throwable);
+        Assertions.assertArrayEquals(new StackTraceElement[]{ external },
+                                     throwable.getStackTrace(),
+                                     "Trimming a stack trace should remove all of the validity frames.");
+    }
+
+    @Test
+    void testTrimStackTraceWithoutValidityFramesKeepsStackTrace() {
+        StackTraceElement first = new StackTraceElement("com.redfin.external.Foo", "bar", "Foo.java", 1);
+        StackTraceElement second = new StackTraceElement("com.redfin.external.Foo", "baz", "Foo.java", 2);
+        Throwable throwable = new IllegalArgumentException();
+        throwable.setStackTrace(new StackTraceElement[]{ first, second });
+        ValidityUtils.trimStackTrace(throwable);
+        Assertions.assertArrayEquals(new StackTraceElement[]{ first, second },
+                                     throwable.getStackTrace(),
+                                     "Trimming a stack trace without validity frames should leave it alone.");
+    }
+
+    @Test
+    void testCallSiteReturnsFirstFrameOutsideOfLibraryBelowClass() {
+        StackTraceElement function = new StackTraceElement("com.redfin.external.Factory", "create", "Factory.java", 1);
+        StackTraceElement executor = new StackTraceElement("com.redfin.validity.Executor", "fail", "Executor.java", 2);
+        StackTraceElement verifier = new StackTraceElement("com.redfin.validity.Verifier", "isTrue", "Verifier.java", 3);
+        StackTraceElement caller = new StackTraceElement("com.redfin.external.Foo", "bar", "Foo.java", 4);
+        Assertions.assertEquals(caller,
+                                ValidityUtils.callSite("com.redfin.validity.Executor",
+                                                       new StackTraceElement[]{ function, executor, executor, verifier, caller }),
+                                "The call site should be the first frame outside of the library below the class.");
+    }
+
+    @Test
+    void testCallSiteReturnsNullWithoutClassFrame() {
+        StackTraceElement caller = new StackTraceElement("com.redfin.external.Foo", "bar", "Foo.java", 1);
+        Assertions.assertNull(ValidityUtils.callSite("com.redfin.validity.Executor",
+                                                     new StackTraceElement[]{ caller }),
+                              "There should be no call site without a frame of the class.");
+    }
+
     // --------------------------------------------------------------
     // General description tests
     // --------------------------------------------------------------
@@ -278,4 +363,111 @@ final class ValidityUtilsTest
                                 ValidityUtils.describe(arr),
                                 "Described multi-dimensional arrays should use arrays deep to string value");
     }
+
+    // - - - - - - - - - - - - - - - - - - - - - -
+    // Bounded descriptions
+    // - - - - - - - - - - - - - - - - - - - - - -
+
+    private static String truncated(String description) {
+        return (description.length() > 100) ? description.substring(0, 100) + " ..." : description;
+    }
+
+    @Test
+    void testDescribeLongPrimitiveArrayIsTruncatedLikeArraysToString() {
+        int[] subject = new int[1000];
+        Arrays.fill(subject, 123456);
+        Assertions.assertEquals(truncated(Arrays.toString(subject)),
+                                ValidityUtils.describe(subject),
+                                "Long primitive arrays should be truncated the same way as their arrays to string value.");
+    }
+
+    @Test
+    void testDescribeLongDoubleArrayIsTruncatedLikeArraysToString() {
+        double[] subject = new double[1000];
+        Arrays.fill(subject, 1.0 / 3);
+        Assertions.assertEquals(truncated(Arrays.toString(subject)),
+                                ValidityUtils.describe(subject),
+                                "Long primitive arrays should be truncated the same way as their arrays to string value.");
+    }
+
+    @Test
+    void testDescribeNestedArraysMatchesArraysDeepToString() {
+        Object[] subject = {null, new int[]{1, 2}, new char[]{'a'}, new String[]{"b", null}, new ArrayList<>(Arrays.asList(1, 2)), new Object[0]};
+        subject[5] = subject;
+        Assertions.assertEquals(truncated(Arrays.deepToString(subject)),
+                                ValidityUtils.describe(subject),
+                                "Nested arrays should be described as per the arrays deep to string value.");
+    }
+
+    @Test
+    void testDescribeLongNestedArraysIsTruncatedLikeArraysDeepToString() {
+        Object[][] subject = new Object[100][];
+        Arrays.fill(subject, new Object[]{"abc", new long[]{Long.MIN_VALUE}});
+        Assertions.assertEquals(truncated(Arrays.deepToString(subject)),
+                                ValidityUtils.describe(subject),
+                                "Long nested arrays should be truncated the same way as their arrays deep to string value.");
+    }
+
+    @Test
+    void testDescribeCollectionMatchesToString() {
+        List<Object> subject = new ArrayList<>(Arrays.asList("a", null, Arrays.asList(1, 2)));
+        subject.add(subject);
+        Assertions.assertEquals(truncated(subject.toString()),
+                                ValidityUtils.describe(subject),
+                                "Collections should be described as per their to string value.");
+    }
+
+    @Test
+    void testDescribeLongCollectionIsTruncatedLikeToString() {
+        List<Integer> subject = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            subject.add(i);
+        }
+        Assertions.assertEquals(truncated(subject.toString()),
+                                ValidityUtils.describe(subject),
+                                "Long collections should be truncated the same way as their to string value.");
+    }
+
+    @Test
+    void testDescribeCollectionWithOwnToStringUsesIt() {
+        List<Integer> subject = new ArrayList<Integer>(Arrays.asList(1, 2)) {
+            @Override
+            public String toString() {
+                return "custom";
+            }
+        };
+        Assertions.assertEquals("custom",
+                                ValidityUtils.describe(subject),
+                                "Collections that override to string should be described by it.");
+    }
+
+    @Test
+    void testDescribeLargeCollectionOnlyVisitsTheDescribedElements() {
+        int[] visited = new int[1];
+        Collection<Integer> subject = new AbstractCollection<Integer>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return new Iterator<Integer>() {
+                    @Override
+                    public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        return visited[0]++;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+        };
+        Assertions.assertTrue(ValidityUtils.describe(subject).endsWith(" ..."),
+                              "An endless collection should be described and truncated.");
+        Assertions.assertTrue(visited[0] <= 100,
+                              "Describing a collection should stop once the description is truncated.");
+    }
 }
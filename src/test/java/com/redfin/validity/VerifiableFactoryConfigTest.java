@@ -0,0 +1,147 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class VerifiableFactoryConfigTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testDefaultsAreDefault() {
+        Assertions.assertTrue(VerifiableFactoryConfig.defaults().isDefault(),
+                              "The default config should be default.");
+        Assertions.assertNull(VerifiableFactoryConfig.defaults().getMetrics(),
+                              "The default config should not record metrics.");
+        Assertions.assertSame(Describers.defaults(),
+                              VerifiableFactoryConfig.defaults().getDescribers(),
+                              "The default config should use the default describers.");
+    }
+
+    @Test
+    void testWithMetricsReturnsNewInstanceWithGivenMetrics() {
+        ValidationMetrics metrics = new StripedValidationMetrics();
+        VerifiableFactoryConfig config = VerifiableFactoryConfig.defaults().withMetrics(metrics);
+        Assertions.assertSame(metrics,
+                              config.getMetrics(),
+                              "A config with metrics should return them.");
+        Assertions.assertFalse(config.isDefault(),
+                               "A config with metrics should not be default.");
+        Assertions.assertNull(VerifiableFactoryConfig.defaults().getMetrics(),
+                              "Configs should be immutable.");
+        Assertions.assertTrue(config.withMetrics(null).isDefault(),
+                              "A config without metrics should be default again.");
+    }
+
+    @Test
+    void testWithDescribersReturnsNewInstanceWithGivenDescribers() {
+        ValidationMetrics metrics = new StripedValidationMetrics();
+        Describers describers = Describers.defaults().withLimit(10);
+        VerifiableFactoryConfig config = VerifiableFactoryConfig.defaults()
+                                                                .withMetrics(metrics)
+                                                                .withDescribers(describers);
+        Assertions.assertSame(describers,
+                              config.getDescribers(),
+                              "A config with describers should return them.");
+        Assertions.assertSame(metrics,
+                              config.getMetrics(),
+                              "A config with describers should keep its metrics.");
+        Assertions.assertFalse(config.withMetrics(null).isDefault(),
+                               "A config with describers should not be default.");
+        Assertions.assertTrue(config.withMetrics(null).withDescribers(Describers.defaults()).isDefault(),
+                              "A config with the default describers and no metrics should be default again.");
+    }
+
+    @Test
+    void testWithDescribersThrowsForNullDescribers() {
+        Assertions.assertThrows(NullPointerException.class,
+                                () -> VerifiableFactoryConfig.defaults().withDescribers(null));
+    }
+
+    @Test
+    void testWithSamplingReturnsNewInstanceWithGivenRate() {
+        VerifiableFactoryConfig config = VerifiableFactoryConfig.defaults().withSampling(1, 10);
+        Assertions.assertTrue(config.isSampled() && 1 == config.getSampleChecked() && 10 == config.getSampleOutOf(),
+                              "A sampled config should return its sampling rate.");
+        Assertions.assertFalse(config.isDefault(),
+                               "A sampled config should not be default.");
+        Assertions.assertFalse(VerifiableFactoryConfig.defaults().isSampled(),
+                               "Configs should be immutable.");
+        Assertions.assertTrue(config.withSampling(5, 5).isDefault(),
+                              "A config that checks every call should be default again.");
+    }
+
+    @Test
+    void testWithSamplingThrowsForInvalidRate() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> VerifiableFactoryConfig.defaults().withSampling(0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> VerifiableFactoryConfig.defaults().withSampling(2, 1));
+    }
+
+    @Test
+    void testOnlySampledConfigsHaveASampler() {
+        Assertions.assertNull(VerifiableFactoryConfig.defaults().getSampler(),
+                              "A config that is not sampled should not have a sampler.");
+        Assertions.assertNull(VerifiableFactoryConfig.defaults().withSampling(3, 3).getSampler(),
+                              "A config that checks every call should not have a sampler.");
+        Assertions.assertNotNull(VerifiableFactoryConfig.defaults().withSampling(1, 2).getSampler(),
+                                 "A sampled config should have a sampler.");
+    }
+
+    @Test
+    void testDerivedConfigsShareTheSampler() {
+        VerifiableFactoryConfig config = VerifiableFactoryConfig.defaults().withSampling(1, 2);
+        Assertions.assertSame(config.getSampler(),
+                              config.withMetrics(new StripedValidationMetrics())
+                                    .withDescribers(Describers.defaults())
+                                    .withCostThreshold(new CostThreshold(CostTier.LINEAR))
+                                    .getSampler(),
+                              "A config derived from a sampled config should share its sampler.");
+        Assertions.assertNotSame(config.getSampler(),
+                                 config.withSampling(1, 2).getSampler(),
+                                 "A config with a new sampling rate should have a new sampler.");
+    }
+
+    @Test
+    void testWithCostThresholdReturnsNewInstanceWithGivenThreshold() {
+        CostThreshold threshold = new CostThreshold(CostTier.LINEAR);
+        VerifiableFactoryConfig config = VerifiableFactoryConfig.defaults().withSampling(1, 10).withCostThreshold(threshold);
+        Assertions.assertSame(threshold,
+                              config.getCostThreshold(),
+                              "A config with a cost threshold should return it.");
+        Assertions.assertTrue(config.isSampled(),
+                              "A config with a cost threshold should keep its sampling rate.");
+        Assertions.assertFalse(config.withSampling(1, 1).isDefault(),
+                               "A config with a cost threshold should not be default.");
+        Assertions.assertNull(VerifiableFactoryConfig.defaults().getCostThreshold(),
+                              "Configs should be immutable.");
+    }
+
+    @Test
+    void testWithCostThresholdThrowsForNullThreshold() {
+        NullPointerException exception = Assertions.assertThrows(NullPointerException.class,
+                                                                 () -> VerifiableFactoryConfig.defaults().withCostThreshold(null));
+        Assertions.assertEquals(ValidityUtils.nullArgumentMessage("costThreshold"),
+                                exception.getMessage(),
+                                "A config should throw for a null cost threshold.");
+    }
+}
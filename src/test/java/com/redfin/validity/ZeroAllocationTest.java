@@ -0,0 +1,411 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.redfin.validity.Validity.expect;
+import static com.redfin.validity.Validity.validate;
+import static com.redfin.validity.Validity.validateFast;
+
+/*
+ * Passing validations are expected to allocate nothing once they have been
+ * JIT-compiled. The verifier objects returned from the factory never escape
+ * the call site so the JIT's escape analysis should remove them entirely. This
+ * test guards against changes to the factory or verifiers that would stop
+ * that from happening (e.g. storing the verifier somewhere, making a method
+ * too large to inline, etc).
+ *
+ * Note that withMessage is not covered as the message supplier that it
+ * creates is not currently removed by escape analysis.
+ *
+ * The entry points disabled at startup are measured the same way with
+ * validations that would fail. Their verifiers are pass-through sub-classes
+ * picked once when Validity is initialized, so a failing validation should be
+ * inlined down to its subject and allocate nothing either. If the verifiers
+ * still tested whether they were disabled the failures would allocate their
+ * exceptions instead.
+ */
+
+final class ZeroAllocationTest {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test values
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String SKIPPED = "skipped:";
+    private static final String DISABLED = "disabled";
+    private static final int WARM_UP_ITERATIONS = 100_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long COMPILATION_WAIT_MILLIS = 50;
+
+    private static final String[] OBJECT_ARRAY = { "a", "b", "c" };
+    private static final String[] OBJECT_ARRAY_COPY = OBJECT_ARRAY.clone();
+    private static final boolean[] BOOLEAN_ARRAY = { true, true, true };
+    private static final boolean[] BOOLEAN_ARRAY_COPY = BOOLEAN_ARRAY.clone();
+    private static final byte[] BYTE_ARRAY = { 1, 2, 3 };
+    private static final byte[] BYTE_ARRAY_COPY = BYTE_ARRAY.clone();
+    private static final char[] CHAR_ARRAY = { 'a', 'b', 'c' };
+    private static final char[] CHAR_ARRAY_COPY = CHAR_ARRAY.clone();
+    private static final double[] DOUBLE_ARRAY = { 1.0d, 2.0d, 3.0d };
+    private static final double[] DOUBLE_ARRAY_COPY = DOUBLE_ARRAY.clone();
+    private static final float[] FLOAT_ARRAY = { 1.0f, 2.0f, 3.0f };
+    private static final float[] FLOAT_ARRAY_COPY = FLOAT_ARRAY.clone();
+    private static final int[] INT_ARRAY = { 1, 2, 3 };
+    private static final int[] INT_ARRAY_COPY = INT_ARRAY.clone();
+    private static final long[] LONG_ARRAY = { 1L, 2L, 3L };
+    private static final long[] LONG_ARRAY_COPY = LONG_ARRAY.clone();
+    private static final short[] SHORT_ARRAY = { 1, 2, 3 };
+    private static final short[] SHORT_ARRAY_COPY = SHORT_ARRAY.clone();
+
+    private static final Boolean BOXED_BOOLEAN = Boolean.TRUE;
+    private static final Byte BOXED_BYTE = (byte) 42;
+    private static final Character BOXED_CHARACTER = 'a';
+    private static final Short BOXED_SHORT = (short) 42;
+    private static final Integer BOXED_INTEGER = 42;
+    private static final Long BOXED_LONG = 42L;
+    private static final Float BOXED_FLOAT = 42.0f;
+    private static final Double BOXED_DOUBLE = 42.0d;
+    private static final Duration DURATION = Duration.ofSeconds(42);
+    private static final Instant INSTANT = Instant.ofEpochMilli(1_000_000L);
+    private static final Instant EARLIER_INSTANT = Instant.ofEpochMilli(1L);
+    private static final List<String> COLLECTION = new ArrayList<>(Arrays.asList("a", "b", "c"));
+    private static final String STRING = "validity";
+    private static final Object OBJECT = new Object();
+
+    /*
+     * Non-final so that the primitive subjects are not constant folded.
+     */
+
+    private static boolean booleanSubject = true;
+    private static byte byteSubject = 42;
+    private static char charSubject = 'a';
+    private static short shortSubject = 42;
+    private static int intSubject = 42;
+    private static long longSubject = 42L;
+    private static float floatSubject = 42.0f;
+    private static double doubleSubject = 42.0d;
+
+    private static volatile long sink;
+
+    @FunctionalInterface
+    private interface PassingValidation {
+
+        /*
+         * Returns a long so that the result of the validation can be
+         * consumed without boxing it.
+         */
+
+        long run();
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Test cases
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Test
+    void testPassingValidationsDoNotAllocateOnceCompiled() throws IOException, InterruptedException {
+        List<String> output = measureInNewJvm(Arrays.asList("-Xbatch",
+                                                            "-cp",
+                                                            System.getProperty("java.class.path"),
+                                                            ZeroAllocationTest.class.getName()));
+        Assumptions.assumeFalse(!output.isEmpty() && output.get(0).startsWith(SKIPPED),
+                                () -> String.join("\n", output));
+        Assertions.assertTrue(output.isEmpty(),
+                              "Passing validations should not allocate once compiled but these did:\n" + String.join("\n", output));
+    }
+
+    @Test
+    void testDisabledValidationsDoNotAllocateOnceCompiled() throws IOException, InterruptedException {
+        List<String> output = measureInNewJvm(Arrays.asList("-Xbatch",
+                                                            "-D" + Validity.VALIDATE_DISABLED_PROPERTY + "=true",
+                                                            "-D" + Validity.EXPECT_DISABLED_PROPERTY + "=true",
+                                                            "-cp",
+                                                            System.getProperty("java.class.path"),
+                                                            ZeroAllocationTest.class.getName(),
+                                                            DISABLED));
+        Assumptions.assumeFalse(!output.isEmpty() && output.get(0).startsWith(SKIPPED),
+                                () -> String.join("\n", output));
+        Assertions.assertTrue(output.isEmpty(),
+                              "Failing validations of disabled entry points should not allocate once compiled but these did:\n" + String.join("\n", output));
+    }
+
+    private static List<String> measureInNewJvm(List<String> arguments) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(arguments);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                output.add(line);
+            }
+        }
+        Assertions.assertEquals(0,
+                                process.waitFor(),
+                                "The allocation measurement JVM should exit normally:\n" + String.join("\n", output));
+        return output;
+    }
+
+    /*
+     * The measurements are made in a fresh JVM. Other tests call the same verifier
+     * methods with metrics, failing subjects, and many subject types, which changes
+     * the profiles the JIT compiles them with (and can get them compiled into large
+     * methods it will no longer inline) so measuring in the test JVM would depend on
+     * which tests happened to run first. Compilation is also done in the foreground
+     * (-Xbatch) as a method compiled in the background while the classes it calls
+     * were still being resolved could be left without the inlining that removes the
+     * verifier allocations.
+     */
+
+    /**
+     * Prints each passing validation that allocates once compiled, one per line, or a single
+     * line starting with "skipped:" if allocations cannot be measured in this JVM.
+     *
+     * @param args empty, or "disabled" to measure validations that would fail instead. The
+     *             entry points must have been disabled with their system properties for those.
+     *
+     * @throws InterruptedException if interrupted while waiting for compilation.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            System.out.println(SKIPPED + " this test requires the com.sun.management.ThreadMXBean.");
+            return;
+        }
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationMXBean.isThreadAllocatedMemorySupported()) {
+            System.out.println(SKIPPED + " this test requires thread allocated memory measurement.");
+            return;
+        }
+        allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+        if (!isEscapeAnalysisEnabled()) {
+            System.out.println(SKIPPED + " this test requires a JIT compiler with escape analysis.");
+            return;
+        }
+        if (args.length > 0 && DISABLED.equals(args[0]) && !(Validity.isValidateDisabled() && Validity.isExpectDisabled())) {
+            throw new IllegalStateException("The disabled validations can only be measured with the entry points disabled.");
+        }
+        long threadId = Thread.currentThread().getId();
+        Map<String, PassingValidation> validations = (args.length > 0 && DISABLED.equals(args[0])) ? disabledValidations() : passingValidations();
+        for (Map.Entry<String, PassingValidation> entry : validations.entrySet()) {
+            double bytesPerCall = steadyStateBytesPerCall(allocationMXBean, threadId, entry.getValue());
+            if (bytesPerCall >= 1) {
+                System.out.println(entry.getKey() + " : " + bytesPerCall + " bytes per call");
+            }
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helpers
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Compilation happens in the background so a validation is given
+     * several rounds of warm up and measurement. The smallest measurement
+     * is the steady state, anything allocated by a verifier is at least
+     * one object header so a real allocation is never less than a byte.
+     */
+
+    private static double steadyStateBytesPerCall(com.sun.management.ThreadMXBean allocationMXBean,
+                                                  long threadId,
+                                                  PassingValidation validation) throws InterruptedException {
+        double minimum = Double.MAX_VALUE;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && minimum >= 1; attempt++) {
+            long result = 0;
+            for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+                result += validation.run();
+            }
+            long before = allocationMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                result += validation.run();
+            }
+            long after = allocationMXBean.getThreadAllocatedBytes(threadId);
+            sink = result;
+            minimum = Math.min(minimum, (after - before) / (double) MEASURED_ITERATIONS);
+            if (minimum >= 1) {
+                Thread.sleep(COMPILATION_WAIT_MILLIS);
+            }
+        }
+        return minimum;
+    }
+
+    private static boolean isEscapeAnalysisEnabled() {
+        try {
+            return Boolean.parseBoolean(ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class)
+                                                         .getVMOption("DoEscapeAnalysis")
+                                                         .getValue());
+        } catch (RuntimeException e) {
+            // Not a HotSpot JVM or the option doesn't exist
+            return false;
+        }
+    }
+
+    private static long of(Object result) {
+        return (null == result) ? 0 : 1;
+    }
+
+    private static Map<String, PassingValidation> passingValidations() {
+        Map<String, PassingValidation> cases = new LinkedHashMap<>();
+        cases.put("that(E[]).isNotEmpty()", () -> of(validate().that(OBJECT_ARRAY).isNotEmpty()));
+        cases.put("that(E[]).hasLengthOfAtLeast(int)", () -> of(validate().that(OBJECT_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(E[]).isEqualTo(E[])", () -> of(validate().that(OBJECT_ARRAY).isEqualTo(OBJECT_ARRAY_COPY)));
+        cases.put("that(boolean[]).isNotEmpty()", () -> of(validate().that(BOOLEAN_ARRAY).isNotEmpty()));
+        cases.put("that(boolean[]).hasLengthOfAtLeast(int)", () -> of(validate().that(BOOLEAN_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(boolean[]).isEqualTo(boolean[])", () -> of(validate().that(BOOLEAN_ARRAY).isEqualTo(BOOLEAN_ARRAY_COPY)));
+        cases.put("that(boolean[]).contains(boolean)", () -> of(validate().that(BOOLEAN_ARRAY).contains(true)));
+        cases.put("that(byte[]).isNotEmpty()", () -> of(validate().that(BYTE_ARRAY).isNotEmpty()));
+        cases.put("that(byte[]).hasLengthOfAtLeast(int)", () -> of(validate().that(BYTE_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(byte[]).isEqualTo(byte[])", () -> of(validate().that(BYTE_ARRAY).isEqualTo(BYTE_ARRAY_COPY)));
+        cases.put("that(byte[]).contains(byte)", () -> of(validate().that(BYTE_ARRAY).contains((byte) 2)));
+        cases.put("that(char[]).isNotEmpty()", () -> of(validate().that(CHAR_ARRAY).isNotEmpty()));
+        cases.put("that(char[]).hasLengthOfAtLeast(int)", () -> of(validate().that(CHAR_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(char[]).isEqualTo(char[])", () -> of(validate().that(CHAR_ARRAY).isEqualTo(CHAR_ARRAY_COPY)));
+        cases.put("that(char[]).contains(char)", () -> of(validate().that(CHAR_ARRAY).contains('b')));
+        cases.put("that(double[]).isNotEmpty()", () -> of(validate().that(DOUBLE_ARRAY).isNotEmpty()));
+        cases.put("that(double[]).hasLengthOfAtLeast(int)", () -> of(validate().that(DOUBLE_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(double[]).isEqualTo(double[])", () -> of(validate().that(DOUBLE_ARRAY).isEqualTo(DOUBLE_ARRAY_COPY)));
+        cases.put("that(double[]).contains(double)", () -> of(validate().that(DOUBLE_ARRAY).contains(2.0d)));
+        cases.put("that(float[]).isNotEmpty()", () -> of(validate().that(FLOAT_ARRAY).isNotEmpty()));
+        cases.put("that(float[]).hasLengthOfAtLeast(int)", () -> of(validate().that(FLOAT_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(float[]).isEqualTo(float[])", () -> of(validate().that(FLOAT_ARRAY).isEqualTo(FLOAT_ARRAY_COPY)));
+        cases.put("that(float[]).contains(float)", () -> of(validate().that(FLOAT_ARRAY).contains(2.0f)));
+        cases.put("that(int[]).isNotEmpty()", () -> of(validate().that(INT_ARRAY).isNotEmpty()));
+        cases.put("that(int[]).hasLengthOfAtLeast(int)", () -> of(validate().that(INT_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(int[]).isEqualTo(int[])", () -> of(validate().that(INT_ARRAY).isEqualTo(INT_ARRAY_COPY)));
+        cases.put("that(int[]).contains(int)", () -> of(validate().that(INT_ARRAY).contains(2)));
+        cases.put("that(long[]).isNotEmpty()", () -> of(validate().that(LONG_ARRAY).isNotEmpty()));
+        cases.put("that(long[]).hasLengthOfAtLeast(int)", () -> of(validate().that(LONG_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(long[]).isEqualTo(long[])", () -> of(validate().that(LONG_ARRAY).isEqualTo(LONG_ARRAY_COPY)));
+        cases.put("that(long[]).contains(long)", () -> of(validate().that(LONG_ARRAY).contains(2L)));
+        cases.put("that(short[]).isNotEmpty()", () -> of(validate().that(SHORT_ARRAY).isNotEmpty()));
+        cases.put("that(short[]).hasLengthOfAtLeast(int)", () -> of(validate().that(SHORT_ARRAY).hasLengthOfAtLeast(1)));
+        cases.put("that(short[]).isEqualTo(short[])", () -> of(validate().that(SHORT_ARRAY).isEqualTo(SHORT_ARRAY_COPY)));
+        cases.put("that(short[]).contains(short)", () -> of(validate().that(SHORT_ARRAY).contains((short) 2)));
+        cases.put("that(boolean).isTrue()", () -> validate().that(booleanSubject).isTrue() ? 1 : 0);
+        cases.put("that(boolean).isFalse()", () -> validate().that(!booleanSubject).isFalse() ? 1 : 0);
+        cases.put("that(byte).isStrictlyPositive()", () -> validate().that(byteSubject).isStrictlyPositive());
+        cases.put("that(byte).isNotZero()", () -> validate().that(byteSubject).isNotZero());
+        cases.put("that(byte).isGreaterThan(byte)", () -> validate().that(byteSubject).isGreaterThan((byte) 0));
+        cases.put("that(byte).isAtMost(byte)", () -> validate().that(byteSubject).isAtMost(byteSubject));
+        cases.put("that(byte).isNotEqualTo(byte)", () -> validate().that(byteSubject).isNotEqualTo((byte) 0));
+        cases.put("that(byte).satisfies(predicate)", () -> validate().that(byteSubject).satisfies(t -> t > 0));
+        cases.put("that(short).isStrictlyPositive()", () -> validate().that(shortSubject).isStrictlyPositive());
+        cases.put("that(short).isNotZero()", () -> validate().that(shortSubject).isNotZero());
+        cases.put("that(short).isGreaterThan(short)", () -> validate().that(shortSubject).isGreaterThan((short) 0));
+        cases.put("that(short).isAtMost(short)", () -> validate().that(shortSubject).isAtMost(shortSubject));
+        cases.put("that(short).isNotEqualTo(short)", () -> validate().that(shortSubject).isNotEqualTo((short) 0));
+        cases.put("that(short).satisfies(predicate)", () -> validate().that(shortSubject).satisfies(t -> t > 0));
+        cases.put("that(int).isStrictlyPositive()", () -> validate().that(intSubject).isStrictlyPositive());
+        cases.put("that(int).isNotZero()", () -> validate().that(intSubject).isNotZero());
+        cases.put("that(int).isGreaterThan(int)", () -> validate().that(intSubject).isGreaterThan(0));
+        cases.put("that(int).isAtMost(int)", () -> validate().that(intSubject).isAtMost(intSubject));
+        cases.put("that(int).isNotEqualTo(int)", () -> validate().that(intSubject).isNotEqualTo(0));
+        cases.put("that(int).satisfies(predicate)", () -> validate().that(intSubject).satisfies(t -> t > 0));
+        cases.put("that(long).isStrictlyPositive()", () -> validate().that(longSubject).isStrictlyPositive());
+        cases.put("that(long).isNotZero()", () -> validate().that(longSubject).isNotZero());
+        cases.put("that(long).isGreaterThan(long)", () -> validate().that(longSubject).isGreaterThan(0L));
+        cases.put("that(long).isAtMost(long)", () -> validate().that(longSubject).isAtMost(longSubject));
+        cases.put("that(long).isNotEqualTo(long)", () -> validate().that(longSubject).isNotEqualTo(0L));
+        cases.put("that(long).satisfies(predicate)", () -> validate().that(longSubject).satisfies(t -> t > 0));
+        cases.put("that(float).isStrictlyPositive()", () -> (long) validate().that(floatSubject).isStrictlyPositive());
+        cases.put("that(float).isNotZero()", () -> (long) validate().that(floatSubject).isNotZero());
+        cases.put("that(float).isGreaterThan(float)", () -> (long) validate().that(floatSubject).isGreaterThan(0.0f));
+        cases.put("that(float).isAtMost(float)", () -> (long) validate().that(floatSubject).isAtMost(floatSubject));
+        cases.put("that(float).isNotEqualTo(float)", () -> (long) validate().that(floatSubject).isNotEqualTo(0.0f));
+        cases.put("that(float).satisfies(predicate)", () -> (long) validate().that(floatSubject).satisfies(t -> t > 0));
+        cases.put("that(double).isStrictlyPositive()", () -> (long) validate().that(doubleSubject).isStrictlyPositive());
+        cases.put("that(double).isNotZero()", () -> (long) validate().that(doubleSubject).isNotZero());
+        cases.put("that(double).isGreaterThan(double)", () -> (long) validate().that(doubleSubject).isGreaterThan(0.0d));
+        cases.put("that(double).isAtMost(double)", () -> (long) validate().that(doubleSubject).isAtMost(doubleSubject));
+        cases.put("that(double).isNotEqualTo(double)", () -> (long) validate().that(doubleSubject).isNotEqualTo(0.0d));
+        cases.put("that(double).satisfies(predicate)", () -> (long) validate().that(doubleSubject).satisfies(t -> t > 0));
+        cases.put("that(char).isLowerCase()", () -> validate().that(charSubject).isLowerCase());
+        cases.put("that(char).isAtLeast(char)", () -> validate().that(charSubject).isAtLeast('a'));
+        cases.put("that(char).satisfies(predicate)", () -> validate().that(charSubject).satisfies(Character::isLetter));
+        cases.put("that(Boolean).isTrue()", () -> of(validate().that(BOXED_BOOLEAN).isTrue()));
+        cases.put("that(Byte).isStrictlyPositive()", () -> of(validate().that(BOXED_BYTE).isStrictlyPositive()));
+        cases.put("that(Byte).isNotNull()", () -> of(validate().that(BOXED_BYTE).isNotNull()));
+        cases.put("that(Short).isStrictlyPositive()", () -> of(validate().that(BOXED_SHORT).isStrictlyPositive()));
+        cases.put("that(Short).isNotNull()", () -> of(validate().that(BOXED_SHORT).isNotNull()));
+        cases.put("that(Integer).isStrictlyPositive()", () -> of(validate().that(BOXED_INTEGER).isStrictlyPositive()));
+        cases.put("that(Integer).isNotNull()", () -> of(validate().that(BOXED_INTEGER).isNotNull()));
+        cases.put("that(Long).isStrictlyPositive()", () -> of(validate().that(BOXED_LONG).isStrictlyPositive()));
+        cases.put("that(Long).isNotNull()", () -> of(validate().that(BOXED_LONG).isNotNull()));
+        cases.put("that(Float).isStrictlyPositive()", () -> of(validate().that(BOXED_FLOAT).isStrictlyPositive()));
+        cases.put("that(Float).isNotNull()", () -> of(validate().that(BOXED_FLOAT).isNotNull()));
+        cases.put("that(Double).isStrictlyPositive()", () -> of(validate().that(BOXED_DOUBLE).isStrictlyPositive()));
+        cases.put("that(Double).isNotNull()", () -> of(validate().that(BOXED_DOUBLE).isNotNull()));
+        cases.put("that(Character).isLowerCase()", () -> of(validate().that(BOXED_CHARACTER).isLowerCase()));
+        cases.put("that(Duration).isStrictlyPositive()", () -> of(validate().that(DURATION).isStrictlyPositive()));
+        cases.put("that(Instant).isGreaterThan(Instant)", () -> of(validate().that(INSTANT).isGreaterThan(EARLIER_INSTANT)));
+        cases.put("that(Class).isAssignableFrom(Class)", () -> of(validate().that(Number.class).isAssignableFrom(Integer.class)));
+        cases.put("that(Collection).isNotEmpty()", () -> of(validate().that(COLLECTION).isNotEmpty()));
+        cases.put("that(Collection).hasSizeOf(int)", () -> of(validate().that(COLLECTION).hasSizeOf(3)));
+        cases.put("that(Collection).contains(Object)", () -> of(validate().that(COLLECTION).contains("b")));
+        cases.put("that(String).isNotEmpty()", () -> of(validate().that(STRING).isNotEmpty()));
+        cases.put("that(String).startsWith(String)", () -> of(validate().that(STRING).startsWith("valid")));
+        cases.put("that(Object).isNotNull()", () -> of(validate().that(OBJECT).isNotNull()));
+        cases.put("that(Object).isEqualTo(Object)", () -> of(validate().that(OBJECT).isEqualTo(OBJECT)));
+        cases.put("that(Object).satisfies(predicate)", () -> of(validate().that(OBJECT).satisfies(t -> null != t)));
+        cases.put("expect().that(int).isStrictlyPositive()", () -> expect().that(intSubject).isStrictlyPositive());
+        cases.put("expect().that(Object).isNotNull()", () -> of(expect().that(OBJECT).isNotNull()));
+        return cases;
+    }
+
+    /*
+     * These would all fail if the entry points were enabled. The contains
+     * and satisfies cases would also walk the collection or call the predicate.
+     */
+
+    private static Map<String, PassingValidation> disabledValidations() {
+        Map<String, PassingValidation> cases = new LinkedHashMap<>();
+        cases.put("that(E[]).isEmpty()", () -> of(validate().that(OBJECT_ARRAY).isEmpty()));
+        cases.put("that(int[]).contains(int)", () -> of(validate().that(INT_ARRAY).contains(4)));
+        cases.put("that(boolean).isFalse()", () -> validate().that(booleanSubject).isFalse() ? 1 : 0);
+        cases.put("that(int).isStrictlyNegative()", () -> validate().that(intSubject).isStrictlyNegative());
+        cases.put("that(long).isLessThan(long)", () -> validate().that(longSubject).isLessThan(0L));
+        cases.put("that(double).satisfies(predicate)", () -> (long) validate().that(doubleSubject).satisfies(t -> t < 0));
+        cases.put("that(Integer).isStrictlyNegative()", () -> of(validate().that(BOXED_INTEGER).isStrictlyNegative()));
+        cases.put("that(Collection).contains(Object)", () -> of(validate().that(COLLECTION).contains("d")));
+        cases.put("that(String).isEmpty()", () -> of(validate().that(STRING).isEmpty()));
+        cases.put("that(Object).isNull()", () -> of(validate().that(OBJECT).isNull()));
+        cases.put("validateFast().that(int).isZero()", () -> validateFast().that(intSubject).isZero());
+        cases.put("expect().that(int).isStrictlyNegative()", () -> expect().that(intSubject).isStrictlyNegative());
+        cases.put("expect().that(Object).isNull()", () -> of(expect().that(OBJECT).isNull()));
+        return cases;
+    }
+}
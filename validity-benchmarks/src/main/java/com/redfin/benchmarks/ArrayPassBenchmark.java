@@ -0,0 +1,192 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.redfin.validity.Validity.validate;
+
+/**
+ * Passing path benchmarks for all nine of the verifiers in the
+ * {@code com.redfin.validity.verifiers.arrays} package. Each verifier
+ * benchmark has a matching hand-written {@code if/throw} baseline so that
+ * the overhead of the fluent API can be read directly off of the results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayPassBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private String[] objectArray = new String[]{"a", "b", "c"};
+    private boolean[] booleanArray = new boolean[]{true, false, true};
+    private byte[] byteArray = new byte[]{1, 2, 3};
+    private char[] charArray = new char[]{'a', 'b', 'c'};
+    private double[] doubleArray = new double[]{1.0d, 2.0d, 3.0d};
+    private float[] floatArray = new float[]{1.0f, 2.0f, 3.0f};
+    private int[] intArray = new int[]{1, 2, 3};
+    private long[] longArray = new long[]{1L, 2L, 3L};
+    private short[] shortArray = new short[]{1, 2, 3};
+    private int[] intArrayOther = new int[]{1, 2, 3};
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Benchmark
+    public String[] objectArrayIsNotEmpty() {
+        return validate().that(objectArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public String[] objectArrayIsNotEmptyBaseline() {
+        if (null == objectArray || objectArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return objectArray;
+    }
+
+    @Benchmark
+    public boolean[] booleanArrayIsNotEmpty() {
+        return validate().that(booleanArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public boolean[] booleanArrayIsNotEmptyBaseline() {
+        if (null == booleanArray || booleanArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return booleanArray;
+    }
+
+    @Benchmark
+    public byte[] byteArrayIsNotEmpty() {
+        return validate().that(byteArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public byte[] byteArrayIsNotEmptyBaseline() {
+        if (null == byteArray || byteArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return byteArray;
+    }
+
+    @Benchmark
+    public char[] charArrayIsNotEmpty() {
+        return validate().that(charArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public char[] charArrayIsNotEmptyBaseline() {
+        if (null == charArray || charArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return charArray;
+    }
+
+    @Benchmark
+    public double[] doubleArrayIsNotEmpty() {
+        return validate().that(doubleArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public double[] doubleArrayIsNotEmptyBaseline() {
+        if (null == doubleArray || doubleArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return doubleArray;
+    }
+
+    @Benchmark
+    public float[] floatArrayIsNotEmpty() {
+        return validate().that(floatArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public float[] floatArrayIsNotEmptyBaseline() {
+        if (null == floatArray || floatArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return floatArray;
+    }
+
+    @Benchmark
+    public int[] intArrayIsNotEmpty() {
+        return validate().that(intArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public int[] intArrayIsNotEmptyBaseline() {
+        if (null == intArray || intArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return intArray;
+    }
+
+    @Benchmark
+    public long[] longArrayIsNotEmpty() {
+        return validate().that(longArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public long[] longArrayIsNotEmptyBaseline() {
+        if (null == longArray || longArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return longArray;
+    }
+
+    @Benchmark
+    public short[] shortArrayIsNotEmpty() {
+        return validate().that(shortArray).isNotEmpty();
+    }
+
+    @Benchmark
+    public short[] shortArrayIsNotEmptyBaseline() {
+        if (null == shortArray || shortArray.length == 0) {
+            throw new IllegalArgumentException("t -> t.length != 0");
+        }
+        return shortArray;
+    }
+
+    @Benchmark
+    public int[] intArrayContains() {
+        return validate().that(intArray).contains(3);
+    }
+
+    @Benchmark
+    public int[] intArrayIsEqualTo() {
+        return validate().that(intArray).isEqualTo(intArrayOther);
+    }
+}
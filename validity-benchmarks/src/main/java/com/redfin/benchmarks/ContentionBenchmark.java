@@ -0,0 +1,162 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import com.redfin.validity.DefaultValidityFailedValidationExecutor;
+import com.redfin.validity.ExpectVerifiableFactory;
+import com.redfin.validity.ValidityVerifiableFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.redfin.validity.Validity.expect;
+import static com.redfin.validity.Validity.validate;
+
+/**
+ * Multi-threaded benchmarks for the factories and executors that every thread
+ * in a server shares: the static {@code validate()} and {@code expect()}
+ * instances, a custom factory built around its own
+ * {@link DefaultValidityFailedValidationExecutor}, and per-call factories created
+ * with {@code withMessage}. Each thread mixes passing and failing validations with
+ * one failure every {@code failOneIn} calls (0 for passing calls only).
+ * <p>
+ * Run them with {@link ScalabilityRunner} to sweep the thread count from 1 up to
+ * the number of available processors and get a per-thread scaling report, or
+ * pick a single thread count with the regular {@code -t} JMH option.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ContentionBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final int PASSING_SUBJECT = 42;
+    private static final int FAILING_SUBJECT = -42;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // States
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * The factories shared by every benchmark thread.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedFactories {
+
+        ValidityVerifiableFactory customValidate;
+        ExpectVerifiableFactory customExpect;
+
+        @Setup
+        public void setup() {
+            customValidate = new ValidityVerifiableFactory(() -> "custom",
+                                                           new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new));
+            customExpect = new ExpectVerifiableFactory(() -> "custom",
+                                                       new DefaultValidityFailedValidationExecutor<>(IllegalStateException::new));
+        }
+    }
+
+    /**
+     * The per-thread source of subjects that decides which calls fail.
+     */
+    @State(Scope.Thread)
+    public static class Subjects {
+
+        @Param({"0", "1000", "100"})
+        int failOneIn;
+
+        /*
+         * Non-final so that the JIT cannot constant fold the subjects.
+         */
+
+        private int passing = PASSING_SUBJECT;
+        private int failing = FAILING_SUBJECT;
+        private int count;
+
+        int next() {
+            if (failOneIn > 0 && ++count >= failOneIn) {
+                count = 0;
+                return failing;
+            }
+            return passing;
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Benchmark
+    public void sharedValidate(Subjects subjects, Blackhole blackhole) {
+        try {
+            blackhole.consume(validate().that(subjects.next()).isStrictlyPositive());
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void sharedExpect(Subjects subjects, Blackhole blackhole) {
+        try {
+            blackhole.consume(expect().that(subjects.next()).isStrictlyPositive());
+        } catch (IllegalStateException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void sharedWithMessage(Subjects subjects, Blackhole blackhole) {
+        try {
+            blackhole.consume(validate().withMessage("the subject must be positive").that(subjects.next()).isStrictlyPositive());
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void customValidate(SharedFactories factories, Subjects subjects, Blackhole blackhole) {
+        try {
+            blackhole.consume(factories.customValidate.that(subjects.next()).isStrictlyPositive());
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void customExpect(SharedFactories factories, Subjects subjects, Blackhole blackhole) {
+        try {
+            blackhole.consume(factories.customExpect.that(subjects.next()).isStrictlyPositive());
+        } catch (IllegalStateException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import com.redfin.validity.Validity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Validity#expect()} chains with expectations enabled and disabled
+ * with {@value Validity#EXPECT_DISABLED_PROPERTY}, against the same methods without any
+ * check. The disabled forks should allocate nothing and match the unchecked ones, even
+ * for the linear array check, since the disabled factory is a sub-class picked once for a
+ * static final field whose pass-through verifiers are inlined down to returning the subject.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DisabledModeBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String DISABLED = "-D" + Validity.EXPECT_DISABLED_PROPERTY + "=true";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // States
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    int value = 42;
+    int[] array;
+
+    @Setup
+    public void setUp() {
+        array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Benchmark
+    public int intNoCheck() {
+        return value;
+    }
+
+    @Benchmark
+    public int intEnabled() {
+        return Validity.expect().that(Validity.expect().that(value).isStrictlyPositive()).isLessThan(100);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLED)
+    public int intDisabled() {
+        return Validity.expect().that(Validity.expect().that(value).isStrictlyPositive()).isLessThan(100);
+    }
+
+    @Benchmark
+    public int[] arrayNoCheck() {
+        return array;
+    }
+
+    @Benchmark
+    public int[] arrayEnabled() {
+        return Validity.expect().that(array).contains(999);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLED)
+    public int[] arrayDisabled() {
+        return Validity.expect().that(array).contains(999);
+    }
+}
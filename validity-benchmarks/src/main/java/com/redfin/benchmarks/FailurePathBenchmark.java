@@ -0,0 +1,204 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import com.redfin.validity.DefaultValidityFailedValidationExecutor;
+import com.redfin.validity.FailedValidationExecutor;
+import com.redfin.validity.FailureStages;
+import com.redfin.validity.ValidityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.redfin.validity.Validity.validate;
+import static com.redfin.validity.Validity.validateFast;
+
+/**
+ * Failure path benchmarks for the {@link DefaultValidityFailedValidationExecutor}.
+ * Each stage of a failure is measured on its own as well as end to end:
+ * <ul>
+ * <li>{@link #describe(Messages)}: {@link ValidityUtils#describe(Object)} of the subject.</li>
+ * <li>{@link #format(Messages)}: {@link FailureStages#failureMessage(String, String, String)}.</li>
+ * <li>{@link #capture(Stack)}: creating the throwable, which fills in its stack trace.</li>
+ * <li>{@link #trim(CapturedThrowable)}: {@link FailureStages#trimStackTrace(Throwable)}.</li>
+ * <li>{@link #executorFail(Stack)}: a call to the executor's fail method.</li>
+ * <li>{@link #endToEnd(Stack)}: a failing {@code validate().that(int)} chain.</li>
+ * <li>{@link #endToEndFast(Stack)}: the same chain from {@code validateFast()}, which skips the stack trace.</li>
+ * </ul>
+ * The stack dependent stages are run with the given number of extra frames
+ * between the benchmark method and the failure to show how the cost grows in
+ * deep frameworks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FailurePathBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final FailedValidationExecutor<IllegalArgumentException> EXECUTOR = new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new);
+    private static final String EXPECTED = "t -> t < 0";
+    private static final String MESSAGE = "the subject must be negative";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // States
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Inputs for the stages that do not depend upon the depth of the stack.
+     */
+    @State(Scope.Thread)
+    public static class Messages {
+
+        Integer subject = 42;
+        String subjectDescription = ValidityUtils.describe(subject);
+    }
+
+    /**
+     * Runs an action with the given number of extra frames on the stack.
+     */
+    @State(Scope.Thread)
+    public static class Stack {
+
+        @Param({ "10", "100", "500" })
+        int depth;
+
+        int subject = 42;
+        Integer boxedSubject = subject;
+        String message = FailureStages.failureMessage(MESSAGE, EXPECTED, ValidityUtils.describe(boxedSubject));
+
+        final Supplier<Throwable> capture = () -> new IllegalArgumentException(message);
+
+        final Supplier<Throwable> executorFail = () -> {
+            try {
+                EXECUTOR.fail(EXPECTED, boxedSubject, () -> MESSAGE);
+            } catch (IllegalArgumentException e) {
+                return e;
+            }
+            throw new AssertionError("The executor should have thrown");
+        };
+
+        final Supplier<Throwable> endToEnd = () -> {
+            try {
+                validate().withMessage(MESSAGE).that(subject).isStrictlyNegative();
+            } catch (IllegalArgumentException e) {
+                return e;
+            }
+            throw new AssertionError("The validation should have failed");
+        };
+
+        final Supplier<Throwable> endToEndFast = () -> {
+            try {
+                validateFast().withMessage(MESSAGE).that(subject).isStrictlyNegative();
+            } catch (IllegalArgumentException e) {
+                return e;
+            }
+            throw new AssertionError("The validation should have failed");
+        };
+
+        Throwable run(Supplier<Throwable> action) {
+            return recurse(depth, action);
+        }
+    }
+
+    /**
+     * A throwable with a freshly captured (not yet materialized or trimmed) stack
+     * trace of the given depth for each invocation. The per-invocation setup is
+     * excluded from the measurement; its timing overhead is small compared to
+     * the microsecond scale of the trimming itself.
+     */
+    @State(Scope.Thread)
+    public static class CapturedThrowable {
+
+        @Param({ "10", "100", "500" })
+        int depth;
+
+        Throwable throwable;
+
+        @Setup(Level.Invocation)
+        public void capture() {
+            throwable = recurse(depth, () -> new IllegalArgumentException(MESSAGE));
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Benchmark
+    public String describe(Messages messages) {
+        return ValidityUtils.describe(messages.subject);
+    }
+
+    @Benchmark
+    public String format(Messages messages) {
+        return FailureStages.failureMessage(MESSAGE, EXPECTED, messages.subjectDescription);
+    }
+
+    @Benchmark
+    public Throwable capture(Stack stack) {
+        return stack.run(stack.capture);
+    }
+
+    @Benchmark
+    public Throwable trim(CapturedThrowable captured) {
+        FailureStages.trimStackTrace(captured.throwable);
+        return captured.throwable;
+    }
+
+    @Benchmark
+    public Throwable executorFail(Stack stack) {
+        return stack.run(stack.executorFail);
+    }
+
+    @Benchmark
+    public Throwable endToEnd(Stack stack) {
+        return stack.run(stack.endToEnd);
+    }
+
+    @Benchmark
+    public Throwable endToEndFast(Stack stack) {
+        return stack.run(stack.endToEndFast);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Helpers
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static Throwable recurse(int remaining, Supplier<Throwable> action) {
+        if (remaining <= 0) {
+            return action.get();
+        }
+        return recurse(remaining - 1, action);
+    }
+}
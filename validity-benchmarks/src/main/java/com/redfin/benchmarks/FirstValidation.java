@@ -0,0 +1,139 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.redfin.validity.Validity.expect;
+import static com.redfin.validity.Validity.validate;
+
+/**
+ * The program that the {@link StartupBenchmark} runs in a fresh JVM. It makes
+ * the first validation call of the process for one verifier family and prints
+ * a single line with the nanoseconds the call took, the number of classes
+ * loaded during the call, and the JVM uptime in milliseconds once it returned.
+ * <p>
+ * For the "fail" outcome a passing call of the same family is made first so that
+ * only the extra cost of the first failure is measured.
+ * <p>
+ * Nothing in here may use lambdas, method references, or streams before the
+ * measured call as that would load the machinery that is being measured.
+ */
+public final class FirstValidation {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    static final String[] FAMILIES = { "primitive", "boxed", "time", "string", "collection", "array", "expect" };
+    static final String[] OUTCOMES = { "pass", "fail" };
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * The subjects are created up front so that loading their own classes (e.g. Duration)
+     * is not counted against the validation call.
+     */
+
+    private static int intPassing = 42;
+    private static int intFailing = -42;
+    private static Integer integerPassing = 42;
+    private static Integer integerFailing = -42;
+    private static Duration durationPassing = Duration.ofSeconds(42);
+    private static Duration durationFailing = Duration.ofSeconds(-42);
+    private static String stringPassing = "validity";
+    private static String stringFailing = "";
+    private static List<String> collectionPassing = new ArrayList<>();
+    private static List<String> collectionFailing = new ArrayList<>();
+    private static int[] arrayPassing = { 1, 2, 3 };
+    private static int[] arrayFailing = {};
+
+    static {
+        collectionPassing.add("validity");
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param args the verifier family (one of {@link #FAMILIES}) and the
+     *             outcome (one of {@link #OUTCOMES}).
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Expected a verifier family and an outcome");
+        }
+        String family = args[0];
+        boolean failing = OUTCOMES[1].equals(args[1]);
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        if (failing) {
+            validateFamily(family, false);
+        }
+        long loadedBefore = classLoading.getTotalLoadedClassCount();
+        long start = System.nanoTime();
+        try {
+            validateFamily(family, failing);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            if (!failing) {
+                throw e;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long loaded = classLoading.getTotalLoadedClassCount() - loadedBefore;
+        System.out.println(elapsed + " " + loaded + " " + runtime.getUptime());
+    }
+
+    private static Object validateFamily(String family, boolean failing) {
+        switch (family) {
+            case "primitive":
+                return validate().that(failing ? intFailing : intPassing).isStrictlyPositive();
+            case "boxed":
+                return validate().that(failing ? integerFailing : integerPassing).isStrictlyPositive();
+            case "time":
+                return validate().that(failing ? durationFailing : durationPassing).isStrictlyPositive();
+            case "string":
+                return validate().that(failing ? stringFailing : stringPassing).isNotEmpty();
+            case "collection":
+                Collection<String> collection = failing ? collectionFailing : collectionPassing;
+                return validate().that(collection).isNotEmpty();
+            case "array":
+                return validate().that(failing ? arrayFailing : arrayPassing).isNotEmpty();
+            case "expect":
+                return expect().that(failing ? intFailing : intPassing).isStrictlyPositive();
+            default:
+                throw new IllegalArgumentException("Unknown verifier family: " + family);
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private FirstValidation() {
+        throw new AssertionError("Cannot instantiate this class");
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import com.redfin.validity.AbstractVerifiableFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Audits whether the hot Validity methods are inlined by the JIT.
+ * <p>
+ * The fluent validation chain is only free if {@code that()}, the verifier constructor,
+ * and the verifier method all inline into the caller. This runs the {@link InliningCallSites}
+ * in a child JVM with {@code -XX:+UnlockDiagnosticVMOptions -XX:+PrintInlining}, parses
+ * the output, and reports every call to or from a Validity method that the JIT refused
+ * to inline because it was "too big", a "hot method too big", or "megamorphic". It then
+ * lists the bytecode size of every public method in the library against the JIT's
+ * inlining thresholds so that methods creeping over them show up before production does.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar com.redfin.benchmarks.InliningAudit}.
+ * The process exits with a status of 1 if any inlining failures were found.
+ */
+public final class InliningAudit {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String LIBRARY_PREFIX = "com.redfin.validity.";
+    private static final String LIBRARY_PATH_PREFIX = "com/redfin/validity/";
+    private static final List<String> FAILURE_REASONS = Arrays.asList("hot method too big", "too big", "megamorphic");
+    private static final Pattern INLINING_LINE = Pattern.compile("@\\s*\\d+\\s+(\\S+)::(\\S+)\\s+\\((\\d+) bytes\\)\\s*(.*)$");
+    private static final int DEFAULT_MAX_INLINE_SIZE = 35;
+    private static final int DEFAULT_FREQ_INLINE_SIZE = 325;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param args ignored.
+     *
+     * @throws IOException          if the child JVM output or the library classes cannot be read.
+     * @throws InterruptedException if interrupted while waiting for the child JVM.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, Integer> failures = findInliningFailures();
+        System.out.println("Inlining failures involving " + LIBRARY_PREFIX + " methods:");
+        if (failures.isEmpty()) {
+            System.out.println("    none");
+        }
+        failures.forEach((failure, count) -> System.out.println("    " + failure + " (x" + count + ")"));
+        System.out.println();
+        printBytecodeSizes();
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    /*
+     * The PrintInlining output is a tree per compiled method where the indentation of
+     * the "@ bci" marker gives the depth. A stack of the enclosing methods is kept so
+     * that a failure can be reported both when a Validity method is the callee and when
+     * it is the caller (e.g. a megamorphic Predicate call inside of satisfies).
+     */
+
+    private static Map<String, Integer> findInliningFailures() throws IOException, InterruptedException {
+        List<String> command = Arrays.asList(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                                             "-XX:+UnlockDiagnosticVMOptions",
+                                             "-XX:+PrintInlining",
+                                             "-cp",
+                                             System.getProperty("java.class.path"),
+                                             InliningCallSites.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Map<String, Integer> failures = new TreeMap<>();
+        Deque<int[]> indents = new ArrayDeque<>();
+        Deque<String> callers = new ArrayDeque<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                Matcher matcher = INLINING_LINE.matcher(line);
+                if (!matcher.find()) {
+                    indents.clear();
+                    callers.clear();
+                    continue;
+                }
+                int indent = matcher.start();
+                while (!indents.isEmpty() && indents.peek()[0] >= indent) {
+                    indents.pop();
+                    callers.pop();
+                }
+                String callee = matcher.group(1) + "::" + matcher.group(2) + " (" + matcher.group(3) + " bytes)";
+                String caller = callers.peek();
+                String reason = failureReason(matcher.group(4));
+                if (null != reason && (callee.startsWith(LIBRARY_PREFIX) || (null != caller && caller.startsWith(LIBRARY_PREFIX)))) {
+                    String failure = ((null == caller) ? "" : caller + " -> ") + callee + " : " + reason;
+                    failures.merge(failure, 1, Integer::sum);
+                }
+                indents.push(new int[]{ indent });
+                callers.push(callee);
+            }
+        }
+        int exitCode = process.waitFor();
+        if (0 != exitCode) {
+            throw new IllegalStateException("The inlining call sites JVM exited with status " + exitCode);
+        }
+        return failures;
+    }
+
+    private static String failureReason(String message) {
+        for (String reason : FAILURE_REASONS) {
+            if (message.contains(reason)) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    private static void printBytecodeSizes() throws IOException {
+        int maxInlineSize = vmOption("MaxInlineSize", DEFAULT_MAX_INLINE_SIZE);
+        int freqInlineSize = vmOption("FreqInlineSize", DEFAULT_FREQ_INLINE_SIZE);
+        List<MethodBytecodeSizes.MethodSize> sizes = new ArrayList<>(MethodBytecodeSizes.read(AbstractVerifiableFactory.class.getProtectionDomain()
+                                                                                                                            .getCodeSource()
+                                                                                                                            .getLocation(),
+                                                                                             LIBRARY_PATH_PREFIX));
+        sizes.removeIf(size -> !size.isPublic());
+        sizes.sort(Comparator.comparingInt((MethodBytecodeSizes.MethodSize size) -> size.bytecodeSize)
+                             .reversed()
+                             .thenComparing(MethodBytecodeSizes.MethodSize::toString));
+        System.out.println("Bytecode size of public " + LIBRARY_PREFIX + " methods (MaxInlineSize=" + maxInlineSize + ", FreqInlineSize=" + freqInlineSize + "):");
+        for (MethodBytecodeSizes.MethodSize size : sizes) {
+            String note = "";
+            if (size.bytecodeSize > freqInlineSize) {
+                note = "  <-- over FreqInlineSize, never inlined";
+            } else if (size.bytecodeSize > maxInlineSize) {
+                note = "  <-- over MaxInlineSize, only inlined when hot";
+            }
+            System.out.println(String.format("    %5d  %s%s", size.bytecodeSize, size, note));
+        }
+    }
+
+    private static int vmOption(String name, int defaultValue) {
+        try {
+            return Integer.parseInt(ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class)
+                                                     .getVMOption(name)
+                                                     .getValue());
+        } catch (RuntimeException e) {
+            // Not a HotSpot JVM or the option doesn't exist
+            return defaultValue;
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private InliningAudit() {
+        throw new AssertionError("Cannot instantiate this class");
+    }
+}
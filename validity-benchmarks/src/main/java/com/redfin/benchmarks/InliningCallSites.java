@@ -0,0 +1,125 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.redfin.validity.Validity.expect;
+import static com.redfin.validity.Validity.validate;
+
+/**
+ * Representative passing validation call sites that are run in a loop long enough
+ * for the C2 compiler to compile them. This is the program that the {@link InliningAudit}
+ * runs in a child JVM with inlining diagnostics turned on.
+ */
+public final class InliningCallSites {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 100_000;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static int intSubject = 42;
+    private static long longSubject = 42L;
+    private static double doubleSubject = 42.0d;
+    private static char charSubject = 'a';
+    private static boolean booleanSubject = true;
+    private static Integer integerSubject = 42;
+    private static Integer integerOther = 0;
+    private static Long longObjectSubject = 42L;
+    private static Duration durationSubject = Duration.ofSeconds(42);
+    private static Instant instantSubject = Instant.ofEpochMilli(1_000_000L);
+    private static Instant instantOther = Instant.ofEpochMilli(1L);
+    private static String stringSubject = "validity";
+    private static List<String> collectionSubject = new ArrayList<>(Arrays.asList("a", "b", "c"));
+    private static int[] intArraySubject = { 1, 2, 3 };
+    private static String[] objectArraySubject = { "a", "b", "c" };
+    private static Object objectSubject = new Object();
+
+    private static volatile long sink;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param args ignored.
+     */
+    public static void main(String[] args) {
+        long result = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                result += primitives();
+                result += objects();
+                result += arrays();
+            }
+        }
+        sink = result;
+    }
+
+    private static long primitives() {
+        long result = validate().that(intSubject).isStrictlyPositive();
+        result += validate().that(intSubject).isGreaterThan(0);
+        result += validate().that(intSubject).satisfies(t -> t > 0);
+        result += validate().that(longSubject).isAtMost(longSubject);
+        result += (long) validate().that(doubleSubject).isStrictlyPositive();
+        result += validate().that(charSubject).isLowerCase();
+        result += validate().that(booleanSubject).isTrue() ? 1 : 0;
+        result += expect().that(intSubject).isNotZero();
+        return result;
+    }
+
+    private static long objects() {
+        long result = validate().that(integerSubject).isStrictlyPositive();
+        result += validate().that(integerSubject).isGreaterThan(integerOther);
+        result += validate().that(longObjectSubject).isNotNull();
+        result += validate().that(durationSubject).isStrictlyPositive().getNano();
+        result += validate().that(instantSubject).isGreaterThan(instantOther).getNano();
+        result += validate().that(stringSubject).isNotEmpty().length();
+        result += validate().that(stringSubject).startsWith("valid").length();
+        result += validate().that(collectionSubject).isNotEmpty().size();
+        result += validate().that(collectionSubject).contains("b").size();
+        result += (null == validate().that(objectSubject).isNotNull()) ? 0 : 1;
+        result += (null == validate().that(objectSubject).satisfies(t -> null != t)) ? 0 : 1;
+        return result;
+    }
+
+    private static long arrays() {
+        long result = validate().that(intArraySubject).isNotEmpty().length;
+        result += validate().that(intArraySubject).contains(3).length;
+        result += validate().that(objectArraySubject).hasLengthOfAtLeast(1).length;
+        return result;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private InliningCallSites() {
+        throw new AssertionError("Cannot instantiate this class");
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the bytecode size of the methods in compiled class files. This is a minimal
+ * class file reader that only understands enough of the format to find the length
+ * of each method's {@code Code} attribute, which is the size that the JIT compares
+ * against its inlining thresholds.
+ */
+final class MethodBytecodeSizes {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String CODE_ATTRIBUTE = "Code";
+    private static final String CLASS_SUFFIX = ".class";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Inner Classes
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * The bytecode size of a single method.
+     */
+    static final class MethodSize {
+
+        final String className;
+        final String methodName;
+        final String descriptor;
+        final int accessFlags;
+        final int bytecodeSize;
+
+        MethodSize(String className,
+                   String methodName,
+                   String descriptor,
+                   int accessFlags,
+                   int bytecodeSize) {
+            this.className = className;
+            this.methodName = methodName;
+            this.descriptor = descriptor;
+            this.accessFlags = accessFlags;
+            this.bytecodeSize = bytecodeSize;
+        }
+
+        boolean isPublic() {
+            return Modifier.isPublic(accessFlags);
+        }
+
+        @Override
+        public String toString() {
+            return className + "::" + methodName + descriptor;
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param codeSource    the jar file or class directory to read the classes from.
+     * @param packagePrefix the slash separated package prefix of the classes to read,
+     *                      e.g. "com/redfin/validity/".
+     *
+     * @return the sizes of every method with a body in the matching classes.
+     *
+     * @throws IOException if the classes cannot be read.
+     */
+    static List<MethodSize> read(URL codeSource, String packagePrefix) throws IOException {
+        Path path;
+        try {
+            path = Paths.get(codeSource.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Unable to locate the code source: " + codeSource, e);
+        }
+        List<MethodSize> sizes = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            Path root = path.resolve(packagePrefix);
+            List<Path> classFiles;
+            try (Stream<Path> paths = Files.walk(root)) {
+                classFiles = paths.filter(p -> p.toString().endsWith(CLASS_SUFFIX))
+                                  .collect(Collectors.toList());
+            }
+            for (Path classFile : classFiles) {
+                try (InputStream in = Files.newInputStream(classFile)) {
+                    sizes.addAll(read(in));
+                }
+            }
+        } else {
+            try (JarFile jar = new JarFile(path.toFile())) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    if (entry.getName().startsWith(packagePrefix) && entry.getName().endsWith(CLASS_SUFFIX)) {
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            sizes.addAll(read(in));
+                        }
+                    }
+                }
+            }
+        }
+        return sizes;
+    }
+
+    private static List<MethodSize> read(InputStream classFile) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = classFile.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+        String[] utf8 = readConstantPool(in);
+        in.readUnsignedShort(); // access flags
+        String className = utf8[in.readUnsignedShort()];
+        in.readUnsignedShort(); // super class
+        skip(in, 2 * in.readUnsignedShort()); // interfaces
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            skip(in, 6);
+            skipAttributes(in);
+        }
+        List<MethodSize> sizes = new ArrayList<>();
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            int accessFlags = in.readUnsignedShort();
+            String name = utf8[in.readUnsignedShort()];
+            String descriptor = utf8[in.readUnsignedShort()];
+            int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                String attributeName = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if (CODE_ATTRIBUTE.equals(attributeName)) {
+                    in.readUnsignedShort(); // max stack
+                    in.readUnsignedShort(); // max locals
+                    int codeLength = in.readInt();
+                    sizes.add(new MethodSize(className.replace('/', '.'), name, descriptor, accessFlags, codeLength));
+                    skip(in, length - 8);
+                } else {
+                    skip(in, length);
+                }
+            }
+        }
+        return sizes;
+    }
+
+    /*
+     * Returns the UTF-8 constants by index. The CONSTANT_Class entries are resolved to
+     * the UTF-8 constant of their name so that the "this_class" index can be looked up
+     * directly in the returned array.
+     */
+
+    private static String[] readConstantPool(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classNames = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                    classNames[i] = in.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    skip(in, 2);
+                    break;
+                case 15: // MethodHandle
+                    skip(in, 3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    skip(in, 4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    skip(in, 8);
+                    i++; // takes up two slots
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag: " + tag);
+            }
+        }
+        for (int i = 1; i < count; i++) {
+            if (classNames[i] != 0) {
+                utf8[i] = utf8[classNames[i]];
+            }
+        }
+        return utf8;
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            in.readUnsignedShort();
+            skip(in, in.readInt());
+        }
+    }
+
+    private static void skip(DataInputStream in, int bytes) throws IOException {
+        int remaining = bytes;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private MethodBytecodeSizes() {
+        throw new AssertionError("Cannot instantiate this class");
+    }
+}
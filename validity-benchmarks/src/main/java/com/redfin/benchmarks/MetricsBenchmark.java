@@ -0,0 +1,104 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import com.redfin.validity.DefaultValidityFailedValidationExecutor;
+import com.redfin.validity.StripedValidationMetrics;
+import com.redfin.validity.Validity;
+import com.redfin.validity.ValidityVerifiableFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.redfin.validity.Validity.validate;
+
+/**
+ * Passing path benchmarks for factories with and without {@link com.redfin.validity.ValidationMetrics}.
+ * The metrics hook is meant to be free when it is not configured, so the
+ * {@code noMetrics} benchmarks should match the plain passing path benchmarks.
+ * Only factories with metrics create the instrumented sub-classes of the verifiers,
+ * so the instance field factory should match the static final ones as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MetricsBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final ValidityVerifiableFactory WITH_METRICS = Validity.validate().withMetrics(new StripedValidationMetrics());
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Non-final fields so that the JIT cannot constant fold the subjects or the factory.
+     */
+
+    private int intSubject = 42;
+    private String stringSubject = "validity";
+    private ValidityVerifiableFactory instanceFactory = new ValidityVerifiableFactory(() -> null,
+                                                                                      new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new));
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Benchmark
+    public int intNoMetrics() {
+        return validate().that(intSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public int intNoMetricsInstanceFactory() {
+        return instanceFactory.that(intSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public int intWithMetrics() {
+        return WITH_METRICS.that(intSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public String stringNoMetrics() {
+        return validate().that(stringSubject).isNotEmpty();
+    }
+
+    @Benchmark
+    public String stringNoMetricsInstanceFactory() {
+        return instanceFactory.that(stringSubject).isNotEmpty();
+    }
+
+    @Benchmark
+    public String stringWithMetrics() {
+        return WITH_METRICS.that(stringSubject).isNotEmpty();
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.redfin.validity.Validity.validate;
+
+/**
+ * Passing path benchmarks for the boxed, time, and other object verifiers in the
+ * {@code com.redfin.validity.verifiers.objects} package. Each verifier
+ * benchmark has a matching hand-written {@code if/throw} baseline so that
+ * the overhead of the fluent API can be read directly off of the results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ObjectPassBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Non-final fields so that the JIT cannot constant fold the subjects. The boxed
+     * subjects are boxed once here so that boxing does not show up in the allocation
+     * rate of the benchmarks.
+     */
+
+    private Boolean booleanSubject = Boolean.TRUE;
+    private Byte byteSubject = (byte) 42;
+    private Character characterSubject = 'a';
+    private Double doubleSubject = 42.0d;
+    private Float floatSubject = 42.0f;
+    private Integer integerSubject = 42;
+    private Integer integerZero = 0;
+    private Long longSubject = 42L;
+    private Short shortSubject = (short) 42;
+    private Duration durationSubject = Duration.ofSeconds(42);
+    private Instant instantSubject = Instant.ofEpochMilli(1_000_000L);
+    private Instant instantOther = Instant.ofEpochMilli(1L);
+    private String stringSubject = "validity";
+    private String stringPrefix = "valid";
+    private Class<?> classSubject = Number.class;
+    private Class<?> classOther = Integer.class;
+    private List<String> collectionSubject = new ArrayList<>(Arrays.asList("a", "b", "c"));
+    private Object objectSubject = new Object();
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    // - - - - - - - - - - - - - - - - - - - - - -
+    // Boxed Types
+    // - - - - - - - - - - - - - - - - - - - - - -
+
+    @Benchmark
+    public Boolean booleanIsTrue() {
+        return validate().that(booleanSubject).isTrue();
+    }
+
+    @Benchmark
+    public Boolean booleanIsTrueBaseline() {
+        if (null == booleanSubject || !booleanSubject) {
+            throw new IllegalArgumentException("t -> t");
+        }
+        return booleanSubject;
+    }
+
+    @Benchmark
+    public Byte byteIsStrictlyPositive() {
+        return validate().that(byteSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public Byte byteIsStrictlyPositiveBaseline() {
+        if (null == byteSubject || byteSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return byteSubject;
+    }
+
+    @Benchmark
+    public Character characterIsLowerCase() {
+        return validate().that(characterSubject).isLowerCase();
+    }
+
+    @Benchmark
+    public Character characterIsLowerCaseBaseline() {
+        if (null == characterSubject || !Character.isLowerCase(characterSubject)) {
+            throw new IllegalArgumentException("t -> Character.isLowerCase(t)");
+        }
+        return characterSubject;
+    }
+
+    @Benchmark
+    public Double doubleIsStrictlyPositive() {
+        return validate().that(doubleSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public Double doubleIsStrictlyPositiveBaseline() {
+        if (null == doubleSubject || doubleSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return doubleSubject;
+    }
+
+    @Benchmark
+    public Float floatIsStrictlyPositive() {
+        return validate().that(floatSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public Float floatIsStrictlyPositiveBaseline() {
+        if (null == floatSubject || floatSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return floatSubject;
+    }
+
+    @Benchmark
+    public Integer integerIsStrictlyPositive() {
+        return validate().that(integerSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public Integer integerIsStrictlyPositiveBaseline() {
+        if (null == integerSubject || integerSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return integerSubject;
+    }
+
+    @Benchmark
+    public Integer integerIsGreaterThan() {
+        return validate().that(integerSubject).isGreaterThan(integerZero);
+    }
+
+    @Benchmark
+    public Long longIsStrictlyPositive() {
+        return validate().that(longSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public Long longIsStrictlyPositiveBaseline() {
+        if (null == longSubject || longSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return longSubject;
+    }
+
+    @Benchmark
+    public Short shortIsStrictlyPositive() {
+        return validate().that(shortSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public Short shortIsStrictlyPositiveBaseline() {
+        if (null == shortSubject || shortSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return shortSubject;
+    }
+
+    // - - - - - - - - - - - - - - - - - - - - - -
+    // Time Types
+    // - - - - - - - - - - - - - - - - - - - - - -
+
+    @Benchmark
+    public Duration durationIsStrictlyPositive() {
+        return validate().that(durationSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public Duration durationIsStrictlyPositiveBaseline() {
+        if (null == durationSubject || durationSubject.isNegative() || durationSubject.isZero()) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return durationSubject;
+    }
+
+    @Benchmark
+    public Instant instantIsGreaterThan() {
+        return validate().that(instantSubject).isGreaterThan(instantOther);
+    }
+
+    @Benchmark
+    public Instant instantIsGreaterThanBaseline() {
+        if (null == instantSubject || instantSubject.compareTo(instantOther) <= 0) {
+            throw new IllegalArgumentException("t -> t > other");
+        }
+        return instantSubject;
+    }
+
+    // - - - - - - - - - - - - - - - - - - - - - -
+    // Other Object Types
+    // - - - - - - - - - - - - - - - - - - - - - -
+
+    @Benchmark
+    public String stringIsNotEmpty() {
+        return validate().that(stringSubject).isNotEmpty();
+    }
+
+    @Benchmark
+    public String stringIsNotEmptyBaseline() {
+        if (null == stringSubject || stringSubject.isEmpty()) {
+            throw new IllegalArgumentException("t -> !t.isEmpty()");
+        }
+        return stringSubject;
+    }
+
+    @Benchmark
+    public String stringStartsWith() {
+        return validate().that(stringSubject).startsWith(stringPrefix);
+    }
+
+    @Benchmark
+    public String stringStartsWithBaseline() {
+        if (null == stringSubject || !stringSubject.startsWith(stringPrefix)) {
+            throw new IllegalArgumentException("t -> t.startsWith(prefix)");
+        }
+        return stringSubject;
+    }
+
+    @Benchmark
+    public Class<?> classIsAssignableFrom() {
+        return validate().that(classSubject).isAssignableFrom(classOther);
+    }
+
+    @Benchmark
+    public Class<?> classIsAssignableFromBaseline() {
+        if (null == classSubject || !classSubject.isAssignableFrom(classOther)) {
+            throw new IllegalArgumentException("t -> t.isAssignableFrom(other)");
+        }
+        return classSubject;
+    }
+
+    @Benchmark
+    public List<String> collectionIsNotEmpty() {
+        return validate().that(collectionSubject).isNotEmpty();
+    }
+
+    @Benchmark
+    public List<String> collectionIsNotEmptyBaseline() {
+        if (null == collectionSubject || collectionSubject.isEmpty()) {
+            throw new IllegalArgumentException("t -> !t.isEmpty()");
+        }
+        return collectionSubject;
+    }
+
+    @Benchmark
+    public Object objectIsNotNull() {
+        return validate().that(objectSubject).isNotNull();
+    }
+
+    @Benchmark
+    public Object objectIsNotNullBaseline() {
+        if (null == objectSubject) {
+            throw new IllegalArgumentException("t -> null != t");
+        }
+        return objectSubject;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.redfin.validity.Validity.validate;
+
+/**
+ * Passing path benchmarks for the verifiers in the
+ * {@code com.redfin.validity.verifiers.primitives} package. Each verifier
+ * benchmark has a matching hand-written {@code if/throw} baseline so that
+ * the overhead of the fluent API can be read directly off of the results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitivePassBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Fields
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Non-final fields so that the JIT cannot constant fold the subjects.
+     */
+
+    private boolean booleanSubject = true;
+    private byte byteSubject = 42;
+    private char charSubject = 'a';
+    private double doubleSubject = 42.0d;
+    private float floatSubject = 42.0f;
+    private int intSubject = 42;
+    private long longSubject = 42L;
+    private short shortSubject = 42;
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Benchmark
+    public boolean booleanIsTrue() {
+        return validate().that(booleanSubject).isTrue();
+    }
+
+    @Benchmark
+    public boolean booleanIsTrueBaseline() {
+        if (!booleanSubject) {
+            throw new IllegalArgumentException("t -> t");
+        }
+        return booleanSubject;
+    }
+
+    @Benchmark
+    public byte byteIsStrictlyPositive() {
+        return validate().that(byteSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public byte byteIsStrictlyPositiveBaseline() {
+        if (byteSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return byteSubject;
+    }
+
+    @Benchmark
+    public char charIsLowerCase() {
+        return validate().that(charSubject).isLowerCase();
+    }
+
+    @Benchmark
+    public char charIsLowerCaseBaseline() {
+        if (!Character.isLowerCase(charSubject)) {
+            throw new IllegalArgumentException("t -> Character.isLowerCase(t)");
+        }
+        return charSubject;
+    }
+
+    @Benchmark
+    public double doubleIsStrictlyPositive() {
+        return validate().that(doubleSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public double doubleIsStrictlyPositiveBaseline() {
+        if (doubleSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return doubleSubject;
+    }
+
+    @Benchmark
+    public float floatIsStrictlyPositive() {
+        return validate().that(floatSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public float floatIsStrictlyPositiveBaseline() {
+        if (floatSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return floatSubject;
+    }
+
+    @Benchmark
+    public int intIsStrictlyPositive() {
+        return validate().that(intSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public int intIsStrictlyPositiveBaseline() {
+        if (intSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return intSubject;
+    }
+
+    @Benchmark
+    public int intIsGreaterThanWithMessage() {
+        return validate().withMessage("the int subject").that(intSubject).isGreaterThan(0);
+    }
+
+    @Benchmark
+    public long longIsStrictlyPositive() {
+        return validate().that(longSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public long longIsStrictlyPositiveBaseline() {
+        if (longSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return longSubject;
+    }
+
+    @Benchmark
+    public short shortIsStrictlyPositive() {
+        return validate().that(shortSubject).isStrictlyPositive();
+    }
+
+    @Benchmark
+    public short shortIsStrictlyPositiveBaseline() {
+        if (shortSubject <= 0) {
+            throw new IllegalArgumentException("t -> t > 0");
+        }
+        return shortSubject;
+    }
+}
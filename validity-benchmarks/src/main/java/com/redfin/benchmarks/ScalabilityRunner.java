@@ -0,0 +1,153 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the {@link ContentionBenchmark} (or the benchmarks matching the given
+ * regular expressions) once for each thread count from 1 up to the number of
+ * available processors, doubling each time, and prints a scaling report. For
+ * every benchmark and parameter combination the report lists the total and
+ * per-thread throughput at each thread count along with the scaling efficiency,
+ * the per-thread throughput relative to the single threaded run. A shared factory
+ * or executor that serializes its callers shows up as an efficiency that falls
+ * off a cliff; a run where adding threads lowers the total throughput is
+ * reported as a scaling collapse.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar com.redfin.benchmarks.ScalabilityRunner}.
+ * Any other JMH command line arguments (e.g. {@code -f}, {@code -i}) are passed
+ * through, except for {@code -t} which is set by the sweep. The process exits with
+ * a status of 1 if any scaling collapse was found.
+ */
+public final class ScalabilityRunner {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final String DEFAULT_INCLUDE = ContentionBenchmark.class.getSimpleName();
+    private static final String ROW_FORMAT = "    %8s %16s %16s %12s%n";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param args the JMH command line arguments.
+     *
+     * @throws CommandLineOptionException if the arguments cannot be parsed.
+     * @throws RunnerException            if the benchmarks fail to run.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        // Benchmark name and parameters -> thread count -> total throughput
+        Map<String, Map<Integer, Double>> scores = new TreeMap<>();
+        String unit = "";
+        for (int threads : threadCounts(Runtime.getRuntime().availableProcessors())) {
+            OptionsBuilder builder = new OptionsBuilder();
+            builder.parent(commandLineOptions);
+            if (commandLineOptions.getIncludes().isEmpty()) {
+                builder.include(DEFAULT_INCLUDE);
+            }
+            for (RunResult result : new Runner(builder.threads(threads).build()).run()) {
+                scores.computeIfAbsent(describe(result.getParams()), key -> new TreeMap<>())
+                      .put(threads, result.getPrimaryResult().getScore());
+                unit = result.getPrimaryResult().getScoreUnit();
+            }
+        }
+        List<String> collapses = new ArrayList<>();
+        System.out.println();
+        System.out.println("Scaling report (" + unit + "):");
+        for (Map.Entry<String, Map<Integer, Double>> entry : scores.entrySet()) {
+            System.out.println(entry.getKey());
+            System.out.printf(ROW_FORMAT, "threads", "total", "per thread", "efficiency");
+            double singleThreaded = Double.NaN;
+            double previous = Double.NaN;
+            for (Map.Entry<Integer, Double> row : entry.getValue().entrySet()) {
+                int threads = row.getKey();
+                double total = row.getValue();
+                double perThread = total / threads;
+                if (threads == 1) {
+                    singleThreaded = perThread;
+                }
+                System.out.printf(ROW_FORMAT,
+                                  threads,
+                                  String.format("%.3f", total),
+                                  String.format("%.3f", perThread),
+                                  String.format("%.0f%%", 100 * perThread / singleThreaded));
+                if (total < previous) {
+                    collapses.add(entry.getKey() + " at " + threads + " threads");
+                }
+                previous = total;
+            }
+        }
+        System.out.println();
+        System.out.println("Scaling collapses (total throughput lower than with fewer threads):");
+        if (collapses.isEmpty()) {
+            System.out.println("    none");
+        }
+        for (String collapse : collapses) {
+            System.out.println("    " + collapse);
+        }
+        if (!collapses.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @param processors the number of available processors.
+     *
+     * @return the thread counts to run: the powers of two below processors
+     * followed by processors itself.
+     */
+    private static List<Integer> threadCounts(int processors) {
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(processors);
+        return threadCounts;
+    }
+
+    private static String describe(BenchmarkParams params) {
+        StringBuilder sb = new StringBuilder(params.getBenchmark());
+        for (String key : params.getParamsKeys()) {
+            sb.append(' ').append(key).append('=').append(params.getParam(key));
+        }
+        return sb.toString();
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ScalabilityRunner() {
+        throw new AssertionError("Cannot instantiate this class");
+    }
+}
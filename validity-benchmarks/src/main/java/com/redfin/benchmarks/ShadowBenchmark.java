@@ -0,0 +1,88 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import com.redfin.validity.CheckVerifiableFactory;
+import com.redfin.validity.ShadowFailedValidationExecutor;
+import com.redfin.validity.Validity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the cost a failed validation has for the validating thread with a
+ * {@link ShadowFailedValidationExecutor}, which only queues the failure, against
+ * {@link Validity#validate()}, which formats the message and captures the stack.
+ * The shadow executor's background thread formats every failure and discards it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ShadowBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // States
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    int subject = 42;
+    ShadowFailedValidationExecutor shadow;
+    CheckVerifiableFactory shadowFactory;
+
+    @Setup
+    public void setUp() {
+        shadow = ShadowFailedValidationExecutor.start(1 << 16, Integer.MAX_VALUE, message -> { });
+        shadowFactory = Validity.shadow(shadow);
+    }
+
+    @TearDown
+    public void tearDown() {
+        shadow.close();
+        System.out.println();
+        System.out.println("Shadow failures: " + shadow.getFailureCount() + ", dropped because the queue was full: " + shadow.getDroppedCount());
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Benchmarks
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    @Benchmark
+    public int shadowFailure() {
+        return shadowFactory.that(subject).isStrictlyNegative();
+    }
+
+    @Benchmark
+    public Object validateFailure() {
+        try {
+            return Validity.validate().that(subject).isStrictlyNegative();
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measures the cold start cost of the library. For every verifier family this
+ * forks a number of fresh JVMs that each make their first validation call (see
+ * {@link FirstValidation}) and reports the median and minimum time of that first
+ * call, the number of classes it loaded, and the JVM uptime once it returned
+ * (the time-to-first-validation). The first call of a process pays for the static
+ * initialization of {@code Validity} and the class loading of the factory and the
+ * verifier types. The "fail" rows measure the first failure after a passing call
+ * of the same family, which additionally loads the failure message and stack
+ * trimming code.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar com.redfin.benchmarks.StartupBenchmark [forks] [jvm options...]}.
+ * The number of forks per row defaults to 10 and any further arguments are passed
+ * to the forked JVMs, e.g. {@code -Xshare:off} or {@code -XX:TieredStopAtLevel=1}.
+ */
+public final class StartupBenchmark {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Constants
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private static final int DEFAULT_FORKS = 10;
+    private static final String ROW_FORMAT = "%-12s %-8s %16s %16s %16s %16s%n";
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param args the optional number of forks per verifier family and outcome
+     *             followed by optional options for the forked JVMs.
+     *
+     * @throws IOException          if a forked JVM cannot be started or its output cannot be read.
+     * @throws InterruptedException if interrupted while waiting for a forked JVM.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int forks = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_FORKS;
+        if (forks <= 0) {
+            throw new IllegalArgumentException("The number of forks must be strictly positive");
+        }
+        List<String> jvmOptions = (args.length > 1) ? Arrays.asList(args).subList(1, args.length) : Collections.emptyList();
+        System.out.println("First validation call of a fresh JVM, " + forks + " forks each:");
+        System.out.printf(ROW_FORMAT, "family", "outcome", "median (us)", "min (us)", "classes loaded", "uptime (ms)");
+        for (String family : FirstValidation.FAMILIES) {
+            for (String outcome : FirstValidation.OUTCOMES) {
+                List<Long> nanos = new ArrayList<>();
+                List<Long> classes = new ArrayList<>();
+                List<Long> uptimes = new ArrayList<>();
+                for (int i = 0; i < forks; i++) {
+                    long[] sample = fork(jvmOptions, family, outcome);
+                    nanos.add(sample[0]);
+                    classes.add(sample[1]);
+                    uptimes.add(sample[2]);
+                }
+                System.out.printf(ROW_FORMAT,
+                                  family,
+                                  outcome,
+                                  String.format("%.1f", median(nanos) / 1_000.0),
+                                  String.format("%.1f", Collections.min(nanos) / 1_000.0),
+                                  median(classes),
+                                  median(uptimes));
+            }
+        }
+    }
+
+    private static long[] fork(List<String> jvmOptions,
+                               String family,
+                               String outcome) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), FirstValidation.class.getName(), family, outcome));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                output.add(line);
+            }
+        }
+        if (process.waitFor() != 0 || output.isEmpty()) {
+            throw new IllegalStateException("The forked JVM failed for " + family + " " + outcome + ": " + output);
+        }
+        String[] fields = output.get(output.size() - 1).trim().split(" ");
+        return new long[]{ Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]) };
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private StartupBenchmark() {
+        throw new AssertionError("Cannot instantiate this class");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/*
+ * The benchmarks live outside of the com.redfin.validity package on purpose. The
+ * DefaultValidityFailedValidationExecutor trims every stack frame from inside that
+ * package so benchmark frames placed there would be trimmed as well, which would
+ * not be representative of a real caller.
+ */
+
+/**
+ * Entry point for the benchmark uber-jar. It accepts the same command line
+ * arguments as the standard JMH main class but always attaches the GC profiler
+ * (the equivalent of {@code -prof gc}) so that every benchmark reports the
+ * normalized allocation rate ({@code gc.alloc.rate.norm}, bytes per operation)
+ * next to its throughput.
+ */
+public final class ValidityBenchmarks {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param args the JMH command line arguments.
+     *
+     * @throws CommandLineOptionException if the arguments cannot be parsed.
+     * @throws RunnerException            if the benchmarks fail to run.
+     * @throws IOException                if the JMH help or listing output cannot be written.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListProfilers()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder().parent(commandLineOptions)
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    private ValidityBenchmarks() {
+        throw new AssertionError("Cannot instantiate this class");
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.validity;
+
+/**
+ * Gives the {@link com.redfin.benchmarks.FailurePathBenchmark} access to the package-private
+ * stages of a failed validation so that it measures exactly the code the failed validation
+ * executors run. It lives in the library's package inside the benchmarks module only, so
+ * the stages stay out of the library's public API.
+ */
+public final class FailureStages {
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Static Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * @param message            the String custom message supplied by the validation user.
+     *                           May be null, in which case a default message is used.
+     * @param expected           the String representation of the expected condition.
+     *                           May not be null.
+     * @param subjectDescription the String description of the subject.
+     *                           May be null.
+     *
+     * @return the String message for a throwable created from a failed validation.
+     *
+     * @throws NullPointerException if expected is null.
+     */
+    public static String failureMessage(String message,
+                                        String expected,
+                                        String subjectDescription) {
+        return ValidityUtils.failureMessage(message, expected, subjectDescription);
+    }
+
+    /**
+     * Remove all of the Validity library stack frames from the given throwable's stack trace.
+     *
+     * @param throwable the {@link Throwable} to trim.
+     *                  May not be null.
+     *
+     * @throws NullPointerException if throwable is null.
+     */
+    public static void trimStackTrace(Throwable throwable) {
+        ValidityUtils.trimStackTrace(throwable);
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Instance Methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /*
+     * Make sure you cannot instantiate the static FailureStages class even with reflection.
+     */
+
+    private FailureStages() {
+        throw new AssertionError(ValidityUtils.nonInstantiableMessage());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.stress;
+
+import com.redfin.validity.DefaultValidityFailedValidationExecutor;
+import com.redfin.validity.FailedValidationExecutor;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two threads fail through the same {@link DefaultValidityFailedValidationExecutor}
+ * at the same time. Each thrown exception must have exactly the message built from
+ * its own arguments and a stack trace that was trimmed down to the caller.
+ */
+@JCStressTest
+@Description("The DefaultValidityFailedValidationExecutor can be shared by several threads at once.")
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both exceptions had their own message and a trimmed stack.")
+@Outcome(expect = FORBIDDEN, desc = "An exception had the wrong message or an untrimmed stack.")
+@State
+public class DefaultExecutorStressTest {
+
+    private final FailedValidationExecutor<IllegalArgumentException> executor = new DefaultValidityFailedValidationExecutor<>(IllegalArgumentException::new);
+
+    @Actor
+    public void first(II_Result result) {
+        result.r1 = fail("t -> t == 1", 1, "first");
+    }
+
+    @Actor
+    public void second(II_Result result) {
+        result.r2 = fail("t -> t == 2", 2, "second");
+    }
+
+    private int fail(String expected, int subject, String message) {
+        try {
+            executor.fail(expected, subject, () -> message);
+            return 0;
+        } catch (IllegalArgumentException e) {
+            String actual = e.getMessage();
+            boolean ownMessage = actual.startsWith(message) && actual.contains(expected) && actual.contains("<" + subject + ">");
+            boolean trimmed = !e.getStackTrace()[0].getClassName().startsWith("com.redfin.validity.");
+            return ownMessage && trimmed ? 1 : 2;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.stress;
+
+import com.redfin.validity.Validity;
+import com.redfin.validity.ValidityVerifiableFactory;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * One thread creates a factory with {@code withMessage} and publishes it through a
+ * plain (non-volatile) field while another thread reads the field and uses the
+ * factory. The factory only has final fields so a racy read must either see
+ * nothing or a fully constructed factory, never a factory without its message
+ * supplier or executor.
+ */
+@JCStressTest
+@Description("Factories are safe to publish through a data race.")
+@Outcome(id = "0", expect = ACCEPTABLE, desc = "The factory was not published yet.")
+@Outcome(id = "1", expect = ACCEPTABLE, desc = "The factory was fully constructed.")
+@Outcome(expect = FORBIDDEN, desc = "The factory was seen partially constructed.")
+@State
+public class FactoryPublicationStressTest {
+
+    private ValidityVerifiableFactory factory;
+
+    @Actor
+    public void publish() {
+        factory = Validity.validate().withMessage("published");
+    }
+
+    @Actor
+    public void use(I_Result result) {
+        ValidityVerifiableFactory published = factory;
+        if (null == published) {
+            result.r1 = 0;
+            return;
+        }
+        try {
+            published.that(-1).isStrictlyPositive();
+            result.r1 = 2;
+        } catch (IllegalArgumentException e) {
+            result.r1 = e.getMessage().startsWith("published\n") ? 1 : 3;
+        } catch (NullPointerException e) {
+            result.r1 = 4;
+        }
+    }
+}
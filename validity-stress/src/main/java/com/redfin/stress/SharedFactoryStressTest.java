@@ -0,0 +1,60 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.stress;
+
+import com.redfin.validity.Validity;
+import com.redfin.validity.ValidityVerifiableFactory;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two threads validate different subjects through the shared {@link Validity#validate()}
+ * factory at the same time, one passing and one failing. The passing thread must
+ * get its own subject back and the failing thread must get a failure that describes
+ * its own subject.
+ */
+@JCStressTest
+@Description("The shared validate() factory can be used by several threads at once.")
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both threads saw only their own subject.")
+@Outcome(expect = FORBIDDEN, desc = "A thread saw the other thread's subject or an unexpected result.")
+@State
+public class SharedFactoryStressTest {
+
+    private final ValidityVerifiableFactory factory = Validity.validate();
+
+    @Actor
+    public void passing(II_Result result) {
+        result.r1 = factory.that(1).isStrictlyPositive() == 1 ? 1 : 0;
+    }
+
+    @Actor
+    public void failing(II_Result result) {
+        try {
+            factory.that(-2).isStrictlyPositive();
+            result.r2 = 0;
+        } catch (IllegalArgumentException e) {
+            result.r2 = e.getMessage().endsWith("subject : <-2>") ? 1 : 2;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright: (c) 2016 Redfin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.redfin.stress;
+
+import com.redfin.validity.Validity;
+import com.redfin.validity.ValidityVerifiableFactory;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two threads derive factories with different messages from the same shared
+ * factory at the same time and fail a validation with each. Every failure must
+ * carry the message and subject of the thread that caused it.
+ */
+@JCStressTest
+@Description("withMessage on a shared factory does not leak messages between threads.")
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both failures carried their own message and subject.")
+@Outcome(expect = FORBIDDEN, desc = "A failure carried the other thread's message or subject.")
+@State
+public class WithMessageStressTest {
+
+    private final ValidityVerifiableFactory factory = Validity.validate();
+
+    @Actor
+    public void first(II_Result result) {
+        result.r1 = fail("first", -1);
+    }
+
+    @Actor
+    public void second(II_Result result) {
+        result.r2 = fail("second", -2);
+    }
+
+    private int fail(String message, int subject) {
+        try {
+            factory.withMessage(message).that(subject).isStrictlyPositive();
+            return 0;
+        } catch (IllegalArgumentException e) {
+            boolean ownMessage = e.getMessage().startsWith(message + "\n");
+            boolean ownSubject = e.getMessage().endsWith("subject : <" + subject + ">");
+            return ownMessage && ownSubject ? 1 : 2;
+        }
+    }
+}